@@ -33,9 +33,13 @@ import org.yarnandtail.andhow.util.TextUtil;
  * There is a one-to-one correspondence between user classes that contain
  * AndHow Properties and auto-created {@code PropertyRegistrar} classes.
  * <p>
- * At runtime, AndHow will use the {@code ServiceLoader} to discover all instances
- * of {@code PropertyRegistrar} on the classpath, thus finding all AndHow
- * Property containing classes.
+ * Once all {@code PropertyRegistrar}s are generated, a single
+ * {@code PropertyRegistrarIndex} class is generated that creates all of them.
+ * <p>
+ * At runtime, AndHow finds each module by its {@code PropertyRegistrar} service
+ * file and reads the module's {@code PropertyRegistrarIndex}, then creates any
+ * {@code PropertyRegistrar}s listed in the service file that the index did not,
+ * thus finding all AndHow Property containing classes.
  */
 @SupportedAnnotationTypes("*")
 public class AndHowCompileProcessor extends AbstractProcessor {
@@ -53,6 +57,9 @@ public class AndHowCompileProcessor extends AbstractProcessor {
 	// List of generated classes, one per app classes containing AndHow Properties
 	private final List<CauseEffect> _registrars = new ArrayList<>();
 
+	// The generated registrar index class (should only ever be 1)
+	private final List<CauseEffect> _registrarIndexes = new ArrayList<>();
+
 	//List of init classes (should only ever be 1)
 	private final List<CauseEffect> _initClasses = new ArrayList<>();
 
@@ -148,6 +155,10 @@ public class AndHowCompileProcessor extends AbstractProcessor {
 	 * There will always be a 'final' round of processing after all annotation processors have
 	 * completed and stop generating new files.
 	 * <p>
+	 * The first round that finds no new AndHow Properties (typically the round processing the
+	 * generated {@code PropertyRegistrar}s) writes the {@code PropertyRegistrarIndex} class.
+	 * Source files written in the final round are not processed, so it cannot be written there.
+	 * <p>
 	 * @param localProcessingEnv The compile-time environment, for writing and analyzing classes
 	 * @param roundEnv State of a single round of annotation processing
 	 * @param runDate Single consistent timestamp for the entire compilation
@@ -168,6 +179,8 @@ public class AndHowCompileProcessor extends AbstractProcessor {
 			final List<CauseEffect> initCEs, final List<CauseEffect> testInitCEs,
 			final List<CauseEffect> registrarCEs) {
 
+		int knownRegistrarCount = registrarCEs.size();
+
 		//
 		// Scan all the Compilation units (i.e. class files) for AndHow Properties
 		for (Element rootElement : roundEnv.getRootElements()) {
@@ -209,6 +222,57 @@ public class AndHowCompileProcessor extends AbstractProcessor {
 
 			compileProblems.addAll(compileUnit.getProblems());
 		}
+
+		if (registrarCEs.size() > 0 && registrarCEs.size() == knownRegistrarCount &&
+				_registrarIndexes.isEmpty() && compileProblems.isEmpty()) {
+
+			writeRegistrarIndex(filer, log, runDate, srcVersion, jdkVersion, registrarCEs);
+		}
+	}
+
+	/**
+	 * Writes the {@code PropertyRegistrarIndex} class for all the registrars generated so far.
+	 * <p>
+	 * The index is an optimization:  If it cannot be written, a warning is logged and the
+	 * registrars are still discovered individually at runtime.
+	 * <p>
+	 * @param filer ProcessingEnv provided file system for writing source files
+	 * @param log ProcessingEnv provided message/log system
+	 * @param runDate Single consistent timestamp for the entire compilation
+	 * @param srcVersion Major version number of the source code the compiler is using
+	 * @param jdkVersion Major version number of the JDK
+	 * @param registrarCEs All the generated registrars
+	 */
+	protected void writeRegistrarIndex(final Filer filer, final Messager log,
+			final Calendar runDate, final int srcVersion, final int jdkVersion,
+			final List<CauseEffect> registrarCEs) {
+
+		List<String> names = new ArrayList<>();
+		LinkedHashSet<Element> causes = new LinkedHashSet<>();
+
+		for (CauseEffect ce : registrarCEs) {
+			names.add(ce.fullClassName);
+			causes.add(ce.causeElement);
+		}
+
+		PropertyRegistrarIndexClassGenerator gen = new PropertyRegistrarIndexClassGenerator(
+				names, AndHowCompileProcessor.class, runDate, srcVersion, jdkVersion);
+
+		try {
+			FileObject classFile = filer.createSourceFile(gen.buildGeneratedClassFullName(),
+					causes.toArray(new Element[causes.size()]));
+
+			try (Writer writer = classFile.openWriter()) {
+				writer.write(gen.generateSource());
+			}
+
+			_registrarIndexes.add(new CauseEffect(gen.buildGeneratedClassFullName(), causes.iterator().next()));
+			debug(log, "Wrote registrar index class {} for {} registrars",
+					gen.buildGeneratedClassFullName(), names.size());
+		} catch (Exception ex) {
+			warn(log, "Unable to write the registrar index class '{}', so each registrar will " +
+					"be discovered individually at runtime: {}", gen.buildGeneratedClassFullName(), ex.getMessage());
+		}
 	}
 
 	/**
@@ -221,6 +285,7 @@ public class AndHowCompileProcessor extends AbstractProcessor {
 	 *   <li>Service loader file in META-INF for AndHowTestInit instances (max of one)</li>
 	 *   <li>Service loader file in META-INF for PropertyRegistrar instances
 	 *   (could be many entries) for each generated proxy class containing AndHow Properties</li>
+	 *   <li>Service loader file in META-INF for the PropertyRegistrarIndex, if one was written</li>
 	 * </ul>
 	 * <p>
 	 * @param filer ProcessingEnv provided file system for writing source files
@@ -271,6 +336,10 @@ public class AndHowCompileProcessor extends AbstractProcessor {
 					writeServiceFile(filer, PropertyRegistrar.class.getCanonicalName(), registrarCEs);
 				}
 
+				if (_registrarIndexes.size() > 0) {
+					writeServiceFile(filer, PropertyRegistrarIndex.class.getCanonicalName(), _registrarIndexes);
+				}
+
 			} catch (IOException e) {
 				error(log, "Exception while trying to write generated files", e);
 			}
@@ -80,7 +80,8 @@ public class AndHowElementScanner7 extends ElementScanner7<CompileUnit, String>
 				compileUnit.addProperty(
 						e.getSimpleName().toString(),
 						e.getModifiers().contains(Modifier.STATIC),
-						e.getModifiers().contains(Modifier.FINAL)
+						e.getModifiers().contains(Modifier.FINAL),
+						e.getModifiers().contains(Modifier.PRIVATE)
 				);
 				
 				if (LOG.isLoggable(Level.FINE)) {
@@ -132,7 +133,8 @@ public class AndHowElementScanner7 extends ElementScanner7<CompileUnit, String>
 			//Just entered an inner class (at an arbitrary level of nexting)
 			//Push it onto the CompileUnit stack and scan its contents
 			
-			this.compileUnit.pushType(e.getSimpleName().toString(), e.getModifiers().contains(Modifier.STATIC));
+			this.compileUnit.pushType(e.getSimpleName().toString(),
+					e.getModifiers().contains(Modifier.STATIC), e.getModifiers().contains(Modifier.PRIVATE));
 			
 			scan(fieldsIn(e.getEnclosedElements()), p);
 			scan(typesIn(e.getEnclosedElements()), p);
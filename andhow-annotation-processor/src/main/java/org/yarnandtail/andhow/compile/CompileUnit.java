@@ -1,5 +1,6 @@
 package org.yarnandtail.andhow.compile;
 
+import org.yarnandtail.andhow.service.PropertyRegistration;
 import org.yarnandtail.andhow.service.PropertyRegistrationList;
 import org.yarnandtail.andhow.util.NameUtil;
 import java.util.*;
@@ -32,6 +33,7 @@ public class CompileUnit {
 
 	private final String classCanonName;
 	private PropertyRegistrationList registrations;	// late init
+	private Set<String> directlyAccessible;	// late init - canonical names of non-private Properties
 	private List<CompileProblem> problems;	// late init
 	private boolean initClass;	// True if an AndHowInit instance (and not AndHowTestInit)
 	private boolean testInitClass;	// True if an AndHowTestInit instance
@@ -80,6 +82,10 @@ public class CompileUnit {
 		pushType(new SimpleType(name, _static));
 	}
 
+	public void pushType(String name, boolean _static, boolean _private) {
+		pushType(new SimpleType(name, _static, _private));
+	}
+
 	public SimpleType popType() {
 		
 		if (innerPathStack.size() == 0) {
@@ -96,6 +102,9 @@ public class CompileUnit {
 	 *
 	 * If modifiers are invalid, an error will be recorded rather than a
 	 * Property.
+	 * <p>
+	 * The Property is treated as private, so the generated registrar will look it
+	 * up by name rather than reference it directly.
 	 *
 	 * @param name The name of the variable the Property is assigned to.
 	 * @param _static Does the variable has the static modifier?
@@ -104,6 +113,25 @@ public class CompileUnit {
 	 * recorded instead.
 	 */
 	public boolean addProperty(String name, boolean _static, boolean _final) {
+		return addProperty(name, _static, _final, true);
+	}
+
+	/**
+	 * Register an AndHow Property declaration in the current scope - either
+	 * directly in the the top level class or the recorded path to an inner
+	 * class.
+	 *
+	 * If modifiers are invalid, an error will be recorded rather than a
+	 * Property.
+	 *
+	 * @param name The name of the variable the Property is assigned to.
+	 * @param _static Does the variable has the static modifier?
+	 * @param _final Is the variable declared as static?
+	 * @param _private Is the variable declared as private?
+	 * @return True if the property could be added, false if an error was
+	 * recorded instead.
+	 */
+	public boolean addProperty(String name, boolean _static, boolean _final, boolean _private) {
 
 		if (_static && _final) {
 
@@ -113,6 +141,14 @@ public class CompileUnit {
 
 			registrations.add(name, getInnerPathNames());
 
+			if (! _private && innerPathStack.stream().noneMatch(SimpleType::isPrivate)) {
+				if (directlyAccessible == null) {
+					directlyAccessible = new HashSet();
+				}
+
+				directlyAccessible.add(NameUtil.getAndHowName(classCanonName, name, getInnerPathNames()));
+			}
+
 			return true;
 
 		} else {
@@ -254,6 +290,21 @@ public class CompileUnit {
 		return problems != null && ! problems.isEmpty();
 	}
 
+	/**
+	 * True if the registered Property can be referenced directly from a class in the same
+	 * package as the top level class, i.e., neither the Property nor any of the inner
+	 * classes containing it are private.
+	 * <p>
+	 * Properties added w/o specifying if they are private are assumed not to be accessible.
+	 *
+	 * @param registration A registration from {@link #getRegistrations()}
+	 * @return True if the Property can be referenced directly in source code.
+	 */
+	public boolean isDirectlyAccessible(PropertyRegistration registration) {
+		return directlyAccessible != null &&
+				directlyAccessible.contains(registration.getCanonicalPropertyName());
+	}
+
 	/**
 	 * Returns true if getRegistrations() would return a non-empty list.
 	 *
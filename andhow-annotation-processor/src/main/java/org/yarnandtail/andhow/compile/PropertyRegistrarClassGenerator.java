@@ -6,6 +6,7 @@ import org.yarnandtail.andhow.service.PropertyRegistration;
 
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
+import java.util.Locale;
 
 import org.yarnandtail.andhow.util.IOUtil;
 
@@ -173,6 +174,15 @@ public class PropertyRegistrarClassGenerator {
 
 	/**
 	 * Builds the source code for the content of the addPropertyRegistrations method.
+	 * <p>
+	 * Properties visible from the generated class (neither the Property nor any containing
+	 * inner class is private) are registered with a direct reference to the Property and a
+	 * class literal for its containing class, so no reflection is needed at runtime.
+	 * Other Properties are registered by name only.
+	 * <p>
+	 * Each registration is followed by the canonical, effective (upper case) and URI names of
+	 * the Property, so they are not built at runtime.
+	 *
 	 * @return A String of source code.
 	 */
 	protected String buildRegistrationAddsString() {
@@ -183,29 +193,66 @@ public class PropertyRegistrarClassGenerator {
 		regList.sort();
 		
 		PropertyRegistration prevReg = null;
+		boolean prevDirect = false;
 		
 		for (PropertyRegistration pr : regList) {
 			
-			if ((prevReg != null && pr.compareInnerPathTo(prevReg) != 0) || (prevReg == null && pr.getInnerPathLength() > 0)) {
-				//Do a 'full add' b/c this has a different inner path that prev
-				//list.add("STRING", "PI", "PI_DC");
-				buf.append("\t\tlist.add(\"").append(pr.getPropertyName()).append("\"");
+			boolean samePath = (prevReg != null) ?
+					pr.compareInnerPathTo(prevReg) == 0 : pr.getInnerPathLength() == 0;
+			boolean direct = compUnit.isDirectlyAccessible(pr);
+			
+			buf.append("\t\tlist.add(\"").append(pr.getPropertyName()).append("\"");
+			
+			if (direct) {
+				String parent = pr.getCanonicalParentName();	//Dot separated, as in source code
 				
-				for (String step : pr.getInnerPath()) {
-					buf.append(", \"").append(step).append("\"");
-				}
+				buf.append(", ").append(parent).append(".").append(pr.getPropertyName());
 				
-				buf.append(");").append(System.lineSeparator());
+				if (! samePath || ! prevDirect) {
+					//Do a 'full add' b/c the class is not known from the prev
+					//list.add("STRING", a.b.C.PI.STRING, a.b.C.PI.class, "PI");
+					buf.append(", ").append(parent).append(".class");
+					appendInnerPath(buf, pr);
+				}
 				
-			} else {
-				//Do a simple add b/c this has the same inner path as prev
-				buf.append("\t\tlist.add(\"").append(pr.getPropertyName()).append("\");").append(System.lineSeparator());
+			} else if (! samePath) {
+				//Do a 'full add' b/c this has a different inner path that prev
+				//list.add("STRING", "PI", "PI_DC");
+				appendInnerPath(buf, pr);
 			}
+			
+			buf.append(");").append(System.lineSeparator());
+			appendNames(buf, pr);
 
 			prevReg = pr;
-			
+			prevDirect = direct;
 		}
 		
 		return buf.toString();
 	}
+
+	/**
+	 * Appends a call to set the precomputed names of the last registered Property.
+	 * <p>
+	 * The effective name matches the {@code CaseInsensitiveNaming} strategy and the URI name
+	 * matches {@code NamingStrategy.getUriName}.
+	 *
+	 * @param buf The source to append to
+	 * @param reg The registration just added
+	 */
+	protected void appendNames(StringBuilder buf, PropertyRegistration reg) {
+		String canon = reg.getCanonicalPropertyName();
+
+		buf.append("\t\tlist.names(\"").append(canon).append("\", \"")
+				.append(canon.toUpperCase(Locale.ROOT)).append("\", \"")
+				.append(canon.replace('.', '/')).append("\");").append(System.lineSeparator());
+	}
+
+	private void appendInnerPath(StringBuilder buf, PropertyRegistration reg) {
+		if (reg.getInnerPath() != null) {
+			for (String step : reg.getInnerPath()) {
+				buf.append(", \"").append(step).append("\"");
+			}
+		}
+	}
 }
@@ -0,0 +1,167 @@
+package org.yarnandtail.andhow.compile;
+
+import java.text.SimpleDateFormat;
+import java.util.*;
+
+import org.yarnandtail.andhow.service.PropertyRegistrarIndex;
+import org.yarnandtail.andhow.util.IOUtil;
+
+/**
+ * Generates the source code for the single {@code PropertyRegistrarIndex} class of a module,
+ * which creates each of the module's generated {@code PropertyRegistrar}s directly.
+ */
+public class PropertyRegistrarIndexClassGenerator {
+
+	protected static final String CLASS_TEMPLATE_PATH =
+			"/org/yarnandtail/andhow/compile/PropertyRegistrarIndexClassGenerator_ClassTemplate.txt";
+
+	private final List<String> registrarNames;
+	private final Class<?> generatingClass;
+	private final Calendar runDate;
+	private final SimpleDateFormat dateFormat;
+	private final int srcMajorVersion;
+	private final int jdkMajorVersion;
+
+	/**
+	 * Create a new instance w all info needed to generate the index class.
+	 * <p>
+	 * @param registrarNames The full names of the generated {@code PropertyRegistrar} classes to
+	 *                       index, in the order they are listed in the service file.
+	 * @param generatingClass The class of our AnnotationProcessor to be listed as the generator in the
+	 *                        Generated annotation.
+	 * @param runDate  The Calendar date-time of the run, used for annotation.
+	 * @param srcMajorVersion The major java lang version the output needs to be compatible with.
+	 * @param jdkMajorVersion The major version of the JDK currently running.
+	 */
+	public PropertyRegistrarIndexClassGenerator(final List<String> registrarNames,
+			final Class<?> generatingClass, final Calendar runDate,
+			final int srcMajorVersion, final int jdkMajorVersion) {
+
+		this.registrarNames = new ArrayList<>(registrarNames);
+		this.generatingClass = generatingClass;
+		this.runDate = runDate;
+		dateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSZ");
+		this.srcMajorVersion = srcMajorVersion;
+		this.jdkMajorVersion = jdkMajorVersion;
+	}
+
+	/**
+	 * Generates the complete source for the index class as a String.
+	 * <p>
+	 * @return A string containing the source code for a generated class.
+	 * @throws Exception If any of the template files used for creating the class cannot be read.
+	 */
+	public String generateSource() throws Exception {
+
+		String classTemplate = IOUtil.getUTF8ResourceAsString(CLASS_TEMPLATE_PATH);
+
+		return String.format(classTemplate,
+				buildPackageString(),
+				buildGeneratedClassSimpleName(),
+				generateAnnotationSource(),
+				buildRegistrarAddsString(),
+				jdkMajorVersion,
+				srcMajorVersion
+		);
+	}
+
+	/**
+	 * Generates the source for the 'Generated' annotation to place on the generated class.
+	 * <p>
+	 * @return A String containing an annotation, which may be commented out.
+	 * @throws Exception If the template file for the annotation cannot be found.
+	 */
+	protected String generateAnnotationSource() throws Exception {
+		boolean okToUseAnnotation = CompileUtil.isGeneratedVersionDeterministic(
+				srcMajorVersion, jdkMajorVersion);
+
+		String annotationTemplate = IOUtil.getUTF8ResourceAsString(
+				(okToUseAnnotation) ? PropertyRegistrarClassGenerator.ANNOTATION_TEMPLATE_PATH :
+						PropertyRegistrarClassGenerator.COMMENTED_ANNOTATION_TEMPLATE_PATH);
+
+		return String.format(annotationTemplate,
+				CompileUtil.getGeneratedAnnotationClassName(jdkMajorVersion),
+				generatingClass.getCanonicalName(),
+				dateFormat.format(runDate.getTime()),
+				registrarNames.size() + " PropertyRegistrars",
+				PropertyRegistrarIndex.class.getCanonicalName()
+		);
+	}
+
+	/**
+	 * The package of the generated class.
+	 * <p>
+	 * This is the package of the first (alphabetically) registrar.  If any registrar is in the
+	 * default package, the index must be as well, since the default package cannot be imported.
+	 * <p>
+	 * @return The package name, or null for the default package.
+	 */
+	protected String buildPackageName() {
+		String pkg = null;
+
+		for (String name : sortedNames()) {
+			int lastDot = name.lastIndexOf('.');
+
+			if (lastDot < 0) {
+				return null;
+			} else if (pkg == null) {
+				pkg = name.substring(0, lastDot);
+			}
+		}
+
+		return pkg;
+	}
+
+	/**
+	 * The package declaration of the generated class.
+	 *
+	 * @return A String that can be directly used as the package declaration of the generated class.
+	 */
+	protected String buildPackageString() {
+		String pkg = buildPackageName();
+		return (pkg != null) ? "package " + pkg + ";" : "";
+	}
+
+	/**
+	 * The simple class name of the generated class.
+	 * <p>
+	 * The name ends with a hash of the indexed registrar names so that separately compiled
+	 * modules sharing a package (such as main and test classes) generate distinct indexes.
+	 *
+	 * @return The simple class name (i.e. no package info).
+	 */
+	protected String buildGeneratedClassSimpleName() {
+		return "$AndHowRegistrarIndex_" + Integer.toHexString(String.join(",", sortedNames()).hashCode());
+	}
+
+	/**
+	 * The complete canonical name of the generated class, including the package.
+	 *
+	 * @return The canonical name of the generated class.
+	 */
+	protected String buildGeneratedClassFullName() {
+		String pkg = buildPackageName();
+		return (pkg != null) ? pkg + "." + buildGeneratedClassSimpleName() : buildGeneratedClassSimpleName();
+	}
+
+	/**
+	 * Builds the source code that creates each registrar and adds it to the list.
+	 *
+	 * @return A String of source code.
+	 */
+	protected String buildRegistrarAddsString() {
+		StringBuilder buf = new StringBuilder();
+
+		for (String name : registrarNames) {
+			buf.append("\t\tlist.add(new ").append(name).append("());").append(System.lineSeparator());
+		}
+
+		return buf.toString();
+	}
+
+	private List<String> sortedNames() {
+		List<String> sorted = new ArrayList<>(registrarNames);
+		Collections.sort(sorted);
+		return sorted;
+	}
+}
@@ -8,6 +8,7 @@ public class SimpleType {
 
 	private final String name;
 	private final boolean _static;
+	private final boolean _private;
 
 	/**
 	 * 
@@ -15,8 +16,19 @@ public class SimpleType {
 	 * @param _static Is this a static or non-static element?
 	 */
 	public SimpleType(String name, boolean _static) {
+		this(name, _static, false);
+	}
+
+	/**
+	 *
+	 * @param name	Simple name (no package info or reference to containing classes) of this type
+	 * @param _static Is this a static or non-static element?
+	 * @param _private Is this a private element?
+	 */
+	public SimpleType(String name, boolean _static, boolean _private) {
 		this.name = name;
 		this._static = _static;
+		this._private = _private;
 	}
 
 	public String getName() {
@@ -27,4 +39,8 @@ public class SimpleType {
 		return _static;
 	}
 
+	public boolean isPrivate() {
+		return _private;
+	}
+
 }
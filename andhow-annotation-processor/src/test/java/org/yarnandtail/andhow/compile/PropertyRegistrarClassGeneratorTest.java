@@ -176,7 +176,7 @@ public class PropertyRegistrarClassGeneratorTest {
 		PropertyRegistrarClassGenerator gen = new PropertyRegistrarClassGenerator(
 				simpleCompileUnit_DefaultPkg(), AndHowCompileProcessor.class, runDate, 8, 8);
 		String adds = gen.buildRegistrationAddsString();
-		String eachAdds[] = adds.trim().split("[\\t\\n\\r\\f]+");
+		String eachAdds[] = lines(adds, "list.add(");
 		assertEquals(2, eachAdds.length);
 		assertEquals("list.add(\"" + PROP1_NAME + "\");", eachAdds[0]);
 		assertEquals("list.add(\"" + PROP2_NAME + "\");", eachAdds[1]);
@@ -188,7 +188,7 @@ public class PropertyRegistrarClassGeneratorTest {
 		String adds = jdk9Generator.buildRegistrationAddsString();
 		
 		//Should all be the same as for default pkg
-		String eachAdds[] = adds.trim().split("[\\t\\n\\r\\f]+");
+		String eachAdds[] = lines(adds, "list.add(");
 		assertEquals(2, eachAdds.length);
 		assertEquals("list.add(\"" + PROP1_NAME + "\");", eachAdds[0]);
 		assertEquals("list.add(\"" + PROP2_NAME + "\");", eachAdds[1]);
@@ -199,7 +199,7 @@ public class PropertyRegistrarClassGeneratorTest {
 		PropertyRegistrarClassGenerator gen = new PropertyRegistrarClassGenerator(
 				complexCompileUnit(), AndHowCompileProcessor.class, runDate, 8, 8);
 		String adds = gen.buildRegistrationAddsString();
-		String eachAdds[] = adds.trim().split("[\\t\\n\\r\\f]+");
+		String eachAdds[] = lines(adds, "list.add(");
 		
 		//These will be in sorted order
 		assertEquals(5, eachAdds.length);
@@ -210,6 +210,54 @@ public class PropertyRegistrarClassGeneratorTest {
 		assertEquals("list.add(\"" + PROP2_NAME + "\");", eachAdds[4]);	//No inner path b/c in inherits from above
 	}
 
+	@Test
+	public void testBuildRegistrationAddsString_DirectReferences() {
+		PropertyRegistrarClassGenerator gen = new PropertyRegistrarClassGenerator(
+				directRefCompileUnit(), AndHowCompileProcessor.class, runDate, 8, 8);
+		String adds = gen.buildRegistrationAddsString();
+		String eachAdds[] = lines(adds, "list.add(");
+
+		String inner1 = ROOT_QUAL_NAME + "." + INNER1_SIMP_NAME;
+
+		//These will be in sorted order
+		assertEquals(6, eachAdds.length);
+		assertEquals("list.add(\"" + PROP1_NAME + "\", " + ROOT_QUAL_NAME + "." + PROP1_NAME + ", " +
+				ROOT_QUAL_NAME + ".class);", eachAdds[0]);
+		assertEquals("list.add(\"" + PROP2_NAME + "\");", eachAdds[1]);	//private
+		assertEquals("list.add(\"" + PROP1_NAME + "\", " + inner1 + "." + PROP1_NAME + ", " +
+				inner1 + ".class, \"" + INNER1_SIMP_NAME + "\");", eachAdds[2]);
+		assertEquals("list.add(\"" + PROP2_NAME + "\", " + inner1 + "." + PROP2_NAME + ");", eachAdds[3]);
+		//Inner2 is private, so none of its Properties can be referenced
+		assertEquals("list.add(\"" + PROP1_NAME + "\", \"" + INNER1_SIMP_NAME + "\", \"" + INNER2_SIMP_NAME + "\");", eachAdds[4]);
+		assertEquals("list.add(\"" + PROP2_NAME + "\");", eachAdds[5]);
+	}
+
+	@Test
+	public void testBuildRegistrationAddsString_PrecomputedNames() {
+		PropertyRegistrarClassGenerator gen = new PropertyRegistrarClassGenerator(
+				complexCompileUnit(), AndHowCompileProcessor.class, runDate, 8, 8);
+		String adds = gen.buildRegistrationAddsString();
+		String eachLine[] = adds.trim().split("[\\t\\n\\r\\f]+");
+		String eachNames[] = lines(adds, "list.names(");
+
+		//Each add is directly followed by the names of its Property
+		assertEquals(5, eachNames.length);
+		assertEquals(10, eachLine.length);
+		assertEquals(eachNames[0], eachLine[1]);
+
+		String canon = ROOT_QUAL_NAME + "." + INNER1_SIMP_NAME + "." + INNER2_SIMP_NAME + "." + PROP1_NAME;
+		assertEquals("list.names(\"" + canon + "\", \"" + canon.toUpperCase(Locale.ROOT) + "\", \"" +
+				canon.replace('.', '/') + "\");", eachNames[3]);
+	}
+
+	/**
+	 * The trimmed lines of generated source that start with a prefix.
+	 */
+	private String[] lines(String source, String prefix) {
+		return Arrays.stream(source.trim().split("[\\t\\n\\r\\f]+"))
+				.filter(l -> l.startsWith(prefix)).toArray(String[]::new);
+	}
+
 	/**
 	 * Basic gross test that the generated source is compilable
 	 */
@@ -429,6 +477,35 @@ public class PropertyRegistrarClassGeneratorTest {
 	}
 
 
+	public static CompileUnit directRefCompileUnit() {
+
+		CompileUnit cu = new CompileUnit(ROOT_QUAL_NAME);
+
+		//root props
+		cu.addProperty(PROP1_NAME, true, true, false);
+		cu.addProperty(PROP2_NAME, true, true, true);
+
+		{
+			//1st inner class
+			cu.pushType(INNER1_SIMP_NAME, true, false);
+			cu.addProperty(PROP1_NAME, true, true, false);
+			cu.addProperty(PROP2_NAME, true, true, false);
+
+			{
+				//2nd inner class, which is private
+				cu.pushType(INNER2_SIMP_NAME, true, true);
+				cu.addProperty(PROP1_NAME, true, true, false);
+				cu.addProperty(PROP2_NAME, true, true, false);
+				cu.popType();
+			}
+
+			cu.popType();
+		}
+
+		return cu;
+	}
+
+
 	/**
 	 * Determine the major version of the Java runtime based on a version string.
 	 *
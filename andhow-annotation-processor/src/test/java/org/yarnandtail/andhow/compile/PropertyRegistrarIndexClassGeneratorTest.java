@@ -0,0 +1,80 @@
+package org.yarnandtail.andhow.compile;
+
+import java.util.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PropertyRegistrarIndexClassGeneratorTest {
+
+	private GregorianCalendar runDate;
+
+	@BeforeEach
+	public void initEach() {
+		runDate = new GregorianCalendar();
+		runDate.set(2017, 8, 29, 14, 1, 1);
+	}
+
+	@Test
+	public void testPackageIsThatOfFirstSortedRegistrar() {
+		PropertyRegistrarIndexClassGenerator gen = new PropertyRegistrarIndexClassGenerator(
+				Arrays.asList("org.zed.$Z_AndHowProps", "org.abc.$A_AndHowProps"),
+				AndHowCompileProcessor.class, runDate, 8, 8);
+
+		assertEquals("org.abc", gen.buildPackageName());
+		assertEquals("package org.abc;", gen.buildPackageString());
+		assertThat(gen.buildGeneratedClassSimpleName(), startsWith("$AndHowRegistrarIndex_"));
+		assertEquals("org.abc." + gen.buildGeneratedClassSimpleName(), gen.buildGeneratedClassFullName());
+	}
+
+	@Test
+	public void testDefaultPackageRegistrarForcesDefaultPackage() {
+		PropertyRegistrarIndexClassGenerator gen = new PropertyRegistrarIndexClassGenerator(
+				Arrays.asList("org.abc.$A_AndHowProps", "$Root_AndHowProps"),
+				AndHowCompileProcessor.class, runDate, 8, 8);
+
+		assertNull(gen.buildPackageName());
+		assertEquals("", gen.buildPackageString());
+		assertEquals(gen.buildGeneratedClassSimpleName(), gen.buildGeneratedClassFullName());
+	}
+
+	@Test
+	public void testClassNameIsStableAndDistinctPerRegistrarSet() {
+		List<String> names = Arrays.asList("org.abc.$A_AndHowProps", "org.abc.$B_AndHowProps");
+		List<String> reversed = Arrays.asList("org.abc.$B_AndHowProps", "org.abc.$A_AndHowProps");
+		List<String> other = Arrays.asList("org.abc.$A_AndHowProps");
+
+		String name = new PropertyRegistrarIndexClassGenerator(
+				names, AndHowCompileProcessor.class, runDate, 8, 8).buildGeneratedClassSimpleName();
+
+		assertEquals(name, new PropertyRegistrarIndexClassGenerator(
+				reversed, AndHowCompileProcessor.class, runDate, 8, 8).buildGeneratedClassSimpleName());
+		assertNotEquals(name, new PropertyRegistrarIndexClassGenerator(
+				other, AndHowCompileProcessor.class, runDate, 8, 8).buildGeneratedClassSimpleName());
+	}
+
+	@Test
+	public void testGenerateSource() throws Exception {
+		PropertyRegistrarIndexClassGenerator gen = new PropertyRegistrarIndexClassGenerator(
+				Arrays.asList("org.zed.$Z_AndHowProps", "org.abc.$A_AndHowProps"),
+				AndHowCompileProcessor.class, runDate, 9, 9);
+
+		String src = gen.generateSource();
+
+		assertThat(src, startsWith("package org.abc;"));
+		assertThat(src, containsString("@javax.annotation.processing.Generated("));
+		assertThat(src, containsString(
+				"public class " + gen.buildGeneratedClassSimpleName() + " implements PropertyRegistrarIndex"));
+
+		//Registrars are created in the order given, which is the service file order
+		int z = src.indexOf("list.add(new org.zed.$Z_AndHowProps());");
+		int a = src.indexOf("list.add(new org.abc.$A_AndHowProps());");
+		assertTrue(z > 0);
+		assertTrue(a > z);
+	}
+
+}
@@ -1,6 +1,8 @@
 package org.yarnandtail.andhow;
 
+import java.io.File;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
@@ -29,7 +31,10 @@ import static org.yarnandtail.andhow.internal.InitializationProblem.*;
  * then causes the AndHow instance to be built with that modified configuration.
  * The code above (or any method of AndHow initiation) can only be executed once
  * during the life of the application.
- *
+ * <p>
+ * Applications that share a class loader hierarchy, such as several deployments in one
+ * application server, can each have their own independent instance via {@link AndHowContext}.
+ * The singleton is the default instance used when no context is bound.
  */
 public class AndHow implements PropertyConfiguration, ValidatedValues {
 
@@ -65,6 +70,9 @@ public class AndHow implements PropertyConfiguration, ValidatedValues {
 	/* True only during instance(AndHowConfiguration) method to detect re-entrant initialization */
 	private static volatile Boolean initializing = false;
 
+	/* Non-null while an initialization started by initializeAsync is pending, or after it failed */
+	private static volatile CompletableFuture<AndHow> asyncInit = null;
+
 	/* Config that was returned from findConfig, but has not yet been used to initialize AndHow. */
 	private static volatile AndHowConfiguration<? extends AndHowConfiguration> inProcessConfig = null;
 
@@ -83,22 +91,37 @@ public class AndHow implements PropertyConfiguration, ValidatedValues {
 	 * <p>
 	 * References to the core are never given out, while app code can easily get a reference
 	 * to the singleton AndHow, which contains the core.  This is intentional.
-	 * In production, there is only ever one AndHow instance and its one Core for the life of the app.
-	 * During unit testing, however, test utilities may replace the Core to allow testing with
+	 * In production, there is only ever one AndHow instance for the life of the app, but its Core
+	 * is replaced by each {@link #reload()}.  Each Core is immutable, so a single read of this field
+	 * always gives a consistent set of values.
+	 * During unit testing, test utilities may also replace the Core to allow testing with
 	 * different configuration states.  This is possible while not invalidating app code which might
 	 * hold a reference to the AndHow singleton.
 	 */
 	private volatile AndHowCore core;
 
-	private AndHow(AndHowConfiguration<? extends AndHowConfiguration> config) throws AppFatalException {
-		synchronized (LOCK) {
+	/* The lock guarding replacement of the core:  LOCK for the singleton, else the context's lock */
+	private final Object coreLock;
 
-			core = new AndHowCore(
-					config.getNamingStrategy(),
-					config.buildLoaders(),
-					config.getLoaderEnvironment(),
-					config.getRegisteredGroups());
-		}
+	/* The loaders watching their sources for this instance, guarded by the coreLock */
+	private List<WatchableLoader> watchingLoaders = Collections.emptyList();
+
+	/**
+	 * Builds a new, initialized instance.
+	 * <p>
+	 * Other than the singleton, instances are only built by {@link AndHowContext}, which
+	 * synchronizes on its own lock.
+	 *
+	 * @param config The configuration to build the core from.
+	 * @param coreLock The lock held by callers while building or replacing the core.
+	 * @throws AppFatalException If AndHow is mis-configured or there are validation errors.
+	 */
+	AndHow(AndHowConfiguration<? extends AndHowConfiguration> config, Object coreLock)
+			throws AppFatalException {
+
+		this.coreLock = coreLock;
+		core = buildCore(config);
+		watchLoaders();
 	}
 
 	/**
@@ -246,6 +269,10 @@ public class AndHow implements PropertyConfiguration, ValidatedValues {
 
 			inProcessConfig = config;
 
+			if (asyncInit != null && asyncInit.isCompletedExceptionally()) {
+				asyncInit = null;	//The new configuration is a new attempt
+			}
+
 		}	//end sync
 	}
 
@@ -265,14 +292,20 @@ public class AndHow implements PropertyConfiguration, ValidatedValues {
 	 */
 	public static AndHow instance() throws AppFatalException {
 
-		if (isInitialized()) {
-			return singleInstance;
+		AndHow ah = singleInstance;	//Two volatile reads (the instance, then its core) when initialized
+
+		if (ah != null && ah.core != null) {
+			return ah;
 		} else {
 
 			synchronized (LOCK) {
 
+				CompletableFuture<AndHow> pending = asyncInit;
+
 				if (isInitialized()) {
 					return singleInstance;
+				} else if (pending != null && ! initializing) {
+					return completeAsyncInit(pending);	//Finish it here if not yet started, or rethrow its failure
 				} else {
 					return initialize(findConfig());
 				}
@@ -282,6 +315,118 @@ public class AndHow implements PropertyConfiguration, ValidatedValues {
 		}
 	}
 
+	/**
+	 * Starts AndHow initialization in the background, so that it can overlap other startup work.
+	 * <p>
+	 * Initialization is the same as {@link #instance()}, including finding the configuration via
+	 * {@link #findConfig()}, but runs on the passed executor.  Configuration changes must be
+	 * complete before calling this method.
+	 * <p>
+	 * Calls to {@link #instance()} or reads of Property values made while initialization is in
+	 * progress wait for it to finish.  If they happen before the executor has started the
+	 * initialization, they run it on the calling thread rather than waiting for the executor.
+	 * Either way initialization happens only once and the returned future completes with its result.
+	 * <p>
+	 * If initialization fails, the future completes exceptionally with the
+	 * {@code AppFatalException}.  The failed future is kept, so the same exception is thrown to
+	 * callers waiting in {@link #instance()} and to every later call, rather than each of them
+	 * initializing again.  A later call to this method or to {@link #setConfig} starts a new attempt.
+	 * <p>
+	 * Example usage:
+	 * <pre>{@code
+	 * CompletableFuture<AndHow> init = AndHow.initializeAsync(ForkJoinPool.commonPool());
+	 * //Build connection pools, caches, etc...
+	 * init.join();	//Or just read Property values
+	 * }</pre>
+	 *
+	 * @param executor The executor to run initialization on.
+	 * @return A future that completes with the singleton AndHow instance, or an already complete
+	 * 	future if AndHow is already initialized.  While initialization is pending, the same future is
+	 * 	returned to each caller.
+	 */
+	public static CompletableFuture<AndHow> initializeAsync(Executor executor) {
+
+		Objects.requireNonNull(executor, "executor");
+
+		synchronized (LOCK) {
+
+			if (isInitialized()) {
+				return CompletableFuture.completedFuture(singleInstance);
+			} else if (asyncInit != null && ! asyncInit.isCompletedExceptionally()) {
+				return asyncInit;
+			}
+
+			CompletableFuture<AndHow> future = new CompletableFuture<>();
+			asyncInit = future;
+
+			try {
+				executor.execute(() -> {
+					synchronized (LOCK) {
+						runAsyncInit(future);	//Failures go to the future, not the executor
+					}
+				});
+			} catch (RuntimeException e) {
+				asyncInit = null;	//Never started, e.g. the executor rejected the task
+				throw e;
+			}
+
+			return future;
+
+		}	//end sync
+	}
+
+	/**
+	 * Runs a pending async initialization, unless it is already complete.
+	 * <p>
+	 * Callers must hold the LOCK, so the future is always complete when the LOCK is released.
+	 * A successful future is released, since the instance is then initialized.  A failed future is
+	 * kept, so its failure is thrown to later callers of {@link #instance()}.
+	 *
+	 * @param future The pending initialization, which is complete when this method returns.
+	 */
+	private static void runAsyncInit(CompletableFuture<AndHow> future) {
+
+		if (! future.isDone()) {
+			try {
+				future.complete(isInitialized() ? singleInstance : initialize(findConfig()));
+
+				if (asyncInit == future) {
+					asyncInit = null;
+				}
+			} catch (RuntimeException | Error e) {
+				future.completeExceptionally(e);
+			}
+		}
+	}
+
+	/**
+	 * Completes a pending async initialization on the calling thread, if it hasn't already run.
+	 * <p>
+	 * Callers must hold the LOCK.  If the initialization failed, its cause is rethrown.
+	 *
+	 * @param future The pending initialization
+	 * @return The singleton AndHow instance
+	 * @throws AppFatalException The same exception that the future completed with, if it failed.
+	 */
+	private static AndHow completeAsyncInit(CompletableFuture<AndHow> future) throws AppFatalException {
+
+		runAsyncInit(future);
+
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause();
+
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			} else {
+				throw e;
+			}
+		}
+	}
+
 	/**
 	 * Initialize AndHow with the passed configuration - This method is not normally needed or used in
 	 * production and will throw a Runtime exception if called more than once, directly or indirectly.
@@ -312,7 +457,7 @@ public class AndHow implements PropertyConfiguration, ValidatedValues {
 				if (singleInstance == null) {
 
 					try {
-						singleInstance = new AndHow(config);		//Build new instance
+						singleInstance = new AndHow(config, LOCK);		//Build new instance
 					} finally {
 						initializing = false;	//Done w/ init regardless of possible error
 					}
@@ -321,13 +466,8 @@ public class AndHow implements PropertyConfiguration, ValidatedValues {
 
 					try {
 
-						AndHowCore newCore = new AndHowCore(
-								config.getNamingStrategy(),
-								config.buildLoaders(),
-								config.getLoaderEnvironment(),
-								config.getRegisteredGroups());
-
-						singleInstance.core = newCore;
+						singleInstance.core = buildCore(config);
+						singleInstance.watchLoaders();
 
 					} finally {
 						initializing = false;	//Done w/ init regardless of possible error
@@ -348,6 +488,188 @@ public class AndHow implements PropertyConfiguration, ValidatedValues {
 		}	//end sync
 	}
 
+	/**
+	 * Reloads and revalidates all Property values, then replaces the current values all at once.
+	 * <p>
+	 * Values are reloaded using the same Properties, loaders and configuration used to initialize
+	 * AndHow, but with a fresh view of environment variables and system properties, so that changes
+	 * to those and to properties files are picked up.  The reload runs entirely on the calling
+	 * thread, so it can be run from a scheduler or other background thread.  Code reading Property
+	 * values is never blocked:  It sees all of the old values until the new values replace them
+	 * with a single atomic swap, then sees all of the new values.
+	 * <p>
+	 * If any reloaded value is invalid, the existing values remain in place and an
+	 * {@code AppFatalException} is thrown.  Since AndHow is already running, it is up to the caller
+	 * whether that is fatal.
+	 * <p>
+	 * Code that reads several Properties and needs them to be mutually consistent across a reload
+	 * should read them from a single {@link #snapshot()}.
+	 * <p>
+	 * If AndHow is not yet initialized, this simply initializes it.
+	 *
+	 * @return The singleton AndHow instance, now holding the reloaded values.
+	 * @throws AppFatalException If the reloaded values are invalid.
+	 */
+	public static AndHow reload() throws AppFatalException {
+
+		synchronized (LOCK) {
+
+			if (! isInitialized()) {
+				return instance();
+			}
+
+			LoaderEnvironment env = (initialization != null) ?
+					initialization.getConfig().getLoaderEnvironment() : null;
+
+			singleInstance.reloadCore(env);
+
+			return singleInstance;
+
+		}	//end sync
+	}
+
+	/**
+	 * A view of the current values of all Properties that is unchanged by later reloads.
+	 * <p>
+	 * Reading Properties via their {@code getValue()} method always returns the latest value, so
+	 * two Properties read during a single request could come from either side of a
+	 * {@link #reload()}.  Values read from one snapshot are always consistent:
+	 * <pre>{@code
+	 * ValidatedValues config = AndHow.instance().snapshot();
+	 * String host = config.getValue(MyConfig.HOST);
+	 * Integer port = config.getValue(MyConfig.PORT);
+	 * }</pre>
+	 * Holding a snapshot is cheap, but it does keep all of its values in memory.
+	 *
+	 * @return A non-null snapshot of the current values.
+	 */
+	public ValidatedValues snapshot() {
+		return core.getSnapshot();
+	}
+
+	/**
+	 * Timings and counters recorded during the most recent initialization or {@link #reload()}.
+	 * <p>
+	 * The stats include the time of each phase of initialization and, for each loader, the time
+	 * it took and the number of keys it read and matched to Properties.  The same stats are
+	 * emitted as JDK Flight Recorder events when a recording is running.
+	 *
+	 * @return The non-null, immutable stats.
+	 */
+	public InitializationStats getInitializationStats() {
+		return core.getInitializationStats();
+	}
+
+	/**
+	 * Where the values of the most recent initialization or {@link #reload()} came from, i.e.
+	 * which loader loaded which value.
+	 * <p>
+	 * How much of this history is kept is set by
+	 * {@link AndHowConfiguration#setProvenanceRetention(ProvenanceRetention)}.  By default, every
+	 * value loaded by every loader is kept, including values overridden by an earlier loader.
+	 * Values of deferred groups are not included.
+	 *
+	 * @return The non-null, immutable values and their history.
+	 */
+	public ValidatedValuesWithContext getLoadedValues() {
+		return core.getLoadedValues();
+	}
+
+	/**
+	 * Reloads all values into a new core, then swaps it in.
+	 * <p>
+	 * Callers must hold the lock that guards this instance.
+	 *
+	 * @param env The loader environment to reload with, or null for the current environment.
+	 * @throws AppFatalException If the reloaded values are invalid.
+	 */
+	void reloadCore(LoaderEnvironment env) throws AppFatalException {
+		//Fully built before the swap, so readers never see a partial reload
+		core = new AndHowCore(core, env);
+		watchLoaders();
+	}
+
+	/**
+	 * Reloads the values of a single loader into a new core, then swaps it in.
+	 * <p>
+	 * Called by {@link WatchableLoader}s when their source changes.  If the load history needed
+	 * to reload a single loader is not kept (see {@link ProvenanceRetention}), all loaders are
+	 * reloaded.
+	 *
+	 * @param loader The loader to reload.
+	 * @throws AppFatalException If the reloaded values are invalid.
+	 */
+	private void reloadLoader(Loader loader) throws AppFatalException {
+		synchronized (coreLock) {
+			AndHowCore current = core;
+
+			if (current != null && current.getLoaders().contains(loader)) {
+				if (current.getProvenanceRetention() == ProvenanceRetention.FULL) {
+					core = new AndHowCore(current, loader);
+				} else {
+					core = new AndHowCore(current, (LoaderEnvironment) null);
+				}
+				watchLoaders();
+			}
+		}
+	}
+
+	/**
+	 * Has each {@link WatchableLoader} watch the source it just loaded from.
+	 * <p>
+	 * Loaders of a core that has since been replaced by a newly built one, rather than reloaded,
+	 * are stopped, so their watch threads do not outlive the core.  Callers must hold the coreLock.
+	 */
+	private void watchLoaders() {
+		List<WatchableLoader> watching = new ArrayList();
+
+		for (Loader loader : core.getLoaders()) {
+			if (loader instanceof WatchableLoader) {
+				((WatchableLoader) loader).watch(() -> reloadLoader(loader));
+				watching.add((WatchableLoader) loader);
+			}
+		}
+
+		for (WatchableLoader loader : watchingLoaders) {
+			if (! watching.contains(loader)) {
+				loader.stopWatching();
+			}
+		}
+
+		watchingLoaders = watching;
+	}
+
+	/**
+	 * Builds a new, fully initialized core from a configuration.
+	 *
+	 * @param config The configuration
+	 * @return The new core
+	 * @throws AppFatalException If AndHow is mis-configured or there are validation errors.
+	 */
+	private static AndHowCore buildCore(AndHowConfiguration<? extends AndHowConfiguration> config)
+			throws AppFatalException {
+
+		return new AndHowCore(
+				config.getNamingStrategy(),
+				config.buildLoaders(),
+				config.getLoaderEnvironment(),
+				config.getRegisteredGroups(),
+				buildSnapshotCache(config),
+				config.getDeferredGroups(),
+				config.getProvenanceRetention());
+	}
+
+	/**
+	 * The snapshot cache configured by {@link AndHowConfiguration#setSnapshotCacheFile(String)}.
+	 *
+	 * @param config The configuration
+	 * @return The cache or null if no cache file is configured.
+	 */
+	private static SnapshotCache buildSnapshotCache(AndHowConfiguration<? extends AndHowConfiguration> config) {
+		String path = config.getSnapshotCacheFile();
+		return (path != null) ? new SnapshotCache(new File(path)) : null;
+	}
+
 	/**
 	 * Determine if AndHow is initialized or not w/out forcing AndHow to load.
 	 *
@@ -447,6 +769,98 @@ public class AndHow implements PropertyConfiguration, ValidatedValues {
 		return core.getValue(prop);
 	}
 
+	//
+	//Primitive values, which are read w/o unboxing or casting.
+	//Typically used via Property methods like IntProp.getInt()
+
+	/**
+	 * The effective value of an Integer Property as an {@code int}.
+	 *
+	 * @param prop The property to get the value for.
+	 * @return The effective value.
+	 * @throws AndHowIllegalStateException.NullPrimitiveValueException If the value is null.
+	 */
+	public int getInt(Property<Integer> prop) {
+		return (int) core.getPrimitiveBits(prop);
+	}
+
+	/**
+	 * The effective value of an Integer Property as an {@code int}, or a value to use if null.
+	 *
+	 * @param prop The property to get the value for.
+	 * @param valueIfNull The value to return if the effective value is null.
+	 * @return The effective value or {@code valueIfNull}.
+	 */
+	public int getInt(Property<Integer> prop, int valueIfNull) {
+		return (int) core.getPrimitiveBits(prop, valueIfNull);
+	}
+
+	/**
+	 * The effective value of a Long Property as a {@code long}.
+	 *
+	 * @param prop The property to get the value for.
+	 * @return The effective value.
+	 * @throws AndHowIllegalStateException.NullPrimitiveValueException If the value is null.
+	 */
+	public long getLong(Property<Long> prop) {
+		return core.getPrimitiveBits(prop);
+	}
+
+	/**
+	 * The effective value of a Long Property as a {@code long}, or a value to use if null.
+	 *
+	 * @param prop The property to get the value for.
+	 * @param valueIfNull The value to return if the effective value is null.
+	 * @return The effective value or {@code valueIfNull}.
+	 */
+	public long getLong(Property<Long> prop, long valueIfNull) {
+		return core.getPrimitiveBits(prop, valueIfNull);
+	}
+
+	/**
+	 * The effective value of a Double Property as a {@code double}.
+	 *
+	 * @param prop The property to get the value for.
+	 * @return The effective value.
+	 * @throws AndHowIllegalStateException.NullPrimitiveValueException If the value is null.
+	 */
+	public double getDouble(Property<Double> prop) {
+		return Double.longBitsToDouble(core.getPrimitiveBits(prop));
+	}
+
+	/**
+	 * The effective value of a Double Property as a {@code double}, or a value to use if null.
+	 *
+	 * @param prop The property to get the value for.
+	 * @param valueIfNull The value to return if the effective value is null.
+	 * @return The effective value or {@code valueIfNull}.
+	 */
+	public double getDouble(Property<Double> prop, double valueIfNull) {
+		return Double.longBitsToDouble(core.getPrimitiveBits(prop, Double.doubleToRawLongBits(valueIfNull)));
+	}
+
+	/**
+	 * The effective value of a Boolean Property as a {@code boolean}.
+	 *
+	 * @param prop The property to get the value for.
+	 * @return The effective value.
+	 * @throws AndHowIllegalStateException.NullPrimitiveValueException If the value is null.
+	 */
+	public boolean getBoolean(Property<Boolean> prop) {
+		return core.getPrimitiveBits(prop) != 0L;
+	}
+
+	/**
+	 * The effective value of a Boolean Property as a {@code boolean}, or a value to use if null.
+	 *
+	 * @param prop The property to get the value for.
+	 * @param valueIfNull The value to return if the effective value is null.
+	 * @return The effective value or {@code valueIfNull}.
+	 */
+	public boolean getBoolean(Property<Boolean> prop, boolean valueIfNull) {
+		return core.getPrimitiveBits(prop, valueIfNull ? 1L : 0L) != 0L;
+	}
+
 	//
 	//StaticPropertyConfiguration Interface
 	@Override
@@ -1,5 +1,7 @@
 package org.yarnandtail.andhow;
 
+import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
 import org.yarnandtail.andhow.api.*;
 import org.yarnandtail.andhow.property.StrProp;
@@ -240,6 +242,27 @@ public interface AndHowConfiguration<C extends AndHowConfiguration> {
 	 */
 	C filesystemPropFileNotRequired();
 
+	/**
+	 * Watches the filesystem properties file for changes, reloading its values when it changes.
+	 * <p>
+	 * Only the values of the {@code StdPropFileOnFilesystemLoader} are reloaded and revalidated,
+	 * so other loaders are not run again.  A burst of changes is reloaded once, after the file has
+	 * been unchanged for the debounce time.  Files replaced via symlinks, such as Kubernetes
+	 * ConfigMap mounts, are detected as well.  If the new values are invalid, the problems are
+	 * logged and the existing values are kept.
+	 * <p>
+	 * By default, the file is not watched.  The default implementation throws an
+	 * {@code UnsupportedOperationException}.
+	 *
+	 * @param debounce How long the file must be unchanged before it is reloaded, or null to not
+	 * 	watch the file.
+	 * @return This instance for chaining.
+	 * @see org.yarnandtail.andhow.load.PropFileOnFilesystemLoader#setWatchDebounce(Duration)
+	 */
+	default C setFilesystemPropFileWatchDebounce(Duration debounce) {
+		throw new UnsupportedOperationException("setFilesystemPropFileWatchDebounce");
+	}
+
 	//
 	//Loader related
 
@@ -292,4 +315,114 @@ public interface AndHowConfiguration<C extends AndHowConfiguration> {
 	C insertLoaderBefore(Class<? extends StandardLoader> insertBeforeThisLoader, Loader loaderToInsert);
 
 	C insertLoaderAfter(Class<? extends StandardLoader> insertAfterThisLoader, Loader loaderToInsert);
+
+	/**
+	 * Sets a file used to cache loaded values between application starts.
+	 * <p>
+	 * When set, values are written to the file after a successful startup.  On the next start,
+	 * if none of the inputs to loading have changed, values are read from the file and the loaders
+	 * are not run.  Validation is always done.  Changes to properties files are detected by
+	 * their modification time, size and, for files up to 64KB, a hash of their contents.  An edit
+	 * to a larger file that keeps its modification time and size unchanged will not be seen.
+	 * Loaders that cannot detect changes to their inputs, like JNDI when a JNDI context is
+	 * available, disable the cache.
+	 * <p>
+	 * The cache file contains configuration values, which may include passwords and other
+	 * secrets, so it should be in a location only readable by the application.
+	 * <p>
+	 * By default, no cache file is used.
+	 * <p>
+	 * The default implementation throws an {@code UnsupportedOperationException}, so existing
+	 * implementations of this interface need not support a cache.
+	 *
+	 * @param snapshotCacheFilePath The path to the cache file, or null to not use a cache.
+	 * @return This instance for chaining.
+	 */
+	default C setSnapshotCacheFile(String snapshotCacheFilePath) {
+		throw new UnsupportedOperationException("setSnapshotCacheFile");
+	}
+
+	/**
+	 * The path of the file used to cache loaded values between application starts.
+	 * <p>
+	 * The default is null:  No cache is used.
+	 *
+	 * @return The path or null if no cache is used.
+	 * @see #setSnapshotCacheFile(String)
+	 */
+	default String getSnapshotCacheFile() {
+		return null;
+	}
+
+	/**
+	 * Defers loading and validation of a group of Properties until one of them is first read.
+	 * <p>
+	 * By default, every Property is loaded and validated before AndHow finishes initializing.
+	 * For applications w/ many Properties, some only used by some deployments, deferring groups
+	 * shortens startup.  A deferred group is loaded and validated the first time any Property in
+	 * the group is read, exactly once.  If the group has problems, they are reported as they would
+	 * be at startup and an {@link AppFatalException} is thrown from that read and every later read
+	 * of the group.
+	 * <p>
+	 * The passed class and any classes nested in it are deferred.  Groups containing Properties
+	 * used to configure loaders are never deferred.  Reading a deferred Property during
+	 * initialization, e.g. by an exporter, loads its group at that point.
+	 * <p>
+	 * A deferred group is loaded by running the loaders again, so its values are read from each
+	 * source as it is at first use, not as it was at startup.  If any loader cannot load again
+	 * after initialization (see {@link org.yarnandtail.andhow.api.Loader#isReloadable()}), such as a
+	 * {@code MapLoader}, no groups are deferred.
+	 * <p>
+	 * The default implementation throws an {@code UnsupportedOperationException}.
+	 *
+	 * @param group A class containing AndHow Properties.
+	 * @return This instance for chaining.
+	 */
+	default C addDeferredGroup(Class<?> group) {
+		throw new UnsupportedOperationException("addDeferredGroup");
+	}
+
+	/**
+	 * The classes of Property groups to defer.
+	 * <p>
+	 * The default is an empty list:  No groups are deferred.
+	 *
+	 * @return A non-null, unmodifiable list.
+	 * @see #addDeferredGroup(Class)
+	 */
+	default List<Class<?>> getDeferredGroups() {
+		return Collections.emptyList();
+	}
+
+	/**
+	 * Sets how much of the load history, i.e. which loader loaded which value, is kept after
+	 * initialization.
+	 * <p>
+	 * By default ({@link ProvenanceRetention#FULL}), every value loaded by every loader is kept
+	 * for the life of the application, including values overridden by an earlier loader.
+	 * {@link ProvenanceRetention#COMPACT} keeps only the loader of each value in use and
+	 * {@link ProvenanceRetention#NONE} keeps nothing.  Property values are read the same way at
+	 * every level.  At the lighter levels, reloading a single watched loader reloads all loaders.
+	 * <p>
+	 * The default implementation throws an {@code UnsupportedOperationException}.
+	 *
+	 * @param retention The retention level.  Null is the same as FULL.
+	 * @return This instance for chaining.
+	 * @see AndHow#getLoadedValues()
+	 */
+	default C setProvenanceRetention(ProvenanceRetention retention) {
+		throw new UnsupportedOperationException("setProvenanceRetention");
+	}
+
+	/**
+	 * How much of the load history is kept after initialization.
+	 * <p>
+	 * The default is {@link ProvenanceRetention#FULL}.
+	 *
+	 * @return The non-null retention level.
+	 * @see #setProvenanceRetention(ProvenanceRetention)
+	 */
+	default ProvenanceRetention getProvenanceRetention() {
+		return ProvenanceRetention.FULL;
+	}
 }
@@ -0,0 +1,326 @@
+package org.yarnandtail.andhow;
+
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.yarnandtail.andhow.api.*;
+import static org.yarnandtail.andhow.internal.InitializationProblem.*;
+
+/**
+ * An independent AndHow instance with its own configuration, values and lock.
+ * <p>
+ * Normally an application has a single AndHow instance, returned by {@link AndHow#instance()}.
+ * When several applications share a class loader hierarchy, such as deployments in an application
+ * server that share AndHow and some Properties via a common library, each can create its own
+ * context and be configured independently:
+ * <pre>{@code
+ * AndHowContext ctx = AndHowContext.create(StdConfig.instance().setCmdLineArgs(args));
+ * ctx.bindTo(deploymentClassLoader);
+ * }</pre>
+ * Property reads, e.g. {@code MyProperty.getValue()}, resolve the context to read from via
+ * {@link #current()}:
+ * <ol>
+ * <li>A context explicitly bound to the current thread by {@link #run(Runnable)} or
+ * {@link #call(Callable)}
+ * <li>Otherwise, the context bound to the thread's context class loader or, if none, the nearest
+ * of its parents
+ * <li>Otherwise, the {@link AndHow} singleton
+ * </ol>
+ * While no context is bound, reads go directly to the singleton.  Resolving a context and
+ * binding to a thread never take a lock.
+ * <p>
+ * A context initializes on first use, or when {@link #instance()} is called.  Each context holds
+ * its own immutable core, so reading from one context, reloading another and initializing the
+ * singleton never block each other.  Bindings are strong references:  A deployment should
+ * {@link #unbind()} its context when it is undeployed.
+ */
+public final class AndHowContext {
+
+	/** Guards changes to the class loader bindings, never held while reading */
+	private static final Object BINDING_LOCK = new Object();
+
+	/* Immutable, replaced on each change.  Identity based, since ClassLoaders are not values */
+	private static volatile Map<ClassLoader, AndHowContext> classLoaderBindings =
+			Collections.emptyMap();
+
+	private static final ThreadLocal<AndHowContext> threadBinding = new ThreadLocal<>();
+
+	/*
+	 * The number of class loader bindings plus the number of threads in run() or call(), counting
+	 * nested calls.  While zero, reads skip all lookups.  A single count, rather than a flag
+	 * recomputed on each change, cannot lose a binding made while another is removed.
+	 */
+	private static final AtomicInteger bindingCount = new AtomicInteger();
+
+	/** Dedicated object for synchronization of this context's initialization and reloads */
+	private final Object lock = new Object();
+
+	private final AndHowConfiguration<? extends AndHowConfiguration> config;
+
+	/* Null until initialized, then the AndHow instance that holds this context's core */
+	private volatile AndHow andHow;
+
+	/* Debug info about the initialization of this context */
+	private volatile AndHow.Initialization initialization;
+
+	/* True only during initialization to detect re-entrant initialization */
+	private boolean initializing = false;
+
+	private AndHowContext(AndHowConfiguration<? extends AndHowConfiguration> config) {
+		this.config = config;
+	}
+
+	/**
+	 * Creates a new context from a configuration.
+	 * <p>
+	 * The context is not initialized and the configuration is not used until the context is first
+	 * read from or {@link #instance()} is called, so the configuration can still be modified.
+	 * Unlike the singleton, a context never discovers an {@link AndHowInit} implementation.
+	 *
+	 * @param config The non-null configuration for the new context.
+	 * @return A new, uninitialized and unbound context.
+	 * @throws AppFatalException If the configuration is null.
+	 */
+	public static AndHowContext create(AndHowConfiguration<? extends AndHowConfiguration> config)
+			throws AppFatalException {
+
+		if (config == null) {
+			throw new AppFatalException("Cannot create a context with a null configuration.");
+		}
+
+		return new AndHowContext(config);
+	}
+
+	/**
+	 * The AndHow instance that Property reads on this thread resolve to.
+	 * <p>
+	 * See the class description for the order in which contexts are resolved.
+	 *
+	 * @return The AndHow instance of the resolved context, initializing it if needed.
+	 * @throws AppFatalException If the resolved instance fails to initialize.
+	 */
+	public static AndHow current() throws AppFatalException {
+
+		if (bindingCount.get() == 0) {
+			return AndHow.instance();
+		}
+
+		AndHowContext ctx = find();
+		return (ctx != null) ? ctx.instance() : AndHow.instance();
+	}
+
+	/**
+	 * The context bound to the current thread or its context class loader.
+	 *
+	 * @return The bound context or null if none is bound, meaning the singleton is used.
+	 */
+	public static AndHowContext find() {
+
+		AndHowContext ctx = threadBinding.get();
+
+		if (ctx == null) {
+			Map<ClassLoader, AndHowContext> bindings = classLoaderBindings;	//Single volatile read
+
+			if (! bindings.isEmpty()) {
+				ClassLoader cl = Thread.currentThread().getContextClassLoader();
+
+				while (cl != null && ctx == null) {
+					ctx = bindings.get(cl);
+					cl = cl.getParent();
+				}
+			}
+		}
+
+		return ctx;
+	}
+
+	/**
+	 * The AndHow instance of this context, initializing it if needed.
+	 *
+	 * @return The AndHow instance, the same instance for the life of this context.
+	 * @throws AppFatalException If AndHow is mis-configured or there are validation errors.
+	 */
+	public AndHow instance() throws AppFatalException {
+
+		AndHow ah = andHow;	//Single volatile read for the common, initialized case
+
+		if (ah != null) {
+			return ah;
+		}
+
+		synchronized (lock) {
+
+			if (andHow == null) {
+
+				if (initializing) {
+					//Code run during initialization, e.g. a loader, read a Property of this context
+					throw new AppFatalException(
+							new InitiationLoop(initialization, new AndHow.Initialization(config)));
+				}
+
+				initializing = true;
+				initialization = new AndHow.Initialization(config);
+
+				try {
+					andHow = new AndHow(config, lock);
+				} finally {
+					initializing = false;	//Done w/ init regardless of possible error
+				}
+			}
+
+			return andHow;
+
+		}	//end sync
+	}
+
+	/**
+	 * Reloads and revalidates the values of this context.
+	 * <p>
+	 * Behaves the same as {@link AndHow#reload()}, but only for this context.
+	 *
+	 * @return The AndHow instance of this context, now holding the reloaded values.
+	 * @throws AppFatalException If the reloaded values are invalid.
+	 */
+	public AndHow reload() throws AppFatalException {
+
+		synchronized (lock) {
+
+			if (andHow == null) {
+				return instance();
+			}
+
+			andHow.reloadCore(config.getLoaderEnvironment());
+
+			return andHow;
+
+		}	//end sync
+	}
+
+	/**
+	 * Determine if this context is initialized or not w/out forcing it to initialize.
+	 *
+	 * @return True if initialized
+	 */
+	public boolean isInitialized() {
+		return andHow != null;
+	}
+
+	/**
+	 * Get the stacktrace of where this context was initialized.
+	 *
+	 * @return A stacktrace if it is available or an empty stacktrace array if it is not available
+	 * or this context is not yet initialized.
+	 */
+	public StackTraceElement[] getInitializationTrace() {
+		AndHow.Initialization init = initialization;
+		return (init != null) ? init.getStackTrace() : new StackTraceElement[0];
+	}
+
+	/**
+	 * The configuration this context was created from.
+	 *
+	 * @return The non-null configuration.
+	 */
+	public AndHowConfiguration<? extends AndHowConfiguration> getConfig() {
+		return config;
+	}
+
+	/**
+	 * Binds this context to a class loader, so that threads with that class loader, or any of its
+	 * descendants, as their context class loader read from this context.
+	 * <p>
+	 * A class loader can have only one bound context, so this replaces any context already bound
+	 * to it.  A context can be bound to several class loaders.
+	 *
+	 * @param classLoader The non-null class loader to bind to.
+	 * @return This context, for chaining.
+	 */
+	public AndHowContext bindTo(ClassLoader classLoader) {
+
+		Objects.requireNonNull(classLoader, "classLoader");
+
+		synchronized (BINDING_LOCK) {
+			Map<ClassLoader, AndHowContext> bindings = new IdentityHashMap<>(classLoaderBindings);
+			bindings.put(classLoader, this);
+			bindingCount.addAndGet(bindings.size() - classLoaderBindings.size());
+			classLoaderBindings = Collections.unmodifiableMap(bindings);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Removes all bindings of this context to class loaders.
+	 * <p>
+	 * Threads already running in {@link #run(Runnable)} or {@link #call(Callable)} are unaffected.
+	 */
+	public void unbind() {
+
+		synchronized (BINDING_LOCK) {
+			Map<ClassLoader, AndHowContext> bindings = new IdentityHashMap<>(classLoaderBindings);
+			bindings.values().removeIf(c -> c == this);
+			int removed = classLoaderBindings.size() - bindings.size();
+			classLoaderBindings = Collections.unmodifiableMap(bindings);
+			bindingCount.addAndGet(-removed);	//After the removal, so a read never misses a binding
+		}
+	}
+
+	/**
+	 * Runs code with this context explicitly bound to the current thread.
+	 * <p>
+	 * Takes precedence over class loader bindings.  The previous thread binding, if any, is
+	 * restored when the code completes.
+	 *
+	 * @param runnable The code to run.
+	 */
+	public void run(Runnable runnable) {
+		AndHowContext previous = bindToThread();
+
+		try {
+			runnable.run();
+		} finally {
+			restoreThreadBinding(previous);
+		}
+	}
+
+	/**
+	 * Calls code with this context explicitly bound to the current thread.
+	 * <p>
+	 * Takes precedence over class loader bindings.  The previous thread binding, if any, is
+	 * restored when the code completes.
+	 *
+	 * @param callable The code to call.
+	 * @param <T> The type returned by the callable.
+	 * @return The value returned by the callable.
+	 * @throws Exception Any exception thrown by the callable.
+	 */
+	public <T> T call(Callable<T> callable) throws Exception {
+		AndHowContext previous = bindToThread();
+
+		try {
+			return callable.call();
+		} finally {
+			restoreThreadBinding(previous);
+		}
+	}
+
+	private AndHowContext bindToThread() {
+		bindingCount.incrementAndGet();
+
+		AndHowContext previous = threadBinding.get();
+		threadBinding.set(this);
+		return previous;
+	}
+
+	private static void restoreThreadBinding(AndHowContext previous) {
+		if (previous != null) {
+			threadBinding.set(previous);
+		} else {
+			threadBinding.remove();
+		}
+
+		bindingCount.decrementAndGet();
+	}
+
+}
@@ -1,6 +1,7 @@
 package org.yarnandtail.andhow;
 
 import java.lang.reflect.*;
+import java.time.Duration;
 import java.util.*;
 import org.yarnandtail.andhow.api.*;
 import org.yarnandtail.andhow.load.util.LoaderEnvironmentBuilder;
@@ -43,9 +44,19 @@ public abstract class BaseConfig<C extends BaseConfig<C>> implements AndHowConfi
 	//Prop file on filesystem path
 	protected StrProp filesystemPropFilePathProp;
 	protected boolean _missingFilesystemPropFileAProblem = false;
+	protected Duration filesystemPropFileWatchDebounce;
 	
 	protected NamingStrategy naming = new CaseInsensitiveNaming();
 
+	//Optional cache file for loaded values
+	protected String snapshotCacheFile;
+
+	//Groups loaded on first use
+	protected List<Class<?>> deferredGroups = new ArrayList();
+
+	//Load history kept after initialization
+	protected ProvenanceRetention provenanceRetention = ProvenanceRetention.FULL;
+
 	/**
 	 * If non-null, overrides the default group discovery process with this override list.
 	 * There is no set method here - subclasses may make editable for use in testing.
@@ -135,6 +146,7 @@ public abstract class BaseConfig<C extends BaseConfig<C>> implements AndHowConfi
 		StdPropFileOnFilesystemLoader loader = new StdPropFileOnFilesystemLoader();
 		loader.setFilePath(filesystemPropFilePathProp);
 		loader.setMissingFileAProblem(_missingFilesystemPropFileAProblem);
+		loader.setWatchDebounce(filesystemPropFileWatchDebounce);
 		return loader;
 	}
 
@@ -229,4 +241,19 @@ public abstract class BaseConfig<C extends BaseConfig<C>> implements AndHowConfi
 		return loadEnvBuilder.toImmutable();
 	}
 
+	@Override
+	public String getSnapshotCacheFile() {
+		return snapshotCacheFile;
+	}
+
+	@Override
+	public List<Class<?>> getDeferredGroups() {
+		return Collections.unmodifiableList(deferredGroups);
+	}
+
+	@Override
+	public ProvenanceRetention getProvenanceRetention() {
+		return provenanceRetention;
+	}
+
 }
@@ -1,5 +1,6 @@
 package org.yarnandtail.andhow;
 
+import java.time.Duration;
 import java.util.*;
 import org.yarnandtail.andhow.api.*;
 import org.yarnandtail.andhow.property.StrProp;
@@ -124,6 +125,34 @@ public class StdConfig {
 			return (S) this;
 		}
 
+		@Override
+		public S setFilesystemPropFileWatchDebounce(Duration debounce) {
+			filesystemPropFileWatchDebounce = debounce;
+			return (S) this;
+		}
+
+		@Override
+		public S addDeferredGroup(Class<?> group) {
+			if (group == null) {
+				throw new IllegalArgumentException("The deferred group cannot be null");
+			}
+
+			if (! deferredGroups.contains(group)) deferredGroups.add(group);
+			return (S) this;
+		}
+
+		@Override
+		public S setSnapshotCacheFile(String snapshotCacheFilePath) {
+			snapshotCacheFile = TextUtil.trimToNull(snapshotCacheFilePath);
+			return (S) this;
+		}
+
+		@Override
+		public S setProvenanceRetention(ProvenanceRetention retention) {
+			provenanceRetention = (retention != null) ? retention : ProvenanceRetention.FULL;
+			return (S) this;
+		}
+
 		@Override
 		public S setStandardLoaders(List<Class<? extends StandardLoader>> newStandardLoaders) {
 
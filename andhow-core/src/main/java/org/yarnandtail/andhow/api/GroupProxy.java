@@ -81,6 +81,32 @@ public interface GroupProxy {
 	 */
 	String getCanonicalName(Property<?> memberProperty);
 	
+	/**
+	 * The upper case canonical name of a Property in this Group, if it was
+	 * precomputed at compile time.
+	 * 
+	 * This is the canonical name as matched by the case insensitive NamingStrategy.
+	 * 
+	 * @param memberProperty
+	 * @return The effective name or null if not precomputed or not a member.
+	 */
+	default String getEffectiveName(Property<?> memberProperty) {
+		return null;
+	}
+	
+	/**
+	 * The URI style name of a Property in this Group, if it was precomputed
+	 * at compile time.
+	 * 
+	 * The URI name is the canonical name w/ slashes in place of dots.
+	 * 
+	 * @param memberProperty
+	 * @return The URI name or null if not precomputed or not a member.
+	 */
+	default String getUriName(Property<?> memberProperty) {
+		return null;
+	}
+	
 	/**
 	 * Returns true if this is a group created for user properties, which is
 	 * the typical case.
@@ -12,8 +12,17 @@ public abstract class GroupProxyBase implements GroupProxy {
 	private final boolean userGroup;
 	private final String canonicalName;
 	private final String javaCanonicalName;
+
+	/** The group class, resolved at most once if not provided at construction */
+	private volatile Class<?> proxiedGroup;
 	protected final List<NameAndProperty> props;
 
+	/** Field name of each Property in props, for lookups w/o a scan of props */
+	protected final Map<Property<?>, String> fieldNameByProperty;
+
+	/** Properties w/ names precomputed at compile time */
+	protected final Map<Property<?>, NameAndProperty> precomputedByProperty;
+
 	/**
 	 * Constructs a new instance w/ final unmodifiable fields.
 	 * 
@@ -24,15 +33,63 @@ public abstract class GroupProxyBase implements GroupProxy {
 		this.canonicalName = canonicalName;
 		this.javaCanonicalName = javaCanonicalName;
 		props = new ArrayList();
+		fieldNameByProperty = new HashMap();
+		precomputedByProperty = new HashMap();
 		userGroup = true;
 	}
 	
+	/**
+	 * Constructs a new instance for an already loaded group class.
+	 *
+	 * @param canonicalName
+	 * @param proxiedGroup The class of the group
+	 */
+	public GroupProxyBase(String canonicalName, Class<?> proxiedGroup) {
+		this(canonicalName, proxiedGroup.getName());
+		this.proxiedGroup = proxiedGroup;
+	}
+
+	/**
+	 * Constructs a new instance for an already loaded group class.
+	 *
+	 * @param canonicalName
+	 * @param proxiedGroup The class of the group
+	 * @param props
+	 * @param userGroup
+	 */
+	public GroupProxyBase(String canonicalName, Class<?> proxiedGroup,
+			List<NameAndProperty> props, boolean userGroup) {
+		this(canonicalName, proxiedGroup.getName(), props, userGroup);
+		this.proxiedGroup = proxiedGroup;
+	}
+
 	public GroupProxyBase(String canonicalName, String javaCanonicalName, 
 			List<NameAndProperty> props, boolean userGroup) {
 		this.canonicalName = canonicalName;
 		this.javaCanonicalName = javaCanonicalName;
 		this.props = props;
 		this.userGroup = userGroup;
+
+		fieldNameByProperty = new HashMap();
+		precomputedByProperty = new HashMap();
+		for (NameAndProperty nap : props) {
+			indexProperty(nap);
+		}
+	}
+
+	/**
+	 * Adds the Property to the field name index.
+	 * <p>
+	 * If the same Property is present more than once, the first field name is kept.
+	 *
+	 * @param nap The name and Property to index
+	 */
+	protected final void indexProperty(NameAndProperty nap) {
+		fieldNameByProperty.putIfAbsent(nap.property, nap.fieldName);
+
+		if (nap.canonicalName != null) {
+			precomputedByProperty.putIfAbsent(nap.property, nap);
+		}
 	}
 
 	@Override
@@ -50,34 +107,55 @@ public abstract class GroupProxyBase implements GroupProxy {
 		return Collections.unmodifiableList(props);
 	}
 
+	/**
+	 * The group class.
+	 * <p>
+	 * If the class was not provided at construction, it is loaded by name on the first call
+	 * and held for later calls.
+	 *
+	 * @return The proxied group class
+	 */
 	@Override
 	public Class<?> getProxiedGroup() {
-		try {
-			String jcan = getJavaCanonicalName();
-			return Class.forName(jcan);
-		} catch (ClassNotFoundException ex) {
-			throw new RuntimeException("The configured PropertyGroup '" + getJavaCanonicalName() + "' was not found on the classpath", ex);
+		Class<?> group = proxiedGroup;
+
+		if (group == null) {
+			try {
+				String jcan = getJavaCanonicalName();
+				group = Class.forName(jcan);
+				proxiedGroup = group;
+			} catch (ClassNotFoundException ex) {
+				throw new RuntimeException("The configured PropertyGroup '" + getJavaCanonicalName() + "' was not found on the classpath", ex);
+			}
 		}
+
+		return group;
 	}
 
 	@Override
 	public String getSimpleName(Property<?> memberProperty) {
-		for (NameAndProperty nap : props) {
-			if (nap.property.equals(memberProperty)) {
-				return nap.fieldName;
-			}
-		}
-		return null;
+		return fieldNameByProperty.get(memberProperty);
 	}
 
 	@Override
 	public String getCanonicalName(Property<?> memberProperty) {
-		for (NameAndProperty nap : props) {
-			if (nap.property.equals(memberProperty)) {
-				return canonicalName + "." + nap.fieldName;
-			}
-		}
-		return null;
+		NameAndProperty pre = precomputedByProperty.get(memberProperty);
+		if (pre != null) return pre.canonicalName;
+
+		String fieldName = fieldNameByProperty.get(memberProperty);
+		return (fieldName != null) ? canonicalName + "." + fieldName : null;
+	}
+	
+	@Override
+	public String getEffectiveName(Property<?> memberProperty) {
+		NameAndProperty pre = precomputedByProperty.get(memberProperty);
+		return (pre != null) ? pre.effectiveName : null;
+	}
+
+	@Override
+	public String getUriName(Property<?> memberProperty) {
+		NameAndProperty pre = precomputedByProperty.get(memberProperty);
+		return (pre != null) ? pre.uriName : null;
 	}
 	
 	@Override
@@ -24,4 +24,18 @@ public class GroupProxyImmutable extends GroupProxyBase {
 		super(canonicalName, javaCanonicalName, props, userGroup);
 	}
 	
+	/**
+	 * Constructs a new instance for an already loaded group class.
+	 * 
+	 * @param canonicalName AndHow name of the group
+	 * @param proxiedGroup The class of the group
+	 * @param props A list of contained Properties
+	 * @param userGroup If true, this is a typical group.
+	 *   If false, it is an internal property use to configure AndHow.
+	 */
+	public GroupProxyImmutable(String canonicalName, Class<?> proxiedGroup,
+			List<NameAndProperty> props, boolean userGroup) {
+		super(canonicalName, proxiedGroup, props, userGroup);
+	}
+	
 }
@@ -20,9 +20,20 @@ public class GroupProxyMutable extends GroupProxyBase {
 		super(canonicalName, javaCanonicalName);
 	}
 	
+	/**
+	 * Constructs a new instance for an already loaded group class.
+	 * 
+	 * @param canonicalName The AndHow name
+	 * @param proxiedGroup The class of the group
+	 */
+	public GroupProxyMutable(String canonicalName, Class<?> proxiedGroup) {
+		super(canonicalName, proxiedGroup);
+	}
+	
 	
 	public void addProperty(NameAndProperty prop) {
 		props.add(prop);
+		indexProperty(prop);
 	}
 	
 
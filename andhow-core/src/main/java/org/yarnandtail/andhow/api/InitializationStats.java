@@ -0,0 +1,198 @@
+package org.yarnandtail.andhow.api;
+
+import java.util.*;
+
+/**
+ * Timings and counters recorded while AndHow initialized or reloaded, for diagnosing slow startup.
+ * <p>
+ * Times are wall clock nanoseconds from {@link System#nanoTime()}.  Loaders that are
+ * {@link Loader#isConcurrentLoadSafe() concurrent load safe} may run in parallel with earlier
+ * loaders, so the loader times may add up to more than the {@link Phase#LOAD} phase.
+ * <p>
+ * Instances are immutable.
+ */
+public class InitializationStats {
+
+	/**
+	 * The phases of initialization, in the order they run.
+	 */
+	public enum Phase {
+		/** Finding the classes containing Properties, e.g. via the ServiceLoader */
+		DISCOVERY,
+		/** Building the Property definitions, names and aliases */
+		DEFINITION,
+		/** Running the loaders, or reading the snapshot cache in their place */
+		LOAD,
+		/** Validating loaded values and checking for missing required values */
+		VALIDATION,
+		/** Running the exporters of {@link org.yarnandtail.andhow.GroupExport} annotated groups */
+		EXPORT,
+		/** Writing sample configuration files, when requested */
+		SAMPLES
+	}
+
+	private final Map<Phase, Long> phaseNanos;
+	private final List<LoaderStats> loaderStats;
+	private final boolean fromSnapshotCache;
+
+	/**
+	 * New instance.
+	 *
+	 * @param phaseNanos The time of each phase that ran.
+	 * @param loaderStats The stats of each loader, in loader order.
+	 * @param fromSnapshotCache True if values were read from a snapshot cache in place of loaders.
+	 */
+	public InitializationStats(Map<Phase, Long> phaseNanos, List<LoaderStats> loaderStats,
+			boolean fromSnapshotCache) {
+
+		EnumMap<Phase, Long> phases = new EnumMap(Phase.class);
+		phases.putAll(phaseNanos);
+
+		this.phaseNanos = Collections.unmodifiableMap(phases);
+		this.loaderStats = Collections.unmodifiableList(new ArrayList(loaderStats));
+		this.fromSnapshotCache = fromSnapshotCache;
+	}
+
+	/**
+	 * The time taken by a phase.
+	 *
+	 * @param phase The phase
+	 * @return The time in nanoseconds, or zero if the phase did not run (a reload only runs the
+	 *   LOAD and VALIDATION phases).
+	 */
+	public long getPhaseNanos(Phase phase) {
+		Long nanos = phaseNanos.get(phase);
+		return (nanos != null) ? nanos : 0L;
+	}
+
+	/**
+	 * The time taken by each phase that ran.
+	 *
+	 * @return An unmodifiable map, in phase order.
+	 */
+	public Map<Phase, Long> getPhaseNanos() {
+		return phaseNanos;
+	}
+
+	/**
+	 * The total time of all phases.
+	 *
+	 * @return The time in nanoseconds.
+	 */
+	public long getTotalNanos() {
+		long total = 0;
+		for (Long nanos : phaseNanos.values()) total += nanos;
+		return total;
+	}
+
+	/**
+	 * The stats of each loader, in loader order.
+	 *
+	 * @return An unmodifiable list, which is empty if values were read from a snapshot cache.
+	 */
+	public List<LoaderStats> getLoaderStats() {
+		return loaderStats;
+	}
+
+	/**
+	 * If true, values were read from a snapshot cache and no loader was run.
+	 *
+	 * @return True if the snapshot cache was used.
+	 */
+	public boolean isFromSnapshotCache() {
+		return fromSnapshotCache;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("InitializationStats");
+		sb.append(phaseNanos);
+
+		for (LoaderStats ls : loaderStats) {
+			sb.append(System.lineSeparator()).append("  ").append(ls);
+		}
+
+		return sb.toString();
+	}
+
+	/**
+	 * The time taken and counts for a single loader.
+	 */
+	public static class LoaderStats {
+		private final Loader loader;
+		private final long nanos;
+		private final int keysScanned;
+		private final int keysMatched;
+		private final int problems;
+
+		/**
+		 * New instance from the loaded values of a loader.
+		 *
+		 * @param values The values loaded, which includes the loader.
+		 * @param nanos The time taken by the load.
+		 */
+		public LoaderStats(LoaderValues values, long nanos) {
+			this.loader = values.getLoader();
+			this.nanos = nanos;
+			this.keysScanned = values.getKeysScanned();
+			this.keysMatched = values.getValues().size();
+			this.problems = values.getProblems().size();
+		}
+
+		public Loader getLoader() {
+			return loader;
+		}
+
+		/**
+		 * The time taken by the load.
+		 *
+		 * @return The time in nanoseconds.
+		 */
+		public long getNanos() {
+			return nanos;
+		}
+
+		/**
+		 * The number of keys read from the loader's source.
+		 *
+		 * @return The count or -1 if the loader does not report it.
+		 * @see LoaderValues#getKeysScanned()
+		 */
+		public int getKeysScanned() {
+			return keysScanned;
+		}
+
+		/**
+		 * The number of keys that matched a Property, which is the number of values loaded.
+		 *
+		 * @return The count.
+		 */
+		public int getKeysMatched() {
+			return keysMatched;
+		}
+
+		/**
+		 * The number of keys that did not match a Property.
+		 *
+		 * @return The count or -1 if the loader does not report the number of keys scanned.
+		 */
+		public int getUnknownKeys() {
+			return (keysScanned >= 0) ? Math.max(0, keysScanned - keysMatched) : -1;
+		}
+
+		/**
+		 * The number of loader and value problems found by the loader.
+		 *
+		 * @return The count.
+		 */
+		public int getProblems() {
+			return problems;
+		}
+
+		@Override
+		public String toString() {
+			return loader.getClass().getSimpleName() + " nanos=" + nanos + " keysScanned=" + keysScanned +
+					" keysMatched=" + keysMatched + " unknownKeys=" + getUnknownKeys() + " problems=" + problems;
+		}
+	}
+}
@@ -86,6 +86,66 @@ public interface Loader {
 	 */
 	List<Property> getInstanceConfig();
 
+	/**
+	 * True if this loader can be run concurrently with other loaders, on another thread.
+	 * <p>
+	 * A concurrent loader must only read the values of its own configuration Properties
+	 * (see {@link #getInstanceConfig()} and {@link #getClassConfig()}) from
+	 * {@code existingValues} and must not rely on thread bound context, such as a JNDI
+	 * naming context.  AndHow starts a concurrent loader right away, w/ the values its
+	 * configuration Properties have so far, which are often their defaults.  If a preceding loader
+	 * then loads a different value for one of them, the loader is run again w/ the new value once
+	 * its first run is done, and the first result is discarded.  A loader is never run on two
+	 * threads at once.  Results are always combined in loader order, so precedence is unchanged.
+	 * <p>
+	 * The default is false:  The loader is run in sequence, on the thread initializing AndHow.
+	 *
+	 * @return True if this loader may be run concurrently.
+	 */
+	default boolean isConcurrentLoadSafe() {
+		return false;
+	}
+
+	/**
+	 * True if this loader can be run again after {@link #releaseResources()}.
+	 * <p>
+	 * A loader that releases its values, rather than just its connections to its source, has
+	 * nothing left to load.  When AndHow reloads, the values such a loader loaded at initialization
+	 * are kept instead of running it again.
+	 * <p>
+	 * The default is true:  The loader reads its source again on each load.
+	 *
+	 * @return True if this loader can load again after releasing its resources.
+	 */
+	default boolean isReloadable() {
+		return true;
+	}
+
+	/**
+	 * A fingerprint of all the input this loader would read, so that the values of a previous
+	 * load can be reused from the startup snapshot cache if the fingerprint is unchanged.
+	 * <p>
+	 * The fingerprint must change whenever the values or problems this loader would produce could
+	 * change, but it need not be unique or readable:  It is hashed, never stored.  Fingerprinting
+	 * should be cheaper than loading, but a file's modification time and size alone are not
+	 * enough:  An edit that keeps the size, made within the file system's time resolution, or a
+	 * copy that preserves the modification time, would reuse stale values.  File based loaders
+	 * should also include a hash of the contents, at least for small files, as
+	 * {@link org.yarnandtail.andhow.load.BaseLoader#hashFileContent} does.
+	 * <p>
+	 * The default is null:  The input cannot be fingerprinted, so the snapshot cache is not used.
+	 *
+	 * @param runtimeDef The definition of all known Properties and naming metadata.
+	 * @param environment The environment this loader would load from.
+	 * @param existingValues The values that preceding loaders would load, which may configure
+	 * 		this loader, the same as for {@link #load}.
+	 * @return A fingerprint, or null if the input cannot be fingerprinted w/o loading it.
+	 */
+	default String getInputFingerprint(PropertyConfigurationInternal runtimeDef,
+			LoaderEnvironment environment, ValidatedValuesWithContext existingValues) {
+		return null;
+	}
+
 	/**
 	 * For this particular load, where was info loaded from?
 	 *
@@ -1,8 +1,6 @@
 package org.yarnandtail.andhow.api;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.*;
 
 /**
  * The Properties and values loaded by a single Loader.
@@ -17,6 +15,10 @@ public class LoaderValues implements ValidatedValues {
 	private final Loader loader;
 	private final List<ValidatedValue> values;
 	private final ProblemList<Problem> problems;
+	private final int keysScanned;
+
+	/** The value for each Property, as the first ValidatedValue in values for the Property */
+	private final Map<Property<?>, Object> valueIndex;
 	
 	
 	/**
@@ -32,6 +34,8 @@ public class LoaderValues implements ValidatedValues {
 		
 		this.loader = loader;
 		values = EMPTY_PROP_VALUE_LIST;
+		valueIndex = Collections.emptyMap();
+		keysScanned = -1;
 	}
 	
 	/**
@@ -43,9 +47,25 @@ public class LoaderValues implements ValidatedValues {
 		this.problems = new ProblemList.UnmodifiableProblemList();
 		this.loader = loader;
 		values = EMPTY_PROP_VALUE_LIST;
+		valueIndex = Collections.emptyMap();
+		keysScanned = -1;
 	}
 	
 	public LoaderValues(Loader loader, List<ValidatedValue> inValues, ProblemList<Problem> problems) {
+		this(loader, inValues, problems, -1);
+	}
+
+	/**
+	 * A constructor for loaders that report how many keys (names) they read from their source.
+	 *
+	 * @param loader The loader
+	 * @param inValues The loaded values
+	 * @param problems Loader problems
+	 * @param keysScanned The number of keys read from the source, known to be Properties or not,
+	 *   or -1 if not known.
+	 */
+	public LoaderValues(Loader loader, List<ValidatedValue> inValues, ProblemList<Problem> problems,
+			int keysScanned) {
 		
 		ProblemList<Problem> myProblems = new ProblemList();
 		myProblems.addAll(problems);
@@ -63,17 +83,26 @@ public class LoaderValues implements ValidatedValues {
 			newValues.trimToSize();
 			values = Collections.unmodifiableList(newValues);
 			
+			Map<Property<?>, Object> index = new HashMap(Math.max(16, (int)(values.size() / .75f) + 1));
 			
-			//check for value problems
+			//check for value problems and index the first value of each Property
 			for (ValidatedValue pv : values) {
 				myProblems.addAll(pv.getProblems());
+				
+				if (! index.containsKey(pv.getProperty())) {
+					index.put(pv.getProperty(), pv.getValue());
+				}
 			}
 			
+			valueIndex = index;
+			
 		} else {
 			values = EMPTY_PROP_VALUE_LIST;
+			valueIndex = Collections.emptyMap();
 		}
 		
 		this.problems = new ProblemList.UnmodifiableProblemList(myProblems);
+		this.keysScanned = keysScanned;
 	}
 
 	public Loader getLoader() {
@@ -83,11 +112,23 @@ public class LoaderValues implements ValidatedValues {
 	public List<ValidatedValue> getValues() {
 		return values;
 	}
+
+	/**
+	 * The number of keys (names) the loader read from its source, including keys that are not
+	 * the name of any Property.
+	 *
+	 * @return The number of keys or -1 if the loader does not report it.
+	 */
+	public int getKeysScanned() {
+		return keysScanned;
+	}
 	
 	
 
 	/**
-	 * A linear search for the Property in the values loaded by this loader.
+	 * An indexed lookup of the Property in the values loaded by this loader.
+	 * <p>
+	 * If the loader loaded more than one value for the Property, the first is used.
 	 * 
 	 * @param prop
 	 * @return 
@@ -97,9 +138,7 @@ public class LoaderValues implements ValidatedValues {
 		if (prop == null) {
 			return null;
 		}
-		return prop.getValueType().cast(values.stream().filter(pv -> prop.equals(pv.getProperty())).
-						findFirst().map(pv -> pv.getValue()).orElse(null)
-		);
+		return prop.getValueType().cast(valueIndex.get(prop));
 	}
 	
 	@Override
@@ -116,7 +155,7 @@ public class LoaderValues implements ValidatedValues {
 	}
 
 	/**
-	 * A linear search for the Property in the values loaded by this loader.
+	 * An indexed lookup of the Property in the values loaded by this loader.
 	 * @param prop
 	 * @return 
 	 */
@@ -64,7 +64,7 @@ public interface NamingStrategy {
 	default String getUriName(String classpathName) {
 		if (classpathName == null) return null;
 		
-		return classpathName.replaceAll("\\.", "/");
+		return classpathName.replace('.', '/');
 	}
 	
 	/**
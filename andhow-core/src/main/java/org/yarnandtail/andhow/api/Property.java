@@ -1,6 +1,6 @@
 package org.yarnandtail.andhow.api;
 
-import org.yarnandtail.andhow.AndHow;
+import org.yarnandtail.andhow.AndHowContext;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -150,7 +150,7 @@ public interface Property<T> {
 	 * 	 disconnected from the underlying list - edits have no effect.
 	 */
 	default List<String> getInAliases() {
-		return AndHow.instance().getAliases(this).stream().filter(n -> n.isIn())
+		return AndHowContext.current().getAliases(this).stream().filter(n -> n.isIn())
 				.map(n -> n.getEffectiveInName()).collect(Collectors.toList());
 	}
 
@@ -167,7 +167,7 @@ public interface Property<T> {
 	 * 	disconnected from the underlying list - edits have no effect.
 	 */
 	default List<String> getOutAliases() {
-		return AndHow.instance().getAliases(this).stream().filter(n -> n.isOut())
+		return AndHowContext.current().getAliases(this).stream().filter(n -> n.isOut())
 				.map(n -> n.getEffectiveOutName()).collect(Collectors.toList());
 	}
 
@@ -182,7 +182,7 @@ public interface Property<T> {
 	 * @return The canonical name of the Property.
 	 */
 	default String getCanonicalName() {
-		return AndHow.instance().getCanonicalName(this);
+		return AndHowContext.current().getCanonicalName(this);
 	}
 
 	/**
@@ -204,7 +204,7 @@ public interface Property<T> {
 	 * @return True if this value is explicitly set.
 	 */
 	default boolean isExplicitlySet() {
-		return AndHow.instance().isExplicitlySet(this);
+		return AndHowContext.current().isExplicitlySet(this);
 	}
 
 }
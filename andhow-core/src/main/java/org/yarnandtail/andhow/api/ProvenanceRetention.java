@@ -0,0 +1,36 @@
+package org.yarnandtail.andhow.api;
+
+/**
+ * How much of the load history, i.e. which loader loaded which value, is kept after AndHow
+ * initializes.
+ * <p>
+ * The history is only used for diagnostics (see {@link ValidatedValuesWithContext}) and to
+ * reload a single loader's values.  Property values are kept in the same form for every level,
+ * so reading values is equally fast.
+ */
+public enum ProvenanceRetention {
+
+	/**
+	 * Keep every value loaded by every loader, including values overridden by an earlier loader.
+	 * This is the default.
+	 */
+	FULL,
+
+	/**
+	 * Keep only the index of the loader that loaded each effective value.
+	 * <p>
+	 * Overridden values are not kept, so {@link ValidatedValuesWithContext#getAllValuesLoadedByLoader}
+	 * returns only the effective values of a loader.  Reloading a single loader (e.g. when a
+	 * watched properties file changes) reloads all loaders.
+	 */
+	COMPACT,
+
+	/**
+	 * Keep no load history.
+	 * <p>
+	 * Loader value lists are empty and {@code getAllValuesLoadedByLoader} and
+	 * {@code getEffectiveValuesLoadedByLoader} return null.  Reloading a single loader
+	 * reloads all loaders.
+	 */
+	NONE
+}
@@ -3,6 +3,10 @@ package org.yarnandtail.andhow.api;
 /**
  * A single validation rule and rule metadata for a Property value.
  * <p>
+ * Validators must be thread safe:  When there are many values to validate, AndHow validates
+ * them concurrently.  Any expensive setup, like compiling a regex, should be done once when the
+ * validator is constructed.
+ * <p>
  *
  * @param <T> The data type the validator can validate.
  */
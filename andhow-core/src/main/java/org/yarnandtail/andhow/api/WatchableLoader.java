@@ -0,0 +1,29 @@
+package org.yarnandtail.andhow.api;
+
+/**
+ * A Loader that can watch its source and request a reload of only its own values when the
+ * source changes.
+ * <p>
+ * After each initialization or reload, AndHow calls {@link #watch(Runnable)}.  When the source
+ * changes, the loader calls the passed {@code onChange}, which reloads just this loader's values,
+ * revalidates them and replaces them in AndHow all at once.  Other loaders are not run again.
+ * If the reloaded values are invalid, the existing values are kept.
+ */
+public interface WatchableLoader extends Loader {
+
+	/**
+	 * Starts watching the source this loader last loaded from, if watching is enabled.
+	 * <p>
+	 * Called after every load, so implementations should keep watching if the source is unchanged,
+	 * switch to the new source if it has changed, and replace any previous {@code onChange}.
+	 *
+	 * @param onChange Called, on a thread of the loader's choosing, when the source has changed.
+	 */
+	void watch(Runnable onChange);
+
+	/**
+	 * Stops watching and releases any threads or other resources used to watch.
+	 */
+	void stopWatching();
+
+}
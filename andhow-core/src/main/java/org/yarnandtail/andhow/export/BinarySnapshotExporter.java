@@ -0,0 +1,134 @@
+package org.yarnandtail.andhow.export;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.NameAndProperty;
+import org.yarnandtail.andhow.util.BinarySnapshotFormat;
+import org.yarnandtail.andhow.util.IOUtil;
+
+/**
+ * Collects effective Property values and writes them to a compact binary snapshot file,
+ * which {@link org.yarnandtail.andhow.load.BinarySnapshotLoader} loads w/o parsing.
+ * <p>
+ * This is intended for applications that start other JVMs, such as forked worker processes.
+ * The parent writes the validated values it already has and each worker loads the snapshot
+ * instead of reading environment variables, JNDI and files again.  For instance:
+ * <pre>{@code
+ * // In the parent, w/ MyConfig annotated with @ManualExportAllowed
+ * BinarySnapshotExporter snapshot = new BinarySnapshotExporter();
+ * snapshot.add(AndHow.instance().export(MyConfig.class));
+ * snapshot.write(Paths.get("/tmp/worker.andhow"));
+ *
+ * // In each worker, before AndHow initializes:  Only the snapshot and the command line are read
+ * BinarySnapshotLoader loader = new BinarySnapshotLoader();
+ * loader.setFilePath("/tmp/worker.andhow");
+ * StdConfig.instance().setStandardLoaders(StdMainStringArgsLoader.class)
+ *     .insertLoaderAfter(StdMainStringArgsLoader.class, loader);
+ * }</pre>
+ * Values are stored under the Property canonical name, since that is the name the loader can
+ * always read.  Names and aliases in the {@link PropertyExport}s are not used, however values
+ * changed via {@link PropertyExport#mapValue(Object)} are.  Null values are not stored.
+ * <p>
+ * This is not an {@link Exporter}, so it cannot be used w/
+ * {@link org.yarnandtail.andhow.GroupExport}:  The application adds the values to export and
+ * then writes the file itself.
+ * <p>
+ * The snapshot contains configuration values, which may be sensitive.  Where supported, it is
+ * written readable by its owner only.
+ */
+public class BinarySnapshotExporter {
+
+	/** Values by name, last one wins */
+	private final Map<String, Object[]> entries = new LinkedHashMap();
+
+	/**
+	 * Adds the value of an exported Property.
+	 *
+	 * @param export The export, as returned from {@code AndHow.instance().export()}.
+	 */
+	public void add(PropertyExport export) {
+		Object value = export.getValue();
+
+		if (value != null) {
+			entries.put(export.getProperty().getCanonicalName(),
+					new Object[] {value, export.getValueAsString()});
+		}
+	}
+
+	/**
+	 * Adds the values of all the exported Properties.
+	 *
+	 * @param exports The exports, as returned from {@code AndHow.instance().export()}.
+	 */
+	public void add(Stream<PropertyExport> exports) {
+		exports.forEachOrdered(this::add);
+	}
+
+	/**
+	 * Adds the values of all the Properties of a group.
+	 *
+	 * @param group The group.
+	 * @param values The values of the group's Properties.
+	 */
+	public void add(GroupProxy group, ValidatedValues values) {
+		for (NameAndProperty nap : group.getProperties()) {
+			add(group.getCanonicalName(nap.property), nap.property, values);
+		}
+	}
+
+	private <T> void add(String canonicalName, Property<T> property, ValidatedValues values) {
+		T value = values.getValue(property);
+
+		if (value != null) {
+			entries.put(canonicalName, new Object[] {value, property.getValueType().toString(value)});
+		}
+	}
+
+	/**
+	 * The number of values that will be written.
+	 *
+	 * @return The count of values added.
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Writes the snapshot to a stream.
+	 *
+	 * @param out The stream to write to, which is not closed.
+	 * @throws IOException If the stream cannot be written.
+	 */
+	public void write(OutputStream out) throws IOException {
+		DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+
+		BinarySnapshotFormat.writeHeader(data, entries.size());
+
+		for (Map.Entry<String, Object[]> e : entries.entrySet()) {
+			BinarySnapshotFormat.writeEntry(data, e.getKey(), e.getValue()[0], (String) e.getValue()[1]);
+		}
+
+		data.flush();
+	}
+
+	/**
+	 * Writes the snapshot to a file, replacing any existing file.
+	 * <p>
+	 * The file is written via {@link IOUtil#writeAtomically(Path, byte[])}, so readers never see
+	 * a partial file.
+	 *
+	 * @param file The file to write.  Its directory is created if needed.
+	 * @throws IOException If the file cannot be written.
+	 */
+	public void write(Path file) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		write(bytes);
+		IOUtil.writeAtomically(file, bytes.toByteArray());
+	}
+
+}
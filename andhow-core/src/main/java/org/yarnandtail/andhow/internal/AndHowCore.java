@@ -3,16 +3,21 @@ package org.yarnandtail.andhow.internal;
 import org.yarnandtail.andhow.AndHow;
 import org.yarnandtail.andhow.Options;
 import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.api.InitializationStats.LoaderStats;
+import org.yarnandtail.andhow.api.InitializationStats.Phase;
+import org.yarnandtail.andhow.internal.AndHowIllegalStateException.NullPrimitiveValueException;
 import org.yarnandtail.andhow.internal.AndHowIllegalStateException.UnrecognizedPropertyException;
 import org.yarnandtail.andhow.export.PropertyExport;
 import org.yarnandtail.andhow.internal.export.ManualExportService;
 import org.yarnandtail.andhow.name.CaseInsensitiveNaming;
+import org.yarnandtail.andhow.property.PropertyBase;
 import org.yarnandtail.andhow.service.PropertyRegistrarLoader;
 import org.yarnandtail.andhow.util.AndHowLog;
 import org.yarnandtail.andhow.util.AndHowUtil;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.stream.Stream;
 
 /**
@@ -26,19 +31,98 @@ import java.util.stream.Stream;
 public class AndHowCore implements PropertyConfigurationInternal, ValidatedValues {
 	private static final AndHowLog LOG = AndHowLog.getLogger(AndHowCore.class);
 
+	/**
+	 * Runs concurrent loaders for every load, reload and deferred group, so no load creates its own
+	 * pool.  Daemon threads never hold up JVM shutdown and idle threads are released after a minute.
+	 */
+	private static final ExecutorService LOADER_EXECUTOR = Executors.newCachedThreadPool(r -> {
+		Thread t = new Thread(r, "AndHow-loader");
+		t.setDaemon(true);
+		return t;
+	});
+
 	//User config
 	private final List<Loader> loaders = new ArrayList();
 
 	//Internal state
 	private final PropertyConfigurationInternal staticConfig;
-	private final ValidatedValuesWithContext loadedValues;
+	private final ValidationPlan validationPlan;
+	private final LoaderEnvironment loaderEnvironment;
+	private final SnapshotCache snapshotCache;
+	private final ProvenanceRetention provenanceRetention;
+
+	//Values of loaders that are not reloadable, kept from initialization for each later load
+	private final Map<Loader, LoaderValues> keptValues = new HashMap();
+
+	//Deferred groups, keyed by each of their Properties, and the config of all other Properties
+	private final Map<Property<?>, DeferredGroup> deferredGroups;
+	private final PropertyConfigurationInternal eagerConfig;
+	private final ValidatedValuesWithContext loadedValues;	//Only what the retention level keeps
+	private final ValidatedValuesResolved resolvedValues;
+	private final ValidatedValues snapshot;
 	private final ProblemList<Problem> problems = new ProblemList();
 
+	//Stats, recorded as initialization progresses
+	private final Map<Phase, Long> phaseNanos = new EnumMap(Phase.class);
+	private final List<LoaderStats> loaderStats = new ArrayList();
+	private boolean fromSnapshotCache;
+	private final InitializationStats stats;
+
 	public AndHowCore(NamingStrategy naming, List<Loader> loaders, LoaderEnvironment loaderEnvironment,
 			List<GroupProxy> registeredGroups)
 			throws AppFatalException {
 
+		this(naming, loaders, loaderEnvironment, registeredGroups, null, null, null);
+	}
+
+	/**
+	 * New instance w/ optional snapshot caching and deferred groups.
+	 * <p>
+	 * If there is a {@link SnapshotCache} and it matches the current inputs, values are read from
+	 * it.  Otherwise values are loaded normally and the cache is updated.
+	 * <p>
+	 * Properties in deferred groups are not loaded or validated until one of the Properties in
+	 * the group is first read.  See {@link org.yarnandtail.andhow.AndHowConfiguration#addDeferredGroup(Class)}.
+	 *
+	 * @param naming The naming strategy, or null for the default.
+	 * @param loaders The loaders, in load order.
+	 * @param loaderEnvironment The environment to load from.
+	 * @param registeredGroups The groups to use in place of auto-discovery, or null.
+	 * @param snapshotCache The cache, or null to always load normally.
+	 * @param deferredGroupClasses Classes containing Properties to defer, or null for none.
+	 * @throws AppFatalException If there is a construction, load or validation problem.
+	 */
+	public AndHowCore(NamingStrategy naming, List<Loader> loaders, LoaderEnvironment loaderEnvironment,
+			List<GroupProxy> registeredGroups, SnapshotCache snapshotCache,
+			Collection<Class<?>> deferredGroupClasses)
+			throws AppFatalException {
+
+		this(naming, loaders, loaderEnvironment, registeredGroups, snapshotCache, deferredGroupClasses, null);
+	}
+
+	/**
+	 * New instance w/ optional snapshot caching, deferred groups and a retention level for the
+	 * load history.
+	 *
+	 * @param naming The naming strategy, or null for the default.
+	 * @param loaders The loaders, in load order.
+	 * @param loaderEnvironment The environment to load from.
+	 * @param registeredGroups The groups to use in place of auto-discovery, or null.
+	 * @param snapshotCache The cache, or null to always load normally.
+	 * @param deferredGroupClasses Classes containing Properties to defer, or null for none.
+	 * @param provenanceRetention How much of the load history to keep, or null for
+	 *   {@link ProvenanceRetention#FULL}.
+	 * @throws AppFatalException If there is a construction, load or validation problem.
+	 */
+	public AndHowCore(NamingStrategy naming, List<Loader> loaders, LoaderEnvironment loaderEnvironment,
+			List<GroupProxy> registeredGroups, SnapshotCache snapshotCache,
+			Collection<Class<?>> deferredGroupClasses, ProvenanceRetention provenanceRetention)
+			throws AppFatalException {
+
 		NamingStrategy namingStrategy = (naming != null) ? naming : new CaseInsensitiveNaming();
+		this.loaderEnvironment = loaderEnvironment;
+		this.snapshotCache = snapshotCache;
+		this.provenanceRetention = (provenanceRetention != null) ? provenanceRetention : ProvenanceRetention.FULL;
 
 		if (loaders != null) {
 			for (Loader loader : loaders) {
@@ -50,7 +134,9 @@ public class AndHowCore implements PropertyConfigurationInternal, ValidatedValue
 			}
 		}
 
+		long start = System.nanoTime();
 		List<GroupProxy> effRegGroups = findGroups(registeredGroups);
+		start = recordPhase(Phase.DISCOVERY, start);
 
 		if (effRegGroups.isEmpty()) {
 			LOG.warn("AndHow found no Properties to configure.  " +
@@ -70,6 +156,7 @@ public class AndHowCore implements PropertyConfigurationInternal, ValidatedValue
 
 		PropertyConfigurationMutable startupDef = AndHowUtil.buildDefinition(effRegGroups, loaders, namingStrategy, problems);
 		staticConfig = startupDef.toImmutable();
+		recordPhase(Phase.DEFINITION, start);
 
 		//
 		//If there are ConstructionProblems, we can't continue on to attempt to
@@ -85,31 +172,388 @@ public class AndHowCore implements PropertyConfigurationInternal, ValidatedValue
 		}
 
 		//No Construction problems, so continue on...
+		validationPlan = new ValidationPlan(staticConfig);
+		deferredGroups = buildDeferredGroups(deferredGroupClasses);
+		eagerConfig = buildEagerConfig();
 
-		loadedValues = loadValues(staticConfig, loaderEnvironment, problems).getValueMapWithContextImmutable();
-		doPropertyValidations(staticConfig, loadedValues, problems);
-		checkForValuesWhichMustBeNonNull(staticConfig, loadedValues, problems);
+		ValidatedValuesWithContext loaded = loadAndValidate();
+		keepValuesOfNonReloadableLoaders(loaded);
 
-		if (problems.size() > 0) {
-			AppFatalException afe = AndHowUtil.buildFatalException(problems);
-			printFailedStartupDetails(afe);
-			throw afe;
-		}
+		//Freeze the effective values into slots for fast reads
+		resolvedValues = new ValidatedValuesResolved(
+				new PropertySlots(staticConfig.getProperties()), loaded, deferredGroups.keySet());
+		loadedValues = retain(loaded);
+		snapshot = new Snapshot(this);
 
 		//Export Values if applicable
+		start = System.nanoTime();
 		List<ExportGroup> exportGroups = staticConfig.getExportGroups();
 
 		for (ExportGroup eg : exportGroups) {
 			eg.getExporter().export(eg.getGroup(), staticConfig, this);
 		}
 
+		recordPhase(Phase.EXPORT, start);
+
 		//Print samples (if requested) to System.out
 		if (getValue(Options.CREATE_SAMPLES)) {
+			start = System.nanoTime();
 			ReportGenerator.printConfigSamples(staticConfig, loaders, false);
+			recordPhase(Phase.SAMPLES, start);
 		}
+
+		stats = buildStats();
 	}
 
 
+	/**
+	 * Builds a new core by reloading and revalidating all values, reusing the Properties,
+	 * naming and loaders of an existing core.
+	 * <p>
+	 * The existing core is not modified, so if the reloaded values are invalid, the existing core
+	 * remains complete and usable.  Exports and sample configuration files are only done at
+	 * initialization, not on reload.
+	 * <p>
+	 * Loaders that are not {@link Loader#isReloadable() reloadable}, like the {@code MapLoader},
+	 * are not run again:  The values they loaded at initialization are kept.
+	 * <p>
+	 * Deferred groups are deferred again, so they are reloaded on their next use.
+	 *
+	 * @param previous The existing core to reload from.
+	 * @param loaderEnvironment The environment to load from, or null to reuse the environment of
+	 *   the existing core.
+	 * @throws AppFatalException If any reloaded value is invalid.
+	 */
+	public AndHowCore(AndHowCore previous, LoaderEnvironment loaderEnvironment) throws AppFatalException {
+		loaders.addAll(previous.loaders);
+		staticConfig = previous.staticConfig;
+		validationPlan = previous.validationPlan;
+		this.loaderEnvironment = (loaderEnvironment != null) ? loaderEnvironment : previous.loaderEnvironment;
+		snapshotCache = null;	//A reload is expected to find changes, so always load
+		provenanceRetention = previous.provenanceRetention;
+		keptValues.putAll(previous.keptValues);
+
+		deferredGroups = new HashMap();
+		for (DeferredGroup dg : new HashSet<>(previous.deferredGroups.values())) {
+			DeferredGroup copy = new DeferredGroup(dg.properties);
+			for (Property<?> p : dg.properties) deferredGroups.put(p, copy);
+		}
+
+		eagerConfig = previous.eagerConfig;
+
+		ValidatedValuesWithContext loaded = loadAndValidate();
+		resolvedValues = new ValidatedValuesResolved(
+				previous.resolvedValues.getSlots(), loaded, deferredGroups.keySet());
+		loadedValues = retain(loaded);
+		snapshot = new Snapshot(this);
+		stats = buildStats();
+	}
+
+	/**
+	 * Builds a new core by reloading the values of a single loader, reusing the values of all
+	 * other loaders from an existing core.
+	 * <p>
+	 * Only the reloaded loader is run, unless it is not {@link Loader#isReloadable() reloadable},
+	 * in which case its values are kept.  The values of preceding loaders are passed to it as
+	 * existing values, as in a full load, so its configuration and precedence are unchanged.
+	 * Only the new values are validated, and only the Properties the loader loaded before or
+	 * loads now are checked for required values and re-resolved.
+	 * <p>
+	 * The existing core is not modified, so if the reloaded values are invalid, the existing core
+	 * remains complete and usable.  Deferred groups are deferred again, even if already loaded,
+	 * since the reloaded loader may have new values for them.  They are reloaded on their next use.
+	 * <p>
+	 * The values of the other loaders must be known, so the existing core must keep the
+	 * {@link ProvenanceRetention#FULL full} load history.
+	 *
+	 * @param previous The existing core to reload from.
+	 * @param reloaded The loader to reload, which must be one of the loaders of the existing core.
+	 * @throws AppFatalException If any reloaded value is invalid.
+	 * @throws IllegalStateException If the existing core does not keep the full load history.
+	 */
+	public AndHowCore(AndHowCore previous, Loader reloaded) throws AppFatalException {
+		if (previous.provenanceRetention != ProvenanceRetention.FULL) {
+			throw new IllegalStateException("A single loader can only be reloaded w/ full provenance retention");
+		}
+
+		loaders.addAll(previous.loaders);
+		staticConfig = previous.staticConfig;
+		validationPlan = previous.validationPlan;
+		loaderEnvironment = previous.loaderEnvironment;
+		snapshotCache = null;
+		provenanceRetention = previous.provenanceRetention;
+		keptValues.putAll(previous.keptValues);
+
+		deferredGroups = new HashMap();
+		for (DeferredGroup dg : new HashSet<>(previous.deferredGroups.values())) {
+			DeferredGroup copy = new DeferredGroup(dg.properties);
+			for (Property<?> p : dg.properties) deferredGroups.put(p, copy);
+		}
+
+		eagerConfig = previous.eagerConfig;
+
+		int index = loaders.indexOf(reloaded);
+		if (index < 0) {
+			throw new IllegalArgumentException("The loader " + reloaded.getClass().getName() + " is not in use");
+		}
+
+		long start = System.nanoTime();
+		ValidatedValuesWithContextMutable values = new ValidatedValuesWithContextMutable();
+		List<LoaderValues> previousValues = previous.loadedValues.getAllLoaderValues();
+
+		for (int i = 0; i < index; i++) {
+			values.addValues(previousValues.get(i));
+		}
+
+		long[] loaderNanos = new long[loaders.size()];
+		LoaderValues result = keptValues.get(reloaded);
+
+		if (result == null) {
+			result = timedLoad(index, loaderNanos, eagerConfig, loaderEnvironment, values);
+			reloaded.releaseResources();
+		}
+
+		values.addValues(result);
+		loaderStats.add(new LoaderStats(result, loaderNanos[index]));
+		problems.addAll(result.getProblems());
+
+		for (int i = index + 1; i < previousValues.size(); i++) {
+			values.addValues(previousValues.get(i));
+		}
+
+		start = recordPhase(Phase.LOAD, start);
+
+		Set<Property<?>> changed = new LinkedHashSet();
+		for (ValidatedValue vv : previousValues.get(index).getValues()) changed.add(vv.getProperty());
+		for (ValidatedValue vv : result.getValues()) changed.add(vv.getProperty());
+
+		validationPlan.validate(Collections.singletonList(result), problems);
+		checkForValuesWhichMustBeNonNull(new PropertyConfigurationSubset(staticConfig, changed), values, problems);
+		recordPhase(Phase.VALIDATION, start);
+
+		if (problems.size() > 0) {
+			AppFatalException afe = AndHowUtil.buildFatalException(problems);
+			printFailedStartupDetails(afe);
+			throw afe;
+		}
+
+		loadedValues = values.getValueMapWithContextImmutable();
+		resolvedValues = new ValidatedValuesResolved(previous.resolvedValues, changed, loadedValues);
+		snapshot = new Snapshot(this);
+		stats = buildStats();
+	}
+
+	/**
+	 * Keeps the values of each loader that is not reloadable, so later loads reuse them.
+	 * <p>
+	 * Must be called before the load history is reduced by the retention level.
+	 *
+	 * @param loaded The loaded and validated values.
+	 */
+	private void keepValuesOfNonReloadableLoaders(ValidatedValuesWithContext loaded) {
+		for (LoaderValues lv : loaded.getAllLoaderValues()) {
+			if (! lv.getLoader().isReloadable()) keptValues.put(lv.getLoader(), lv);
+		}
+	}
+
+	/**
+	 * Reduces the loaded values to the load history kept by the retention level.
+	 * <p>
+	 * Must be called after the resolved values are built.
+	 *
+	 * @param loaded The loaded and validated values.
+	 * @return The values to keep.
+	 */
+	private ValidatedValuesWithContext retain(ValidatedValuesWithContext loaded) {
+		switch (provenanceRetention) {
+			case COMPACT:
+				return new ValidatedValuesWithContextCompact(loaded, resolvedValues);
+			case NONE:
+				return new ValidatedValuesWithContextCompact(loaders, resolvedValues);
+			default:
+				return loaded;
+		}
+	}
+
+	/**
+	 * Loads and validates all values.
+	 * <p>
+	 * If there is a snapshot cache that matches the current inputs, values are read from it in
+	 * place of running the loaders.  Values are validated either way.
+	 *
+	 * @return The loaded values, all of which are valid.
+	 * @throws AppFatalException If there are any load or validation problems.
+	 */
+	private ValidatedValuesWithContext loadAndValidate() throws AppFatalException {
+		long start = System.nanoTime();
+		ValidatedValuesWithContext values = null;
+
+		if (snapshotCache != null) {
+			values = snapshotCache.read(eagerConfig, loaders, loaderEnvironment);
+		}
+
+		fromSnapshotCache = (values != null);
+
+		if (! fromSnapshotCache) {
+			values = loadValues(eagerConfig, loaderEnvironment, problems, loaderStats).getValueMapWithContextImmutable();
+		}
+
+		start = recordPhase(Phase.LOAD, start);
+
+		validationPlan.validate(values, problems);
+		checkForValuesWhichMustBeNonNull(eagerConfig, values, problems);
+		recordPhase(Phase.VALIDATION, start);
+
+		if (problems.size() > 0) {
+			AppFatalException afe = AndHowUtil.buildFatalException(problems);
+			printFailedStartupDetails(afe);
+			throw afe;
+		}
+
+		if (snapshotCache != null && ! fromSnapshotCache) {
+			snapshotCache.write(eagerConfig, loaders, loaderEnvironment, values);
+		}
+
+		return values;
+	}
+
+	/**
+	 * Finds the groups to defer, which are groups that are, or are nested in, a deferred class.
+	 * <p>
+	 * Groups containing loader configuration Properties or Properties that do not extend
+	 * PropertyBase cannot be deferred and are loaded normally.  Deferred groups are loaded by
+	 * running the loaders again, so if any loader is not {@link Loader#isReloadable() reloadable},
+	 * no group is deferred.
+	 *
+	 * @param deferredGroupClasses Classes to defer, which may be null.
+	 * @return A map of each deferred Property to its group, which is empty if none are deferred.
+	 */
+	private Map<Property<?>, DeferredGroup> buildDeferredGroups(Collection<Class<?>> deferredGroupClasses) {
+		if (deferredGroupClasses == null || deferredGroupClasses.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		for (Loader loader : loaders) {
+			if (! loader.isReloadable()) {
+				LOG.warn("No groups can be deferred because the loader " + loader.getClass().getName() +
+						" cannot load again after initialization.  All groups will be loaded normally.");
+				return Collections.emptyMap();
+			}
+		}
+
+		Set<Property<?>> loaderConfig = new HashSet();
+		for (Loader loader : loaders) {
+			loaderConfig.addAll(findConfigProperties(staticConfig, loader));
+		}
+
+		Map<Property<?>, DeferredGroup> deferred = new HashMap();
+
+		for (GroupProxy group : staticConfig.getPropertyGroups()) {
+			if (! isNestedIn(group.getProxiedGroup(), deferredGroupClasses)) continue;
+
+			List<Property<?>> props = staticConfig.getPropertiesForGroup(group);
+
+			if (props.stream().anyMatch(p -> loaderConfig.contains(p) || ! (p instanceof PropertyBase))) {
+				LOG.warn("The group " + group.getCanonicalName() + " cannot be deferred because it " +
+						"contains loader configuration or custom Property types.  It will be loaded normally.");
+			} else if (! props.isEmpty()) {
+				DeferredGroup dg = new DeferredGroup(props);
+				for (Property<?> p : props) deferred.put(p, dg);
+			}
+		}
+
+		return deferred;
+	}
+
+	private static boolean isNestedIn(Class<?> clazz, Collection<Class<?>> outerClasses) {
+		for (Class<?> c = clazz; c != null; c = c.getEnclosingClass()) {
+			if (outerClasses.contains(c)) return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * The configuration to load at startup, which excludes deferred Properties.
+	 */
+	private PropertyConfigurationInternal buildEagerConfig() {
+		if (deferredGroups.isEmpty()) {
+			return staticConfig;
+		} else {
+			List<Property<?>> eager = new ArrayList(staticConfig.getProperties());
+			eager.removeAll(deferredGroups.keySet());
+			return new PropertyConfigurationSubset(staticConfig, eager);
+		}
+	}
+
+	/**
+	 * The values of the deferred group of the Property, loading the group if not yet loaded.
+	 *
+	 * @param prop The Property about to be read.
+	 * @return The values of the Property's group, or null if the Property is not deferred.
+	 * @throws AppFatalException If the group has load or validation problems.
+	 */
+	private ValidatedValuesResolved loadIfDeferred(Property<?> prop) throws AppFatalException {
+		if (deferredGroups.isEmpty()) return null;
+
+		DeferredGroup dg = deferredGroups.get(prop);
+
+		if (dg == null) {
+			return null;
+		}
+
+		ValidatedValuesResolved values = dg.values;	//volatile read of the complete, immutable values
+		return (values != null) ? values : loadDeferredGroup(dg);
+	}
+
+	/**
+	 * Loads and validates a deferred group exactly once.
+	 * <p>
+	 * Loaders are run again w/ a configuration of just the group's Properties and the loaders'
+	 * own configuration Properties.  Problems are reported the same way as at startup, and the
+	 * resulting AppFatalException is thrown from this and every later read of the group.
+	 * <p>
+	 * The values are resolved into their own snapshot, which is published w/ a single volatile
+	 * write once complete.  The resolved values of the core are never modified.
+	 *
+	 * @param dg The group to load.
+	 * @return The loaded values of the group.
+	 * @throws AppFatalException If the group has load or validation problems.
+	 */
+	private ValidatedValuesResolved loadDeferredGroup(DeferredGroup dg) throws AppFatalException {
+		synchronized (dg) {
+			if (dg.failure != null) throw dg.failure;
+			if (dg.values != null) return dg.values;
+
+			Set<Property<?>> props = new LinkedHashSet(dg.properties);
+			for (Loader loader : loaders) {
+				props.addAll(findConfigProperties(staticConfig, loader));
+			}
+
+			PropertyConfigurationInternal groupConfig = new PropertyConfigurationSubset(staticConfig, props);
+			ProblemList<Problem> groupProblems = new ProblemList();
+
+			ValidatedValuesWithContext values = loadValues(groupConfig, loaderEnvironment,
+					groupProblems, new ArrayList()).getValueMapWithContextImmutable();
+
+			validationPlan.validate(values, groupProblems);
+			checkForValuesWhichMustBeNonNull(groupConfig, values, groupProblems);
+
+			if (groupProblems.size() > 0) {
+				AppFatalException afe = AndHowUtil.buildFatalException(groupProblems);
+				printFailedStartupDetails(afe);
+				dg.failure = afe;
+				throw afe;
+			}
+
+			Set<Property<?>> otherProps = new HashSet(staticConfig.getProperties());
+			otherProps.removeAll(dg.properties);
+
+			dg.values = new ValidatedValuesResolved(resolvedValues.getSlots(), values, otherProps);
+			return dg.values;
+		}
+	}
+
 	/**
 	 * Determine the 'Groups' (classes or interfaces containing AndHow Properties) that should be in
 	 * scope of AndHow.
@@ -190,76 +634,293 @@ public class AndHowCore implements PropertyConfigurationInternal, ValidatedValue
 		}
 	}
 
+	/**
+	 * Runs each loader and combines their values, in loader order.
+	 * <p>
+	 * Loaders that are {@link Loader#isConcurrentLoadSafe() concurrent load safe} are started
+	 * on a background thread right away, using the values their configuration Properties have so
+	 * far, which are often just the defaults.  If a preceding loader then changes one of those
+	 * values, the loader is run again once its earlier run finishes and the earlier result is
+	 * discarded.  Other loaders run in sequence on this thread.  Either way, values and problems
+	 * are combined in loader order, so precedence is unchanged.
+	 * <p>
+	 * Loaders that are not reloadable and have already loaded are not run:  Their kept values
+	 * are used in place.
+	 */
 	//TODO:  Shouldn't this be stateless and pass in the loader list?
 	private ValidatedValuesWithContext loadValues(PropertyConfigurationInternal config,
-			LoaderEnvironment loaderEnvironment, ProblemList<Problem> problems) {
+			LoaderEnvironment loaderEnvironment, ProblemList<Problem> problems, List<LoaderStats> loaderStats) {
 		ValidatedValuesWithContextMutable existingValues = new ValidatedValuesWithContextMutable();
 
+		int count = loaders.size();
+
+		//The config Properties each concurrent loader depends on (null for sequential loaders)
+		List<List<Property<?>>> dependencies = new ArrayList(count);
+
+		//For each concurrent loader, its latest run, the config values it used and its time
+		List<Future<LoaderValues>> started = new ArrayList(count);
+		List<Object[]> startedWith = new ArrayList(count);
+		List<long[]> startedNanos = new ArrayList(count);
+
+		//Written by the thread running each sequential loader
+		long[] loaderNanos = new long[count];
+
 		for (Loader loader : loaders) {
-			LoaderValues result = loader.load(config, loaderEnvironment, existingValues);
-			existingValues.addValues(result);
-			problems.addAll(result.getProblems());
+			boolean concurrent = loader.isConcurrentLoadSafe() && ! keptValues.containsKey(loader);
+			dependencies.add(concurrent ? findConfigProperties(config, loader) : null);
+			started.add(null);
+			startedWith.add(null);
+			startedNanos.add(null);
+		}
 
-			loader.releaseResources();
+		try {
+			for (int i = 0; i < count; i++) {
+
+				//Start concurrent loaders not yet started, or started w/ config values that have since changed
+				for (int j = i; j < count; j++) {
+					if (dependencies.get(j) == null) continue;
+
+					Object[] configValues = getExplicitValues(dependencies.get(j), existingValues);
+					Future<LoaderValues> previous = started.get(j);
+
+					if (previous != null && Arrays.equals(configValues, startedWith.get(j))) continue;
+
+					if (j == i) {
+						awaitQuietly(previous);	//Rerun below, on this thread
+						started.set(i, null);
+					} else {
+						int index = j;
+						long[] nanos = new long[count];
+						ValidatedValuesWithContext snapshot = existingValues.getValueMapWithContextImmutable();
+
+						started.set(j, LOADER_EXECUTOR.submit(() -> {
+							awaitQuietly(previous);	//Never run the same loader twice at once
+							return timedLoad(index, nanos, config, loaderEnvironment, snapshot);
+						}));
+
+						startedWith.set(j, configValues);
+						startedNanos.set(j, nanos);
+					}
+				}
+
+				Loader loader = loaders.get(i);
+				LoaderValues result;
+				long nanos;
+
+				if (keptValues.containsKey(loader)) {
+					result = keptValues.get(loader);
+					nanos = 0L;
+				} else if (started.get(i) != null) {
+					result = awaitLoad(started.get(i));
+					nanos = startedNanos.get(i)[i];
+				} else {
+					result = timedLoad(i, loaderNanos, config, loaderEnvironment, existingValues);
+					nanos = loaderNanos[i];
+				}
+
+				existingValues.addValues(result);
+				loaderStats.add(new LoaderStats(result, nanos));
+				problems.addAll(result.getProblems());
+
+				loader.releaseResources();
+			}
+		} finally {
+			for (Future<LoaderValues> f : started) {
+				if (f != null) f.cancel(true);	//Only if a loader failed and left others running
+			}
 		}
 
 		return existingValues;
 	}
 
 	/**
-	 * Validates all Property values.
+	 * Runs a single loader, recording the time it takes.
+	 *
+	 * @param index The index of the loader in the loader list.
+	 * @param loaderNanos Array to record the time in, at the index of the loader.
+	 */
+	private LoaderValues timedLoad(int index, long[] loaderNanos, PropertyConfigurationInternal config,
+			LoaderEnvironment loaderEnvironment, ValidatedValuesWithContext existingValues) {
+
+		long start = System.nanoTime();
+
+		try {
+			return loaders.get(index).load(config, loaderEnvironment, existingValues);
+		} finally {
+			loaderNanos[index] = System.nanoTime() - start;
+		}
+	}
+
+	/**
+	 * Records the time of a phase.
+	 *
+	 * @param phase The phase
+	 * @param start The {@code System.nanoTime()} the phase started.
+	 * @return The current time, as the start time of the next phase.
+	 */
+	private long recordPhase(Phase phase, long start) {
+		long now = System.nanoTime();
+		phaseNanos.put(phase, now - start);
+		return now;
+	}
+
+	/**
+	 * Builds the stats of this initialization and emits them as Flight Recorder events.
 	 *
-	 * @param config       Needed bc validation is done while construction is
-	 *                     not complete, thus the as-is definition is needed prior to it being complete.
-	 * @param loadedValues The values to be validated.
-	 * @param problems     Add any new problems to this list
+	 * @return The immutable stats.
 	 */
-	private void doPropertyValidations(PropertyConfigurationInternal config,
-			ValidatedValuesWithContext loadedValues, ProblemList<Problem> problems) {
+	private InitializationStats buildStats() {
+		InitializationStats initStats = new InitializationStats(phaseNanos, loaderStats, fromSnapshotCache);
 
-		for (LoaderValues lvs : loadedValues.getAllLoaderValues()) {
-			for (ValidatedValue pv : lvs.getValues()) {
-				doPropertyValidation(config, lvs.getLoader(), problems, pv);
+		LOG.debug("{0}", initStats);
+
+		InitializationEvents.emit(initStats);
+		return initStats;
+	}
+
+	/**
+	 * The configuration Properties of a loader, from its instance and class config.
+	 *
+	 * @param config The Property configuration, which includes the loader's class config group.
+	 * @param loader The loader
+	 * @return A non-null list of Properties.
+	 */
+	private static List<Property<?>> findConfigProperties(PropertyConfigurationInternal config, Loader loader) {
+		List<Property<?>> props = new ArrayList();
+
+		for (Property<?> p : loader.getInstanceConfig()) {
+			props.add(p);
+		}
+
+		if (loader.getClassConfig() != null) {
+			for (GroupProxy grp : config.getPropertyGroups()) {
+				if (loader.getClassConfig().equals(grp.getProxiedGroup())) {
+					props.addAll(config.getPropertiesForGroup(grp));
+				}
 			}
 		}
+
+		return props;
 	}
 
 	/**
-	 * Does validation on a single Property value as loaded by a single loader.
+	 * The explicit values of a loader's configuration Properties, to detect when they change.
 	 *
-	 * @param <T>          The shared type of the Property and Value.
-	 * @param config       Needed bc validation is done while construction is
-	 *                     not complete, thus the as-is definition is needed prior to it being complete.
-	 * @param loader       The loader used to load the value, for context when creating a Problem.
-	 * @param problems     Add any new problems to this list
-	 * @param propValue<T> The Property and its value, both of type 'T'.
+	 * @param dependencies The configuration Properties of the loader.
+	 * @param existingValues The values loaded so far.
+	 * @return The values, w/ null for Properties w/o an explicit value.
 	 */
-	private <T> void doPropertyValidation(PropertyConfigurationInternal config,
-			Loader loader, ProblemList<Problem> problems, ValidatedValue<T> propValue) {
+	private static Object[] getExplicitValues(List<Property<?>> dependencies, ValidatedValues existingValues) {
+		Object[] values = new Object[dependencies.size()];
 
-		Property<T> prop = propValue.getProperty();
+		for (int i = 0; i < values.length; i++) {
+			values[i] = existingValues.getExplicitValue(dependencies.get(i));
+		}
 
-		for (Validator<T> v : prop.getValidators()) {
-			if (!v.isValid(propValue.getValue())) {
+		return values;
+	}
+
+	/**
+	 * Wait for a discarded loader run to finish, ignoring its result.
+	 *
+	 * @param future The run, which may be null.
+	 */
+	private static void awaitQuietly(Future<LoaderValues> future) {
+		if (future == null) return;
 
-				ValueProblem.InvalidValueProblem problem =
-						new ValueProblem.InvalidValueProblem(loader,
-								config.getGroupForProperty(prop).getProxiedGroup(),
-								prop, propValue.getValue(), v);
+		try {
+			future.get();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for a loader", ex);
+		} catch (ExecutionException | CancellationException ex) {
+			//The result is discarded anyway
+		}
+	}
 
-				propValue.addProblem(problem);
-				problems.add(problem);
+	/**
+	 * Wait for a concurrently started loader, rethrowing anything it threw.
+	 */
+	private static LoaderValues awaitLoad(Future<LoaderValues> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for a loader", ex);
+		} catch (ExecutionException ex) {
+			if (ex.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) ex.getCause();
+			} else if (ex.getCause() instanceof Error) {
+				throw (Error) ex.getCause();
+			} else {
+				throw new IllegalStateException(ex.getCause());
 			}
 		}
 	}
 
+	/**
+	 * A view of only the values of this core, which never change.
+	 * <p>
+	 * Unlike the core itself, the view can be safely handed out to app code.
+	 *
+	 * @return A ValidatedValues instance, the same one for each call.
+	 */
+	public ValidatedValues getSnapshot() {
+		return snapshot;
+	}
+
+	/**
+	 * The loaders, in load order.
+	 *
+	 * @return A non-null, unmodifiable list.
+	 */
+	public List<Loader> getLoaders() {
+		return Collections.unmodifiableList(loaders);
+	}
+
+	/**
+	 * The values as loaded, w/ as much of the load history as the retention level keeps.
+	 * <p>
+	 * Values of deferred groups are not included.
+	 *
+	 * @return The non-null, immutable values.
+	 * @see ProvenanceRetention
+	 */
+	public ValidatedValuesWithContext getLoadedValues() {
+		return loadedValues;
+	}
+
+	/**
+	 * How much of the load history this core keeps.
+	 *
+	 * @return The non-null retention level.
+	 */
+	public ProvenanceRetention getProvenanceRetention() {
+		return provenanceRetention;
+	}
+
+	/**
+	 * Timings and counters recorded while this core was built.
+	 *
+	 * @return The non-null stats.
+	 */
+	public InitializationStats getInitializationStats() {
+		return stats;
+	}
 
 	//
 	// ValidatedValue Interface
 
 	@Override
 	public boolean isExplicitlySet(Property<?> prop) {
-		return loadedValues.isExplicitlySet(prop);
+		boolean isSet = resolvedValues.isExplicitlySet(prop);
+
+		if (! isSet) {
+			ValidatedValuesResolved deferred = loadIfDeferred(prop);
+			if (deferred != null) isSet = deferred.isExplicitlySet(prop);
+		}
+
+		return isSet;
 	}
 
 	/**
@@ -278,10 +939,15 @@ public class AndHowCore implements PropertyConfigurationInternal, ValidatedValue
 	@Override
 	public <T> T getExplicitValue(Property<T> prop) throws UnrecognizedPropertyException {
 
-		T val = loadedValues.getExplicitValue(prop);
+		T val = resolvedValues.getExplicitValue(prop);
+
+		if (val == null) {
+			if (! resolvedValues.isRegistered(prop)) {
+				throw new UnrecognizedPropertyException(prop);
+			}
 
-		if (val == null && staticConfig.getCanonicalName(prop) == null) {
-			throw new UnrecognizedPropertyException(prop);
+			ValidatedValuesResolved deferred = loadIfDeferred(prop);
+			if (deferred != null) val = deferred.getExplicitValue(prop);
 		}
 
 		return val;
@@ -302,13 +968,59 @@ public class AndHowCore implements PropertyConfigurationInternal, ValidatedValue
 	 */
 	@Override
 	public <T> T getValue(Property<T> prop) throws UnrecognizedPropertyException {
-		T val = getExplicitValue(prop);
 
-		if (val != null) {
-			return val;
-		} else {
-			return prop.getDefaultValue();
+		T val = resolvedValues.getValue(prop);
+
+		if (val == null) {
+			if (! resolvedValues.isRegistered(prop)) {
+				throw new UnrecognizedPropertyException(prop);
+			}
+
+			ValidatedValuesResolved deferred = loadIfDeferred(prop);
+			if (deferred != null) val = deferred.getValue(prop);
+		}
+
+		return val;
+	}
+
+	/**
+	 * The effective value of an Integer, Long, Double or Boolean Property as primitive bits.
+	 *
+	 * @param prop The property to get the value for.
+	 * @return The bits of the effective value.  See {@link ValidatedValuesResolved#getPrimitiveBits}.
+	 * @throws UnrecognizedPropertyException if the Property is not recognized by AndHow.
+	 * @throws NullPrimitiveValueException if the effective value is null.
+	 */
+	public long getPrimitiveBits(Property<?> prop)
+			throws UnrecognizedPropertyException, NullPrimitiveValueException {
+
+		if (getValue(prop) == null) {
+			throw new NullPrimitiveValueException(prop);
+		}
+
+		return getPrimitiveBits(prop, 0L);
+	}
+
+	/**
+	 * The effective value of an Integer, Long, Double or Boolean Property as primitive bits.
+	 *
+	 * @param prop The property to get the value for.
+	 * @param bitsIfNull The bits to return if the effective value is null.
+	 * @return The bits of the effective value.  See {@link ValidatedValuesResolved#getPrimitiveBits}.
+	 * @throws UnrecognizedPropertyException if the Property is not recognized by AndHow.
+	 */
+	public long getPrimitiveBits(Property<?> prop, long bitsIfNull) throws UnrecognizedPropertyException {
+
+		if (resolvedValues.getValue(prop) == null) {
+			if (! resolvedValues.isRegistered(prop)) {
+				throw new UnrecognizedPropertyException(prop);
+			}
+
+			ValidatedValuesResolved deferred = loadIfDeferred(prop);
+			if (deferred != null) return deferred.getPrimitiveBits(prop, bitsIfNull);
 		}
+
+		return resolvedValues.getPrimitiveBits(prop, bitsIfNull);
 	}
 
 	//
@@ -339,6 +1051,16 @@ public class AndHowCore implements PropertyConfigurationInternal, ValidatedValue
 		return staticConfig.getProperty(name);
 	}
 
+	@Override
+	public Property<?> getProperty(CharSequence chars, int start, int end) {
+		return staticConfig.getProperty(chars, start, end);
+	}
+
+	@Override
+	public boolean isPossiblePropertyName(String name) {
+		return staticConfig.isPossiblePropertyName(name);
+	}
+
 	@Override
 	public List<GroupProxy> getPropertyGroups() {
 		return staticConfig.getPropertyGroups();
@@ -364,4 +1086,46 @@ public class AndHowCore implements PropertyConfigurationInternal, ValidatedValue
 		return staticConfig.getNamingStrategy();
 	}
 
+	/**
+	 * The Properties of a deferred group and, once loaded, their values.
+	 * <p>
+	 * The values are immutable and written once, after they are complete, so a thread that reads
+	 * a non-null value sees all of it.
+	 */
+	private static class DeferredGroup {
+		final List<Property<?>> properties;
+		volatile ValidatedValuesResolved values;
+		volatile AppFatalException failure;
+
+		DeferredGroup(List<Property<?>> properties) {
+			this.properties = properties;
+		}
+	}
+
+	/**
+	 * Values only view of a core, so that app code cannot reach the full list of Properties.
+	 */
+	private static class Snapshot implements ValidatedValues {
+		private final AndHowCore core;
+
+		Snapshot(AndHowCore core) {
+			this.core = core;
+		}
+
+		@Override
+		public <T> T getExplicitValue(Property<T> prop) {
+			return core.getExplicitValue(prop);
+		}
+
+		@Override
+		public <T> T getValue(Property<T> prop) {
+			return core.getValue(prop);
+		}
+
+		@Override
+		public boolean isExplicitlySet(Property<?> prop) {
+			return core.isExplicitlySet(prop);
+		}
+	}
+
 }
@@ -32,4 +32,21 @@ public abstract class AndHowIllegalStateException extends RuntimeException {
 			return _property;
 		}
 	}
+
+	public static class NullPrimitiveValueException extends AndHowIllegalStateException {
+		private final Property<?> _property;
+
+		public NullPrimitiveValueException(Property<?> property) {
+
+			super("A Property of type '" + property.getClass().getCanonicalName() + "' has a null " +
+					"value, so it cannot be read as a primitive.  Mark the Property as notNull(), give it " +
+					"a default value, or read it with a method that accepts a value to use if null.");
+
+			_property = property;
+		}
+
+		public Property<?> getProperty() {
+			return _property;
+		}
+	}
 }
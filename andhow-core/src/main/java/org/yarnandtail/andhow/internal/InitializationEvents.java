@@ -0,0 +1,182 @@
+package org.yarnandtail.andhow.internal;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.*;
+
+import org.yarnandtail.andhow.api.InitializationStats;
+import org.yarnandtail.andhow.api.InitializationStats.LoaderStats;
+import org.yarnandtail.andhow.api.InitializationStats.Phase;
+import org.yarnandtail.andhow.util.AndHowLog;
+
+/**
+ * Emits {@link InitializationStats} as JDK Flight Recorder events, if Flight Recorder is available.
+ * <p>
+ * AndHow is built for Java 8, where {@code jdk.jfr} may not exist, so the event types are
+ * created reflectively with {@code jdk.jfr.EventFactory}.  Two event types are emitted:
+ * <ul>
+ * <li>{@code org.yarnandtail.andhow.InitializationPhase} - One per phase, w/ the phase name and
+ * time in nanoseconds</li>
+ * <li>{@code org.yarnandtail.andhow.LoaderLoad} - One per loader, w/ the loader class, time in
+ * nanoseconds and key and problem counts</li>
+ * </ul>
+ * Events are committed when initialization completes, so the event timestamps are the end of
+ * initialization and the times are in the event fields, not the event duration.
+ * <p>
+ * Creating an event type registers it w/ Flight Recorder, which is not free, so the event types
+ * are only created the first time stats are emitted while Flight Recorder is initialized, i.e.
+ * once a recording has been started.  If Flight Recorder is not available or was never started,
+ * this does nothing.
+ */
+final class InitializationEvents {
+	private static final AndHowLog LOG = AndHowLog.getLogger(InitializationEvents.class);
+
+	private static final String CATEGORY = "AndHow";
+
+	/** The EventFactory class, or null if Flight Recorder is not available */
+	private static final Class<?> FACTORY_CLASS;
+
+	private static final Method IS_INITIALIZED;
+	private static final Method NEW_EVENT;
+	private static final Method IS_ENABLED;
+	private static final Method SET;
+	private static final Method COMMIT;
+
+	/** The phase and loader event factories, created on first use */
+	private static Object phaseFactory;
+	private static Object loaderFactory;
+	private static boolean factoriesFailed;
+
+	static {
+		Class<?> factoryClass = null;
+		Method isInitialized = null, newEvent = null, isEnabled = null, set = null, commit = null;
+
+		try {
+			factoryClass = Class.forName("jdk.jfr.EventFactory");
+			Class<?> eventClass = Class.forName("jdk.jfr.Event");
+
+			isInitialized = Class.forName("jdk.jfr.FlightRecorder").getMethod("isInitialized");
+			newEvent = factoryClass.getMethod("newEvent");
+			isEnabled = eventClass.getMethod("isEnabled");
+			set = eventClass.getMethod("set", int.class, Object.class);
+			commit = eventClass.getMethod("commit");
+
+		} catch (ClassNotFoundException e) {
+			factoryClass = null;	//Flight Recorder not available on this JVM
+		} catch (Throwable t) {
+			LOG.debug("Unable to find Flight Recorder events", t);
+			factoryClass = null;
+		}
+
+		FACTORY_CLASS = factoryClass;
+		IS_INITIALIZED = isInitialized;
+		NEW_EVENT = newEvent;
+		IS_ENABLED = isEnabled;
+		SET = set;
+		COMMIT = commit;
+	}
+
+	private InitializationEvents() {
+		/* no instances */
+	}
+
+	/**
+	 * Emit an event for each phase and each loader in the stats.
+	 * <p>
+	 * Failures are logged, never thrown.
+	 *
+	 * @param stats The stats to emit.
+	 */
+	static void emit(InitializationStats stats) {
+		if (FACTORY_CLASS == null) return;
+
+		try {
+			if (! (Boolean) IS_INITIALIZED.invoke(null) || ! createFactories()) return;
+
+			for (Map.Entry<Phase, Long> entry : stats.getPhaseNanos().entrySet()) {
+				commit(phaseFactory, entry.getKey().name(), entry.getValue());
+			}
+
+			for (LoaderStats ls : stats.getLoaderStats()) {
+				commit(loaderFactory, ls.getLoader().getClass().getName(), ls.getNanos(),
+						ls.getKeysScanned(), ls.getKeysMatched(), ls.getUnknownKeys(), ls.getProblems());
+			}
+		} catch (Throwable t) {
+			LOG.debug("Unable to emit Flight Recorder events", t);
+		}
+	}
+
+	/**
+	 * Creates the event factories, once.
+	 *
+	 * @return True if the factories exist, false if they could not be created.
+	 */
+	private static synchronized boolean createFactories() {
+		if (phaseFactory == null && ! factoriesFailed) {
+			try {
+				loaderFactory = createFactory(FACTORY_CLASS, "org.yarnandtail.andhow.LoaderLoad",
+						"AndHow Loader Load",
+						new Object[] {String.class, "loader", long.class, "nanos",
+								int.class, "keysScanned", int.class, "keysMatched",
+								int.class, "unknownKeys", int.class, "problems"});
+
+				phaseFactory = createFactory(FACTORY_CLASS, "org.yarnandtail.andhow.InitializationPhase",
+						"AndHow Initialization Phase",
+						new Object[] {String.class, "phase", long.class, "nanos"});
+			} catch (Throwable t) {
+				LOG.debug("Unable to create Flight Recorder events", t);
+				factoriesFailed = true;
+			}
+		}
+
+		return phaseFactory != null;
+	}
+
+	private static void commit(Object factory, Object... fieldValues) throws Exception {
+		Object event = NEW_EVENT.invoke(factory);
+
+		if ((Boolean) IS_ENABLED.invoke(event)) {
+			for (int i = 0; i < fieldValues.length; i++) {
+				SET.invoke(event, i, fieldValues[i]);
+			}
+
+			COMMIT.invoke(event);
+		}
+	}
+
+	/**
+	 * Creates an EventFactory, the equivalent of:
+	 * <pre>{@code
+	 * EventFactory.create(
+	 *     Arrays.asList(new AnnotationElement(Name.class, name), ...Label and Category...),
+	 *     Arrays.asList(new ValueDescriptor(type, fieldName), ...));
+	 * }</pre>
+	 *
+	 * @param factoryClass The EventFactory class.
+	 * @param name The event name.
+	 * @param label The event label.
+	 * @param fields Pairs of field types and names.
+	 * @return The factory.
+	 */
+	private static Object createFactory(Class<?> factoryClass, String name, String label, Object[] fields)
+			throws Exception {
+
+		Class<?> annotationElementClass = Class.forName("jdk.jfr.AnnotationElement");
+		Class<?> valueDescriptorClass = Class.forName("jdk.jfr.ValueDescriptor");
+		Constructor<?> annotationElement = annotationElementClass.getConstructor(Class.class, Object.class);
+		Constructor<?> valueDescriptor = valueDescriptorClass.getConstructor(Class.class, String.class);
+
+		List<Object> annotations = new ArrayList();
+		annotations.add(annotationElement.newInstance(Class.forName("jdk.jfr.Name"), name));
+		annotations.add(annotationElement.newInstance(Class.forName("jdk.jfr.Label"), label));
+		annotations.add(annotationElement.newInstance(Class.forName("jdk.jfr.Category"), new String[] {CATEGORY}));
+
+		List<Object> descriptors = new ArrayList();
+		for (int i = 0; i < fields.length; i += 2) {
+			descriptors.add(valueDescriptor.newInstance(fields[i], fields[i + 1]));
+		}
+
+		return factoryClass.getMethod("create", List.class, List.class).invoke(null, annotations, descriptors);
+	}
+
+}
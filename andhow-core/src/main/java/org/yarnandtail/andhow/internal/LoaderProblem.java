@@ -143,6 +143,28 @@ public abstract class LoaderProblem implements Problem {
 		}
 	}
 	
+	public static class SourceTooLargeLoaderProblem extends LoaderProblem {
+		String resourcePath;
+		long size;
+		long maxSize;
+
+		public SourceTooLargeLoaderProblem(
+				Loader loader, Class<?> group, Property prop,
+				String resourcePath, long size, long maxSize) {
+
+			badValueCoord = new LoaderPropertyCoord(loader, group, prop);
+			this.resourcePath = resourcePath;
+			this.size = size;
+			this.maxSize = maxSize;
+		}
+
+		@Override
+		public String getProblemDescription() {
+			return TextUtil.format("The file '{}' is {} bytes, which is larger than the limit of {} bytes",
+					resourcePath, size, maxSize);
+		}
+	}
+	
 	public static class JndiContextMissing extends LoaderProblem {
 
 		public JndiContextMissing(Loader loader) {
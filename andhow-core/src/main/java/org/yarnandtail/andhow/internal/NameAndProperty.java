@@ -10,9 +10,31 @@ public class NameAndProperty {
 	public String fieldName;
 	public Property<?> property;
 
+	/** Names precomputed at compile time, or null if they are built as needed */
+	public String canonicalName;
+	public String effectiveName;
+	public String uriName;
+
 	public NameAndProperty(String fieldName, Property<?> prop) {
 		this.fieldName = fieldName;
 		this.property = prop;
 	}
+
+	/**
+	 * New instance w/ names precomputed at compile time.
+	 *
+	 * @param fieldName The name of the variable the Property is assigned to.
+	 * @param prop The Property.
+	 * @param canonicalName The canonical name of the Property, or null if not known.
+	 * @param effectiveName The upper case canonical name, or null if not known.
+	 * @param uriName The URI style name of the Property, or null if not known.
+	 */
+	public NameAndProperty(String fieldName, Property<?> prop,
+			String canonicalName, String effectiveName, String uriName) {
+		this(fieldName, prop);
+		this.canonicalName = canonicalName;
+		this.effectiveName = effectiveName;
+		this.uriName = uriName;
+	}
 	
 }
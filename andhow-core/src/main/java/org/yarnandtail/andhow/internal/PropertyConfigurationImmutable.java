@@ -2,6 +2,9 @@ package org.yarnandtail.andhow.internal;
 
 import java.util.*;
 import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.name.CaseInsensitiveNameFilter;
+import org.yarnandtail.andhow.name.CaseInsensitiveNameIndex;
+import org.yarnandtail.andhow.name.CaseInsensitiveNaming;
 
 /**
  * An immutable instance that can be used during runtime.
@@ -13,17 +16,25 @@ public class PropertyConfigurationImmutable implements PropertyConfigurationInte
 	private final List<GroupProxy> groupList;
 	private final List<Property<?>> properties;
 	private final Map<GroupProxy, List<Property<?>>> propertiesByGroup;
+	private final Map<Property<?>, GroupProxy> groupByProperty;
 	private final Map<String, Property<?>> propertiesByAnyName;
 	private final Map<Property<?>, List<EffectiveName>> aliasesByProperty;
 	private final Map<Property<?>, String> canonicalNameByProperty;
 	private final List<ExportGroup> exportGroups;
 
+	/** Null unless the naming strategy is exactly CaseInsensitiveNaming */
+	private final CaseInsensitiveNameFilter nameFilter;
+
+	/** Null unless the naming strategy is exactly CaseInsensitiveNaming */
+	private final CaseInsensitiveNameIndex<Property<?>> nameIndex;
+
 
 	public PropertyConfigurationImmutable(
 			NamingStrategy namingStrategy,
 			List<GroupProxy> groupList,
 			List<Property<?>> properties,
 			Map<GroupProxy, List<Property<?>>> propertiesByGroup,
+			Map<Property<?>, GroupProxy> groupByProperty,
 			Map<String, Property<?>> propertiesByAnyName,
 			Map<Property<?>, List<EffectiveName>> aliasesByProperty,
 			Map<Property<?>, String> canonicalNameByProperty,
@@ -47,6 +58,10 @@ public class PropertyConfigurationImmutable implements PropertyConfigurationInte
 		propsByGrp.putAll(propertiesByGroup);
 		this.propertiesByGroup = Collections.unmodifiableMap(propsByGrp);
 
+		Map<Property<?>, GroupProxy> grpByProp = new HashMap();
+		grpByProp.putAll(groupByProperty);
+		this.groupByProperty = Collections.unmodifiableMap(grpByProp);
+
 		Map<String, Property<?>> propsByName = new HashMap();
 		propsByName.putAll(propertiesByAnyName);
 		this.propertiesByAnyName = Collections.unmodifiableMap(propsByName);
@@ -64,11 +79,46 @@ public class PropertyConfigurationImmutable implements PropertyConfigurationInte
 		expGroups.trimToSize();
 		this.exportGroups = Collections.unmodifiableList(expGroups);
 
+		if (namingStrategy != null && namingStrategy.getClass().equals(CaseInsensitiveNaming.class)) {
+			List<String> names = new ArrayList();
+			names.addAll(this.canonicalNameByProperty.values());
+
+			for (List<EffectiveName> aliases : this.aliasesByProperty.values()) {
+				for (EffectiveName a : aliases) {
+					if (a.isIn()) names.add(a.getActualName());
+				}
+			}
+
+			nameFilter = new CaseInsensitiveNameFilter(names);
+			nameIndex = new CaseInsensitiveNameIndex(this.propertiesByAnyName);
+		} else {
+			nameFilter = null;
+			nameIndex = null;
+		}
+
 	}
 
 	@Override
 	public Property<?> getProperty(String classpathStyleName) {
-		return propertiesByAnyName.get(namingStrategy.toEffectiveName(classpathStyleName));
+		if (nameIndex != null) {
+			return nameIndex.get(classpathStyleName);
+		} else {
+			return propertiesByAnyName.get(namingStrategy.toEffectiveName(classpathStyleName));
+		}
+	}
+
+	@Override
+	public Property<?> getProperty(CharSequence chars, int start, int end) {
+		if (nameIndex != null) {
+			return nameIndex.get(chars, start, end);
+		} else {
+			return getProperty(chars.subSequence(start, end).toString());
+		}
+	}
+
+	@Override
+	public boolean isPossiblePropertyName(String classpathStyleName) {
+		return nameFilter == null || nameFilter.mightContain(classpathStyleName);
 	}
 
 	@Override
@@ -113,13 +163,7 @@ public class PropertyConfigurationImmutable implements PropertyConfigurationInte
 
 	@Override
 	public GroupProxy getGroupForProperty(Property<?> prop) {
-		for (GroupProxy group : groupList) {
-			if (propertiesByGroup.get(group).contains(prop)) {
-				return group;
-			}
-		}
-
-		return null;
+		return groupByProperty.get(prop);
 	}
 
 	@Override
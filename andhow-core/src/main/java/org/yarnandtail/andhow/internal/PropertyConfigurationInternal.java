@@ -79,6 +79,50 @@ public interface PropertyConfigurationInternal extends PropertyConfiguration {
 	 */
 	Property<?> getProperty(String classpathStyleName);
 
+	/**
+	 * Finds a registered property by the name in a range of chars, the same as
+	 * {@link #getProperty(String)}.
+	 *
+	 * This lets loaders look up a name in a slice of their input w/o creating a String
+	 * for it.  Implementations that cannot match chars directly create a String.
+	 *
+	 * @param chars The chars containing a path to a property in the classpath style.
+	 * @param start The index of the first char of the name.
+	 * @param end The index after the last char of the name.  The name is not trimmed.
+	 * @return The Property or null if it is not found.
+	 */
+	default Property<?> getProperty(CharSequence chars, int start, int end) {
+		return getProperty(chars.subSequence(start, end).toString());
+	}
+
+	/**
+	 * True if the passed name might be recognized by {@link #getProperty(String)}.
+	 *
+	 * This is a fast pre-check for loaders that read large numbers of mostly unrelated
+	 * names:  A false return guarantees the name is not recognized, but a true return
+	 * must still be confirmed with {@code getProperty}.
+	 *
+	 * @param classpathStyleName A path to a property in the classpath style.
+	 * @return False if the name is certain not to be recognized.
+	 */
+	default boolean isPossiblePropertyName(String classpathStyleName) {
+		return true;
+	}
+
+	/**
+	 * True if the name is of a registered Property that this configuration intentionally
+	 * excludes, so loaders should ignore it rather than report it as unknown.
+	 * <p>
+	 * A configuration limited to part of the registered Properties, such as the Properties of a
+	 * deferred group, does not find the other Properties via {@link #getProperty(String)}.
+	 *
+	 * @param classpathStyleName A path to a property in the classpath style.
+	 * @return True if the name is of a Property excluded from this configuration.
+	 */
+	default boolean isExcludedPropertyName(String classpathStyleName) {
+		return false;
+	}
+
 	/**
 	 * The list of ExportGroups, which handles exporting property values for use
 	 * outside the AndHow framework.
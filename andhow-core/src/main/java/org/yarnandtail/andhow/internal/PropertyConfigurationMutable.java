@@ -13,6 +13,7 @@ public class PropertyConfigurationMutable implements PropertyConfigurationIntern
 
 	private final NamingStrategy namingStrategy;
 	private final Map<GroupProxy, List<Property<?>>> propertiesByGroup = new HashMap();
+	private final Map<Property<?>, GroupProxy> groupByProperty = new HashMap();
 	private final List<GroupProxy> groupList = new ArrayList();
 	private final Map<Property<?>, List<EffectiveName>> aliasesByProperty = new HashMap();
 	private final Map<String, Property<?>> propertiesByAnyName = new HashMap();
@@ -130,6 +131,8 @@ public class PropertyConfigurationMutable implements PropertyConfigurationIntern
 			propertiesByAnyName.put(n.getEffectiveInName(), property);
 		}
 
+		groupByProperty.put(property, group);
+
 		List<Property<?>> list = propertiesByGroup.get(group);
 		if (list != null) {
 			list.add(property);
@@ -195,13 +198,7 @@ public class PropertyConfigurationMutable implements PropertyConfigurationIntern
 
 	@Override
 	public GroupProxy getGroupForProperty(Property<?> prop) {
-		for (GroupProxy group : groupList) {
-			if (propertiesByGroup.get(group).contains(prop)) {
-				return group;
-			}
-		}
-
-		return null;
+		return groupByProperty.get(prop);
 	}
 
 	@Override
@@ -256,7 +253,7 @@ public class PropertyConfigurationMutable implements PropertyConfigurationIntern
 	 */
 	public PropertyConfigurationInternal toImmutable() {
 		return new PropertyConfigurationImmutable(namingStrategy, groupList, properties,
-			propertiesByGroup, propertiesByAnyName,
+			propertiesByGroup, groupByProperty, propertiesByAnyName,
 			aliasesByProperty, canonicalNameByProperty,
 			exportGroups);
 	}
@@ -0,0 +1,106 @@
+package org.yarnandtail.andhow.internal;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import org.yarnandtail.andhow.api.*;
+
+/**
+ * A view of a configuration limited to a subset of its Properties, so loaders load only those.
+ * <p>
+ * Properties outside the subset are not returned by {@link #getProperties()} or found by
+ * {@link #getProperty(String)}, but their names are reported by
+ * {@link #isExcludedPropertyName(String)} so loaders do not report them as unknown.  Naming,
+ * groups and other metadata are those of the full configuration.
+ */
+public class PropertyConfigurationSubset implements PropertyConfigurationInternal {
+
+	private final PropertyConfigurationInternal base;
+	private final Set<Property<?>> included;
+	private final List<Property<?>> properties;
+
+	/**
+	 * New instance.
+	 *
+	 * @param base The full configuration.
+	 * @param included The Properties in the subset.
+	 */
+	public PropertyConfigurationSubset(PropertyConfigurationInternal base, Collection<Property<?>> included) {
+		this.base = base;
+		this.included = new HashSet(included);
+
+		//Keep the order of the full configuration
+		properties = Collections.unmodifiableList(base.getProperties().stream()
+				.filter(this.included::contains).collect(Collectors.toList()));
+	}
+
+	@Override
+	public List<Property<?>> getProperties() {
+		return properties;
+	}
+
+	@Override
+	public boolean containsUserGroups() {
+		return base.containsUserGroups();
+	}
+
+	@Override
+	public GroupProxy getGroupForProperty(Property<?> prop) {
+		return base.getGroupForProperty(prop);
+	}
+
+	@Override
+	public List<Property<?>> getPropertiesForGroup(GroupProxy group) {
+		return base.getPropertiesForGroup(group).stream()
+				.filter(included::contains).collect(Collectors.toList());
+	}
+
+	@Override
+	public List<GroupProxy> getPropertyGroups() {
+		return base.getPropertyGroups();
+	}
+
+	@Override
+	public Property<?> getProperty(String classpathStyleName) {
+		Property<?> prop = base.getProperty(classpathStyleName);
+		return included.contains(prop) ? prop : null;
+	}
+
+	@Override
+	public Property<?> getProperty(CharSequence chars, int start, int end) {
+		Property<?> prop = base.getProperty(chars, start, end);
+		return included.contains(prop) ? prop : null;
+	}
+
+	@Override
+	public boolean isPossiblePropertyName(String classpathStyleName) {
+		return base.isPossiblePropertyName(classpathStyleName);
+	}
+
+	@Override
+	public boolean isExcludedPropertyName(String classpathStyleName) {
+		Property<?> prop = (classpathStyleName != null) ? base.getProperty(classpathStyleName.trim()) : null;
+		return prop != null && ! included.contains(prop);
+	}
+
+	@Override
+	public List<ExportGroup> getExportGroups() {
+		return base.getExportGroups();
+	}
+
+	@Override
+	public List<EffectiveName> getAliases(Property<?> property) {
+		return base.getAliases(property);
+	}
+
+	@Override
+	public String getCanonicalName(Property<?> prop) {
+		return base.getCanonicalName(prop);
+	}
+
+	@Override
+	public NamingStrategy getNamingStrategy() {
+		return base.getNamingStrategy();
+	}
+
+}
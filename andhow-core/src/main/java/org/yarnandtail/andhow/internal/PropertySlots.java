@@ -0,0 +1,90 @@
+package org.yarnandtail.andhow.internal;
+
+import java.util.*;
+import org.yarnandtail.andhow.api.Property;
+import org.yarnandtail.andhow.property.PropertyBase;
+
+/**
+ * A dense index of the Properties of a configuration, from 0 to {@code size() - 1}.
+ * <p>
+ * Arrays of values indexed by slot are then only as large as the configuration.  Each
+ * {@link PropertyBase} is also told its slot (see {@link PropertyBase#getValueSlot(Object)}), so
+ * finding the slot of a Property is normally a field read.  If a Property has since been
+ * registered by another configuration, e.g. in another {@link org.yarnandtail.andhow.AndHowContext},
+ * its slot is found in a map instead.
+ * <p>
+ * Instances are immutable and are shared by all values built for the same configuration,
+ * including reloaded values.
+ */
+public final class PropertySlots {
+
+	private final List<Property<?>> properties;
+	private final Map<Property<?>, Integer> slots;
+
+	/**
+	 * Assigns a slot to each Property.
+	 *
+	 * @param properties All Properties of the configuration.  Duplicates are given a single slot.
+	 */
+	public PropertySlots(List<Property<?>> properties) {
+		List<Property<?>> props = new ArrayList(properties.size());
+		Map<Property<?>, Integer> map = new IdentityHashMap(properties.size());
+
+		for (Property<?> p : properties) {
+			if (map.putIfAbsent(p, props.size()) == null) {
+				if (p instanceof PropertyBase) {
+					((PropertyBase<?>) p).setValueSlot(this, props.size());
+				}
+
+				props.add(p);
+			}
+		}
+
+		this.properties = Collections.unmodifiableList(props);
+		this.slots = map;
+	}
+
+	/**
+	 * The slot of a Property.
+	 *
+	 * @param prop The Property, which may be null.
+	 * @return The slot, or -1 if the Property is not part of the configuration.
+	 */
+	public int getSlot(Property<?> prop) {
+		if (prop instanceof PropertyBase) {
+			int slot = ((PropertyBase<?>) prop).getValueSlot(this);
+			if (slot >= 0) return slot;
+		}
+
+		Integer slot = (prop != null) ? slots.get(prop) : null;
+		return (slot != null) ? slot : -1;
+	}
+
+	/**
+	 * The Property in a slot.
+	 *
+	 * @param slot A slot index from 0 to {@code size() - 1}.
+	 * @return The Property.
+	 */
+	public Property<?> getProperty(int slot) {
+		return properties.get(slot);
+	}
+
+	/**
+	 * The Properties, in slot order.
+	 *
+	 * @return An unmodifiable list.
+	 */
+	public List<Property<?>> getProperties() {
+		return properties;
+	}
+
+	/**
+	 * The number of slots, which is the number of distinct Properties.
+	 *
+	 * @return The size of arrays indexed by slot.
+	 */
+	public int size() {
+		return properties.size();
+	}
+}
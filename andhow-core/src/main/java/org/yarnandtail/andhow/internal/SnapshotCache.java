@@ -0,0 +1,254 @@
+package org.yarnandtail.andhow.internal;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.util.AndHowLog;
+import org.yarnandtail.andhow.util.IOUtil;
+
+/**
+ * An opt-in, file based cache of the values loaded at startup.
+ * <p>
+ * After a successful load, the values from each loader are written to a compact binary file,
+ * along with a fingerprint of all the inputs to the load:  The registered Properties and their
+ * names, the loaders and each loader's {@link Loader#getInputFingerprint input fingerprint}.
+ * On the next startup, if the fingerprint still matches, the values are read from the file and
+ * no loader is run.  Any mismatch or error falls back to a normal load.
+ * <p>
+ * Loader fingerprints are built in loader order, each w/ the cached values of the preceding
+ * loaders, so a loader configured by a preceding loader (e.g. a properties file path) is
+ * fingerprinted using the value it would actually be configured with.
+ * <p>
+ * Values are stored as Strings via each Property's {@link ValueType}.  If any value does not
+ * survive the round trip through {@code toString()} and {@code parse()}, or any loader cannot be
+ * fingerprinted, no cache file is written.  Validation is always done normally, so changes to
+ * validation rules never require a new cache file.
+ * <p>
+ * The cache file contains configuration values, which may be sensitive.  Where supported, it is
+ * written readable by its owner only.
+ */
+public class SnapshotCache {
+	private static final AndHowLog LOG = AndHowLog.getLogger(SnapshotCache.class);
+
+	private static final int MAGIC = 0x41484331;	// 'AHC1'
+	private static final int VERSION = 1;
+
+	private final File file;
+
+	/**
+	 * New instance using the passed file.
+	 *
+	 * @param file The cache file, which need not exist.
+	 */
+	public SnapshotCache(File file) {
+		this.file = file;
+	}
+
+	public File getFile() {
+		return file;
+	}
+
+	/**
+	 * Reads the cached values if the fingerprint of the current inputs matches the cache file.
+	 *
+	 * @param config The Property configuration.
+	 * @param loaders The loaders, in load order.
+	 * @param environment The environment the loaders would load from.
+	 * @return The cached values, or null if there is no matching, readable cache file.
+	 */
+	public ValidatedValuesWithContext read(PropertyConfigurationInternal config,
+			List<Loader> loaders, LoaderEnvironment environment) {
+
+		if (! file.isFile()) {
+			return null;
+		}
+
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+
+			if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+				LOG.debug("Ignoring snapshot cache {0} of an unknown format", file);
+				return null;
+			}
+
+			byte[] storedFingerprint = new byte[in.readInt()];
+			in.readFully(storedFingerprint);
+
+			if (in.readInt() != loaders.size()) {
+				return null;
+			}
+
+			ValidatedValuesWithContextMutable values = new ValidatedValuesWithContextMutable();
+
+			for (Loader loader : loaders) {
+				int count = in.readInt();
+				List<ValidatedValue> loaded = new ArrayList(count);
+
+				for (int i = 0; i < count; i++) {
+					String name = readString(in);
+					String str = readString(in);
+					Property prop = config.getProperty(name);
+
+					if (prop == null) {
+						return null;
+					}
+
+					loaded.add(new ValidatedValue(prop, prop.getValueType().parse(str)));
+				}
+
+				values.addValues(new LoaderValues(loader, loaded, new ProblemList()));
+			}
+
+			byte[] fingerprint = buildFingerprint(config, loaders, environment, values.getAllLoaderValues());
+
+			if (fingerprint != null && MessageDigest.isEqual(fingerprint, storedFingerprint)) {
+				LOG.debug("Values read from snapshot cache {0}", file);
+				return values.getValueMapWithContextImmutable();
+			} else {
+				LOG.debug("Snapshot cache {0} does not match the current inputs", file);
+				return null;
+			}
+
+		} catch (IOException | ParsingException | RuntimeException e) {
+			LOG.debug("Unable to read snapshot cache {0}", file);
+			return null;
+		}
+	}
+
+	/**
+	 * Writes the loaded values to the cache file, replacing any existing file.
+	 * <p>
+	 * Failure to write is logged, but is never an error.
+	 *
+	 * @param config The Property configuration.
+	 * @param loaders The loaders, in load order.
+	 * @param environment The environment the loaders loaded from.
+	 * @param values The values loaded by the loaders, which must have no problems.
+	 */
+	public void write(PropertyConfigurationInternal config,
+			List<Loader> loaders, LoaderEnvironment environment, ValidatedValuesWithContext values) {
+
+		List<LoaderValues> loaderValues = values.getAllLoaderValues();
+		byte[] fingerprint = buildFingerprint(config, loaders, environment, loaderValues);
+
+		if (fingerprint == null) {
+			LOG.debug("Not writing snapshot cache {0}:  Not all loaders can be fingerprinted", file);
+			return;
+		}
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeInt(fingerprint.length);
+			out.write(fingerprint);
+			out.writeInt(loaderValues.size());
+
+			for (LoaderValues lvs : loaderValues) {
+				out.writeInt(lvs.getValues().size());
+
+				for (ValidatedValue vv : lvs.getValues()) {
+					Property prop = vv.getProperty();
+					String str = prop.getValueType().toString(vv.getValue());
+
+					if (! Objects.equals(vv.getValue(), prop.getValueType().parse(str))) {
+						LOG.debug("Not writing snapshot cache {0}:  The value of {1} cannot be stored",
+								file, config.getCanonicalName(prop));
+						return;
+					}
+
+					writeString(out, config.getCanonicalName(prop));
+					writeString(out, str);
+				}
+			}
+		} catch (IOException | ParsingException | RuntimeException e) {
+			LOG.debug("Not writing snapshot cache {0}:  {1}", file, e.getMessage());
+			return;
+		}
+
+		try {
+			IOUtil.writeAtomically(file.toPath(), bytes.toByteArray());
+		} catch (IOException | RuntimeException e) {
+			LOG.warn("Unable to write the snapshot cache '" + file + "'", e);
+		}
+	}
+
+	/**
+	 * A hash of all inputs to loading.
+	 *
+	 * @param config The Property configuration.
+	 * @param loaders The loaders, in load order.
+	 * @param environment The environment the loaders load from.
+	 * @param loaderValues The values of each loader, used as the existing values when
+	 *   fingerprinting the following loaders.
+	 * @return The hash or null if any loader cannot be fingerprinted.
+	 */
+	protected byte[] buildFingerprint(PropertyConfigurationInternal config,
+			List<Loader> loaders, LoaderEnvironment environment, List<LoaderValues> loaderValues) {
+
+		MessageDigest digest;
+
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			return null;	//Required of every JVM
+		}
+
+		update(digest, config.getNamingStrategy().getClass().getName());
+
+		for (Property<?> prop : config.getProperties()) {
+			update(digest, config.getCanonicalName(prop));
+			update(digest, prop.getClass().getName());
+			update(digest, prop.getValueType().getClass().getName());
+
+			for (EffectiveName name : config.getAliases(prop)) {
+				update(digest, name.getActualName() + (name.isIn() ? " in" : " out"));
+			}
+		}
+
+		ValidatedValuesWithContextMutable existing = new ValidatedValuesWithContextMutable();
+
+		for (int i = 0; i < loaders.size(); i++) {
+			Loader loader = loaders.get(i);
+			String loaderFingerprint = loader.getInputFingerprint(config, environment,
+					existing.getValueMapWithContextImmutable());
+
+			if (loaderFingerprint == null) {
+				return null;
+			}
+
+			update(digest, loader.getClass().getName());
+			update(digest, loaderFingerprint);
+
+			if (i < loaderValues.size()) {
+				existing.addValues(loaderValues.get(i));
+			}
+		}
+
+		return digest.digest();
+	}
+
+	private static void update(MessageDigest digest, String str) {
+		byte[] bytes = String.valueOf(str).getBytes(StandardCharsets.UTF_8);
+		digest.update(new byte[] {(byte)(bytes.length >>> 24), (byte)(bytes.length >>> 16),
+				(byte)(bytes.length >>> 8), (byte) bytes.length});
+		digest.update(bytes);
+	}
+
+	private static void writeString(DataOutputStream out, String str) throws IOException {
+		byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[in.readInt()];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+}
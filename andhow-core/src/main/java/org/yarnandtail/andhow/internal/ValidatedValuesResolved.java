@@ -0,0 +1,209 @@
+package org.yarnandtail.andhow.internal;
+
+import java.util.*;
+import org.yarnandtail.andhow.api.Property;
+import org.yarnandtail.andhow.api.ValidatedValues;
+
+/**
+ * A frozen, fully resolved snapshot of the effective value of each registered Property.
+ * <p>
+ * After loading and validation are complete, the effective value (the explicit value or, if
+ * none, the default) of each registered Property is copied into a flat array indexed by the
+ * Property's slot in the configuration (see {@link PropertySlots}).  Reading a value is then a
+ * single array load with no hashing and no explicit-then-default fallback.  The arrays are sized
+ * by the number of registered Properties, not the number of Properties in the JVM.
+ * <p>
+ * Properties of deferred groups are registered, but are never resolved:  They read as not
+ * explicitly set w/ a null value.  Their values are resolved into a separate snapshot when their
+ * group is loaded, so callers that find a null value should check {@link #isDeferred(Property)}.
+ * Instances are never modified after construction, so they are safe to share between threads.
+ */
+public class ValidatedValuesResolved implements ValidatedValues {
+
+	private static final byte DEFAULTED = 1;
+	private static final byte EXPLICIT = 2;
+	private static final byte DEFERRED = 3;
+
+	/** The slot of each registered Property */
+	private final PropertySlots slots;
+
+	/** Effective values, indexed by slot */
+	private final Object[] effectiveValues;
+
+	/** State of each slot:  DEFAULTED, EXPLICIT or DEFERRED */
+	private final byte[] states;
+
+	/** Effective values of Integer, Long, Double and Boolean Properties as bits, indexed by slot */
+	private final long[] primitiveValues;
+
+	/**
+	 * Build a new snapshot for the passed Properties.
+	 *
+	 * @param properties All registered Properties.
+	 * @param values The fully loaded and validated values for the Properties.
+	 */
+	public ValidatedValuesResolved(List<Property<?>> properties, ValidatedValues values) {
+		this(new PropertySlots(properties), values, Collections.emptySet());
+	}
+
+	/**
+	 * Build a new snapshot for the Properties of a configuration, some of which are deferred.
+	 *
+	 * @param slots The slots of all registered Properties.
+	 * @param values The fully loaded and validated values for the Properties that are not deferred.
+	 * @param deferred Registered Properties that are not loaded yet.
+	 */
+	public ValidatedValuesResolved(PropertySlots slots, ValidatedValues values,
+			Set<Property<?>> deferred) {
+
+		int size = slots.size();
+		Object[] vals = new Object[size];
+		byte[] sts = new byte[size];
+		long[] prims = new long[size];
+
+		for (int slot = 0; slot < size; slot++) {
+			Property<?> p = slots.getProperty(slot);
+
+			if (deferred.contains(p)) {
+				sts[slot] = DEFERRED;
+			} else {
+				resolve(p, slot, values, vals, sts, prims);
+			}
+		}
+
+		this.slots = slots;
+		effectiveValues = vals;
+		states = sts;
+		primitiveValues = prims;
+	}
+
+	/**
+	 * Build a new snapshot from an existing one, re-resolving only some Properties.
+	 * <p>
+	 * Properties of the existing snapshot that are still deferred stay deferred.
+	 *
+	 * @param previous The snapshot to copy.
+	 * @param changed The Properties to resolve from the new values.
+	 * @param values The fully loaded and validated values, including those of the changed Properties.
+	 */
+	public ValidatedValuesResolved(ValidatedValuesResolved previous, Collection<Property<?>> changed,
+			ValidatedValues values) {
+
+		slots = previous.slots;
+		effectiveValues = previous.effectiveValues.clone();
+		states = previous.states.clone();
+		primitiveValues = previous.primitiveValues.clone();
+
+		for (Property<?> p : changed) {
+			int slot = slots.getSlot(p);
+
+			if (slot >= 0 && states[slot] != DEFERRED) {
+				resolve(p, slot, values, effectiveValues, states, primitiveValues);
+			}
+		}
+	}
+
+	/**
+	 * Copies the effective value of a Property into its slot.
+	 */
+	private static void resolve(Property<?> p, int slot, ValidatedValues values,
+			Object[] vals, byte[] sts, long[] prims) {
+
+		if (values.isExplicitlySet(p)) {
+			vals[slot] = values.getExplicitValue(p);
+			sts[slot] = EXPLICIT;
+		} else {
+			vals[slot] = p.getDefaultValue();
+			sts[slot] = DEFAULTED;
+		}
+
+		prims[slot] = toPrimitiveBits(vals[slot]);
+	}
+
+	/**
+	 * The slots of the registered Properties, shared by snapshots of the same configuration.
+	 *
+	 * @return The non-null slots.
+	 */
+	public PropertySlots getSlots() {
+		return slots;
+	}
+
+	/**
+	 * True if the Property is deferred, so it is not resolved in this snapshot.
+	 *
+	 * @param prop The Property to check
+	 * @return True if deferred.
+	 */
+	public boolean isDeferred(Property<?> prop) {
+		int slot = slots.getSlot(prop);
+		return slot >= 0 && states[slot] == DEFERRED;
+	}
+
+	/**
+	 * True if the Property was registered when this snapshot was built.
+	 *
+	 * @param prop The Property to check
+	 * @return True if registered, false otherwise (including when passed null).
+	 */
+	public boolean isRegistered(Property<?> prop) {
+		return slots.getSlot(prop) >= 0;
+	}
+
+	@Override
+	public <T> T getExplicitValue(Property<T> prop) {
+		int slot = slots.getSlot(prop);
+		return (slot >= 0 && states[slot] == EXPLICIT) ? (T) effectiveValues[slot] : null;
+	}
+
+	/**
+	 * The effective value of the Property, or null if the Property is not registered.
+	 * <p>
+	 * Since a registered Property may also have a null value, callers needing to distinguish
+	 * the two cases should follow up a null return with a call to {@link #isRegistered(Property)}.
+	 *
+	 * @param <T> The return type of the Property.
+	 * @param prop The property to get the value for.
+	 * @return The explicit value or, if no explicit, the default value.  Otherwise null.
+	 */
+	@Override
+	public <T> T getValue(Property<T> prop) {
+		int slot = slots.getSlot(prop);
+		return (slot >= 0) ? (T) effectiveValues[slot] : null;
+	}
+
+	/**
+	 * The effective value of an Integer, Long, Double or Boolean Property as primitive bits.
+	 * <p>
+	 * Integers and Longs are returned as their long value, Doubles as the bits from
+	 * {@link Double#doubleToRawLongBits(double)} and Booleans as 1 (true) or 0 (false).
+	 * Reading the value this way requires no unboxing or cast.
+	 *
+	 * @param prop The property to get the value for.
+	 * @param bitsIfNull The bits to return if the value is null or the Property is not registered.
+	 * @return The bits of the effective value, or {@code bitsIfNull}.
+	 */
+	public long getPrimitiveBits(Property<?> prop, long bitsIfNull) {
+		int slot = slots.getSlot(prop);
+		return (slot >= 0 && effectiveValues[slot] != null) ? primitiveValues[slot] : bitsIfNull;
+	}
+
+	private static long toPrimitiveBits(Object value) {
+		if (value instanceof Integer || value instanceof Long) {
+			return ((Number) value).longValue();
+		} else if (value instanceof Double) {
+			return Double.doubleToRawLongBits((Double) value);
+		} else if (value instanceof Boolean) {
+			return ((Boolean) value) ? 1L : 0L;
+		} else {
+			return 0L;
+		}
+	}
+
+	@Override
+	public boolean isExplicitlySet(Property<?> prop) {
+		int slot = slots.getSlot(prop);
+		return slot >= 0 && states[slot] == EXPLICIT;
+	}
+
+}
@@ -0,0 +1,174 @@
+package org.yarnandtail.andhow.internal;
+
+import java.util.*;
+import org.yarnandtail.andhow.api.*;
+
+/**
+ * Immutable ValidatedValuesWithContext that keeps little or none of the load history, for the
+ * {@link ProvenanceRetention#COMPACT} and {@link ProvenanceRetention#NONE} levels.
+ * <p>
+ * Values are not copied:  They are read from the {@link ValidatedValuesResolved} that AndHow
+ * reads Property values from.  For COMPACT, the only other state is the index of the loader of
+ * each explicit value, in an array indexed by slot (see {@link PropertySlots}).  Overridden values and the
+ * {@link LoaderValues} and {@link ValidatedValue} instances of the load are not kept, so loader
+ * value lists are rebuilt on request from the effective values.  For NONE, loader value lists
+ * are empty and the explicit values are those of the resolved values.
+ * <p>
+ * Instances are only built from values that passed validation, so they never have problems.
+ */
+public class ValidatedValuesWithContextCompact extends ValidatedValuesWithContextBase {
+
+	private static final short NO_LOADER = -1;
+
+	private final List<Loader> loaders;
+
+	private final ValidatedValuesResolved values;
+
+	/** The index of the loader of each explicit value, indexed by slot.  Null for NONE. */
+	private final short[] loaderBySlot;
+
+	/**
+	 * New instance keeping no load history ({@link ProvenanceRetention#NONE}).
+	 *
+	 * @param loaders The loaders, in load order.
+	 * @param values The resolved values.
+	 */
+	public ValidatedValuesWithContextCompact(List<Loader> loaders, ValidatedValuesResolved values) {
+		this.loaders = Collections.unmodifiableList(new ArrayList(loaders));
+		this.values = values;
+		this.loaderBySlot = null;
+	}
+
+	/**
+	 * New instance keeping the loader of each effective value ({@link ProvenanceRetention#COMPACT}).
+	 *
+	 * @param loaded The values as loaded, w/ one LoaderValues per loader, in load order.
+	 * @param values The resolved values, built from the loaded values.
+	 */
+	public ValidatedValuesWithContextCompact(ValidatedValuesWithContext loaded, ValidatedValuesResolved values) {
+
+		List<LoaderValues> loaderValues = loaded.getAllLoaderValues();
+		List<Loader> lds = new ArrayList(loaderValues.size());
+		PropertySlots slots = values.getSlots();
+
+		short[] bySlot = new short[slots.size()];
+		Arrays.fill(bySlot, NO_LOADER);
+
+		for (int i = 0; i < loaderValues.size(); i++) {
+			LoaderValues lvs = loaderValues.get(i);
+			lds.add(lvs.getLoader());
+
+			for (ValidatedValue vv : lvs.getValues()) {
+				int slot = slots.getSlot(vv.getProperty());
+
+				//The first loader to load a Property wins
+				if (slot >= 0 && bySlot[slot] == NO_LOADER) bySlot[slot] = (short) i;
+			}
+		}
+
+		this.loaders = Collections.unmodifiableList(lds);
+		this.values = values;
+		this.loaderBySlot = bySlot;
+	}
+
+	/**
+	 * The index of the loader that loaded the explicit value of a Property.
+	 *
+	 * @param prop The Property
+	 * @return The index, or -1 if the Property has no explicit value.
+	 */
+	private int getLoaderIndex(Property<?> prop) {
+		int slot = values.getSlots().getSlot(prop);
+		return (slot >= 0) ? loaderBySlot[slot] : NO_LOADER;
+	}
+
+	@Override
+	public <T> T getExplicitValue(Property<T> prop) {
+		return isExplicitlySet(prop) ? values.getExplicitValue(prop) : null;
+	}
+
+	@Override
+	public <T> T getValue(Property<T> prop) {
+		return isExplicitlySet(prop) ? values.getExplicitValue(prop) : prop.getDefaultValue();
+	}
+
+	@Override
+	public boolean isExplicitlySet(Property<?> prop) {
+		if (loaderBySlot != null) {
+			return getLoaderIndex(prop) != NO_LOADER;
+		} else {
+			return values.isExplicitlySet(prop);
+		}
+	}
+
+	/**
+	 * One LoaderValues per loader.  For COMPACT, each has only the values the loader loaded that
+	 * are in effect.  For NONE, each is empty.
+	 *
+	 * @return A new, unmodifiable list.
+	 */
+	@Override
+	public List<LoaderValues> getAllLoaderValues() {
+		List<LoaderValues> list = new ArrayList(loaders.size());
+
+		for (Loader loader : loaders) {
+			list.add((loaderBySlot != null) ? getEffectiveValuesLoadedByLoader(loader) : new LoaderValues(loader));
+		}
+
+		return Collections.unmodifiableList(list);
+	}
+
+	/**
+	 * For COMPACT, the same as {@link #getEffectiveValuesLoadedByLoader(Loader)}, since values
+	 * overridden by earlier loaders are not kept.
+	 *
+	 * @param loader The loader
+	 * @return The values, or null for NONE or if the loader is not in use.
+	 */
+	@Override
+	public LoaderValues getAllValuesLoadedByLoader(Loader loader) {
+		return getEffectiveValuesLoadedByLoader(loader);
+	}
+
+	/**
+	 * The values loaded by the loader that are in effect.
+	 *
+	 * @param loader The loader
+	 * @return The values, or null for NONE or if the loader is not in use.
+	 */
+	@Override
+	public LoaderValues getEffectiveValuesLoadedByLoader(Loader loader) {
+		int index = loaders.indexOf(loader);
+
+		if (loaderBySlot == null || index < 0) {
+			return null;
+		}
+
+		List<ValidatedValue> effValues = new ArrayList();
+		PropertySlots slots = values.getSlots();
+
+		for (int slot = 0; slot < loaderBySlot.length; slot++) {
+			if (loaderBySlot[slot] == index) {
+				Property<?> p = slots.getProperty(slot);
+				effValues.add(new ValidatedValue(p, values.getExplicitValue(p)));
+			}
+		}
+
+		return new LoaderValues(loader, effValues, ProblemList.EMPTY_PROBLEM_LIST);
+	}
+
+	@Override
+	public ValidatedValues getValueMapImmutable() {
+		return this;
+	}
+
+	@Override
+	public ValidatedValuesWithContext getValueMapWithContextImmutable() {
+		return this;
+	}
+
+	@Override
+	public boolean hasProblems() {
+		return false;
+	}
+}
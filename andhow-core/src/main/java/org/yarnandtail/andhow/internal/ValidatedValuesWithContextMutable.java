@@ -1,8 +1,6 @@
 package org.yarnandtail.andhow.internal;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.*;
 import org.yarnandtail.andhow.api.*;
 
 /**
@@ -14,6 +12,9 @@ public class ValidatedValuesWithContextMutable extends ValidatedValuesWithContex
 	
 	/** List of maps of values that were loaded by each loader */
 	private final ArrayList<LoaderValues> loadedValuesList = new ArrayList();
+	
+	/** The effective explicit (non-null) value of each Property from all loaders so far */
+	private final Map<Property<?>, Object> explicitValues = new HashMap();
 	private boolean problem = false;
 	
 	public ValidatedValuesWithContextMutable() {
@@ -22,6 +23,19 @@ public class ValidatedValuesWithContextMutable extends ValidatedValuesWithContex
 	public void addValues(LoaderValues values) {
 		loadedValuesList.add(values);
 		if (values.getProblems().size() > 0) problem = true;
+		
+		//Earlier loaders take precedence, so only add Properties not already set
+		for (ValidatedValue pv : values.getValues()) {
+			Property<?> prop = pv.getProperty();
+			
+			if (! explicitValues.containsKey(prop)) {
+				Object v = values.getExplicitValue(prop);
+				
+				if (v != null) {
+					explicitValues.put(prop, v);
+				}
+			}
+		}
 	}
 	
 	@Override
@@ -31,17 +45,18 @@ public class ValidatedValuesWithContextMutable extends ValidatedValuesWithContex
 	
 	@Override
 	public <T> T getExplicitValue(Property<T> prop) {
-		return getExplicitValue(loadedValuesList, prop);
+		return prop.getValueType().cast(explicitValues.get(prop));
 	}
 	
 	@Override
 	public <T> T getValue(Property<T> prop) {
-		return getEffectiveValue(loadedValuesList, prop);
+		T v = getExplicitValue(prop);
+		return (v != null) ? v : prop.getDefaultValue();
 	}
 
 	@Override
 	public boolean isExplicitlySet(Property<?> prop) {
-		return isPropertyPresent(loadedValuesList, prop);
+		return explicitValues.containsKey(prop);
 	}
 	
 	@Override
@@ -0,0 +1,143 @@
+package org.yarnandtail.andhow.internal;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+import org.yarnandtail.andhow.api.*;
+
+/**
+ * The validators of each Property, collected once so loaded values can be validated w/o looking
+ * up the group and validators of each Property for every value.
+ * <p>
+ * Only Properties that have validators are in the plan, so values of other Properties are
+ * skipped entirely.  When there are at least {@link #PARALLEL_THRESHOLD} values to validate,
+ * values are validated concurrently on the common fork-join pool.  Problems are always
+ * reported in the same order:  Loader order, then the order each loader loaded its values,
+ * then validator order.
+ * <p>
+ * Instances are immutable and can be reused for each reload.
+ */
+public class ValidationPlan {
+
+	/** The number of values to validate at which validation is done concurrently */
+	public static final int PARALLEL_THRESHOLD = 1000;
+
+	private final Map<Property<?>, PropertyPlan> plans;
+
+	/**
+	 * Builds the plan from the Properties in the configuration.
+	 *
+	 * @param config The configuration containing the Properties.
+	 */
+	public ValidationPlan(PropertyConfigurationInternal config) {
+		Map<Property<?>, PropertyPlan> map = new HashMap();
+
+		for (Property<?> prop : config.getProperties()) {
+			List<? extends Validator<?>> validators = prop.getValidators();
+
+			if (validators != null && ! validators.isEmpty()) {
+				map.put(prop, new PropertyPlan(
+						config.getGroupForProperty(prop).getProxiedGroup(),
+						validators.toArray(new Validator[validators.size()])));
+			}
+		}
+
+		plans = map;
+	}
+
+	/**
+	 * Validates all loaded values, adding problems to the invalid values and the problem list.
+	 *
+	 * @param loadedValues The values to be validated.
+	 * @param problems Add any new problems to this list.
+	 */
+	public void validate(ValidatedValuesWithContext loadedValues, ProblemList<Problem> problems) {
+		validate(loadedValues.getAllLoaderValues(), problems);
+	}
+
+	/**
+	 * Validates the values of some loaders, adding problems to the invalid values and the problem list.
+	 *
+	 * @param loaderValues The values to be validated.
+	 * @param problems Add any new problems to this list.
+	 */
+	public void validate(List<LoaderValues> loaderValues, ProblemList<Problem> problems) {
+		List<Check> checks = new ArrayList();
+
+		for (LoaderValues lvs : loaderValues) {
+			for (ValidatedValue vv : lvs.getValues()) {
+				PropertyPlan plan = plans.get(vv.getProperty());
+
+				if (plan != null) {
+					checks.add(new Check(lvs.getLoader(), vv, plan));
+				}
+			}
+		}
+
+		//Each check only writes to its own slot and its own value
+		List<ValueProblem>[] found = new List[checks.size()];
+		IntStream indexes = IntStream.range(0, checks.size());
+
+		if (checks.size() >= PARALLEL_THRESHOLD) {
+			indexes = indexes.parallel();
+		}
+
+		indexes.forEach(i -> found[i] = checks.get(i).run());
+
+		for (List<ValueProblem> f : found) {
+			if (f != null) problems.addAll(f);
+		}
+	}
+
+	/**
+	 * The group and validators of a single Property.
+	 */
+	private static class PropertyPlan {
+		final Class<?> group;
+		final Validator[] validators;
+
+		PropertyPlan(Class<?> group, Validator[] validators) {
+			this.group = group;
+			this.validators = validators;
+		}
+	}
+
+	/**
+	 * Validation of a single loaded value.
+	 */
+	private static class Check {
+		final Loader loader;
+		final ValidatedValue value;
+		final PropertyPlan plan;
+
+		Check(Loader loader, ValidatedValue value, PropertyPlan plan) {
+			this.loader = loader;
+			this.value = value;
+			this.plan = plan;
+		}
+
+		/**
+		 * Runs each validator, adding any problems to the value.
+		 *
+		 * @return The problems found, or null if the value is valid.
+		 */
+		List<ValueProblem> run() {
+			List<ValueProblem> problems = null;
+
+			for (Validator v : plan.validators) {
+				if (! v.isValid(value.getValue())) {
+					ValueProblem.InvalidValueProblem problem = new ValueProblem.InvalidValueProblem(
+							loader, plan.group, value.getProperty(), value.getValue(), v);
+
+					value.addProblem(problem);
+
+					if (problems == null) problems = new ArrayList(1);
+					problems.add(problem);
+				}
+			}
+
+			return problems;
+		}
+	}
+
+}
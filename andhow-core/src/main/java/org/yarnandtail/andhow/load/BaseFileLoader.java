@@ -0,0 +1,109 @@
+package org.yarnandtail.andhow.load;
+
+import java.util.*;
+
+import org.yarnandtail.andhow.api.*;
+
+/**
+ * Shared functionality for loaders that read a file or directory from a configured path.
+ * <p>
+ * The path is configured as a String or as a String Property, whose value must be loaded by a
+ * preceding loader.
+ * <p>
+ * These loaders are read concurrently with other loaders (see {@link #isConcurrentLoadSafe()}),
+ * since only the value of the path Property (if any) is read from the existing values.
+ * Subclasses that read other existing values must return false.
+ */
+public abstract class BaseFileLoader extends BaseLoader implements ReadLoader, LocalFileLoader {
+
+	/**
+	 * Property containing the path of the file. XOR w/ pathStr
+	 */
+	protected Property<String> pathProp;
+
+	/**
+	 * String containing the path of the file. XOR w/ pathProp
+	 */
+	protected String pathStr;
+
+	protected boolean missingFileAProblem = true;
+
+	protected boolean unknownPropertyAProblem = true;
+
+	/**
+	 * Utility method to simplify finding the effective path.
+	 *
+	 * @param existingValues Values loaded by preceding loaders.
+	 * @return The path or null if none is configured.
+	 */
+	protected String getEffectivePath(ValidatedValuesWithContext existingValues) {
+		if (pathStr != null) {
+			return pathStr;
+		} else if (pathProp != null && existingValues != null) {
+			return existingValues.getValue(pathProp);
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * @return true
+	 */
+	@Override
+	public boolean isConcurrentLoadSafe() {
+		return true;
+	}
+
+	@Override
+	public List<Property> getInstanceConfig() {
+		if (pathProp != null) {
+			ArrayList<Property> list = new ArrayList();
+			list.add(pathProp);
+			return list;
+		} else {
+			return Collections.emptyList();
+		}
+	}
+
+	@Override
+	public boolean isFlaggable() { return false; }
+
+	@Override
+	public void setUnknownPropertyAProblem(boolean isAProblem) {
+		unknownPropertyAProblem = isAProblem;
+	}
+
+	@Override
+	public boolean isUnknownPropertyAProblem() {
+		return unknownPropertyAProblem;
+	}
+
+	@Override
+	public void setMissingFileAProblem(boolean isAProblem) {
+		missingFileAProblem = isAProblem;
+	}
+
+	@Override
+	public boolean isMissingFileAProblem() {
+		return missingFileAProblem;
+	}
+
+	@Override
+	public void setFilePath(String path) {
+		if (path != null && pathProp != null) {
+			throw new IllegalArgumentException("The FilePath cannot be specified "
+					+ "as both a String and StrProp");
+		}
+		pathStr = path;
+	}
+
+	@Override
+	public void setFilePath(Property<String> path) {
+		if (path != null && pathStr != null) {
+			throw new IllegalArgumentException("The FilePath cannot be specified "
+					+ "as both a String and StrProp");
+		}
+		pathProp = path;
+	}
+
+}
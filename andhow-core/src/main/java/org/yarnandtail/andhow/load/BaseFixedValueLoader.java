@@ -3,6 +3,7 @@ package org.yarnandtail.andhow.load;
 import org.yarnandtail.andhow.PropertyValue;
 import org.yarnandtail.andhow.api.*;
 import org.yarnandtail.andhow.internal.PropertyConfigurationInternal;
+import org.yarnandtail.andhow.load.util.ValidatedValueList;
 
 import java.util.*;
 
@@ -46,16 +47,17 @@ public abstract class BaseFixedValueLoader extends BaseLoader implements ReadLoa
 			PropertyConfigurationInternal runtimeDef,
 			Map<String, Object> fixedNamedValues, List<PropertyValue<?>> fixedPropertyValues) {
 
-		List<ValidatedValue> vvs = new ArrayList<>(fixedNamedValues.size() + fixedPropertyValues.size());
+		List<ValidatedValue> vvs = new ValidatedValueList(fixedNamedValues.size() + fixedPropertyValues.size());
 		ProblemList<Problem> problems = new ProblemList();
 
 		//Add all the PropertyValue's.  The Property and value references are 'live',
 		//so lots of potential errors are not possible, however, the value type may
 		//not match the Property, so use 'attemptToAdd' to verify.
 
-		fixedPropertyValues.stream().forEach(
-				v -> this.attemptToAdd(runtimeDef, vvs, problems, v.getProperty(), v.getValue())
-		);
+		//Properties excluded from runtimeDef (e.g. deferred) are loaded separately, so are skipped.
+		fixedPropertyValues.stream()
+				.filter(v -> ! runtimeDef.isExcludedPropertyName(runtimeDef.getCanonicalName(v.getProperty())))
+				.forEach(v -> this.attemptToAdd(runtimeDef, vvs, problems, v.getProperty(), v.getValue()));
 
 
 		//Add all the named property values
@@ -64,7 +66,7 @@ public abstract class BaseFixedValueLoader extends BaseLoader implements ReadLoa
 				v -> this.attemptToAdd(runtimeDef, vvs, problems, v.getKey(), v.getValue())
 		);
 
-		return new LoaderValues(this, vvs, problems);
+		return new LoaderValues(this, vvs, problems, fixedNamedValues.size() + fixedPropertyValues.size());
 	}
 
 	@Override
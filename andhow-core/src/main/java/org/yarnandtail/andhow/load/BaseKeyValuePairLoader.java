@@ -4,6 +4,7 @@ import org.yarnandtail.andhow.api.*;
 import org.yarnandtail.andhow.internal.LoaderProblem;
 import org.yarnandtail.andhow.internal.PropertyConfigurationInternal;
 import org.yarnandtail.andhow.load.util.KVP;
+import org.yarnandtail.andhow.load.util.ValidatedValueList;
 
 import java.util.*;
 
@@ -44,7 +45,7 @@ public abstract class BaseKeyValuePairLoader extends BaseLoader implements ReadL
 	public LoaderValues load(PropertyConfigurationInternal runtimeDef,
 			List<String> keyValuePairs, String delimiter) {
 
-		ArrayList<ValidatedValue> values = new ArrayList();
+		ValidatedValueList values = new ValidatedValueList();
 		ProblemList<Problem> problems = new ProblemList();
 
 		if (keyValuePairs != null) {
@@ -64,7 +65,7 @@ public abstract class BaseKeyValuePairLoader extends BaseLoader implements ReadL
 			values.trimToSize();
 		}
 
-		return new LoaderValues(this, values, problems);
+		return new LoaderValues(this, values, problems, (keyValuePairs != null) ? keyValuePairs.size() : 0);
 	}
 
 	@Override
@@ -4,8 +4,16 @@ import org.yarnandtail.andhow.api.*;
 import org.yarnandtail.andhow.internal.LoaderProblem;
 import org.yarnandtail.andhow.internal.LoaderProblem.*;
 import org.yarnandtail.andhow.internal.PropertyConfigurationInternal;
-import org.yarnandtail.andhow.util.TextUtil;
-
+import org.yarnandtail.andhow.load.util.ValidatedValueList;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
@@ -62,7 +70,7 @@ public abstract class BaseLoader implements Loader {
 
 		} else if (this instanceof ReadLoader) {
 			ReadLoader rl = (ReadLoader) this;
-			if (rl.isUnknownPropertyAProblem()) {
+			if (rl.isUnknownPropertyAProblem() && ! appConfigDef.isExcludedPropertyName(key)) {
 				loaderProblems.add(new UnknownPropertyLoaderProblem(this, key));
 			}
 		}
@@ -94,7 +102,7 @@ public abstract class BaseLoader implements Loader {
 
 		} else if (this instanceof ReadLoader) {
 			ReadLoader rl = (ReadLoader) this;
-			if (rl.isUnknownPropertyAProblem()) {
+			if (rl.isUnknownPropertyAProblem() && ! appConfigDef.isExcludedPropertyName(key)) {
 				loaderProblems.add(new UnknownPropertyLoaderProblem(this, key));
 			}
 		}
@@ -173,7 +181,21 @@ public abstract class BaseLoader implements Loader {
 		}
 	}
 
+	/**
+	 * Find a value already in the list for the same Property as the current value.
+	 * <p>
+	 * If the list is a {@link ValidatedValueList}, this is a single index lookup,
+	 * otherwise it is a linear search.
+	 *
+	 * @param current The value to find a duplicate of
+	 * @param values  The values loaded so far
+	 * @return The first value for the same Property, or null if there is none.
+	 */
 	protected ValidatedValue findDuplicateProperty(ValidatedValue current, List<ValidatedValue> values) {
+		if (values instanceof ValidatedValueList) {
+			return ((ValidatedValueList) values).findFirst(current.getProperty());
+		}
+
 		for (ValidatedValue ref : values) {
 			if (current.getProperty().equals(ref.getProperty())) {
 				return ref;
@@ -242,18 +264,101 @@ public abstract class BaseLoader implements Loader {
 	 */
 	protected Property mapNametoProperty(PropertyConfigurationInternal appConfigDef, String name) {
 
-		name = TextUtil.trimToNull(name);
-
 		if (name != null) {
+			return mapNametoProperty(appConfigDef, name, 0, name.length());
+		} else {
+			return null;
+		}
+	}
 
-			Property prop = appConfigDef.getProperty(name);
-			return prop;
+	/**
+	 * Maps the Property name or alias in a range of chars to a Property or null if it cannot be found.
+	 * <p>
+	 * The range is trimmed in the same way as {@link String#trim()}, but no String is created,
+	 * so loaders can pass a slice of their input.
+	 * <p>
+	 * @param appConfigDef The AppConfig
+	 * @param chars        The chars containing the name.
+	 * @param start        The index of the first char of the name.
+	 * @param end          The index after the last char of the name.
+	 * @return The Property or null if it cannot be found.
+	 */
+	protected Property mapNametoProperty(PropertyConfigurationInternal appConfigDef,
+			CharSequence chars, int start, int end) {
 
+		while (start < end && chars.charAt(start) <= ' ') start++;
+		while (end > start && chars.charAt(end - 1) <= ' ') end--;
+
+		if (start < end) {
+			return appConfigDef.getProperty(chars, start, end);
 		} else {
 			return null;
 		}
 	}
 
+	/**
+	 * Joins the parts of an input fingerprint (see {@link Loader#getInputFingerprint}).
+	 * <p>
+	 * Each part is length prefixed, so different lists of parts never join to the same String.
+	 *
+	 * @param parts The parts, which are converted w/ {@code String.valueOf()}.
+	 * @return A non-null fingerprint.
+	 */
+	protected static String joinFingerprint(Collection<?> parts) {
+		StringBuilder buf = new StringBuilder();
+
+		for (Object part : parts) {
+			String str = String.valueOf(part);
+			buf.append(str.length()).append(':').append(str);
+		}
+
+		return buf.toString();
+	}
+
+	/**
+	 * Files up to this size have a hash of their contents in their input fingerprint
+	 * (see {@link #hashFileContent(Path, long)}).
+	 */
+	protected static final long FINGERPRINT_CONTENT_MAX_SIZE = 64 * 1024;
+
+	/**
+	 * A hash of the contents of a small file, as part of an input fingerprint.
+	 * <p>
+	 * A modification time can be too coarse to detect a file that is rewritten w/ the same size
+	 * just after it is fingerprinted.  Small files are cheap to read, so their contents are hashed
+	 * as well.  Larger files are only fingerprinted by their size and modification time.
+	 *
+	 * @param file The file to hash.
+	 * @param size The size of the file.
+	 * @return The hash, or a fixed placeholder if the file is larger than
+	 * 		{@link #FINGERPRINT_CONTENT_MAX_SIZE}.
+	 * @throws IOException If the file cannot be read.
+	 */
+	protected static String hashFileContent(Path file, long size) throws IOException {
+		if (size > FINGERPRINT_CONTENT_MAX_SIZE) {
+			return "not hashed";
+		}
+
+		MessageDigest digest;
+
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is required of every Java platform", e);
+		}
+
+		try (InputStream in = Files.newInputStream(file)) {
+			byte[] buf = new byte[8192];
+			int len;
+
+			while ((len = in.read(buf)) > 0) {
+				digest.update(buf, 0, len);
+			}
+		}
+
+		return Base64.getEncoder().encodeToString(digest.digest());
+	}
+
 	@Override
 	public void releaseResources() {
 		//Nothing to do by default
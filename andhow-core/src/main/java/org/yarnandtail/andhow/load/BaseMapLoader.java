@@ -2,6 +2,7 @@ package org.yarnandtail.andhow.load;
 
 import org.yarnandtail.andhow.api.*;
 import org.yarnandtail.andhow.internal.PropertyConfigurationInternal;
+import org.yarnandtail.andhow.load.util.ValidatedValueList;
 
 import java.util.*;
 
@@ -17,19 +18,24 @@ public abstract class BaseMapLoader extends BaseLoader implements ReadLoader {
 			ValidatedValuesWithContext existingValues, Map<String, String> nameValueMap) {
 
 		if (nameValueMap != null && !nameValueMap.isEmpty()) {
-			ArrayList<ValidatedValue> values = new ArrayList();
+			ValidatedValueList values = new ValidatedValueList();
 			ProblemList<Problem> problems = new ProblemList();
 
 			Set<Map.Entry<String, String>> entries = nameValueMap.entrySet();
 
+			//Unknown names are only ignored if they are not reported, so only then can they be filtered
+			boolean filter = ! isUnknownPropertyAProblem();
+
 			for(Map.Entry<String, String> entry : entries) {
-				if (entry.getKey() != null) {
+				if (entry.getKey() != null &&
+						(! filter || appConfigDef.isPossiblePropertyName(entry.getKey()))) {
+
 					attemptToAdd(appConfigDef, values, problems, entry.getKey(), entry.getValue());
 				}
 			}
 
 			values.trimToSize();
-			return new LoaderValues(this, values, problems);
+			return new LoaderValues(this, values, problems, entries.size());
 
 		} else {
 			return new LoaderValues(this);
@@ -37,6 +43,39 @@ public abstract class BaseMapLoader extends BaseLoader implements ReadLoader {
 
 	}
 
+	/**
+	 * An input fingerprint of a name-value map (see {@link Loader#getInputFingerprint}).
+	 * <p>
+	 * Only entries naming a known Property affect the loaded values, so the fingerprint includes
+	 * only those, unless unknown names are reported as problems.
+	 *
+	 * @param appConfigDef Used to look up Properties by name.
+	 * @param nameValueMap The map that would be loaded.
+	 * @return A non-null fingerprint.
+	 */
+	protected String buildInputFingerprint(PropertyConfigurationInternal appConfigDef,
+			Map<String, String> nameValueMap) {
+
+		List<String> entries = new ArrayList();
+		boolean allEntries = isUnknownPropertyAProblem();
+
+		if (nameValueMap != null) {
+			for (Map.Entry<String, String> entry : nameValueMap.entrySet()) {
+				String key = entry.getKey();
+
+				if (key != null && (allEntries || (appConfigDef.isPossiblePropertyName(key) &&
+						mapNametoProperty(appConfigDef, key) != null))) {
+
+					entries.add(joinFingerprint(Arrays.asList(key, entry.getValue())));
+				}
+			}
+		}
+
+		Collections.sort(entries);
+		entries.add(0, Boolean.toString(allEntries));
+		return joinFingerprint(entries);
+	}
+
 	@Override
 	public String getSpecificLoadDescription() {
 		return "Map";
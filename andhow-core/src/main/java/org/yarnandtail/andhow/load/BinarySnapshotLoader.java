@@ -0,0 +1,149 @@
+package org.yarnandtail.andhow.load;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.LoaderProblem;
+import org.yarnandtail.andhow.internal.PropertyConfigurationInternal;
+import org.yarnandtail.andhow.load.util.ValidatedValueList;
+import org.yarnandtail.andhow.util.BinarySnapshotFormat;
+import org.yarnandtail.andhow.util.TextUtil;
+
+/**
+ * Loads values from a binary snapshot file written by
+ * {@link org.yarnandtail.andhow.export.BinarySnapshotExporter}.
+ * <p>
+ * The file is memory mapped and values are read in their native binary form, so no values are
+ * parsed, except those of types w/o a binary form.  Values are not trimmed, since they are
+ * the effective values of the JVM that wrote them.  They are validated as usual.
+ * <p>
+ * See {@link org.yarnandtail.andhow.export.BinarySnapshotExporter} for an example of a worker
+ * JVM loading the snapshot written by its parent.
+ * <p>
+ * Like the properties file loaders, the file is configured with a path or a String Property
+ * holding the path, which must be loaded by a preceding loader.  By default, a missing file is a
+ * problem and so are names that do not match any Property.  A file of another format or
+ * version is always a problem, as is a corrupt file.
+ */
+public class BinarySnapshotLoader extends BaseFileLoader {
+
+	String specificLoadDescription = null;
+
+	public BinarySnapshotLoader() {
+		/* empty for easy construction */ }
+
+	@Override
+	public LoaderValues load(PropertyConfigurationInternal appConfigDef,
+			LoaderEnvironment environment, ValidatedValuesWithContext existingValues) {
+
+		String path = getEffectivePath(existingValues);
+
+		if (path == null) {
+			specificLoadDescription = "unspecified binary snapshot file in the filesystem";
+			return new LoaderValues(this);
+		}
+
+		Path file = Paths.get(path);
+		specificLoadDescription = TextUtil.format("binary snapshot file on the file system at path : {} ({})",
+				path, file.toAbsolutePath());
+
+		if (! Files.isRegularFile(file)) {
+			if (isMissingFileAProblem()) {
+				return new LoaderValues(this,
+						new LoaderProblem.SourceNotFoundLoaderProblem(this, "Expected file on filesystem:" + path));
+			} else {
+				return new LoaderValues(this);
+			}
+		}
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			return load(appConfigDef, buf);
+		} catch (IOException | RuntimeException e) {
+			//Any failure to decode, e.g. an out of range date, means the file is corrupt
+			return new LoaderValues(this, new LoaderProblem.IOLoaderProblem(this, e, "filesystem:" + path));
+		}
+	}
+
+	/**
+	 * Loads the values from a buffer positioned at the start of a snapshot.
+	 *
+	 * @param appConfigDef Used to look up Properties by name.
+	 * @param buf The snapshot.
+	 * @return The loaded values and problems.
+	 * @throws IOException If the buffer is not a snapshot of a supported version.
+	 */
+	protected LoaderValues load(PropertyConfigurationInternal appConfigDef, MappedByteBuffer buf)
+			throws IOException {
+
+		int count = BinarySnapshotFormat.readHeader(buf);
+		ValidatedValueList values = new ValidatedValueList(count);
+		ProblemList<Problem> problems = new ProblemList();
+
+		for (int i = 0; i < count; i++) {
+			String name = BinarySnapshotFormat.readString(buf);
+			Object value = BinarySnapshotFormat.readValue(buf);
+
+			attemptToAdd(appConfigDef, values, problems, name, value);
+		}
+
+		return new LoaderValues(this, values, problems, count);
+	}
+
+	/**
+	 * The fingerprint includes the size and modification time of the file, and a hash of its
+	 * contents if it is small, so a new snapshot is detected.
+	 */
+	@Override
+	public String getInputFingerprint(PropertyConfigurationInternal appConfigDef,
+			LoaderEnvironment environment, ValidatedValuesWithContext existingValues) {
+
+		String path = getEffectivePath(existingValues);
+		List<Object> parts = new ArrayList(Arrays.asList(path, isMissingFileAProblem(), isUnknownPropertyAProblem()));
+
+		if (path != null && Files.isRegularFile(Paths.get(path))) {
+			try {
+				Path file = Paths.get(path);
+				BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+				parts.addAll(Arrays.asList(file.toRealPath(), attrs.size(), attrs.lastModifiedTime().toMillis(),
+						hashFileContent(file, attrs.size())));
+			} catch (IOException e) {
+				return null;	//Let the load report the problem
+			}
+		}
+
+		return joinFingerprint(parts);
+	}
+
+	@Override
+	public String getSpecificLoadDescription() {
+		if (specificLoadDescription != null) {
+			return specificLoadDescription;
+		} else if (pathStr != null) {
+			return TextUtil.format("binary snapshot file on the file system at path : {}", pathStr);
+		} else {
+			return "unconfigured binary snapshot file in the filesystem";
+		}
+	}
+
+	@Override
+	public boolean isTrimmingRequiredForStringValues() {
+		return false;
+	}
+
+	@Override
+	public String getLoaderType() {
+		return "BinarySnapshot";
+	}
+
+	@Override
+	public String getLoaderDialect() {
+		return "Version" + BinarySnapshotFormat.VERSION;
+	}
+
+}
@@ -26,6 +26,16 @@ public class MapLoader extends BaseMapLoader {
 		return load(runtimeDef, existingValues, map);
 	}
 
+	/**
+	 * The map is released after loading, so reloads keep the values loaded at initialization.
+	 *
+	 * @return Always false.
+	 */
+	@Override
+	public boolean isReloadable() {
+		return false;
+	}
+
 	@Override
 	public void releaseResources() {
 		map = null;
@@ -0,0 +1,260 @@
+package org.yarnandtail.andhow.load;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.LoaderProblem;
+import org.yarnandtail.andhow.internal.LoaderProblem.*;
+import org.yarnandtail.andhow.internal.PropertyConfigurationInternal;
+import org.yarnandtail.andhow.load.util.ValidatedValueList;
+import org.yarnandtail.andhow.util.TextUtil;
+
+/**
+ * Reads values from a directory on the filesystem that contains one file per Property, where
+ * the file name is the Property name and the file content is its value.
+ * <p>
+ * This is the layout of Kubernetes Secret and ConfigMap volume mounts and of Docker secrets
+ * (typically mounted at {@code /run/secrets}), so secrets can be read directly rather than being
+ * copied into environment variables.  File names are matched to Properties the same way as the
+ * names in other loaders, via the {@link NamingStrategy}, so by default the match is case
+ * insensitive and aliases can be used, e.g. {@code DB_PASSWORD} via
+ * {@code StrProp.builder().aliasIn("DB_PASSWORD")}.
+ * <p>
+ * Only files whose names match a Property are read.  Files larger than the size limit (see
+ * {@link #setMaxFileSize(long)}) are not read and are reported as a problem.  Files are read as
+ * UTF-8 and, like other text based loaders, values are trimmed, so the trailing newline that
+ * most tools add is removed.
+ * <p>
+ * Names starting with a dot are skipped.  This skips hidden files and the {@code ..data} symlink
+ * and timestamped {@code ..2024_01_01...} directories Kubernetes uses to swap in new content
+ * atomically.  The visible files are symlinks through {@code ..data}, so they always read the
+ * current content.  Subdirectories are skipped as well.
+ * <p>
+ * Like the properties file loaders, the directory is configured with a path or a String
+ * Property holding the path, which must be loaded by a preceding loader.  This loader is not a
+ * standard loader, so it is added to the load order via
+ * {@code AndHowConfiguration.insertLoaderBefore/After()}, e.g.:
+ * <pre>{@code
+ * PropDirectoryOnFilesystemLoader secrets = new PropDirectoryOnFilesystemLoader();
+ * secrets.setFilePath("/run/secrets");
+ * StdConfig.instance().insertLoaderBefore(StdEnvVarLoader.class, secrets);
+ * }</pre>
+ * By default, a missing directory is a problem, but files that do not match any Property are not,
+ * since shared directories like {@code /run/secrets} usually hold files for other uses as well.
+ */
+public class PropDirectoryOnFilesystemLoader extends BaseFileLoader {
+
+	/** The default limit on the size of each file, which is 1MB, the largest Kubernetes Secret */
+	public static final long DEFAULT_MAX_FILE_SIZE = 1024 * 1024;
+
+	protected long maxFileSize = DEFAULT_MAX_FILE_SIZE;
+
+	String specificLoadDescription = null;
+
+	public PropDirectoryOnFilesystemLoader() {
+		unknownPropertyAProblem = false;
+	}
+
+	@Override
+	public LoaderValues load(PropertyConfigurationInternal appConfigDef,
+			LoaderEnvironment environment, ValidatedValuesWithContext existingValues) {
+
+		String path = getEffectivePath(existingValues);
+
+		if (path == null) {
+			specificLoadDescription = "unspecified directory in the filesystem";
+			return new LoaderValues(this);
+		}
+
+		Path dir = Paths.get(path);
+		specificLoadDescription = TextUtil.format("directory on the file system at path : {} ({})",
+				path, dir.toAbsolutePath());
+
+		if (! Files.isDirectory(dir)) {
+			if (isMissingFileAProblem()) {
+				return new LoaderValues(this, new SourceNotFoundLoaderProblem(this, "Expected directory on filesystem:" + path));
+			} else {
+				return new LoaderValues(this);
+			}
+		}
+
+		ProblemList<Problem> problems = new ProblemList();
+		List<Property<?>> props = new ArrayList();
+		List<Path> files = new ArrayList();
+		int keyCount;
+
+		try {
+			keyCount = findFiles(appConfigDef, dir, props, files, problems);
+		} catch (IOException e) {
+			return new LoaderValues(this, new LoaderProblem.IOLoaderProblem(this, e, "filesystem:" + path));
+		}
+
+		ValidatedValueList values = new ValidatedValueList(files.size());
+
+		for (int i = 0; i < files.size(); i++) {
+			Property<?> prop = props.get(i);
+			Object read = readFile(appConfigDef, prop, files.get(i));
+
+			if (read instanceof String) {
+				try {
+					attemptToAddIfNotDuplicate(appConfigDef, values, problems, createValue(prop, (String) read));
+				} catch (ParsingException e) {
+					problems.add(new StringConversionLoaderProblem(
+							this, appConfigDef.getGroupForProperty(prop).getProxiedGroup(), prop, e.getProblemText()));
+				}
+			} else {
+				problems.add((Problem) read);
+			}
+		}
+
+		return new LoaderValues(this, values, problems, keyCount);
+	}
+
+	/**
+	 * Finds the files in the directory that are named for a Property.
+	 *
+	 * @param appConfigDef Used to look up Properties by name.
+	 * @param dir The directory
+	 * @param props Add the Property of each matching file to this list
+	 * @param files Add each matching file to this list, at the same index as its Property.
+	 * @param problems Add unknown names to this list, if they are a problem.
+	 * @return The number of names in the directory, excluding skipped names.
+	 * @throws IOException If the directory cannot be listed.
+	 */
+	protected int findFiles(PropertyConfigurationInternal appConfigDef, Path dir,
+			List<Property<?>> props, List<Path> files, ProblemList<Problem> problems) throws IOException {
+
+		int count = 0;
+
+		try (DirectoryStream<Path> entries = Files.newDirectoryStream(dir)) {
+			for (Path file : entries) {
+				String name = file.getFileName().toString();
+
+				if (name.startsWith(".") || ! Files.isRegularFile(file)) {
+					continue;	//Hidden, Kubernetes ..data machinery or a directory
+				}
+
+				count++;
+				Property<?> prop = mapNametoProperty(appConfigDef, name);
+
+				if (prop != null) {
+					props.add(prop);
+					files.add(file);
+				} else if (isUnknownPropertyAProblem() && ! appConfigDef.isExcludedPropertyName(name)) {
+					problems.add(new UnknownPropertyLoaderProblem(this, name));
+				}
+			}
+		}
+
+		return count;
+	}
+
+	/**
+	 * Reads a single file, if it is within the size limit.
+	 *
+	 * @return The content of the file as a String or, if it cannot be read, a Problem.
+	 */
+	private Object readFile(PropertyConfigurationInternal appConfigDef, Property<?> prop, Path file) {
+		try {
+			long size = Files.size(file);
+
+			if (size > maxFileSize) {
+				return new SourceTooLargeLoaderProblem(this,
+						appConfigDef.getGroupForProperty(prop).getProxiedGroup(), prop,
+						file.toString(), size, maxFileSize);
+			}
+
+			return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			return new LoaderProblem.IOLoaderProblem(this, e, "filesystem:" + file);
+		}
+	}
+
+	/**
+	 * The fingerprint includes the name, size and modification time of each file that would be
+	 * read, and a hash of the contents of small files, so a changed file or a change to the
+	 * directory's list of files is detected.
+	 */
+	@Override
+	public String getInputFingerprint(PropertyConfigurationInternal appConfigDef,
+			LoaderEnvironment environment, ValidatedValuesWithContext existingValues) {
+
+		String path = getEffectivePath(existingValues);
+		List<Object> parts = new ArrayList(Arrays.asList(path, isMissingFileAProblem(),
+				isUnknownPropertyAProblem(), maxFileSize));
+
+		if (path != null && Files.isDirectory(Paths.get(path))) {
+			List<String> entries = new ArrayList();
+
+			try (DirectoryStream<Path> dir = Files.newDirectoryStream(Paths.get(path))) {
+				for (Path file : dir) {
+					String name = file.getFileName().toString();
+
+					if (name.startsWith(".") || ! Files.isRegularFile(file)) continue;
+
+					BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+					entries.add(joinFingerprint(Arrays.asList(name, attrs.size(),
+							attrs.lastModifiedTime().toMillis(), file.toRealPath(), hashFileContent(file, attrs.size()))));
+				}
+			} catch (IOException e) {
+				return null;	//Let the load report the problem
+			}
+
+			Collections.sort(entries);
+			parts.addAll(entries);
+		}
+
+		return joinFingerprint(parts);
+	}
+
+	/**
+	 * Sets the maximum size of each file.
+	 * <p>
+	 * Larger files are not read and are reported as a problem.
+	 *
+	 * @param maxFileSize The size in bytes.  The default is {@link #DEFAULT_MAX_FILE_SIZE}.
+	 */
+	public void setMaxFileSize(long maxFileSize) {
+		this.maxFileSize = maxFileSize;
+	}
+
+	/**
+	 * The maximum size of each file.
+	 *
+	 * @return The size in bytes.
+	 */
+	public long getMaxFileSize() {
+		return maxFileSize;
+	}
+
+	@Override
+	public String getSpecificLoadDescription() {
+		if (specificLoadDescription != null) {
+			return specificLoadDescription;
+		} else if (pathStr != null) {
+			return TextUtil.format("directory on the file system at path : {}", pathStr);
+		} else {
+			return "unconfigured directory in the filesystem";
+		}
+	}
+
+	@Override
+	public boolean isTrimmingRequiredForStringValues() {
+		return true;
+	}
+
+	@Override
+	public String getLoaderType() {
+		return "Directory";
+	}
+
+	@Override
+	public String getLoaderDialect() {
+		return "FilePerProperty";
+	}
+
+}
@@ -1,7 +1,13 @@
 package org.yarnandtail.andhow.load;
 
+import org.yarnandtail.andhow.internal.LoaderProblem.UnknownPropertyLoaderProblem;
 import org.yarnandtail.andhow.internal.PropertyConfigurationInternal;
+import org.yarnandtail.andhow.load.util.PropFileParser;
+import org.yarnandtail.andhow.load.util.ValidatedValueList;
+import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.*;
 import org.yarnandtail.andhow.api.*;
 import org.yarnandtail.andhow.sample.PropFileLoaderSamplePrinter;
@@ -11,25 +17,23 @@ import org.yarnandtail.andhow.sample.PropFileLoaderSamplePrinter;
  *
  * @author ericeverman
  */
-public abstract class PropFileBaseLoader extends BaseLoader
-		implements ReadLoader, LocalFileLoader {
+public abstract class PropFileBaseLoader extends BaseFileLoader {
 
-	/**
-	 * Property containing the path of a property file. XOR w/ classpathStr
-	 */
-	protected Property<String> pathProp;
+	public PropFileBaseLoader() { /* empty for easy construction */ }
 
 	/**
-	 * String containing path of a property file. XOR w/ classpathProp
+	 * Loads the values of known Properties from a stream in the {@code .properties} file format.
+	 * <p>
+	 * The stream is parsed one entry at a time and only the values of known Properties are
+	 * decoded and kept.
+	 *
+	 * @param inputStream The stream to read, which is not closed.
+	 * @param fromPath The path of the file, for error messages.
+	 * @param appConfigDef Used to look up Properties by name.
+	 * @param existingValues Values loaded by preceding loaders.
+	 * @return The loaded values and problems.
+	 * @throws LoaderException If the stream is null or cannot be read or parsed.
 	 */
-	protected String pathStr;
-
-	protected boolean missingFileAProblem = true;
-
-	protected boolean unknownPropertyAProblem = true;
-
-	public PropFileBaseLoader() { /* empty for easy construction */ }
-
 	public LoaderValues loadInputStreamToProps(InputStream inputStream,
 			String fromPath, PropertyConfigurationInternal appConfigDef,
 			ValidatedValuesWithContext existingValues) throws LoaderException {
@@ -41,24 +45,40 @@ public abstract class PropFileBaseLoader extends BaseLoader
 		}
 
 		try {
-			Properties props = new Properties();
-			props.load(inputStream);
+			PropFileParser parser = new PropFileParser(inputStream);
+
+			//Last value wins for duplicate keys, same as java.util.Properties
+			Map<String, String> knownValues = new LinkedHashMap();
+			Set<String> unknownKeys = new LinkedHashSet();
+			int keyCount = 0;
+
+			//Keys are matched in the parser's buffer, so a String is only created if it is used
+			CharSequence key;
+			while ((key = parser.nextKeyChars()) != null) {
+				keyCount++;
+
+				if (mapNametoProperty(appConfigDef, key, 0, key.length()) != null) {
+					String name = key.toString();
+					knownValues.put(name, parser.readValue());
+				} else if (isUnknownPropertyAProblem()) {
+					String name = key.toString();
+					if (! appConfigDef.isExcludedPropertyName(name)) unknownKeys.add(name);
+				}	//Otherwise, the value is skipped w/o decoding
+			}
 
-			ArrayList<ValidatedValue> values = new ArrayList();
+			ValidatedValueList values = new ValidatedValueList(knownValues.size());
 			ProblemList<Problem> problems = new ProblemList();
 
-			Set<Object> keys = props.keySet();
-			for(Object key : keys) {
-				if (key != null) {
-					String k = key.toString();
-					String v = props.getProperty(k);
+			for (Map.Entry<String, String> entry : knownValues.entrySet()) {
+				attemptToAdd(appConfigDef, values, problems, entry.getKey(), entry.getValue());
+			}
 
-					attemptToAdd(appConfigDef, values, problems, k, v);
-				}
+			for (String unknownKey : unknownKeys) {
+				problems.add(new UnknownPropertyLoaderProblem(this, unknownKey));
 			}
 
 			values.trimToSize();
-			return new LoaderValues(this, values, problems);
+			return new LoaderValues(this, values, problems, keyCount);
 
 		} catch (Exception e) {
 			//These are nominally IO exceptions
@@ -67,34 +87,27 @@ public abstract class PropFileBaseLoader extends BaseLoader
 	}
 
 	/**
-	 * Utility method to simplify finding the effective path.
+	 * An input fingerprint of a properties file (see {@link Loader#getInputFingerprint}), based on
+	 * its modification time and size and, for small files, a hash of its contents
+	 * (see {@link #hashFileContent(Path, long)}).
 	 *
-	 * @param existingValues
-	 * @return
+	 * @param path The path the file was configured as.
+	 * @param file The file, which may not exist.
+	 * @return A fingerprint, or null if the file exists but cannot be read.
 	 */
-	protected String getEffectivePath(ValidatedValuesWithContext existingValues) {
-		if (pathStr != null) {
-			return pathStr;
-		} else if (pathProp != null) {
-			if (existingValues != null) {
-				return existingValues.getValue(pathProp);
-			} else {
-				return null;
+	protected String buildInputFingerprint(String path, File file) {
+		String contentHash = null;
+
+		if (file.isFile()) {
+			try {
+				contentHash = hashFileContent(file.toPath(), file.length());
+			} catch (IOException e) {
+				return null;	//Let the load report the problem
 			}
-		} else {
-			return null;
 		}
-	}
 
-	@Override
-	public List<Property> getInstanceConfig() {
-		if (pathProp != null) {
-			ArrayList<Property> list = new ArrayList();
-			list.add(pathProp);
-			return list;
-		} else {
-			return Collections.emptyList();
-		}
+		return joinFingerprint(Arrays.asList(path, file.getAbsolutePath(), file.isFile(),
+				file.lastModified(), file.length(), contentHash, isMissingFileAProblem(), isUnknownPropertyAProblem()));
 	}
 
 	@Override
@@ -102,9 +115,6 @@ public abstract class PropFileBaseLoader extends BaseLoader
 		return true;
 	}
 
-	@Override
-	public boolean isFlaggable() { return false; }
-
 	@Override
 	public SamplePrinter getConfigSamplePrinter() {
 		return new PropFileLoaderSamplePrinter();
@@ -120,42 +130,4 @@ public abstract class PropFileBaseLoader extends BaseLoader
 		return "KeyValuePair";
 	}
 
-	@Override
-	public void setUnknownPropertyAProblem(boolean isAProblem) {
-		unknownPropertyAProblem = isAProblem;
-	}
-
-	@Override
-	public boolean isUnknownPropertyAProblem() {
-		return unknownPropertyAProblem;
-	}
-
-	@Override
-	public void setMissingFileAProblem(boolean isAProblem) {
-		missingFileAProblem = isAProblem;
-	}
-
-	@Override
-	public boolean isMissingFileAProblem() {
-		return missingFileAProblem;
-	}
-
-	@Override
-	public void setFilePath(String path) {
-		if (path != null && pathProp != null) {
-			throw new IllegalArgumentException("The FilePath cannot be specified "
-					+ "as both a String and StrProp");
-		}
-		pathStr = path;
-	}
-
-	@Override
-	public void setFilePath(Property<String> path) {
-		if (path != null && pathStr != null) {
-			throw new IllegalArgumentException("The FilePath cannot be specified "
-					+ "as both a String and StrProp");
-		}
-		pathProp = path;
-	}
-
 }
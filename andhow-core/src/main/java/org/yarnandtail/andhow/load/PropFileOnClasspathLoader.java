@@ -1,8 +1,13 @@
 package org.yarnandtail.andhow.load;
 
 import org.yarnandtail.andhow.internal.PropertyConfigurationInternal;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.Arrays;
 import org.yarnandtail.andhow.api.*;
 import org.yarnandtail.andhow.internal.LoaderProblem;
 
@@ -60,6 +65,41 @@ public class PropFileOnClasspathLoader extends PropFileBaseLoader {
 		}
 	}
 
+	/**
+	 * Fingerprints the file behind the classpath resource, which may be a directory entry or a jar.
+	 * Resources from any other source cannot be fingerprinted.
+	 */
+	@Override
+	public String getInputFingerprint(PropertyConfigurationInternal appConfigDef,
+			LoaderEnvironment environment, ValidatedValuesWithContext existingValues) {
+
+		String path = getEffectivePath(existingValues);
+
+		if (path == null) {
+			return "unspecified";
+		}
+
+		URL url = PropFileOnClasspathLoader.class.getResource(path);
+
+		try {
+			if (url == null) {
+				return joinFingerprint(Arrays.asList("missing", path, isMissingFileAProblem()));
+			} else if ("file".equals(url.getProtocol())) {
+				return buildInputFingerprint(path, new File(url.toURI()));
+			} else if ("jar".equals(url.getProtocol())) {
+				URL jarUrl = ((JarURLConnection) url.openConnection()).getJarFileURL();
+
+				if ("file".equals(jarUrl.getProtocol())) {
+					return buildInputFingerprint(url.toString(), new File(jarUrl.toURI()));
+				}
+			}
+		} catch (IOException | URISyntaxException | RuntimeException e) {
+			//Can't fingerprint
+		}
+
+		return null;
+	}
+
 	/**
 	 * Load from a non-null classpathProp path.
 	 *
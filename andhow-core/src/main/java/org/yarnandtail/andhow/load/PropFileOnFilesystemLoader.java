@@ -2,8 +2,12 @@ package org.yarnandtail.andhow.load;
 
 import org.yarnandtail.andhow.internal.PropertyConfigurationInternal;
 import java.io.*;
+import java.nio.file.Paths;
+import java.time.Duration;
 import org.yarnandtail.andhow.api.*;
 import org.yarnandtail.andhow.internal.LoaderProblem;
+import org.yarnandtail.andhow.load.util.FileWatcher;
+import org.yarnandtail.andhow.util.AndHowLog;
 import org.yarnandtail.andhow.util.TextUtil;
 
 /**
@@ -32,12 +36,25 @@ import org.yarnandtail.andhow.util.TextUtil;
  * the file is assigned. This is a basic limitation of the JVM Properties class,
  * which silently ignores multiple entries, each value overwriting the last.
  *
+ * If a watch debounce is set, the file is watched after it is loaded.  When it changes, only this
+ * loader's values are reloaded and revalidated, without running the other loaders.  See
+ * {@link #setWatchDebounce(Duration)}.
+ *
  * @author eeverman
  */
-public class PropFileOnFilesystemLoader extends PropFileBaseLoader {
+public class PropFileOnFilesystemLoader extends PropFileBaseLoader implements WatchableLoader {
+	private static final AndHowLog LOG = AndHowLog.getLogger(PropFileOnFilesystemLoader.class);
 
 	String specificLoadDescription = null;
 
+	/* Null if the file is not watched */
+	private Duration watchDebounce;
+
+	/* The path last loaded from, which is the path to watch */
+	private volatile String loadedPath;
+
+	private FileWatcher watcher;
+
 	public PropFileOnFilesystemLoader() {
 		/* empty for easy construction */ }
 
@@ -47,6 +64,7 @@ public class PropFileOnFilesystemLoader extends PropFileBaseLoader {
 			LoaderEnvironment environment, ValidatedValuesWithContext existingValues) {
 
 		String path = getEffectivePath(existingValues);
+		loadedPath = path;
 
 		if (path != null) {
 
@@ -64,6 +82,14 @@ public class PropFileOnFilesystemLoader extends PropFileBaseLoader {
 		}
 	}
 
+	@Override
+	public String getInputFingerprint(PropertyConfigurationInternal appConfigDef,
+			LoaderEnvironment environment, ValidatedValuesWithContext existingValues) {
+
+		String path = getEffectivePath(existingValues);
+		return (path != null) ? buildInputFingerprint(path, new File(path)) : "unspecified";
+	}
+
 	public LoaderValues load(PropertyConfigurationInternal appConfigDef,
 			ValidatedValuesWithContext existingValues, String path) {
 
@@ -114,6 +140,61 @@ public class PropFileOnFilesystemLoader extends PropFileBaseLoader {
 		}
 	}
 
+	/**
+	 * Watch the file for changes after it is loaded, reloading its values when it changes.
+	 * <p>
+	 * Bursts of changes, such as an editor writing a file in several steps, are coalesced: The
+	 * file is reloaded once there have been no changes for the debounce time.  Replacing the file
+	 * via a symlink, as Kubernetes does for ConfigMap mounts, is detected as well.
+	 * <p>
+	 * Only this loader's values are reloaded.  Values from this file that are shadowed by earlier
+	 * loaders stay shadowed.  If the new values are invalid, they are logged and the existing
+	 * values are kept.  A change to the file path itself is only seen by a full
+	 * {@link org.yarnandtail.andhow.AndHow#reload()}.
+	 *
+	 * @param debounce How long the file must be unchanged before it is reloaded, or null to not
+	 * 	watch the file (the default).
+	 */
+	public void setWatchDebounce(Duration debounce) {
+		watchDebounce = debounce;
+	}
+
+	/**
+	 * How long the file must be unchanged before it is reloaded.
+	 *
+	 * @return The debounce time, or null if the file is not watched.
+	 */
+	public Duration getWatchDebounce() {
+		return watchDebounce;
+	}
+
+	@Override
+	public synchronized void watch(Runnable onChange) {
+		String path = loadedPath;
+
+		if (watchDebounce == null || path == null) {
+			stopWatching();
+		} else if (watcher != null && watcher.getPath().equals(Paths.get(path).toAbsolutePath())) {
+			watcher.setOnChange(onChange);
+		} else {
+			stopWatching();
+
+			try {
+				watcher = new FileWatcher(Paths.get(path), watchDebounce, onChange);
+			} catch (IOException | RuntimeException e) {
+				LOG.error("Unable to watch " + path + " for changes", e);
+			}
+		}
+	}
+
+	@Override
+	public synchronized void stopWatching() {
+		if (watcher != null) {
+			watcher.close();
+			watcher = null;
+		}
+	}
+
 	/**
 	 * Completely safe way to convert a file system path to an absolute path.
 	 * never errors or returns null.
@@ -78,6 +78,12 @@ public class StdEnvVarLoader extends BaseMapLoader implements StandardLoader {
 		return load(runtimeDef, existingValues, environment.getEnvVars());
 	}
 
+	@Override
+	public String getInputFingerprint(final PropertyConfigurationInternal runtimeDef,
+			final LoaderEnvironment environment, final ValidatedValuesWithContext existingValues) {
+		return buildInputFingerprint(runtimeDef, environment.getEnvVars());
+	}
+
 	@Override
 	public String getSpecificLoadDescription() {
 		return "java.lang.System.getenv()";
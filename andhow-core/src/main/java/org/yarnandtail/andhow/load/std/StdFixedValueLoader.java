@@ -1,5 +1,8 @@
 package org.yarnandtail.andhow.load.std;
 
+import java.util.*;
+
+import org.yarnandtail.andhow.PropertyValue;
 import org.yarnandtail.andhow.api.*;
 import org.yarnandtail.andhow.internal.PropertyConfigurationInternal;
 import org.yarnandtail.andhow.load.BaseFixedValueLoader;
@@ -78,4 +81,32 @@ public class StdFixedValueLoader extends BaseFixedValueLoader implements Standar
 		return load(runtimeDef, environment.getFixedNamedValues(), environment.getFixedPropertyValues());
 	}
 
+	/**
+	 * Fixed values are fingerprinted by their {@code toString()}, which is assumed to reflect the
+	 * value, as it does for all the types AndHow Properties use.
+	 */
+	@Override
+	public String getInputFingerprint(final PropertyConfigurationInternal runtimeDef,
+			final LoaderEnvironment environment, final ValidatedValuesWithContext existingValues) {
+
+		List<Object> parts = new ArrayList();
+		parts.add(isUnknownPropertyAProblem());
+
+		for (PropertyValue<?> pv : environment.getFixedPropertyValues()) {
+			parts.add(runtimeDef.getCanonicalName(pv.getProperty()));
+			parts.add(fingerprintOf(pv.getValue()));
+		}
+
+		for (Map.Entry<String, Object> entry : environment.getFixedNamedValues().entrySet()) {
+			parts.add(entry.getKey());
+			parts.add(fingerprintOf(entry.getValue()));
+		}
+
+		return joinFingerprint(parts);
+	}
+
+	private static String fingerprintOf(Object value) {
+		return (value != null) ? value.getClass().getName() + ":" + value : "null";
+	}
+
 }
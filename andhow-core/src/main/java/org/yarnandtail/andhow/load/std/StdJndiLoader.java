@@ -1,13 +1,15 @@
 package org.yarnandtail.andhow.load.std;
 
 import org.yarnandtail.andhow.internal.PropertyConfigurationInternal;
-import java.util.ArrayList;
-import java.util.List;
+import org.yarnandtail.andhow.load.util.ValidatedValueList;
+import java.util.*;
 import javax.naming.*;
 import org.yarnandtail.andhow.GroupInfo;
 import org.yarnandtail.andhow.api.*;
 import org.yarnandtail.andhow.internal.LoaderProblem.JndiContextMissing;
 import org.yarnandtail.andhow.load.BaseLoader;
+import org.yarnandtail.andhow.name.CaseInsensitiveNaming;
+import org.yarnandtail.andhow.property.BolProp;
 import org.yarnandtail.andhow.property.QuotedSpacePreservingTrimmer;
 import org.yarnandtail.andhow.property.StrProp;
 import org.yarnandtail.andhow.sample.JndiLoaderSamplePrinter;
@@ -69,6 +71,16 @@ import org.yarnandtail.andhow.util.TextUtil;
  * AndHow will throw an error at startup if it finds multiple names in the
  * JNDI context that refer to the same property.
  * <br>
+ * Most of these names will not exist, and a failed JNDI lookup is slow.  Setting
+ * the {@code CONFIG.LIST_JNDI_ROOTS} Property to true has the loader first list
+ * the names bound under each JNDI root (and only the sub-contexts that could
+ * contain a Property name) and only look up the names that exist.  Any root
+ * that cannot be listed is searched by looking up every name.  Listing is off
+ * by default, because listed names are matched exactly:  Providers with case
+ * insensitive names, names that are not '/' separated, or listings of full
+ * rather than relative names can list a bound name in a form that does not
+ * match, so its value would not be found.
+ * <br>
  * Specifying JNDI environment variables varies by environment, but here is an
  * example of specifying some properties in a Tomcat context.xml file:
  * <pre>{@code
@@ -142,6 +154,21 @@ public class StdJndiLoader extends BaseLoader implements LookupLoader, StandardL
 
 	}
 
+	/**
+	 * JNDI cannot be fingerprinted w/o looking up each name, so this returns a fingerprint only
+	 * if there is no JNDI context, since nothing can then be loaded.
+	 */
+	@Override
+	public String getInputFingerprint(PropertyConfigurationInternal appConfigDef,
+			LoaderEnvironment environment, ValidatedValuesWithContext existingValues) {
+
+		if (environment.getJndiContext().getContext() == null) {
+			return "No JNDI context, failedEnvironmentAProblem=" + isFailedEnvironmentAProblem();
+		} else {
+			return null;
+		}
+	}
+
 	/**
 	 * The actual loading, called only when there is a non-null Jndi Context.
 	 *
@@ -156,20 +183,41 @@ public class StdJndiLoader extends BaseLoader implements LookupLoader, StandardL
 			ValidatedValuesWithContext existingValues) {
 
 		ProblemList<Problem> problems = new ProblemList();
-		ArrayList<ValidatedValue> values = new ArrayList();
+		ValidatedValueList values = new ValidatedValueList();
 
 		List<String> jndiRoots = buildJndiRoots(existingValues);
 
+		//All JNDI names to search for each Property
+		Map<Property<?>, List<String>> jndiNames = new LinkedHashMap();
+
 		for (Property<?> prop : appConfigDef.getProperties()) {
+			jndiNames.put(prop, buildJndiNames(appConfigDef, jndiRoots, prop));
+		}
+
+		//Null if every name must be looked up
+		Set<String> namesToLookup = null;
+
+		if (existingValues.getValue(CONFIG.LIST_JNDI_ROOTS)) {
+			namesToLookup = findNamesToLookup(ctx, jndiRoots, jndiNames.values());
+		}
+
+		int lookupCount = 0;
 
-			List<String> propJndiNames = buildJndiNames(appConfigDef, jndiRoots, prop);
+		for (Map.Entry<Property<?>, List<String>> entry : jndiNames.entrySet()) {
+
+			for (String propName : entry.getValue()) {
+
+				if (namesToLookup != null && ! namesToLookup.contains(propName)) {
+					continue;	//Not bound, so skip the failed lookup
+				}
+
+				lookupCount++;
 
-			for (String propName : propJndiNames) {
 				try {
 					Object o = ctx.lookup(propName);
 
 					if (o != null) {
-						attemptToAdd(appConfigDef, values, problems, prop, o);
+						attemptToAdd(appConfigDef, values, problems, entry.getKey(), o);
 					}
 
 				} catch (NamingException ne) {
@@ -178,7 +226,156 @@ public class StdJndiLoader extends BaseLoader implements LookupLoader, StandardL
 			}
 		}
 
-		return new LoaderValues(this, values, problems);
+		return new LoaderValues(this, values, problems, lookupCount);	//Lookups are the keys scanned
+	}
+
+	/**
+	 * Finds which of the JNDI names to search are worth looking up, by listing the names bound
+	 * under each JNDI root.
+	 * <p>
+	 * Only the root and sub-contexts that are part of a searched name are listed.  Each name is
+	 * searched for under the longest root it starts with (e.g. 'java:comp/env/' rather than
+	 * 'java:').  Providers without 'java:' URL contexts bind names such as 'java:org.foo.My_Prop'
+	 * directly in the initial context, so every complete name is also searched for there.
+	 * All the names under a root that cannot be listed are included, so they are each looked up.
+	 *
+	 * @param ctx The non-null Jndi Context
+	 * @param roots The JNDI roots to search
+	 * @param allNames The complete JNDI names of each Property, each starting with a root.
+	 * @return The names that are bound or could not be checked.
+	 */
+	protected Set<String> findNamesToLookup(Context ctx, List<String> roots, Collection<List<String>> allNames) {
+
+		Set<String> namesToLookup = new HashSet();
+		Set<String> fullNames = new HashSet();
+
+		for (List<String> names : allNames) {
+			fullNames.addAll(names);
+		}
+
+		boolean initialContextListed;
+
+		try {
+			namesToLookup.addAll(listBoundNames(ctx, "", fullNames));
+			initialContextListed = true;
+		} catch (NamingException | RuntimeException e) {
+			initialContextListed = false;
+		}
+
+		//Names relative to the root, using the longest root each name starts with
+		Map<String, Set<String>> relNamesByRoot = new LinkedHashMap();
+
+		for (String root : roots) {
+			relNamesByRoot.put(root, new HashSet());
+		}
+
+		for (String name : fullNames) {
+			String nameRoot = null;
+
+			for (String root : roots) {
+				if (name.startsWith(root) && (nameRoot == null || root.length() > nameRoot.length())) {
+					nameRoot = root;
+				}
+			}
+
+			if (nameRoot != null) {
+				relNamesByRoot.get(nameRoot).add(name.substring(nameRoot.length()));
+			} else {
+				namesToLookup.add(name);
+			}
+		}
+
+		for (Map.Entry<String, Set<String>> entry : relNamesByRoot.entrySet()) {
+
+			String root = entry.getKey();
+			Set<String> relNames = entry.getValue();
+
+			if (relNames.isEmpty()) {
+				continue;
+			} else if (root.isEmpty()) {
+				if (! initialContextListed) namesToLookup.addAll(relNames);
+				continue;	//Already searched in the initial context
+			}
+
+			try {
+				if (! (root.endsWith("/") || root.endsWith(":"))) {
+					//Names under the root are not in a sub-context of it, e.g. 'rootorg.foo.My_Prop'
+					throw new OperationNotSupportedException("The root is not a context");
+				}
+
+				for (String relName : listBoundNames(ctx, root, relNames)) {
+					namesToLookup.add(root + relName);
+				}
+			} catch (NamingException | RuntimeException e) {
+				log.debug("Unable to list JNDI root ''{0}'', so each name will be looked up: {1}", root, e.getMessage());
+
+				for (String relName : relNames) {
+					namesToLookup.add(root + relName);
+				}
+			}
+		}
+
+		return namesToLookup;
+	}
+
+	/**
+	 * Lists the names bound under a JNDI root that match one of the passed names.
+	 * <p>
+	 * Sub-contexts are only listed if they could contain one of the names.
+	 *
+	 * @param ctx The non-null Jndi Context
+	 * @param root The JNDI root
+	 * @param relNames Names to match, relative to the root
+	 * @return The matching names, relative to the root
+	 * @throws NamingException If the root cannot be listed
+	 */
+	protected Set<String> listBoundNames(Context ctx, String root, Set<String> relNames) throws NamingException {
+
+		//Sub-context paths that are part of a name, e.g. 'org' and 'org/foo' for 'org/foo/My_Prop'
+		Set<String> subContexts = new HashSet();
+
+		for (String name : relNames) {
+			for (int i = name.indexOf('/'); i > 0; i = name.indexOf('/', i + 1)) {
+				subContexts.add(name.substring(0, i));
+			}
+		}
+
+		Set<String> found = new HashSet();
+		Deque<String> toList = new ArrayDeque();
+		toList.add("");
+
+		while (! toList.isEmpty()) {
+			String path = toList.pop();
+			String ctxName = root + path;
+
+			if (ctxName.endsWith("/")) ctxName = ctxName.substring(0, ctxName.length() - 1);
+
+			NamingEnumeration<NameClassPair> children;
+
+			try {
+				children = ctx.list(ctxName);
+			} catch (NotContextException e) {
+				continue;	//A value bound at a path that other names use as a sub-context
+			}
+
+			if (children == null) {
+				throw new OperationNotSupportedException("Context returned no listing for '" + ctxName + "'");
+			}
+
+			try {
+				while (children.hasMore()) {
+					String name = children.next().getName();
+					String child = path.isEmpty() ? name : path + "/" + name;
+
+					if (relNames.contains(child)) found.add(child);
+					if (subContexts.contains(child)) toList.add(child);
+				}
+			} finally {
+				children.close();
+			}
+		}
+
+		return found;
 	}
 
 	@Override
@@ -243,9 +440,22 @@ public class StdJndiLoader extends BaseLoader implements LookupLoader, StandardL
 		List<String> propNames = new ArrayList();		// w/o jndi root prefix
 		List<String> propJndiNames = new ArrayList();	// w/ jndi root prefix - return value
 
+		String canonName = appConfigDef.getCanonicalName(prop);
+		
+		//Generated registrars precompute the Uri name at compile time, which is only
+		//valid if getUriName() is not overridden by the NamingStrategy
+		NamingStrategy naming = appConfigDef.getNamingStrategy();
+		GroupProxy group = appConfigDef.getGroupForProperty(prop);
+		String uriName = (group != null && naming.getClass() == CaseInsensitiveNaming.class) ?
+				group.getUriName(prop) : null;
+		
+		if (uriName == null) {
+			uriName = naming.getUriName(canonName);
+		}
+
 		// Add Uri name (org/project/Class/Property) & classpath name (org.project.Class.Property)
-		propNames.add(appConfigDef.getNamingStrategy().getUriName(appConfigDef.getCanonicalName(prop)));
-		propNames.add(appConfigDef.getCanonicalName(prop));
+		propNames.add(uriName);
+		propNames.add(canonName);
 
 		// Add all the 'in' aliases
 		appConfigDef.getAliases(prop).stream().filter(a -> a.isIn()).forEach(a -> {
@@ -321,6 +531,13 @@ public class StdJndiLoader extends BaseLoader implements LookupLoader, StandardL
 						+ "Setting this property does not affect the STANDARD_JNDI_ROOTS.")
 				.helpText("The final JNDI URIs to be searched will look like this '[root][Property Name]'").build();
 
+		BolProp LIST_JNDI_ROOTS = BolProp.builder().defaultValue(false).notNull()
+				.desc("If true, the names bound under each JNDI root are listed first, "
+						+ "so only names that exist are looked up. If false, every possible name is looked up.")
+				.helpText("Only enable if the JNDI provider lists '/' separated, case sensitive names relative "
+						+ "to the listed context. Roots that cannot be listed are always searched by looking up "
+						+ "every name.").build();
+
 	}
 
 	@Override
@@ -1,5 +1,8 @@
 package org.yarnandtail.andhow.load.std;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.yarnandtail.andhow.api.*;
 import org.yarnandtail.andhow.internal.PropertyConfigurationInternal;
 import org.yarnandtail.andhow.load.BaseKeyValuePairLoader;
@@ -81,6 +84,16 @@ public class StdMainStringArgsLoader extends BaseKeyValuePairLoader
 		return load(runtimeDef, environment.getCmdLineArgs(), KVP_DELIMITER);
 	}
 
+	@Override
+	public String getInputFingerprint(final PropertyConfigurationInternal runtimeDef,
+			final LoaderEnvironment environment, final ValidatedValuesWithContext existingValues) {
+
+		List<Object> parts = new ArrayList();
+		parts.add(isUnknownPropertyAProblem());
+		parts.addAll(environment.getCmdLineArgs());
+		return joinFingerprint(parts);
+	}
+
 	@Override
 	public String getSpecificLoadDescription() {
 		return "main(String[] args)";
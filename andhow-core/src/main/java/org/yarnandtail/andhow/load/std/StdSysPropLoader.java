@@ -81,6 +81,12 @@ public class StdSysPropLoader extends BaseMapLoader implements StandardLoader {
 			final LoaderEnvironment environment, final ValidatedValuesWithContext existingValues) {
 		return load(runtimeDef, existingValues, environment.getSysProps());
 	}
+
+	@Override
+	public String getInputFingerprint(final PropertyConfigurationInternal runtimeDef,
+			final LoaderEnvironment environment, final ValidatedValuesWithContext existingValues) {
+		return buildInputFingerprint(runtimeDef, environment.getSysProps());
+	}
 	
 	@Override
 	public String getSpecificLoadDescription() {
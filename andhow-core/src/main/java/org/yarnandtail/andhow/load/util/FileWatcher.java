@@ -0,0 +1,182 @@
+package org.yarnandtail.andhow.load.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.yarnandtail.andhow.util.AndHowLog;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/**
+ * Watches a single file via a {@link WatchService} and calls back, once per burst of changes,
+ * when its content may have changed.
+ * <p>
+ * A WatchService watches directories, so the directory containing the file is watched.  Any
+ * event in the directory starts (or restarts) a debounce period.  When the period ends w/o further
+ * events, the file's attributes are compared to those seen last, and only if they differ is the
+ * callback called.  Bursts of events from an editor or a copy are coalesced into a single call.
+ * <p>
+ * Attributes are read through symlinks, including the resolved path, so a file replaced by
+ * swapping a symlink is detected.  This is how Kubernetes updates ConfigMap and Secret mounts:
+ * {@code app.properties -> ..data/app.properties}, where {@code ..data} is atomically re-pointed
+ * to a new directory.  Those events are in the watched directory, though the file itself is not
+ * touched.  If the file resolves to a different directory, that directory is watched as well.
+ * <p>
+ * The watch runs on its own daemon thread.  Exceptions thrown by the callback are logged and
+ * watching continues.
+ */
+public class FileWatcher implements Closeable {
+	private static final AndHowLog LOG = AndHowLog.getLogger(FileWatcher.class);
+
+	private static final String MISSING = "missing";
+
+	private final Path path;
+	private final long debounceNanos;
+	private final WatchService watchService;
+	private final Thread thread;
+
+	private volatile Runnable onChange;
+
+	//Only accessed by the watch thread after construction
+	private String fingerprint;
+	private Path watchedRealDir;
+
+	/**
+	 * Starts watching a file.
+	 *
+	 * @param path The file to watch, which does not need to exist yet.  Its directory must exist.
+	 * @param debounce How long the directory must be free of events before checking the file.
+	 * @param onChange Called on the watch thread when the file has changed.
+	 * @throws IOException If the directory cannot be watched.
+	 */
+	public FileWatcher(Path path, Duration debounce, Runnable onChange) throws IOException {
+		this.path = path.toAbsolutePath();
+		this.debounceNanos = debounce.toNanos();
+		this.onChange = onChange;
+
+		watchService = this.path.getFileSystem().newWatchService();
+
+		try {
+			this.path.getParent().register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+			fingerprint = fingerprint();
+			watchRealDir();
+		} catch (IOException | RuntimeException e) {
+			watchService.close();
+			throw e;
+		}
+
+		thread = new Thread(this::run, "AndHow-file-watcher");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * The absolute path of the watched file.
+	 *
+	 * @return The path
+	 */
+	public Path getPath() {
+		return path;
+	}
+
+	/**
+	 * Replaces the callback.
+	 *
+	 * @param onChange Called on the watch thread when the file has changed.
+	 */
+	public void setOnChange(Runnable onChange) {
+		this.onChange = onChange;
+	}
+
+	/**
+	 * Stops watching.  A callback already in progress is allowed to finish.
+	 */
+	@Override
+	public void close() {
+		try {
+			watchService.close();	//The watch thread exits w/ a ClosedWatchServiceException
+		} catch (IOException e) {
+			LOG.debug("Unable to close the watch of " + path, e);
+		}
+	}
+
+	private void run() {
+		boolean pending = false;
+		long deadline = 0;
+
+		try {
+			while (true) {
+				WatchKey key;
+
+				if (pending) {
+					long wait = deadline - System.nanoTime();
+					key = (wait > 0) ? watchService.poll(wait, TimeUnit.NANOSECONDS) : null;
+				} else {
+					key = watchService.take();
+				}
+
+				if (key != null) {
+					key.pollEvents();
+					key.reset();
+					pending = true;
+					deadline = System.nanoTime() + debounceNanos;
+				} else if (pending) {
+					pending = false;
+					checkForChange();
+				}
+			}
+		} catch (InterruptedException | ClosedWatchServiceException e) {
+			//Done watching
+		}
+	}
+
+	private void checkForChange() {
+		String current = fingerprint();
+
+		if (! current.equals(fingerprint)) {
+			fingerprint = current;
+			watchRealDir();
+
+			try {
+				onChange.run();
+			} catch (RuntimeException e) {
+				LOG.error("Unable to reload values after a change to " + path, e);
+			}
+		}
+	}
+
+	/**
+	 * Watches the directory the file resolves to through symlinks, if it is in another directory.
+	 * Keys of directories that are deleted are cancelled by the WatchService.
+	 */
+	private void watchRealDir() {
+		try {
+			Path realDir = path.toRealPath().getParent();
+
+			if (! realDir.equals(path.getParent()) && ! realDir.equals(watchedRealDir)) {
+				realDir.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+				watchedRealDir = realDir;
+			}
+		} catch (IOException e) {
+			//The file doesn't currently exist, so there is nothing else to watch
+		}
+	}
+
+	/**
+	 * The attributes of the file that change when its content is replaced or modified.
+	 */
+	private String fingerprint() {
+		try {
+			BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+			return path.toRealPath() + "|" + attrs.fileKey() + "|" + attrs.size() + "|" +
+					attrs.lastModifiedTime().to(TimeUnit.NANOSECONDS);
+		} catch (IOException e) {
+			return MISSING;
+		}
+	}
+
+}
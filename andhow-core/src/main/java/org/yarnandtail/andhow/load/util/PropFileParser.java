@@ -0,0 +1,298 @@
+package org.yarnandtail.andhow.load.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A streaming parser for the {@code .properties} file format, one key-value entry at a time.
+ * <p>
+ * {@link java.util.Properties#load(InputStream)} reads an entire file into a synchronized
+ * Hashtable, decoding and keeping every key and value.  For large files where most keys are
+ * not AndHow Properties, most of that work is wasted.  This parser returns each key as it is
+ * read, so the caller can decide if the value is worth decoding:
+ * <pre>{@code
+ * PropFileParser parser = new PropFileParser(inputStream);
+ * String key;
+ * while ((key = parser.nextKey()) != null) {
+ *   if (isInteresting(key)) {
+ *     String value = parser.readValue();
+ *   }  //Otherwise the value is skipped w/o being decoded into a String
+ * }
+ * }</pre>
+ * <p>
+ * The format is the same as {@code Properties.load(InputStream)}:  ISO 8859-1 encoded, with
+ * {@code #} and {@code !} comment lines, {@code =}, {@code :} or whitespace key separators,
+ * backslash line continuations and {@code \t \n \r \f \\uxxxx} escapes.  Keys are returned
+ * in file order and a key may be returned more than once, in which case
+ * {@code Properties} would keep the last value.
+ * <p>
+ * This class does not close the stream and is not thread safe.
+ */
+public class PropFileParser {
+
+	/** Marks the end of an entry (the logical line), which includes the end of the stream */
+	private static final int EOL = -1;
+
+	/** No char is pushed back */
+	private static final int NONE = -2;
+
+	private final InputStream in;
+	private final byte[] buf = new byte[8192];
+	private int pos;
+	private int limit;
+
+	/** A single raw byte (as an ISO 8859-1 char) pushed back, or NONE */
+	private int pushedRaw = NONE;
+
+	/** A single decoded char pushed back, or NONE */
+	private int pushedChar = NONE;
+	private boolean pushedEscaped;
+
+	/** True if the last char from nextChar() was escaped w/ a backslash */
+	private boolean escaped;
+
+	/** True if the value of the last key has not been read or skipped yet */
+	private boolean inValue;
+
+	private final StringBuilder keyBuf = new StringBuilder();
+
+	public PropFileParser(InputStream in) {
+		this.in = in;
+	}
+
+	/**
+	 * Reads up to the next key, skipping the value of the previous key if it was not read.
+	 *
+	 * @return The decoded key, or null if there are no more entries.
+	 * @throws IOException If the stream cannot be read.
+	 * @throws IllegalArgumentException If the key, or the first char of its value, is a
+	 *   malformed \\uxxxx escape.
+	 */
+	public String nextKey() throws IOException {
+		CharSequence key = nextKeyChars();
+		return (key != null) ? key.toString() : null;
+	}
+
+	/**
+	 * Same as {@link #nextKey()}, but returns the chars of the key w/o creating a String.
+	 * <p>
+	 * The returned chars are the parser's own buffer, which is only valid until the next call
+	 * to this parser.
+	 *
+	 * @return The decoded key, or null if there are no more entries.
+	 * @throws IOException If the stream cannot be read.
+	 * @throws IllegalArgumentException If the key, or the first char of its value, is a
+	 *   malformed \\uxxxx escape.
+	 */
+	public CharSequence nextKeyChars() throws IOException {
+		if (inValue) {
+			skipValue();
+		}
+
+		//Skip blank lines, leading whitespace and comment lines
+		int c;
+		while (true) {
+			c = readRaw();
+
+			if (c == EOL) {
+				return null;
+			} else if (c == '#' || c == '!') {
+				do {
+					c = readRaw();
+				} while (c != '\n' && c != '\r' && c != EOL);
+			} else if (! isWhitespace(c) && c != '\n' && c != '\r') {
+				break;
+			}
+		}
+
+		pushedRaw = c;
+		keyBuf.setLength(0);
+		boolean hasSeparator = false;
+
+		while (true) {
+			c = nextChar();
+
+			if (c == EOL) {
+				pushBack(EOL, false);	//Key w/ no value
+				inValue = true;
+				return keyBuf;
+			} else if (! escaped && (c == '=' || c == ':')) {
+				hasSeparator = true;
+				break;
+			} else if (! escaped && isWhitespace(c)) {
+				break;
+			} else {
+				keyBuf.append((char) c);
+			}
+		}
+
+		//Skip whitespace and at most one separator before the value
+		while (true) {
+			c = nextChar();
+
+			if (c == EOL || escaped) {
+				pushBack(c, escaped);
+				break;
+			} else if (! hasSeparator && (c == '=' || c == ':')) {
+				hasSeparator = true;
+			} else if (! isWhitespace(c)) {
+				pushBack(c, false);
+				break;
+			}
+		}
+
+		inValue = true;
+		return keyBuf;
+	}
+
+	/**
+	 * Reads and decodes the value of the key last returned by {@link #nextKey()}.
+	 *
+	 * @return The decoded value, which is empty if there is no value or it was already read.
+	 * @throws IOException If the stream cannot be read.
+	 * @throws IllegalArgumentException If the value contains a malformed \\uxxxx escape.
+	 */
+	public String readValue() throws IOException {
+		if (! inValue) return "";
+
+		StringBuilder value = new StringBuilder();
+		int c;
+
+		while ((c = nextChar()) != EOL) {
+			value.append((char) c);
+		}
+
+		inValue = false;
+		return value.toString();
+	}
+
+	/**
+	 * Reads past the value of the key last returned by {@link #nextKey()} w/o building a String.
+	 *
+	 * @throws IOException If the stream cannot be read.
+	 * @throws IllegalArgumentException If the value contains a malformed \\uxxxx escape.
+	 */
+	public void skipValue() throws IOException {
+		if (inValue) {
+			while (nextChar() != EOL) {
+				//Just skipping
+			}
+
+			inValue = false;
+		}
+	}
+
+	private void pushBack(int c, boolean isEscaped) {
+		pushedChar = c;
+		pushedEscaped = isEscaped;
+	}
+
+	/**
+	 * The next decoded char of the current entry, w/ line continuations removed.
+	 * <p>
+	 * Sets {@code escaped} to indicate if the char was escaped, since escaped separators and
+	 * whitespace do not separate the key from the value.
+	 *
+	 * @return The char or EOL at the end of the entry.
+	 */
+	private int nextChar() throws IOException {
+		if (pushedChar != NONE) {
+			int c = pushedChar;
+			escaped = pushedEscaped;
+			pushedChar = NONE;
+			return c;
+		}
+
+		escaped = false;
+
+		while (true) {
+			int c = readRaw();
+
+			if (c == '\n' || c == EOL) {
+				return EOL;
+			} else if (c == '\r') {
+				skipLineFeed();
+				return EOL;
+			} else if (c != '\\') {
+				return c;
+			}
+
+			c = readRaw();
+
+			if (c == EOL) {
+				return EOL;
+			} else if (c == '\n' || c == '\r') {
+				//Continuation:  Join the next line, less its leading whitespace
+				if (c == '\r') skipLineFeed();
+
+				do {
+					c = readRaw();
+				} while (isWhitespace(c));
+
+				pushedRaw = c;
+			} else {
+				escaped = true;
+
+				switch (c) {
+					case 't': return '\t';
+					case 'r': return '\r';
+					case 'n': return '\n';
+					case 'f': return '\f';
+					case 'u': return readUnicode();
+					default: return c;
+				}
+			}
+		}
+	}
+
+	private int readUnicode() throws IOException {
+		int value = 0;
+
+		for (int i = 0; i < 4; i++) {
+			int digit = Character.digit(readRaw(), 16);
+
+			if (digit < 0) {
+				throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+			}
+
+			value = (value << 4) + digit;
+		}
+
+		return value;
+	}
+
+	private void skipLineFeed() throws IOException {
+		int c = readRaw();
+		if (c != '\n') pushedRaw = c;
+	}
+
+	/**
+	 * The next byte of the stream as an ISO 8859-1 char.
+	 *
+	 * @return The char or EOL at the end of the stream.
+	 */
+	private int readRaw() throws IOException {
+		if (pushedRaw != NONE) {
+			int c = pushedRaw;
+			pushedRaw = NONE;
+			return c;
+		}
+
+		if (pos >= limit) {
+			limit = in.read(buf);
+			pos = 0;
+
+			if (limit <= 0) {
+				limit = 0;
+				return EOL;
+			}
+		}
+
+		return buf[pos++] & 0xFF;
+	}
+
+	private static boolean isWhitespace(int c) {
+		return c == ' ' || c == '\t' || c == '\f';
+	}
+
+}
@@ -0,0 +1,115 @@
+package org.yarnandtail.andhow.load.util;
+
+import java.util.*;
+import org.yarnandtail.andhow.api.Property;
+import org.yarnandtail.andhow.api.ValidatedValue;
+
+/**
+ * A List of ValidatedValues that keeps an index of the first value added for each Property.
+ * <p>
+ * Loaders collect their values into a List and check each new value against that List for
+ * duplicates.  With a plain List, that check is a linear scan and loading n values is O(n^2).
+ * This List makes the check a single lookup (see {@link #findFirst(Property)}).
+ * <p>
+ * Appending is the only operation expected during loading.  Other modifications are supported,
+ * but rebuild the index.
+ */
+public class ValidatedValueList extends AbstractList<ValidatedValue> implements RandomAccess {
+
+	private final ArrayList<ValidatedValue> values;
+
+	/** The first value in the list for each Property */
+	private final Map<Property<?>, ValidatedValue> index;
+
+	public ValidatedValueList() {
+		values = new ArrayList();
+		index = new HashMap();
+	}
+
+	/**
+	 * New instance sized for an expected number of values.
+	 *
+	 * @param initialCapacity The number of values expected
+	 */
+	public ValidatedValueList(int initialCapacity) {
+		values = new ArrayList(initialCapacity);
+		index = new HashMap(Math.max(16, (int)(initialCapacity / .75f) + 1));
+	}
+
+	/**
+	 * Find the first value in the list for the passed Property.
+	 *
+	 * @param prop The Property to find a value for
+	 * @return The first ValidatedValue added for the Property, or null if none.
+	 */
+	public ValidatedValue findFirst(Property<?> prop) {
+		return index.get(prop);
+	}
+
+	/**
+	 * Trims the capacity of the backing list to its current size.
+	 *
+	 * @see ArrayList#trimToSize()
+	 */
+	public void trimToSize() {
+		values.trimToSize();
+	}
+
+	@Override
+	public ValidatedValue get(int i) {
+		return values.get(i);
+	}
+
+	@Override
+	public int size() {
+		return values.size();
+	}
+
+	@Override
+	public void add(int i, ValidatedValue value) {
+		values.add(i, value);
+
+		if (i == values.size() - 1) {
+			if (value != null) {
+				index.putIfAbsent(value.getProperty(), value);
+			}
+		} else {
+			rebuildIndex();
+		}
+
+		modCount++;
+	}
+
+	@Override
+	public ValidatedValue set(int i, ValidatedValue value) {
+		ValidatedValue old = values.set(i, value);
+		rebuildIndex();
+		return old;
+	}
+
+	@Override
+	public ValidatedValue remove(int i) {
+		ValidatedValue old = values.remove(i);
+		rebuildIndex();
+		modCount++;
+		return old;
+	}
+
+	@Override
+	public void clear() {
+		values.clear();
+		index.clear();
+		modCount++;
+	}
+
+	private void rebuildIndex() {
+		index.clear();
+
+		for (ValidatedValue v : values) {
+			if (v != null) {
+				index.putIfAbsent(v.getProperty(), v);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,115 @@
+package org.yarnandtail.andhow.name;
+
+import java.util.BitSet;
+import java.util.Collection;
+
+/**
+ * A compact filter that quickly rules out names that cannot match any of a set of known names
+ * under {@link CaseInsensitiveNaming}.
+ * <p>
+ * Large name sources, like environment variables and system properties, are mostly made up of
+ * names unrelated to AndHow.  Matching each of those names against the registered Properties
+ * would trim and upper-case it into a new String just to find that it is unknown.  This filter
+ * instead hashes the trimmed name one char at a time, folding ASCII letters to a single case,
+ * so most unknown names are rejected without any allocation.
+ * <p>
+ * The filter may report false positives, which are then matched normally, but never false
+ * negatives.  ASCII letters upper case the same way in every Locale, including the
+ * {@link java.util.Locale#ROOT} used by CaseInsensitiveNaming, so folding them here matches its
+ * effective names exactly.  Names containing non-ASCII chars are never rejected, since upper
+ * casing them can change their length or map several chars to the same char.  If any of the known
+ * names contains a non-ASCII char, nothing is rejected.
+ */
+public class CaseInsensitiveNameFilter {
+
+	/** Number of bits in the filter per known name */
+	private static final int BITS_PER_NAME = 8;
+
+	private final BitSet hashes;
+	private final int mask;
+	private final boolean acceptAll;
+
+	/**
+	 * Build a new filter.
+	 *
+	 * @param actualNames The known names as they were actually written (not their effective
+	 * names).  Null names are ignored.
+	 */
+	public CaseInsensitiveNameFilter(Collection<String> actualNames) {
+
+		int size = Integer.highestOneBit(Math.max(64, actualNames.size() * BITS_PER_NAME) - 1) << 1;
+		BitSet bits = new BitSet(size);
+		boolean all = false;
+
+		for (String name : actualNames) {
+			if (name != null) {
+				int start = trimStart(name);
+				int end = trimEnd(name, start);
+
+				if (isAscii(name, start, end)) {
+					bits.set(hash(name, start, end) & (size - 1));
+				} else {
+					all = true;
+					break;
+				}
+			}
+		}
+
+		hashes = bits;
+		mask = size - 1;
+		acceptAll = all;
+	}
+
+	/**
+	 * True if the passed name might match one of the known names.
+	 *
+	 * @param name A name, which will be trimmed in the same way as {@link String#trim()}.
+	 * @return False only if the name is certain not to match, ignoring case, any known name.
+	 */
+	public boolean mightContain(String name) {
+		if (acceptAll) return true;
+		if (name == null) return false;
+
+		int start = trimStart(name);
+		int end = trimEnd(name, start);
+
+		if (isAscii(name, start, end)) {
+			return hashes.get(hash(name, start, end) & mask);
+		} else {
+			return true;
+		}
+	}
+
+	static int hash(String name, int start, int end) {
+		int h = 0;
+
+		for (int i = start; i < end; i++) {
+			char c = name.charAt(i);
+			if (c >= 'a' && c <= 'z') c -= ('a' - 'A');
+			h = 31 * h + c;
+		}
+
+		return h ^ (h >>> 16);
+	}
+
+	private static boolean isAscii(String name, int start, int end) {
+		for (int i = start; i < end; i++) {
+			if (name.charAt(i) > 127) return false;
+		}
+
+		return true;
+	}
+
+	private static int trimStart(String name) {
+		int i = 0;
+		while (i < name.length() && name.charAt(i) <= ' ') i++;
+		return i;
+	}
+
+	private static int trimEnd(String name, int start) {
+		int i = name.length();
+		while (i > start && name.charAt(i - 1) <= ' ') i--;
+		return i;
+	}
+
+}
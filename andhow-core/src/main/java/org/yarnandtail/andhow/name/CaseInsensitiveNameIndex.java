@@ -0,0 +1,135 @@
+package org.yarnandtail.andhow.name;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A read-only map from effective names under {@link CaseInsensitiveNaming} to values, which
+ * is queried directly w/ any range of chars in a {@link CharSequence}.
+ * <p>
+ * Looking up a name in a {@code HashMap} keyed by effective name means upper-casing the name into
+ * a new String first.  This index instead hashes and compares the queried chars in place,
+ * folding ASCII letters to upper case as it goes, so a loader can look up a slice of its input
+ * buffer w/o creating a String for it.  Only names containing non-ASCII chars are upper-cased
+ * into a new String, since their upper case form can differ in length.
+ * <p>
+ * Results are the same as {@code map.get(name.toUpperCase(Locale.ROOT))} on the map the index
+ * was built from.  Instances are immutable and thread safe.
+ *
+ * @param <V> The type of the values.
+ */
+public class CaseInsensitiveNameIndex<V> {
+
+	private final String[] keys;
+	private final Object[] values;
+	private final int mask;
+
+	/**
+	 * Build a new index.
+	 *
+	 * @param byEffectiveName Values keyed by effective name, i.e. upper-cased w/
+	 * {@code Locale.ROOT}.  Null keys and values are ignored.
+	 */
+	public CaseInsensitiveNameIndex(Map<String, V> byEffectiveName) {
+
+		//At most half full, so probe sequences stay short
+		int size = Integer.highestOneBit(Math.max(8, byEffectiveName.size() * 2) - 1) << 1;
+		keys = new String[size];
+		values = new Object[size];
+		mask = size - 1;
+
+		for (Map.Entry<String, V> entry : byEffectiveName.entrySet()) {
+			String key = entry.getKey();
+
+			if (key != null && entry.getValue() != null) {
+				int i = hash(key, 0, key.length()) & mask;
+
+				while (keys[i] != null && ! keys[i].equals(key)) {
+					i = (i + 1) & mask;
+				}
+
+				keys[i] = key;
+				values[i] = entry.getValue();
+			}
+		}
+	}
+
+	/**
+	 * Finds the value for a name, ignoring case.
+	 *
+	 * @param name A name, which is not trimmed.
+	 * @return The value or null if the name is null or not found.
+	 */
+	public V get(CharSequence name) {
+		return (name != null) ? get(name, 0, name.length()) : null;
+	}
+
+	/**
+	 * Finds the value for the name in a range of chars, ignoring case.
+	 *
+	 * @param chars The chars containing the name.  They are not retained, so a reused buffer
+	 * is fine.
+	 * @param start The index of the first char of the name.
+	 * @param end The index after the last char of the name.  The range is not trimmed.
+	 * @return The value or null if not found.
+	 */
+	public V get(CharSequence chars, int start, int end) {
+
+		int h = 0;
+
+		for (int i = start; i < end; i++) {
+			char c = chars.charAt(i);
+
+			if (c > 127) {
+				String upper = chars.subSequence(start, end).toString().toUpperCase(Locale.ROOT);
+				return get(upper, 0, upper.length(), hash(upper, 0, upper.length()));
+			}
+
+			h = 31 * h + fold(c);
+		}
+
+		return get(chars, start, end, spread(h));
+	}
+
+	private V get(CharSequence chars, int start, int end, int hash) {
+		int len = end - start;
+
+		for (int i = hash & mask; keys[i] != null; i = (i + 1) & mask) {
+			String key = keys[i];
+
+			if (key.length() == len && matches(key, chars, start)) {
+				return (V) values[i];
+			}
+		}
+
+		return null;
+	}
+
+	private static boolean matches(String key, CharSequence chars, int start) {
+		for (int i = 0; i < key.length(); i++) {
+			if (key.charAt(i) != fold(chars.charAt(start + i))) return false;
+		}
+
+		return true;
+	}
+
+	static int hash(CharSequence chars, int start, int end) {
+		int h = 0;
+
+		for (int i = start; i < end; i++) {
+			h = 31 * h + fold(chars.charAt(i));
+		}
+
+		return spread(h);
+	}
+
+	private static int spread(int h) {
+		return h ^ (h >>> 16);
+	}
+
+	/** Upper-cases ASCII letters, leaving all other chars as they are */
+	private static char fold(char c) {
+		return (c >= 'a' && c <= 'z') ? (char) (c - ('a' - 'A')) : c;
+	}
+
+}
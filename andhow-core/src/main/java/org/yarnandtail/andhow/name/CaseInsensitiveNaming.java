@@ -3,11 +3,16 @@ package org.yarnandtail.andhow.name;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import org.yarnandtail.andhow.api.*;
 
 /**
  * Case insensitive naming.
- *
+ * <p>
+ * Names are upper cased w/ {@link Locale#ROOT}, not the default Locale, so the effective names
+ * are the same on every JVM and match the names precomputed at compile time.  Before, a default
+ * Locale w/ its own casing rules, such as Turkish, could give names w/ an 'i' a different
+ * effective name than other JVMs.
  */
 public class CaseInsensitiveNaming implements NamingStrategy {
 	
@@ -18,16 +23,38 @@ public class CaseInsensitiveNaming implements NamingStrategy {
 			GroupProxy parentGroup) throws Exception {
 
 		String canonName = parentGroup.getCanonicalName(prop);
-		return buildNamesFromCanonical(prop, parentGroup, canonName);
+		
+		//Generated registrars precompute the upper case name at compile time, which is only
+		//valid if toEffectiveName() is not overridden by a subclass
+		String effName = (getClass() == CaseInsensitiveNaming.class) ? parentGroup.getEffectiveName(prop) : null;
+		
+		return buildNamesFromCanonical(prop, parentGroup, canonName, effName);
 
 	}
 	
 	public PropertyNaming buildNamesFromCanonical(Property prop, 
 			GroupProxy parentGroup, String canonicalName) {
 		
+		return buildNamesFromCanonical(prop, parentGroup, canonicalName, null);
+	}
+	
+	/**
+	 * Builds the names from the canonical name and its effective name, if already known.
+	 * 
+	 * @param prop The Property to build names for
+	 * @param parentGroup The group containing the Property
+	 * @param canonicalName The canonical name of the Property
+	 * @param effectiveName The effective canonical name, or null to create it from the canonical name.
+	 * @return The names or null if the canonicalName is null.
+	 */
+	public PropertyNaming buildNamesFromCanonical(Property prop, 
+			GroupProxy parentGroup, String canonicalName, String effectiveName) {
+		
 		if (canonicalName == null) return null;
 		
-		EffectiveName canon = new EffectiveName(canonicalName, toEffectiveName(canonicalName), true, true);
+		if (effectiveName == null) effectiveName = toEffectiveName(canonicalName);
+		
+		EffectiveName canon = new EffectiveName(canonicalName, effectiveName, true, true);
 		
 		List<EffectiveName> effAliases = EMPTY_NAMES;
 		
@@ -51,10 +78,14 @@ public class CaseInsensitiveNaming implements NamingStrategy {
 		return naming;
 	}
 	
+	/**
+	 * Upper cases the name w/o regard to the default locale, so the result matches
+	 * the effective names precomputed at compile time.
+	 */
 	@Override
 	public String toEffectiveName(String name) {
 		if (name != null) {
-			return name.toUpperCase();
+			return name.toUpperCase(Locale.ROOT);
 		} else {
 			return null;
 		}
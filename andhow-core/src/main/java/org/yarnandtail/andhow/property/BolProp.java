@@ -1,6 +1,8 @@
 package org.yarnandtail.andhow.property;
 
+import org.yarnandtail.andhow.AndHowContext;
 import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.AndHowIllegalStateException.NullPrimitiveValueException;
 import org.yarnandtail.andhow.valuetype.BolType;
 
 import java.util.List;
@@ -45,6 +47,28 @@ public class BolProp extends PropertyBase<Boolean> {
 		super(defaultValue, nonNull, shortDesc, null, aliases, paramType, valueType, trimmer, helpText);
 	}
 
+	/**
+	 * The effective value as a {@code boolean}, which is read w/o unboxing.
+	 * <p>
+	 * Use for Properties that are {@code notNull()} or have a default value.
+	 *
+	 * @return The explicit value or, if none, the default value.
+	 * @throws NullPrimitiveValueException If the effective value is null.
+	 */
+	public boolean getBoolean() {
+		return AndHowContext.current().getBoolean(this);
+	}
+
+	/**
+	 * The effective value as a {@code boolean}, which is read w/o unboxing.
+	 *
+	 * @param valueIfNull The value to return if the effective value is null.
+	 * @return The explicit value or, if none, the default value or, if none, {@code valueIfNull}.
+	 */
+	public boolean getBoolean(boolean valueIfNull) {
+		return AndHowContext.current().getBoolean(this, valueIfNull);
+	}
+
 	/**
 	 * A chainable builder for this property that should terminate with {@code build()}
 	 * <p>
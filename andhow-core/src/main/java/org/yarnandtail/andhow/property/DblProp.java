@@ -1,6 +1,8 @@
 package org.yarnandtail.andhow.property;
 
+import org.yarnandtail.andhow.AndHowContext;
 import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.AndHowIllegalStateException.NullPrimitiveValueException;
 import org.yarnandtail.andhow.valid.DblValidator;
 import org.yarnandtail.andhow.valuetype.DblType;
 
@@ -35,6 +37,28 @@ public class DblProp extends PropertyBase<Double> {
 		super(defaultValue, required, shortDesc, validators, aliases, paramType, valueType, trimmer, helpText);
 	}
 
+	/**
+	 * The effective value as a {@code double}, which is read w/o unboxing.
+	 * <p>
+	 * Use for Properties that are {@code notNull()} or have a default value.
+	 *
+	 * @return The explicit value or, if none, the default value.
+	 * @throws NullPrimitiveValueException If the effective value is null.
+	 */
+	public double getDouble() {
+		return AndHowContext.current().getDouble(this);
+	}
+
+	/**
+	 * The effective value as a {@code double}, which is read w/o unboxing.
+	 *
+	 * @param valueIfNull The value to return if the effective value is null.
+	 * @return The explicit value or, if none, the default value or, if none, {@code valueIfNull}.
+	 */
+	public double getDouble(double valueIfNull) {
+		return AndHowContext.current().getDouble(this, valueIfNull);
+	}
+
 	/**
 	 * A chainable builder for this property that should terminate with {@code build()}
 	 * <p>
@@ -1,6 +1,8 @@
 package org.yarnandtail.andhow.property;
 
+import org.yarnandtail.andhow.AndHowContext;
 import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.AndHowIllegalStateException.NullPrimitiveValueException;
 import org.yarnandtail.andhow.valid.IntValidator;
 import org.yarnandtail.andhow.valuetype.IntType;
 
@@ -25,6 +27,28 @@ public class IntProp extends PropertyBase<Integer> {
 		super(defaultValue, required, shortDesc, validators, aliases, paramType, valueType, trimmer, helpText);
 	}
 
+	/**
+	 * The effective value as an {@code int}, which is read w/o unboxing.
+	 * <p>
+	 * Use for Properties that are {@code notNull()} or have a default value.
+	 *
+	 * @return The explicit value or, if none, the default value.
+	 * @throws NullPrimitiveValueException If the effective value is null.
+	 */
+	public int getInt() {
+		return AndHowContext.current().getInt(this);
+	}
+
+	/**
+	 * The effective value as an {@code int}, which is read w/o unboxing.
+	 *
+	 * @param valueIfNull The value to return if the effective value is null.
+	 * @return The explicit value or, if none, the default value or, if none, {@code valueIfNull}.
+	 */
+	public int getInt(int valueIfNull) {
+		return AndHowContext.current().getInt(this, valueIfNull);
+	}
+
 	/**
 	 * A chainable builder for this property that should terminate with {@code build()}
 	 * <p>
@@ -2,7 +2,7 @@ package org.yarnandtail.andhow.property;
 
 import java.util.Collections;
 import java.util.List;
-import org.yarnandtail.andhow.AndHow;
+import org.yarnandtail.andhow.AndHowContext;
 import org.yarnandtail.andhow.api.*;
 
 /**
@@ -11,7 +11,10 @@ import org.yarnandtail.andhow.api.*;
  * @author eeverman
  */
 public abstract class PropertyBase<T> implements Property<T> {
-	
+
+	/* Slot assigned by the most recent configuration to register this Property, or null */
+	private ValueSlot valueSlot;
+
 	private final PropertyType paramType;
 	private final ValueType<T> valueType;
 	private final Trimmer trimmer;
@@ -82,19 +85,12 @@ public abstract class PropertyBase<T> implements Property<T> {
 	
 	@Override
 	public T getValue() {
-		
-		T v = getExplicitValue();
-		if (v != null) {
-			return v;
-		} else {
-			return getDefaultValue();
-		}
-	
+		return AndHowContext.current().getValue(this);
 	}
 	
 	@Override
 	public final T getExplicitValue() {
-		Object v = AndHow.instance().getExplicitValue(this);
+		Object v = AndHowContext.current().getExplicitValue(this);
 		return valueType.cast(v);
 	}
 	
@@ -102,5 +98,46 @@ public abstract class PropertyBase<T> implements Property<T> {
 	public T getDefaultValue() {
 		return defValue;
 	}
+
+	/**
+	 * The index of this Property in the value arrays of a configuration.
+	 * <p>
+	 * Each configuration gives its Properties dense indexes, so its value arrays are only as large
+	 * as the number of Properties it contains.  The most recently built configuration records its
+	 * index here, so it can read a value w/o a map lookup.  Other configurations find this Property's
+	 * index in their own map.
+	 *
+	 * @param owner The configuration that assigned the slot.
+	 * @return The slot index, or -1 if the slot was not assigned by that configuration.
+	 */
+	public final int getValueSlot(Object owner) {
+		ValueSlot vs = valueSlot;	//Immutable, so a racy read sees either a complete slot or none
+		return (vs != null && vs.owner == owner) ? vs.index : -1;
+	}
+
+	/**
+	 * Records the index of this Property in the value arrays of a configuration.
+	 * <p>
+	 * Replaces the slot of any other configuration.
+	 *
+	 * @param owner The configuration assigning the slot.
+	 * @param index The non-negative slot index.
+	 */
+	public final void setValueSlot(Object owner, int index) {
+		valueSlot = new ValueSlot(owner, index);
+	}
+
+	/**
+	 * A slot index and the configuration it belongs to, read and written as a single reference.
+	 */
+	private static final class ValueSlot {
+		final Object owner;
+		final int index;
+
+		ValueSlot(Object owner, int index) {
+			this.owner = owner;
+			this.index = index;
+		}
+	}
 	
 }
@@ -3,6 +3,7 @@ package org.yarnandtail.andhow.sample;
 import org.yarnandtail.andhow.internal.PropertyConfigurationInternal;
 import org.yarnandtail.andhow.AndHow;
 import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.name.CaseInsensitiveNaming;
 import org.yarnandtail.andhow.util.TextUtil;
 
 /**
@@ -51,7 +52,12 @@ public class JndiLoaderSamplePrinter extends BaseSamplePrinter implements Sample
 
 		TextBlock tb = new TextBlock(false, true);
 
-		String propCanonName = definition.getNamingStrategy().getUriName(group.getCanonicalName(prop));
+		//Only use the Uri name precomputed at compile time w/ the NamingStrategy that computed it
+		String propCanonName = (definition.getNamingStrategy().getClass() == CaseInsensitiveNaming.class) ?
+				group.getUriName(prop) : null;
+		if (propCanonName == null) {
+			propCanonName = definition.getNamingStrategy().getUriName(group.getCanonicalName(prop));
+		}
 		String type = prop.getValueType().getDestinationType().getCanonicalName();
 
 		tb.addLine(
@@ -0,0 +1,29 @@
+package org.yarnandtail.andhow.service;
+
+import java.util.List;
+
+/**
+ * A single, per-module index of all the {@code PropertyRegistrar}s compiled into that module.
+ * <p>
+ * At compile time, the AndHowCompileProcessor generates one implementation of this interface
+ * for each module (typically a jar) that contains AndHow Properties and registers it in
+ * "META-INF/services/".  The generated index creates each of the module's
+ * {@code PropertyRegistrar}s directly, so the {@code PropertyRegistrarLoader} needs only one
+ * resource read per module instead of a reflective lookup per {@code PropertyRegistrar}.
+ * <p>
+ * The {@code PropertyRegistrar} service files are still written alongside the index.  They are
+ * how the {@code PropertyRegistrarLoader} finds modules, w/ a single classpath scan.  They are
+ * also read to create any {@code PropertyRegistrar} the index does not, such as those of modules
+ * compiled without an index.
+ */
+public interface PropertyRegistrarIndex {
+
+	/**
+	 * New instances of each {@code PropertyRegistrar} in the module.
+	 *
+	 * @return A non-null list of registrars, in the order they are listed in the module's
+	 * {@code PropertyRegistrar} service file.
+	 */
+	List<PropertyRegistrar> getPropertyRegistrars();
+
+}
@@ -1,6 +1,10 @@
 package org.yarnandtail.andhow.service;
 
+import java.io.*;
 import java.lang.reflect.Field;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -13,12 +17,25 @@ import org.yarnandtail.andhow.internal.NameAndProperty;
  * PropertyRegistrar instances are generated automatically at compile time for
  * classes using AndHow properties.  When a PropertyRegistrar is created, it is
  * recorded as a Service, making it visible to the ServiceLoader.
- *
+ * <p>
+ * The compiler also generates a single {@link PropertyRegistrarIndex} for each module, which
+ * creates all of that module's PropertyRegistrars directly.  Modules are found by their
+ * PropertyRegistrar service files, w/ a single classpath scan.  A module's registrars are first
+ * created from its index, if it has one.  Any registrars listed in its service file that the
+ * index did not create are then created reflectively.  This covers modules w/o an index (e.g.
+ * compiled by an older AndHow), registrars generated after the index was written and fat jars
+ * whose merged service file lists registrars of several modules.
  */
 public class PropertyRegistrarLoader {
+	private static final String REGISTRAR_SERVICE_FILE =
+			"META-INF/services/" + PropertyRegistrar.class.getName();
+
+	/* Relative to a registrar service file, the index service file of the same module */
+	private static final String INDEX_SERVICE_FILE_NAME = PropertyRegistrarIndex.class.getName();
+
 	private final ClassLoader classLoader;
-	private final ServiceLoader<PropertyRegistrar> loader;
 	private final Object lock = new Object();	//Sync lock for instances
+	private List<PropertyRegistrar> registrars;	//Discovered once, guarded by lock
 	
 	/**
 	 * New instance with default class loader (class.getClassLoader())
@@ -35,7 +52,6 @@ public class PropertyRegistrarLoader {
 	 */
 	public PropertyRegistrarLoader(ClassLoader classLoader) {
 		this.classLoader = (classLoader != null)?classLoader:PropertyRegistrarLoader.class.getClassLoader();
-		loader = ServiceLoader.load(PropertyRegistrar.class, this.classLoader);
 	}
 	
 	/**
@@ -43,7 +59,7 @@ public class PropertyRegistrarLoader {
 	 * <p>
 	 * The {@code PropertyRegistrar} instances are created from the complete set
 	 * of {@code PropertyRegistrar} implementations on the classpath.  This is a
-	 * complete list as provided by the {@code java.util.ServiceLoader}.
+	 * complete list found via the {@code PropertyRegistrarIndex}es and service files.
 	 * <p>
 	 * Even though the list is newly created each time this method is called,
 	 * the instances of {@code PropertyRegistrar}s are the same across all lists.
@@ -55,13 +71,130 @@ public class PropertyRegistrarLoader {
 	public List<PropertyRegistrar> getPropertyRegistrars() {
 		
 		synchronized (lock) {
-			List<PropertyRegistrar> list = new ArrayList();
-			Iterator<PropertyRegistrar> it = loader.iterator();
-			while (it.hasNext()) {
-				list.add(it.next());
+			if (registrars == null) {
+				registrars = findPropertyRegistrars();
 			}
 			
-			return list;
+			return new ArrayList(registrars);
+		}
+	}
+	
+	/**
+	 * Discovers all {@code PropertyRegistrar}s, preferring the per-module indexes.
+	 * <p>
+	 * Modules are in classpath order.  A registrar found in more than one module, or in both
+	 * an index and a service file, is only created once.
+	 * 
+	 * @return A new list of registrars.
+	 */
+	protected List<PropertyRegistrar> findPropertyRegistrars() {
+		
+		//Registrars by class name, in discovery order
+		Map<String, PropertyRegistrar> found = new LinkedHashMap();
+		
+		try {
+			Enumeration<URL> files = classLoader.getResources(REGISTRAR_SERVICE_FILE);
+			
+			while (files.hasMoreElements()) {
+				URL registrarFile = files.nextElement();
+				List<String> indexNames = readServiceFile(findIndexServiceFile(registrarFile), true);
+				
+				if (indexNames != null) {
+					for (String name : indexNames) {
+						for (PropertyRegistrar reg : createIndex(name).getPropertyRegistrars()) {
+							found.putIfAbsent(reg.getClass().getName(), reg);
+						}
+					}
+				}
+				
+				//The index may not list every registrar, so those it did not create are created here
+				for (String name : readServiceFile(registrarFile, false)) {
+					if (! found.containsKey(name)) found.put(name, createRegistrar(name));
+				}
+			}
+		} catch (IOException ex) {
+			throw new ServiceConfigurationError(
+					"Unable to read " + REGISTRAR_SERVICE_FILE + " service files", ex);
+		}
+		
+		return new ArrayList(found.values());
+	}
+	
+	/**
+	 * The URL the index service file would have, in the same module as a registrar service file.
+	 * 
+	 * @param registrarFile The URL of a registrar service file
+	 * @return The URL, which may not exist, or null if it cannot be built for the URL type.
+	 */
+	protected URL findIndexServiceFile(URL registrarFile) {
+		try {
+			return new URL(registrarFile, INDEX_SERVICE_FILE_NAME);
+		} catch (MalformedURLException ex) {
+			return null;
+		}
+	}
+	
+	/**
+	 * Reads the class names listed in a service file, without loading the classes.
+	 * 
+	 * @param url The URL of the service file, which may be null if optional.
+	 * @param optional If true, a missing file is not an error.
+	 * @return The distinct class names, in file order, or null if an optional file does not exist.
+	 * @throws IOException If the file cannot be read or a required file does not exist.
+	 */
+	protected List<String> readServiceFile(URL url, boolean optional) throws IOException {
+		if (url == null && optional) return null;
+		
+		Set<String> names = new LinkedHashSet();
+		
+		try (BufferedReader in = new BufferedReader(
+				new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+			
+			String line;
+			while ((line = in.readLine()) != null) {
+				int comment = line.indexOf('#');
+				if (comment > -1) line = line.substring(0, comment);
+				line = line.trim();
+				
+				if (! line.isEmpty()) names.add(line);
+			}
+		} catch (FileNotFoundException ex) {
+			if (optional) return null;
+			throw ex;
+		}
+		
+		return new ArrayList(names);
+	}
+	
+	/**
+	 * Creates a module's {@code PropertyRegistrarIndex}.
+	 * 
+	 * @param className The class name from an index service file
+	 * @return A new instance
+	 */
+	protected PropertyRegistrarIndex createIndex(String className) {
+		try {
+			Class<?> clazz = Class.forName(className, false, classLoader);
+			return (PropertyRegistrarIndex) clazz.getDeclaredConstructor().newInstance();
+		} catch (Exception | LinkageError ex) {
+			throw new ServiceConfigurationError(PropertyRegistrarIndex.class.getName() +
+					": Provider " + className + " could not be instantiated", ex);
+		}
+	}
+	
+	/**
+	 * Reflectively creates a {@code PropertyRegistrar} not created by any index.
+	 * 
+	 * @param className The class name from a service file
+	 * @return A new instance
+	 */
+	protected PropertyRegistrar createRegistrar(String className) {
+		try {
+			Class<?> clazz = Class.forName(className, false, classLoader);
+			return (PropertyRegistrar) clazz.getDeclaredConstructor().newInstance();
+		} catch (Exception | LinkageError ex) {
+			throw new ServiceConfigurationError(PropertyRegistrar.class.getName() +
+					": Provider " + className + " could not be instantiated", ex);
 		}
 	}
 	
@@ -88,46 +221,70 @@ public class PropertyRegistrarLoader {
 		List<PropertyRegistrar> registrars = getPropertyRegistrars();
 		
 		for (PropertyRegistrar registrar : registrars) {
+			
+			//The generated registrar is compiled alongside the groups it registers
+			ClassLoader groupLoader = registrar.getClass().getClassLoader();
+			
 			for (PropertyRegistration registration : registrar.getRegistrationList()) {
 				String grpName = registration.getCanonicalParentName();
 				GroupProxyMutable grp = groups.get(grpName);
 				
 				if (grp == null) {
-					grp = new GroupProxyMutable(registration.getCanonicalParentName(), registration.getJavaCanonicalParentName());
-					groups.put(grpName, grp);
+					
+					//Resolve the class once per group (if not registered) and hand it to the proxy
+					try {
+						Class<?> groupClass = registration.getParentClass();
+						
+						if (groupClass == null) {
+							groupClass = Class.forName(registration.getJavaCanonicalParentName(), true, groupLoader);
+						}
+						
+						grp = new GroupProxyMutable(registration.getCanonicalParentName(), groupClass);
+						groups.put(grpName, grp);
+					} catch (ClassNotFoundException ex) {
+						//TODO:  Need to return a custom problem type here
+						throw new RuntimeException(ex);
+					}
 				}
 				
-				Class<?> group = null;
-				Property prop = null;
+				Property prop = registration.getProperty();
 				
-				try {
+				//Properties not visible to the generated registrar are only registered by name
+				if (prop == null) {
+					try {
 					
-					group = Class.forName(registration.getJavaCanonicalParentName());
-					Field f = group.getDeclaredField(registration.getPropertyName());
+						Field f = grp.getProxiedGroup().getDeclaredField(registration.getPropertyName());
 					
-					try {
-						prop = (Property) f.get(null);
-					} catch (Exception ex) {	
-						f.setAccessible(true);
-						prop = (Property) f.get(null);
-					}
+						try {
+							prop = (Property) f.get(null);
+						} catch (Exception ex) {	
+							f.setAccessible(true);
+							prop = (Property) f.get(null);
+						}
 					
-				} catch (ClassNotFoundException ex) {
-					//TODO:  Need to return a custom problem type here
-					throw new RuntimeException(ex);
-				} catch (NoSuchFieldException | IllegalAccessException ex) {
-					Logger.getLogger(PropertyRegistrarLoader.class.getName()).log(Level.SEVERE, null, ex);
-					continue;
-				} catch (SecurityException ex) {
-					Logger.getLogger(PropertyRegistrarLoader.class.getName()).log(Level.SEVERE, null, ex);
-					continue;
-				} catch (IllegalArgumentException ex) {
-					//f.get(null) assumes that this is  static field - throws this if not
-					Logger.getLogger(PropertyRegistrarLoader.class.getName()).log(Level.SEVERE, null, ex);
-					continue;
+					} catch (NoSuchFieldException | IllegalAccessException ex) {
+						Logger.getLogger(PropertyRegistrarLoader.class.getName()).log(Level.SEVERE, null, ex);
+						continue;
+					} catch (SecurityException ex) {
+						Logger.getLogger(PropertyRegistrarLoader.class.getName()).log(Level.SEVERE, null, ex);
+						continue;
+					} catch (IllegalArgumentException ex) {
+						//f.get(null) assumes that this is  static field - throws this if not
+						Logger.getLogger(PropertyRegistrarLoader.class.getName()).log(Level.SEVERE, null, ex);
+						continue;
+					}
+				}
+				
+				NameAndProperty nap;
+				
+				if (registration.getEffectivePropertyName() != null) {
+					nap = new NameAndProperty(registration.getPropertyName(), prop,
+							registration.getCanonicalPropertyName(), registration.getEffectivePropertyName(),
+							registration.getUriPropertyName());
+				} else {
+					nap = new NameAndProperty(registration.getPropertyName(), prop);
 				}
 				
-				NameAndProperty nap = new NameAndProperty(registration.getPropertyName(), prop);
 				grp.addProperty(nap);
 			}
 		}
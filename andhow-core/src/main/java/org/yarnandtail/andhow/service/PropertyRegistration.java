@@ -1,5 +1,6 @@
 package org.yarnandtail.andhow.service;
 
+import org.yarnandtail.andhow.api.Property;
 import org.yarnandtail.andhow.util.NameUtil;
 import java.util.*;
 
@@ -28,6 +29,11 @@ public class PropertyRegistration implements Comparable<PropertyRegistration> {
 	private final String classCanonName;
 	private final String[] innerPath;
 	private final String propName;
+	private final Property<?> property;	//Null if only registered by name
+	private final Class<?> parentClass;	//Null if only registered by name
+	private final String canonicalPropName;	//Null if not precomputed
+	private final String effectivePropName;	//Null if not precomputed
+	private final String uriPropName;	//Null if not precomputed
 
 	/**
 	 * Create an instance representing a {@code Property} declared directly in
@@ -42,6 +48,11 @@ public class PropertyRegistration implements Comparable<PropertyRegistration> {
 		this.classCanonName = classCanonName;
 		this.propName = propName;
 		innerPath = null;
+		property = null;
+		parentClass = null;
+		canonicalPropName = null;
+		effectivePropName = null;
+		uriPropName = null;
 	}
 	
 	/**
@@ -59,8 +70,33 @@ public class PropertyRegistration implements Comparable<PropertyRegistration> {
 	 * the root class to the inner class that contains the {@code Property} declaration.
 	 */
 	PropertyRegistration(String classCanonName, String propName, String... innerPathNesting) {
+		this(classCanonName, propName, null, null, innerPathNesting);
+	}
+	
+	/**
+	 * Create an instance that carries the {@code Property} instance and its
+	 * containing class, so no reflection is needed to find them at run time.
+	 * 
+	 * @param classCanonName The canonical name of the root class containing the
+	 * {@code Property}, directly or within an inner class.
+	 * @param propName The declared name of the variable referencing the
+	 * {@code Property} declaration.
+	 * @param property The {@code Property} instance, or null if not known.
+	 * @param parentClass The class directly containing the {@code Property}
+	 * declaration, or null if not known.
+	 * @param innerPathNesting The name or names of the nested inner classes
+	 * and/or interfaces that contain the {@code Property} declaration, from
+	 * outer to inner.  Null or empty for a {@code Property} in the root class.
+	 */
+	PropertyRegistration(String classCanonName, String propName,
+			Property<?> property, Class<?> parentClass, String... innerPathNesting) {
 		this.classCanonName = classCanonName;
 		this.propName = propName;
+		this.property = property;
+		this.parentClass = parentClass;
+		canonicalPropName = null;
+		effectivePropName = null;
+		uriPropName = null;
 		
 		if (innerPathNesting != null && innerPathNesting.length > 0) {
 			innerPath = innerPathNesting;
@@ -69,6 +105,27 @@ public class PropertyRegistration implements Comparable<PropertyRegistration> {
 		}
 	}
 	
+	/**
+	 * Create a copy of a registration that carries the names of its {@code Property},
+	 * precomputed at compile time so they are not built at run time.
+	 * 
+	 * @param reg The registration to copy.
+	 * @param canonicalName The AndHow canonical name of the {@code Property}.
+	 * @param effectiveName The canonical name as matched by the case insensitive
+	 * {@code NamingStrategy}, i.e. upper case.
+	 * @param uriName The URI style name of the {@code Property}, e.g. {@code org/acme/MyClass/MY_PROP}.
+	 */
+	PropertyRegistration(PropertyRegistration reg, String canonicalName, String effectiveName, String uriName) {
+		classCanonName = reg.classCanonName;
+		propName = reg.propName;
+		innerPath = reg.innerPath;
+		property = reg.property;
+		parentClass = reg.parentClass;
+		canonicalPropName = canonicalName;
+		effectivePropName = effectiveName;
+		uriPropName = uriName;
+	}
+	
 	/**
 	 * The canonical propName of the root class, which is the top level class,
 	 * typically one per Java source file (unless someone has stuffed multiple
@@ -96,6 +153,31 @@ public class PropertyRegistration implements Comparable<PropertyRegistration> {
 		return propName;
 	}
 
+	/**
+	 * The {@code Property} instance, if it was registered directly.
+	 * <p>
+	 * Generated registrars reference the {@code Property} directly when it is
+	 * visible to them (it and its containing classes are not private).
+	 * Otherwise, only the name is registered and the {@code Property} must be
+	 * found by reflection.
+	 *
+	 * @return The {@code Property} or null if it was only registered by name.
+	 */
+	public Property<?> getProperty() {
+		return property;
+	}
+
+	/**
+	 * The class directly containing the {@code Property}, if it was registered
+	 * directly.
+	 *
+	 * @return The containing class or null if it was only registered by name.
+	 * @see #getProperty()
+	 */
+	public Class<?> getParentClass() {
+		return parentClass;
+	}
+
 	/**
 	 * The names of the nested inner classes/interfaces containing the
 	 * named property for this registration.
@@ -140,7 +222,31 @@ public class PropertyRegistration implements Comparable<PropertyRegistration> {
 	 * uses dots to separate each step.
 	 */
 	public String getCanonicalPropertyName() {
-		return NameUtil.getAndHowName(classCanonName, propName, innerPath);
+		if (canonicalPropName != null) {
+			return canonicalPropName;
+		} else {
+			return NameUtil.getAndHowName(classCanonName, propName, innerPath);
+		}
+	}
+
+	/**
+	 * The upper case canonical name of the property, as matched by the case
+	 * insensitive {@code NamingStrategy}, if it was precomputed at compile time.
+	 *
+	 * @return The effective name or null if it was not precomputed.
+	 */
+	public String getEffectivePropertyName() {
+		return effectivePropName;
+	}
+
+	/**
+	 * The URI style name of the property, which is the canonical name with
+	 * slashes instead of dots, if it was precomputed at compile time.
+	 *
+	 * @return The URI name or null if it was not precomputed.
+	 */
+	public String getUriPropertyName() {
+		return uriPropName;
 	}
 
 	/**
@@ -1,6 +1,7 @@
 package org.yarnandtail.andhow.service;
 
 import java.util.*;
+import org.yarnandtail.andhow.api.Property;
 
 /**
  * A List of Registrations with simplified add methods that make it
@@ -131,6 +132,72 @@ public class PropertyRegistrationList extends ArrayList<PropertyRegistration> {
 		return super.add(reg);
 	}
 	
+	/**
+	 * Adds a registration for a {@code Property} instance in the same class as
+	 * the previously added one.
+	 * <p>
+	 * If the previous registration was added with a containing class, this
+	 * registration uses it as well.  If there is no previous registration, it is
+	 * assumed to be a root property.
+	 *
+	 * @param name Name of the AndHow property, which is the name of the variable it
+	 *		is assigned to at construction.
+	 * @param property The {@code Property} instance
+	 * @return True if it was added (it is always added).
+	 */
+	public boolean add(String name, Property<?> property) {
+		PropertyRegistration reg;
+		
+		if (lastReg != null) {
+			reg = new PropertyRegistration(rootCanonName, name, property,
+					lastReg.getParentClass(), lastReg.getInnerPath());
+		} else {
+			reg = new PropertyRegistration(rootCanonName, name, property, null);
+		}
+		lastReg = reg;
+		return super.add(reg);
+	}
+
+	/**
+	 * Adds a registration for a {@code Property} instance in the specified class.
+	 * <p>
+	 * Following calls to add(name, property) will use this same class and path.
+	 * Passing an empty innerPath array is interpreted as a property at the root.
+	 *
+	 * @param name Name of the AndHow property, which is the name of the variable it
+	 *		is assigned to at construction.
+	 * @param property The {@code Property} instance
+	 * @param parentClass The class directly containing the {@code Property}
+	 * @param innerPath The 'path' of nested inner class/interfaces from outer to inner
+	 * @return True if it was added (it is always added).
+	 */
+	public boolean add(String name, Property<?> property, Class<?> parentClass, String... innerPath) {
+		PropertyRegistration reg = new PropertyRegistration(rootCanonName, name, property, parentClass, innerPath);
+		lastReg = reg;
+		return super.add(reg);
+	}
+
+	/**
+	 * Sets the names of the last added {@code Property}, precomputed at compile time.
+	 * <p>
+	 * Generated registrars call this after each add so the names do not need to be
+	 * built at run time.  Registrations w/o precomputed names build them as needed.
+	 *
+	 * @param canonicalName The AndHow canonical name of the {@code Property}
+	 * @param effectiveName The upper case canonical name, as matched by the case
+	 *		insensitive {@code NamingStrategy}
+	 * @param uriName The URI style name, e.g. {@code org/acme/MyClass/MY_PROP}
+	 */
+	public void names(String canonicalName, String effectiveName, String uriName) {
+		if (lastReg == null) {
+			throw new IllegalStateException("Names can only be set after a Property is added");
+		}
+
+		PropertyRegistration reg = new PropertyRegistration(lastReg, canonicalName, effectiveName, uriName);
+		set(lastIndexOf(lastReg), reg);
+		lastReg = reg;
+	}
+
 	/**
 	 * Sorts in lexagraphical order.
 	 */
@@ -231,7 +231,7 @@ public class AndHowUtil {
 
 		List<NameAndProperty> naps = getProperties(group);
 		GroupProxy groupProxy = new GroupProxyImmutable(NameUtil.getAndHowName(group),
-				NameUtil.getJavaName(group), naps, userGroup);
+				group, naps, userGroup);
 
 		return groupProxy;
 	}
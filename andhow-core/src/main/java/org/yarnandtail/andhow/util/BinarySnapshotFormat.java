@@ -0,0 +1,212 @@
+package org.yarnandtail.andhow.util;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * The binary snapshot format shared by
+ * {@link org.yarnandtail.andhow.export.BinarySnapshotExporter} and
+ * {@link org.yarnandtail.andhow.load.BinarySnapshotLoader}.
+ * <p>
+ * All numbers are big-endian.  The file is a header followed by entries:
+ * <pre>
+ * header:  int MAGIC, int VERSION, int entryCount
+ * entry:   string name, byte typeTag, value
+ * string:  int byteLength, UTF-8 bytes
+ * </pre>
+ * Values are stored in their native binary form, according to the type tag, so they are read
+ * w/o parsing.  Values of other types are stored as their String form (tag
+ * {@link #TAG_STRING}) and parsed when loaded.
+ * <p>
+ * Any change to the layout must increment {@link #VERSION}.
+ */
+public final class BinarySnapshotFormat {
+
+	public static final int MAGIC = 0x41484231;	// 'AHB1'
+	public static final int VERSION = 1;
+
+	public static final byte TAG_STRING = 1;
+	public static final byte TAG_INTEGER = 2;
+	public static final byte TAG_LONG = 3;
+	public static final byte TAG_DOUBLE = 4;
+	public static final byte TAG_BOOLEAN = 5;
+	public static final byte TAG_BIG_DECIMAL = 6;
+	public static final byte TAG_LOCAL_DATE_TIME = 7;
+
+	/* The smallest entry:  An empty name, a tag and a boolean */
+	private static final int MIN_ENTRY_SIZE = 6;
+
+	private BinarySnapshotFormat() { /* no instances */ }
+
+	/**
+	 * Writes the file header.
+	 *
+	 * @param out The stream to write to.
+	 * @param entryCount The number of entries that will follow.
+	 * @throws IOException If the stream cannot be written.
+	 */
+	public static void writeHeader(DataOutputStream out, int entryCount) throws IOException {
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		out.writeInt(entryCount);
+	}
+
+	/**
+	 * Reads and checks the file header.
+	 *
+	 * @param in The buffer to read from, positioned at the start of the file.
+	 * @return The number of entries that follow.
+	 * @throws IOException If the buffer is not a snapshot of this version, or the number of
+	 *   entries cannot fit in the rest of the buffer.
+	 */
+	public static int readHeader(ByteBuffer in) throws IOException {
+		if (in.remaining() < 12 || in.getInt() != MAGIC) {
+			throw new IOException("Not an AndHow binary snapshot");
+		}
+
+		int version = in.getInt();
+
+		if (version != VERSION) {
+			throw new IOException(TextUtil.format(
+					"Unsupported AndHow binary snapshot version {} (expected {})", version, VERSION));
+		}
+
+		return checkLength(in, in.getInt(), MIN_ENTRY_SIZE, "entry count");
+	}
+
+	/**
+	 * Writes a single name and value.
+	 *
+	 * @param out The stream to write to.
+	 * @param name The name of the Property.
+	 * @param value The value, which must not be null.
+	 * @param valueAsString The String form of the value, used if it is not of a native type.
+	 * @throws IOException If the stream cannot be written.
+	 */
+	public static void writeEntry(DataOutputStream out, String name, Object value,
+			String valueAsString) throws IOException {
+
+		writeString(out, name);
+
+		if (value instanceof String) {
+			out.writeByte(TAG_STRING);
+			writeString(out, (String) value);
+		} else if (value instanceof Integer) {
+			out.writeByte(TAG_INTEGER);
+			out.writeInt((Integer) value);
+		} else if (value instanceof Long) {
+			out.writeByte(TAG_LONG);
+			out.writeLong((Long) value);
+		} else if (value instanceof Double) {
+			out.writeByte(TAG_DOUBLE);
+			out.writeDouble((Double) value);
+		} else if (value instanceof Boolean) {
+			out.writeByte(TAG_BOOLEAN);
+			out.writeBoolean((Boolean) value);
+		} else if (value instanceof BigDecimal) {
+			BigDecimal dec = (BigDecimal) value;
+			byte[] unscaled = dec.unscaledValue().toByteArray();
+			out.writeByte(TAG_BIG_DECIMAL);
+			out.writeInt(dec.scale());
+			out.writeInt(unscaled.length);
+			out.write(unscaled);
+		} else if (value instanceof LocalDateTime) {
+			LocalDateTime ldt = (LocalDateTime) value;
+			out.writeByte(TAG_LOCAL_DATE_TIME);
+			out.writeLong(ldt.toLocalDate().toEpochDay());
+			out.writeLong(ldt.toLocalTime().toNanoOfDay());
+		} else {
+			out.writeByte(TAG_STRING);
+			writeString(out, valueAsString);
+		}
+	}
+
+	/**
+	 * Reads a value written by {@link #writeEntry}, after its name has been read.
+	 *
+	 * @param in The buffer to read from, positioned at the type tag.
+	 * @return The value.  Not null.
+	 * @throws IOException If the type tag is unknown or a length is out of bounds.
+	 */
+	public static Object readValue(ByteBuffer in) throws IOException {
+		byte tag = in.get();
+
+		switch (tag) {
+			case TAG_STRING:
+				return readString(in);
+			case TAG_INTEGER:
+				return in.getInt();
+			case TAG_LONG:
+				return in.getLong();
+			case TAG_DOUBLE:
+				return in.getDouble();
+			case TAG_BOOLEAN:
+				return in.get() != 0;
+			case TAG_BIG_DECIMAL:
+				int scale = in.getInt();
+				byte[] unscaled = new byte[checkLength(in, in.getInt(), 1, "number length")];
+				in.get(unscaled);
+				return new BigDecimal(new BigInteger(unscaled), scale);
+			case TAG_LOCAL_DATE_TIME:
+				LocalDate date = LocalDate.ofEpochDay(in.getLong());
+				return LocalDateTime.of(date, LocalTime.ofNanoOfDay(in.getLong()));
+			default:
+				throw new IOException("Unknown type tag " + tag + " in AndHow binary snapshot");
+		}
+	}
+
+	/**
+	 * Reads a length prefixed, UTF-8 String.
+	 *
+	 * @param in The buffer to read from.
+	 * @return The String.
+	 * @throws IOException If the length is out of bounds.
+	 */
+	public static String readString(ByteBuffer in) throws IOException {
+		int length = checkLength(in, in.getInt(), 1, "string length");
+
+		if (in.hasArray()) {
+			String str = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+			in.position(in.position() + length);
+			return str;
+		} else {
+			byte[] bytes = new byte[length];
+			in.get(bytes);
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+	}
+
+	/**
+	 * Checks that a count or length read from a snapshot fits in the rest of the buffer, so a
+	 * corrupt file cannot cause a huge allocation.
+	 *
+	 * @param in The buffer, positioned after the length.
+	 * @param length The length that was read.
+	 * @param minSize The minimum number of bytes of each counted item.
+	 * @param what What the length is of, for the error message.
+	 * @return The length.
+	 * @throws IOException If the length is negative or too large.
+	 */
+	private static int checkLength(ByteBuffer in, int length, int minSize, String what) throws IOException {
+		if (length < 0 || length > in.remaining() / minSize) {
+			throw new IOException(TextUtil.format(
+					"Invalid {} {} in AndHow binary snapshot, which has {} bytes left", what, length, in.remaining()));
+		}
+
+		return length;
+	}
+
+	private static void writeString(DataOutputStream out, String str) throws IOException {
+		byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+}
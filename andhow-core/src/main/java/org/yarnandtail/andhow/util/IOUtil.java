@@ -2,6 +2,8 @@ package org.yarnandtail.andhow.util;
 
 import java.io.*;
 import java.nio.charset.Charset;
+import java.nio.file.*;
+import java.nio.file.attribute.PosixFilePermissions;
 
 /**
  * Utility class to handle some IO purposes.
@@ -74,6 +76,40 @@ public class IOUtil {
 		return builder.toString();
 	}
 
+	/**
+	 * Writes a file that only its owner can read, replacing any existing file.
+	 * <p>
+	 * The content is written to a temporary file in the same directory, which is then moved
+	 * into place, so readers never see a partial file.
+	 *
+	 * @param file The file to write.  Its directory is created if needed.
+	 * @param content The complete content of the file.
+	 * @throws IOException when the file cannot be written.
+	 */
+	public static void writeAtomically(Path file, byte[] content) throws IOException {
+		Path target = file.toAbsolutePath();
+		Files.createDirectories(target.getParent());
+		Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+
+		try {
+			try {
+				Files.setPosixFilePermissions(temp, PosixFilePermissions.fromString("rw-------"));
+			} catch (UnsupportedOperationException e) {
+				//Not a posix file system
+			}
+
+			Files.write(temp, content);
+
+			try {
+				Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
 	/**
 	 * Expands directory path, replacing known values like java.io.tmpdir
 	 * w/ their values. Paths are assumed to use forward slashes, which are replaced
@@ -15,6 +15,19 @@ public abstract class DblValidator extends BaseValidator<Double> {
 		return "THIS VALIDATION IS ALWAYS VALID";
 	}
 
+	/**
+	 * Validate a {@code double} value w/o boxing.
+	 * <p>
+	 * The default boxes the value and calls {@link #isValidWithoutNull(Object)}, so a subclass
+	 * need only implement that.  The built-in validators override it to compare w/o boxing.
+	 *
+	 * @param value The value to validate.
+	 * @return True if valid.
+	 */
+	public boolean isValidDouble(final double value) {
+		return isValidWithoutNull(value);
+	}
+
 	/**
 	 * Validate that a long is greater than a specified reference.
 	 */
@@ -28,6 +41,11 @@ public abstract class DblValidator extends BaseValidator<Double> {
 
 		@Override
 		public boolean isValidWithoutNull(final Double value) {
+			return isValidDouble(value);
+		}
+
+		@Override
+		public boolean isValidDouble(final double value) {
 			return value > ref;
 		}
 
@@ -51,6 +69,11 @@ public abstract class DblValidator extends BaseValidator<Double> {
 
 		@Override
 		public boolean isValidWithoutNull(final Double value) {
+			return isValidDouble(value);
+		}
+
+		@Override
+		public boolean isValidDouble(final double value) {
 			return value >= ref;
 		}
 
@@ -74,6 +97,11 @@ public abstract class DblValidator extends BaseValidator<Double> {
 
 		@Override
 		public boolean isValidWithoutNull(final Double value) {
+			return isValidDouble(value);
+		}
+
+		@Override
+		public boolean isValidDouble(final double value) {
 			return value < ref;
 		}
 
@@ -97,6 +125,11 @@ public abstract class DblValidator extends BaseValidator<Double> {
 
 		@Override
 		public boolean isValidWithoutNull(final Double value) {
+			return isValidDouble(value);
+		}
+
+		@Override
+		public boolean isValidDouble(final double value) {
 			return value <= ref;
 		}
 
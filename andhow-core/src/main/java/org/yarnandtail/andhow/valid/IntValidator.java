@@ -15,6 +15,19 @@ public abstract class IntValidator extends BaseValidator<Integer> {
 		return "THIS VALIDATION IS ALWAYS VALID";
 	}
 
+	/**
+	 * Validate a {@code int} value w/o boxing.
+	 * <p>
+	 * The default boxes the value and calls {@link #isValidWithoutNull(Object)}, so a subclass
+	 * need only implement that.  The built-in validators override it to compare w/o boxing.
+	 *
+	 * @param value The value to validate.
+	 * @return True if valid.
+	 */
+	public boolean isValidInt(final int value) {
+		return isValidWithoutNull(value);
+	}
+
 	/**
 	 * Validate that an integer is greater than a reference value.
 	 */
@@ -28,6 +41,11 @@ public abstract class IntValidator extends BaseValidator<Integer> {
 
 		@Override
 		public boolean isValidWithoutNull(final Integer value) {
+			return isValidInt(value);
+		}
+
+		@Override
+		public boolean isValidInt(final int value) {
 			return value > ref;
 		}
 
@@ -51,6 +69,11 @@ public abstract class IntValidator extends BaseValidator<Integer> {
 
 		@Override
 		public boolean isValidWithoutNull(final Integer value) {
+			return isValidInt(value);
+		}
+
+		@Override
+		public boolean isValidInt(final int value) {
 			return value >= ref;
 		}
 
@@ -73,7 +96,12 @@ public abstract class IntValidator extends BaseValidator<Integer> {
 		}
 
 		@Override
-		public boolean isValidWithoutNull(Integer value) {
+		public boolean isValidWithoutNull(final Integer value) {
+			return isValidInt(value);
+		}
+
+		@Override
+		public boolean isValidInt(final int value) {
 			return value < ref;
 		}
 
@@ -97,6 +125,11 @@ public abstract class IntValidator extends BaseValidator<Integer> {
 
 		@Override
 		public boolean isValidWithoutNull(final Integer value) {
+			return isValidInt(value);
+		}
+
+		@Override
+		public boolean isValidInt(final int value) {
 			return value <= ref;
 		}
 
@@ -15,6 +15,19 @@ public abstract class LngValidator extends BaseValidator<Long> {
 		return "THIS VALIDATION IS ALWAYS VALID";
 	}
 
+	/**
+	 * Validate a {@code long} value w/o boxing.
+	 * <p>
+	 * The default boxes the value and calls {@link #isValidWithoutNull(Object)}, so a subclass
+	 * need only implement that.  The built-in validators override it to compare w/o boxing.
+	 *
+	 * @param value The value to validate.
+	 * @return True if valid.
+	 */
+	public boolean isValidLong(final long value) {
+		return isValidWithoutNull(value);
+	}
+
 	/**
 	 * Validate that a long is greater than a specified reference.
 	 */
@@ -28,6 +41,11 @@ public abstract class LngValidator extends BaseValidator<Long> {
 
 		@Override
 		public boolean isValidWithoutNull(final Long value) {
+			return isValidLong(value);
+		}
+
+		@Override
+		public boolean isValidLong(final long value) {
 			return value > ref;
 		}
 
@@ -51,6 +69,11 @@ public abstract class LngValidator extends BaseValidator<Long> {
 
 		@Override
 		public boolean isValidWithoutNull(final Long value) {
+			return isValidLong(value);
+		}
+
+		@Override
+		public boolean isValidLong(final long value) {
 			return value >= ref;
 		}
 
@@ -74,6 +97,11 @@ public abstract class LngValidator extends BaseValidator<Long> {
 
 		@Override
 		public boolean isValidWithoutNull(final Long value) {
+			return isValidLong(value);
+		}
+
+		@Override
+		public boolean isValidLong(final long value) {
 			return value < ref;
 		}
 
@@ -97,6 +125,11 @@ public abstract class LngValidator extends BaseValidator<Long> {
 
 		@Override
 		public boolean isValidWithoutNull(final Long value) {
+			return isValidLong(value);
+		}
+
+		@Override
+		public boolean isValidLong(final long value) {
 			return value <= ref;
 		}
 
@@ -1,6 +1,8 @@
 package org.yarnandtail.andhow.valid;
 
-import java.util.Arrays;
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 /**
  * Validator implementations for String ValueTypes.
@@ -15,9 +17,11 @@ public class StringValidator {
 	public static class OneOf extends BaseValidator<String> {
 
 		String[] values;
+		private final Set<String> valueSet;
 
 		public OneOf(String... values) {
 			this.values = values;
+			valueSet = (values != null) ? new HashSet(Arrays.asList(values)) : Collections.emptySet();
 		}
 
 		@Override
@@ -34,7 +38,7 @@ public class StringValidator {
 
 		@Override
 		public boolean isValidWithoutNull(final String value) {
-			return Arrays.stream(values).anyMatch(value::equals);
+			return valueSet.contains(value);
 		}
 
 		@Override
@@ -50,8 +54,31 @@ public class StringValidator {
 
 		String[] values;
 
+		/** The values, case folded */
+		private final Set<String> foldedValues = new HashSet();
+
 		public OneOfIgnoringCase(String... values) {
 			this.values = values;
+
+			if (values != null) {
+				for (String v : values) {
+					if (v != null) foldedValues.add(fold(v));
+				}
+			}
+		}
+
+		/**
+		 * Folds each char the same way {@link String#equalsIgnoreCase(String)} compares them,
+		 * so two Strings are equal ignoring case if and only if their folded forms are equal.
+		 */
+		static String fold(String str) {
+			char[] chars = new char[str.length()];
+
+			for (int i = 0; i < chars.length; i++) {
+				chars[i] = Character.toLowerCase(Character.toUpperCase(str.charAt(i)));
+			}
+
+			return new String(chars);
 		}
 
 		@Override
@@ -68,7 +95,7 @@ public class StringValidator {
 
 		@Override
 		public boolean isValidWithoutNull(final String value) {
-			return Arrays.stream(values).anyMatch(value::equalsIgnoreCase);
+			return foldedValues.contains(fold(value));
 		}
 
 		@Override
@@ -160,20 +187,26 @@ public class StringValidator {
 
 		private String regex;
 
+		/** The compiled regex, or null if the regex is invalid */
+		private final Pattern pattern;
+
 		public Regex(String regex) {
 			this.regex = regex;
-		}
 
-		@Override
-		public boolean isSpecificationValid() {
+			Pattern p = null;
 
 			try {
-				"".matches(regex);
-				return true;
-			} catch (Exception e) {
-				return false;
+				p = Pattern.compile(regex);
+			} catch (PatternSyntaxException | NullPointerException e) {
+				//Invalid, which is reported by isSpecificationValid
 			}
 
+			pattern = p;
+		}
+
+		@Override
+		public boolean isSpecificationValid() {
+			return pattern != null;
 		}
 
 		@Override
@@ -183,7 +216,7 @@ public class StringValidator {
 
 		@Override
 		public boolean isValidWithoutNull(final String value) {
-			return value.matches(regex);
+			return pattern.matcher(value).matches();
 		}
 
 		@Override
@@ -0,0 +1,177 @@
+package org.yarnandtail.andhow;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.PropertyConfigurationInternal;
+import org.yarnandtail.andhow.load.MapLoader;
+import org.yarnandtail.andhow.testutil.ReflectionTestUtils;
+import org.yarnandtail.andhow.property.StrProp;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AndHowAsyncInitTest extends AndHowTestBase {
+
+	public static interface AsyncParams {
+		StrProp NAME = StrProp.builder().startsWith("ok").defaultValue("ok_default").build();
+	}
+
+	static final String NAME_PROP = AsyncParams.class.getCanonicalName() + ".NAME";
+
+	/** Holds tasks until they are run by the test */
+	static class HeldExecutor implements Executor {
+		List<Runnable> tasks = new ArrayList<>();
+
+		@Override
+		public void execute(Runnable command) {
+			tasks.add(command);
+		}
+
+		void runAll() {
+			tasks.forEach(Runnable::run);
+		}
+	}
+
+	@AfterEach
+	public void forgetFailedAsyncInit() {
+		ReflectionTestUtils.setStaticFieldValue(AndHow.class, "asyncInit", null);
+	}
+
+	@Test
+	public void initializeOnAnotherThread() throws Exception {
+		AndHow.setConfig(AndHowTestConfig.instance().addOverrideGroup(AsyncParams.class));
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		CountDownLatch busy = new CountDownLatch(1);
+
+		try {
+			executor.execute(() -> {
+				try {
+					busy.await();	//Keeps the initialization pending until released
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+
+			CompletableFuture<AndHow> future = AndHow.initializeAsync(executor);
+			assertSame(future, AndHow.initializeAsync(executor), "Same future while pending");
+			busy.countDown();
+
+			assertEquals("ok_default", AsyncParams.NAME.getValue());
+			assertSame(AndHow.instance(), future.get(10, TimeUnit.SECONDS));
+			assertTrue(AndHow.initializeAsync(executor).isDone());
+		} finally {
+			busy.countDown();
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void instanceRunsInitializationIfNotYetStarted() {
+		AndHow.setConfig(AndHowTestConfig.instance().addOverrideGroup(AsyncParams.class));
+		HeldExecutor executor = new HeldExecutor();
+
+		CompletableFuture<AndHow> future = AndHow.initializeAsync(executor);
+		assertFalse(future.isDone());
+
+		AndHow ah = AndHow.instance();
+		assertTrue(future.isDone());
+		assertSame(ah, future.join());
+
+		executor.runAll();	//The held task finds nothing to do
+		assertSame(ah, AndHow.instance());
+	}
+
+	@Test
+	public void failuresAreTheSameExceptionInFutureAndInstance() {
+		System.setProperty(NAME_PROP, "invalid");
+		AndHow.setConfig(AndHowTestConfig.instance().addOverrideGroup(AsyncParams.class));
+		HeldExecutor executor = new HeldExecutor();
+
+		CompletableFuture<AndHow> future = AndHow.initializeAsync(executor);
+		executor.runAll();
+
+		CompletionException wrapped = assertThrows(CompletionException.class, () -> future.join());
+		assertTrue(wrapped.getCause() instanceof AppFatalException);
+		assertFalse(AndHow.isInitialized());
+
+		AndHow.setConfig(AndHowTestConfig.instance().addOverrideGroup(AsyncParams.class));
+		CompletableFuture<AndHow> future2 = AndHow.initializeAsync(executor);
+		assertNotSame(future, future2, "A failed initialization can be retried");
+
+		AppFatalException thrown = assertThrows(AppFatalException.class, () -> AndHow.instance());
+		assertSame(thrown, assertThrows(CompletionException.class, () -> future2.join()).getCause());
+	}
+
+	@Test
+	public void rejectedTasksDoNotLeaveInitializationPending() {
+		AndHow.setConfig(AndHowTestConfig.instance().addOverrideGroup(AsyncParams.class));
+
+		assertThrows(RejectedExecutionException.class, () -> AndHow.initializeAsync(r -> {
+			throw new RejectedExecutionException();
+		}));
+
+		assertEquals("ok_default", AsyncParams.NAME.getValue());
+	}
+
+	@Test
+	public void callersWaitingOnAFailedInitializationGetItsFailure() throws Exception {
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		MapLoader blockingLoader = new MapLoader() {
+			@Override
+			public LoaderValues load(PropertyConfigurationInternal runtimeDef,
+					LoaderEnvironment environment, ValidatedValuesWithContext existingValues) {
+				loading.countDown();
+
+				try {
+					assertTrue(release.await(10, TimeUnit.SECONDS));
+				} catch (InterruptedException e) {
+					throw new RuntimeException(e);
+				}
+
+				return super.load(runtimeDef, environment, existingValues);
+			}
+		};
+
+		blockingLoader.setMap(Collections.singletonMap(NAME_PROP, "invalid"));
+		AndHow.setConfig(AndHowTestConfig.instance().addOverrideGroup(AsyncParams.class)
+				.setLoaders(blockingLoader));
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		try {
+			CompletableFuture<AndHow> future = AndHow.initializeAsync(executor);
+			assertTrue(loading.await(10, TimeUnit.SECONDS));
+
+			AtomicReference<Thread> waiter = new AtomicReference<>();
+			Future<AndHow> waiting = executor.submit(() -> {
+				waiter.set(Thread.currentThread());
+				return AndHow.instance();
+			});
+
+			while (waiter.get() == null || waiter.get().getState() != Thread.State.BLOCKED) {
+				Thread.sleep(5);
+			}
+
+			release.countDown();
+
+			Throwable cause = assertThrows(CompletionException.class, () -> future.join()).getCause();
+			ExecutionException waited = assertThrows(ExecutionException.class,
+					() -> waiting.get(10, TimeUnit.SECONDS));
+
+			assertTrue(cause instanceof AppFatalException);
+			assertSame(cause, waited.getCause(), "Not initialized again by the waiting caller");
+			assertSame(cause, assertThrows(AppFatalException.class, () -> AndHow.instance()));
+			assertNotSame(future, AndHow.initializeAsync(r -> { }), "A new attempt replaces the failed future");
+		} finally {
+			release.countDown();
+			executor.shutdownNow();
+		}
+	}
+
+}
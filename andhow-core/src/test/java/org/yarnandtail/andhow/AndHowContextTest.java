@@ -0,0 +1,186 @@
+package org.yarnandtail.andhow;
+
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.yarnandtail.andhow.api.AppFatalException;
+import org.yarnandtail.andhow.property.IntProp;
+import org.yarnandtail.andhow.property.StrProp;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AndHowContextTest extends AndHowTestBase {
+
+	public static interface ContextParams {
+		StrProp NAME = StrProp.builder().startsWith("ok").defaultValue("ok_default").build();
+		IntProp COUNT = IntProp.builder().defaultValue(1).build();
+	}
+
+	static final String NAME_PROP = ContextParams.class.getCanonicalName() + ".NAME";
+	static final String COUNT_PROP = ContextParams.class.getCanonicalName() + ".COUNT";
+
+	AndHowContext buildContext(String name, int count) {
+		return AndHowContext.create(AndHowTestConfig.instance().addOverrideGroup(ContextParams.class)
+				.addFixedValue(NAME_PROP, name).addFixedValue(COUNT_PROP, count));
+	}
+
+	@Test
+	public void contextsBoundToThreadsAreIndependent() throws Exception {
+		AndHow.setConfig(AndHowTestConfig.instance().addOverrideGroup(ContextParams.class));
+
+		AndHowContext ctx1 = buildContext("ok_1", 10);
+		AndHowContext ctx2 = buildContext("ok_2", 20);
+
+		assertFalse(ctx1.isInitialized());
+		ctx1.run(() -> {
+			assertEquals("ok_1", ContextParams.NAME.getValue());
+			assertEquals(10, ContextParams.COUNT.getInt());
+			ctx2.run(() -> assertEquals("ok_2", ContextParams.NAME.getValue()));
+			assertEquals("ok_1", ContextParams.NAME.getValue(), "Outer binding is restored");
+		});
+
+		assertEquals(20, (int) ctx2.call(() -> ContextParams.COUNT.getValue()));
+
+		assertTrue(ctx1.isInitialized());
+		assertNotSame(ctx1.instance(), ctx2.instance());
+		assertFalse(AndHow.isInitialized(), "Reading from contexts doesn't init the singleton");
+		assertEquals("ok_default", ContextParams.NAME.getValue());
+		assertNull(AndHowContext.find());
+	}
+
+	@Test
+	public void contextsBoundToClassLoadersApplyToChildLoaders() throws Exception {
+		AndHow.setConfig(AndHowTestConfig.instance().addOverrideGroup(ContextParams.class));
+
+		ClassLoader original = Thread.currentThread().getContextClassLoader();
+		URLClassLoader deployment = new URLClassLoader(new URL[0], original);
+		URLClassLoader child = new URLClassLoader(new URL[0], deployment);
+		AndHowContext ctx = buildContext("ok_deployed", 5).bindTo(deployment);
+
+		try {
+			Thread.currentThread().setContextClassLoader(child);
+			assertSame(ctx, AndHowContext.find());
+			assertEquals("ok_deployed", ContextParams.NAME.getValue());
+
+			Thread.currentThread().setContextClassLoader(original);
+			assertEquals("ok_default", ContextParams.NAME.getValue());
+
+			ctx.unbind();
+			Thread.currentThread().setContextClassLoader(child);
+			assertNull(AndHowContext.find());
+			assertEquals("ok_default", ContextParams.NAME.getValue());
+		} finally {
+			ctx.unbind();
+			Thread.currentThread().setContextClassLoader(original);
+			child.close();
+			deployment.close();
+		}
+	}
+
+	@Test
+	public void reloadAndFailuresOnlyAffectOneContext() {
+		System.setProperty(NAME_PROP, "ok_sys");
+
+		AndHowContext ctx1 = AndHowContext.create(
+				AndHowTestConfig.instance().addOverrideGroup(ContextParams.class));
+		AndHowContext invalid = buildContext("invalid", 1);
+
+		assertEquals("ok_sys", ctx1.instance().getValue(ContextParams.NAME));
+		assertThrows(AppFatalException.class, () -> invalid.instance());
+		assertFalse(invalid.isInitialized());
+
+		System.setProperty(NAME_PROP, "ok_reloaded");
+		assertSame(ctx1.instance(), ctx1.reload());
+		assertEquals("ok_reloaded", ctx1.instance().getValue(ContextParams.NAME));
+		assertFalse(AndHow.isInitialized());
+	}
+
+	@Test
+	public void fastPathIsRestoredOnceNothingIsBound() throws Exception {
+		AndHowContext ctx = buildContext("ok_1", 1);
+		URLClassLoader deployment = new URLClassLoader(new URL[0]);
+
+		try {
+			assertFalse(isBindingInUse());
+
+			ctx.run(() -> assertTrue(isBindingInUseQuietly()));
+			assertFalse(isBindingInUse(), "Thread binding ended");
+
+			ctx.bindTo(deployment);
+			ctx.run(() -> { });
+			assertTrue(isBindingInUse(), "Still bound to a class loader");
+
+			ctx.run(() -> {
+				ctx.unbind();
+				assertTrue(isBindingInUseQuietly(), "Still bound to this thread");
+			});
+			assertFalse(isBindingInUse());
+		} finally {
+			ctx.unbind();
+			deployment.close();
+		}
+	}
+
+	@Test
+	public void threadBindingsAreNotLostWhileClassLoadersAreUnbound() throws Exception {
+		AndHow.setConfig(AndHowTestConfig.instance().addOverrideGroup(ContextParams.class));
+		AndHowContext ctx = buildContext("ok_thread", 1);
+		AndHowContext other = buildContext("ok_other", 2);
+		URLClassLoader unrelated = new URLClassLoader(new URL[0]);
+
+		int threads = 4;
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+
+		try {
+			List<Future<?>> runs = new ArrayList();
+
+			for (int i = 0; i < threads; i++) {
+				runs.add(pool.submit(() -> {
+					for (int r = 0; r < 2000; r++) {
+						ctx.run(() -> assertEquals("ok_thread", ContextParams.NAME.getValue()));
+					}
+				}));
+			}
+
+			for (int i = 0; i < 2000; i++) {
+				other.bindTo(unrelated);
+				other.unbind();
+			}
+
+			for (Future<?> run : runs) {
+				run.get(30, TimeUnit.SECONDS);
+			}
+		} finally {
+			pool.shutdownNow();
+			other.unbind();
+			unrelated.close();
+		}
+
+		assertFalse(isBindingInUse());
+	}
+
+	static boolean isBindingInUse() throws Exception {
+		Field field = AndHowContext.class.getDeclaredField("bindingCount");
+		field.setAccessible(true);
+		return ((AtomicInteger) field.get(null)).get() > 0;
+	}
+
+	static boolean isBindingInUseQuietly() {
+		try {
+			return isBindingInUse();
+		} catch (Exception e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	@Test
+	public void nullConfigIsNotAllowed() {
+		assertThrows(AppFatalException.class, () -> AndHowContext.create(null));
+	}
+
+}
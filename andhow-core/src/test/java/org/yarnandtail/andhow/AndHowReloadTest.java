@@ -0,0 +1,156 @@
+package org.yarnandtail.andhow;
+
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+import org.yarnandtail.andhow.api.AppFatalException;
+import org.yarnandtail.andhow.api.ValidatedValues;
+import org.yarnandtail.andhow.api.WatchableLoader;
+import org.yarnandtail.andhow.load.MapLoader;
+import org.yarnandtail.andhow.property.IntProp;
+import org.yarnandtail.andhow.property.StrProp;
+import org.yarnandtail.andhow.testutil.AndHowTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AndHowReloadTest extends AndHowTestBase {
+
+	public static interface ReloadParams {
+		StrProp NAME = StrProp.builder().startsWith("ok").defaultValue("ok_default").build();
+		IntProp COUNT = IntProp.builder().defaultValue(1).build();
+	}
+
+	static final String NAME_PROP = ReloadParams.class.getCanonicalName() + ".NAME";
+	static final String COUNT_PROP = ReloadParams.class.getCanonicalName() + ".COUNT";
+
+	@Test
+	public void reloadPicksUpChangedSystemProperties() {
+		AndHow.setConfig(AndHowTestConfig.instance().addOverrideGroup(ReloadParams.class));
+
+		System.setProperty(NAME_PROP, "ok_1");
+		assertEquals("ok_1", ReloadParams.NAME.getValue());
+
+		System.setProperty(NAME_PROP, "ok_2");
+		System.setProperty(COUNT_PROP, "2");
+		assertEquals("ok_1", ReloadParams.NAME.getValue(), "No change until reload");
+
+		assertSame(AndHow.instance(), AndHow.reload());
+		assertEquals("ok_2", ReloadParams.NAME.getValue());
+		assertEquals(2, ReloadParams.COUNT.getValue());
+
+		System.clearProperty(NAME_PROP);
+		AndHow.reload();
+		assertEquals("ok_default", ReloadParams.NAME.getValue());
+		assertFalse(ReloadParams.NAME.isExplicitlySet());
+	}
+
+	@Test
+	public void failedReloadKeepsExistingValues() {
+		AndHow.setConfig(AndHowTestConfig.instance().addOverrideGroup(ReloadParams.class));
+
+		System.setProperty(NAME_PROP, "ok_1");
+		AndHow.instance();
+
+		System.setProperty(NAME_PROP, "invalid");
+		System.setProperty(COUNT_PROP, "2");
+		assertThrows(AppFatalException.class, () -> AndHow.reload());
+
+		assertEquals("ok_1", ReloadParams.NAME.getValue());
+		assertEquals(1, ReloadParams.COUNT.getValue(), "No part of a failed reload is applied");
+	}
+
+	@Test
+	public void snapshotIsNotChangedByReload() {
+		AndHow.setConfig(AndHowTestConfig.instance().addOverrideGroup(ReloadParams.class));
+
+		System.setProperty(NAME_PROP, "ok_1");
+		ValidatedValues pinned = AndHow.instance().snapshot();
+
+		System.setProperty(NAME_PROP, "ok_2");
+		System.setProperty(COUNT_PROP, "2");
+		AndHow.reload();
+
+		assertEquals("ok_1", pinned.getValue(ReloadParams.NAME));
+		assertEquals(1, pinned.getValue(ReloadParams.COUNT));
+		assertTrue(pinned.isExplicitlySet(ReloadParams.NAME));
+		assertEquals("ok_2", AndHow.instance().snapshot().getValue(ReloadParams.NAME));
+	}
+
+	@Test
+	public void reloadBeforeInitializationInitializes() {
+		AndHow.setConfig(AndHowTestConfig.instance().addOverrideGroup(ReloadParams.class));
+
+		assertFalse(AndHow.isInitialized());
+		assertNotNull(AndHow.reload());
+		assertTrue(AndHow.isInitialized());
+	}
+
+	@Test
+	public void watchersOfAReplacedCoreAreStopped() {
+		WatchedMapLoader first = new WatchedMapLoader();
+		AndHow.setConfig(AndHowTestConfig.instance().addOverrideGroup(ReloadParams.class).setLoaders(first));
+		AndHow.instance();
+		assertNotNull(first.onChange);
+
+		AndHow.reload();
+		assertEquals(0, first.stopCount, "Still the loader of the reloaded core");
+
+		//As the test utils & junit extensions do, then initialize a new core
+		AndHowTestUtils.setAndHowCore(null);
+		WatchedMapLoader second = new WatchedMapLoader();
+		AndHow.setConfig(AndHowTestConfig.instance().addOverrideGroup(ReloadParams.class).setLoaders(second));
+		AndHow.instance();
+
+		assertEquals(1, first.stopCount);
+		assertNotNull(second.onChange);
+		assertEquals(0, second.stopCount);
+	}
+
+	@Test
+	public void singleLoaderReloadDefersLoadedGroupsAgain() {
+		WatchedMapLoader loader = new WatchedMapLoader();
+		loader.getMap().put(NAME_PROP, "ok_1");
+		AndHow.setConfig(AndHowTestConfig.instance().addOverrideGroup(ReloadParams.class)
+				.addDeferredGroup(ReloadParams.class).setLoaders(loader));
+
+		assertEquals("ok_1", ReloadParams.NAME.getValue());
+
+		loader.getMap().put(NAME_PROP, "ok_2");
+		loader.onChange.run();
+
+		assertEquals("ok_2", ReloadParams.NAME.getValue(), "Already loaded, but loaded again after the reload");
+	}
+
+	/**
+	 * A reloadable MapLoader that records how it is watched.
+	 */
+	static class WatchedMapLoader extends MapLoader implements WatchableLoader {
+		Runnable onChange;
+		int stopCount;
+
+		WatchedMapLoader() {
+			setMap(new HashMap());
+		}
+
+		@Override
+		public boolean isReloadable() {
+			return true;
+		}
+
+		@Override
+		public void releaseResources() {
+			//Keep the map to load again
+		}
+
+		@Override
+		public void watch(Runnable onChange) {
+			this.onChange = onChange;
+		}
+
+		@Override
+		public void stopWatching() {
+			stopCount++;
+		}
+	}
+
+}
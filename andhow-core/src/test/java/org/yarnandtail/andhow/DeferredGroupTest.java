@@ -0,0 +1,135 @@
+package org.yarnandtail.andhow;
+
+import org.junit.jupiter.api.Test;
+import org.yarnandtail.andhow.api.AppFatalException;
+import org.yarnandtail.andhow.api.InitializationStats.LoaderStats;
+import org.yarnandtail.andhow.load.MapLoader;
+import org.yarnandtail.andhow.load.std.StdSysPropLoader;
+import org.yarnandtail.andhow.property.IntProp;
+import org.yarnandtail.andhow.property.StrProp;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DeferredGroupTest extends AndHowTestBase {
+
+	public static interface Eager {
+		StrProp NAME = StrProp.builder().defaultValue("eager").build();
+	}
+
+	public static interface Subsystem {
+		StrProp HOST = StrProp.builder().startsWith("ok").build();
+		IntProp PORT = IntProp.builder().defaultValue(80).build();
+
+		public static interface Nested {
+			StrProp REQUIRED = StrProp.builder().notNull().build();
+		}
+	}
+
+	static final String HOST_PROP = Subsystem.class.getCanonicalName() + ".HOST";
+	static final String REQUIRED_PROP = Subsystem.Nested.class.getCanonicalName() + ".REQUIRED";
+
+	AndHowTestConfig.AndHowTestConfigImpl buildConfig() {
+		return AndHowTestConfig.instance()
+				.addOverrideGroup(Eager.class).addOverrideGroup(Subsystem.class)
+				.addOverrideGroup(Subsystem.Nested.class).addDeferredGroup(Subsystem.class);
+	}
+
+	@Test
+	public void deferredGroupsAreLoadedOnFirstRead() {
+		System.setProperty(HOST_PROP, "ok_host");
+		System.setProperty(REQUIRED_PROP, "here");
+		//By name, which is not unknown even though it is not loaded at startup
+		AndHow.setConfig(buildConfig().addFixedValue(Subsystem.class.getCanonicalName() + ".PORT", 8080));
+
+		assertEquals("eager", Eager.NAME.getValue());
+
+		LoaderStats sysProps = AndHow.instance().getInitializationStats().getLoaderStats().stream()
+				.filter(ls -> ls.getLoader() instanceof StdSysPropLoader).findFirst().get();
+		assertEquals(0, sysProps.getKeysMatched(), "Deferred values are not loaded at startup");
+
+		assertTrue(Subsystem.HOST.isExplicitlySet());
+		assertEquals("ok_host", Subsystem.HOST.getValue());
+		assertEquals(8080, Subsystem.PORT.getInt());
+		assertEquals("here", Subsystem.Nested.REQUIRED.getValue());
+	}
+
+	@Test
+	public void deferredGroupProblemsAreThrownOnEveryRead() {
+		System.setProperty(HOST_PROP, "invalid");
+		System.setProperty(REQUIRED_PROP, "here");
+		AndHow.setConfig(buildConfig());
+
+		assertEquals("eager", Eager.NAME.getValue(), "Startup is not affected by deferred problems");
+
+		AppFatalException first = assertThrows(AppFatalException.class, () -> Subsystem.PORT.getValue());
+		AppFatalException second = assertThrows(AppFatalException.class, () -> Subsystem.HOST.getValue());
+		assertSame(first, second, "The group is only loaded once");
+		assertEquals(1, first.getProblems().size());
+
+		assertEquals("here", Subsystem.Nested.REQUIRED.getValue(), "Other deferred groups are unaffected");
+	}
+
+	@Test
+	public void missingRequiredValueInDeferredGroupIsThrownOnRead() {
+		AndHow.setConfig(buildConfig());
+
+		AndHow.instance();
+		assertThrows(AppFatalException.class, () -> Subsystem.Nested.REQUIRED.getValue());
+	}
+
+	@Test
+	public void groupsAreNotDeferredWhenALoaderCannotLoadAgain() {
+		MapLoader mapLoader = new MapLoader();
+		Map<String, String> vals = new HashMap();
+		vals.put(HOST_PROP, "ok_from_map");
+		vals.put(REQUIRED_PROP, "here");
+		mapLoader.setMap(vals);
+
+		AndHow.setConfig(buildConfig().setLoaders(mapLoader));
+
+		LoaderStats mapStats = AndHow.instance().getInitializationStats().getLoaderStats().stream()
+				.filter(ls -> ls.getLoader() == mapLoader).findFirst().get();
+		assertEquals(2, mapStats.getKeysMatched(), "Loaded at startup, since the map is then released");
+
+		assertNull(mapLoader.getMap());
+		assertEquals("ok_from_map", Subsystem.HOST.getValue());
+		assertEquals("here", Subsystem.Nested.REQUIRED.getValue());
+	}
+
+	@Test
+	public void concurrentFirstReadsSeeCompleteValues() throws Exception {
+		System.setProperty(HOST_PROP, "ok_host");
+		System.setProperty(REQUIRED_PROP, "here");
+		AndHow.setConfig(buildConfig().addFixedValue(Subsystem.PORT, 8080));
+		AndHow.instance();
+
+		int threads = 8;
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+
+		try {
+			List<Future<Integer>> reads = new ArrayList();
+
+			for (int i = 0; i < threads; i++) {
+				reads.add(pool.submit(() -> {
+					start.await();
+					return Subsystem.PORT.getInt(-1);
+				}));
+			}
+
+			start.countDown();
+
+			for (Future<Integer> read : reads) {
+				assertEquals(8080, read.get(10, TimeUnit.SECONDS));
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+
+		assertEquals("ok_host", Subsystem.HOST.getValue());
+	}
+
+}
@@ -0,0 +1,76 @@
+package org.yarnandtail.andhow;
+
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+import org.yarnandtail.andhow.api.InitializationStats;
+import org.yarnandtail.andhow.api.InitializationStats.LoaderStats;
+import org.yarnandtail.andhow.api.InitializationStats.Phase;
+import org.yarnandtail.andhow.load.std.*;
+import org.yarnandtail.andhow.property.StrProp;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InitializationStatsTest extends AndHowTestBase {
+
+	public static interface StatsParams {
+		StrProp NAME = StrProp.builder().build();
+		StrProp OTHER = StrProp.builder().build();
+	}
+
+	static final String NAME_PROP = StatsParams.class.getCanonicalName() + ".NAME";
+
+	@Test
+	public void phasesAndLoadersAreRecorded() {
+		Map<String, String> sysProps = new HashMap();
+		sysProps.put(NAME_PROP, "sys");
+		sysProps.put("unrelated.one", "x");
+		sysProps.put("unrelated.two", "x");
+
+		AndHow.setConfig(AndHowTestConfig.instance().addOverrideGroup(StatsParams.class)
+				.addFixedValue(StatsParams.OTHER, "fixed").setSystemProperties(sysProps));
+
+		InitializationStats stats = AndHow.instance().getInitializationStats();
+
+		for (Phase p : new Phase[] {Phase.DISCOVERY, Phase.DEFINITION, Phase.LOAD, Phase.VALIDATION, Phase.EXPORT}) {
+			assertTrue(stats.getPhaseNanos().containsKey(p), p.name());
+		}
+
+		assertFalse(stats.getPhaseNanos().containsKey(Phase.SAMPLES), "Samples not requested");
+		assertEquals(0L, stats.getPhaseNanos(Phase.SAMPLES));
+		assertTrue(stats.getTotalNanos() > 0);
+		assertFalse(stats.isFromSnapshotCache());
+
+		assertEquals(AndHowTestConfig.instance().buildLoaders().size(), stats.getLoaderStats().size());
+
+		LoaderStats fixed = find(stats, StdFixedValueLoader.class);
+		assertEquals(1, fixed.getKeysScanned());
+		assertEquals(1, fixed.getKeysMatched());
+		assertEquals(0, fixed.getUnknownKeys());
+
+		LoaderStats sys = find(stats, StdSysPropLoader.class);
+		assertEquals(3, sys.getKeysScanned());
+		assertEquals(1, sys.getKeysMatched());
+		assertEquals(2, sys.getUnknownKeys());
+		assertEquals(0, sys.getProblems());
+		assertTrue(sys.getNanos() >= 0);
+	}
+
+	@Test
+	public void reloadRecordsOnlyLoadAndValidation() {
+		AndHow.setConfig(AndHowTestConfig.instance().addOverrideGroup(StatsParams.class));
+		InitializationStats initial = AndHow.instance().getInitializationStats();
+
+		InitializationStats reloaded = AndHow.reload().getInitializationStats();
+
+		assertNotSame(initial, reloaded);
+		assertEquals(EnumSet.of(Phase.LOAD, Phase.VALIDATION), reloaded.getPhaseNanos().keySet());
+		assertEquals(initial.getLoaderStats().size(), reloaded.getLoaderStats().size());
+	}
+
+	LoaderStats find(InitializationStats stats, Class<?> loaderClass) {
+		return stats.getLoaderStats().stream()
+				.filter(ls -> ls.getLoader().getClass().equals(loaderClass)).findFirst().get();
+	}
+
+}
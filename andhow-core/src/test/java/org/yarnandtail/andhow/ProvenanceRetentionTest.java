@@ -0,0 +1,125 @@
+package org.yarnandtail.andhow;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.load.PropFileOnFilesystemLoader;
+import org.yarnandtail.andhow.load.std.StdFixedValueLoader;
+import org.yarnandtail.andhow.load.std.StdSysPropLoader;
+import org.yarnandtail.andhow.property.IntProp;
+import org.yarnandtail.andhow.property.StrProp;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProvenanceRetentionTest extends AndHowTestBase {
+
+	public static interface RetentionParams {
+		StrProp NAME = StrProp.builder().defaultValue("default").build();
+		IntProp COUNT = IntProp.builder().defaultValue(1).build();
+		StrProp FILEPATH = StrProp.builder().build();
+	}
+
+	static final String NAME = RetentionParams.class.getCanonicalName() + ".NAME";
+	static final String COUNT = RetentionParams.class.getCanonicalName() + ".COUNT";
+	static final String FILEPATH = RetentionParams.class.getCanonicalName() + ".FILEPATH";
+
+	@TempDir
+	Path dir;
+
+	AndHow initialize(ProvenanceRetention retention) {
+		System.setProperty(NAME, "from_sys_prop");
+		System.setProperty(COUNT, "3");
+
+		AndHow.setConfig(AndHowTestConfig.instance().addOverrideGroup(RetentionParams.class)
+				.addFixedValue(NAME, "fixed").setProvenanceRetention(retention));
+
+		return AndHow.instance();
+	}
+
+	Loader findLoader(AndHow ah, Class<?> type) {
+		return ah.getInitializationStats().getLoaderStats().stream()
+				.map(InitializationStats.LoaderStats::getLoader)
+				.filter(l -> type.isInstance(l)).findFirst().get();
+	}
+
+	@Test
+	public void fullKeepsOverriddenValues() {
+		AndHow ah = initialize(null);
+		ValidatedValuesWithContext loaded = ah.getLoadedValues();
+
+		LoaderValues sysProps = loaded.getAllValuesLoadedByLoader(findLoader(ah, StdSysPropLoader.class));
+		assertEquals("from_sys_prop", sysProps.getExplicitValue(RetentionParams.NAME));
+		assertEquals(1, loaded.getEffectiveValuesLoadedByLoader(findLoader(ah, StdSysPropLoader.class)).getValues().size());
+	}
+
+	@Test
+	public void compactKeepsOnlyTheLoaderOfEffectiveValues() {
+		AndHow ah = initialize(ProvenanceRetention.COMPACT);
+		ValidatedValuesWithContext loaded = ah.getLoadedValues();
+
+		assertEquals("fixed", RetentionParams.NAME.getValue());
+		assertEquals(3, RetentionParams.COUNT.getInt());
+
+		Loader fixed = findLoader(ah, StdFixedValueLoader.class);
+		Loader sysProp = findLoader(ah, StdSysPropLoader.class);
+
+		assertEquals("fixed", loaded.getEffectiveValuesLoadedByLoader(fixed).getExplicitValue(RetentionParams.NAME));
+
+		LoaderValues sysProps = loaded.getAllValuesLoadedByLoader(sysProp);
+		assertNull(sysProps.getExplicitValue(RetentionParams.NAME), "Overridden values are not kept");
+		assertEquals(3, sysProps.getExplicitValue(RetentionParams.COUNT));
+	}
+
+	@Test
+	public void noneKeepsNoHistory() {
+		AndHow ah = initialize(ProvenanceRetention.NONE);
+		ValidatedValuesWithContext loaded = ah.getLoadedValues();
+
+		assertEquals("fixed", RetentionParams.NAME.getValue());
+		assertEquals(3, RetentionParams.COUNT.getInt());
+		assertEquals("fixed", loaded.getExplicitValue(RetentionParams.NAME));
+		assertNull(loaded.getEffectiveValuesLoadedByLoader(findLoader(ah, StdFixedValueLoader.class)));
+		assertTrue(loaded.getAllLoaderValues().stream().allMatch(lv -> lv.getValues().isEmpty()));
+
+		System.setProperty(COUNT, "4");
+		AndHow.reload();
+		assertEquals(4, RetentionParams.COUNT.getInt());
+	}
+
+	@Test
+	public void watchedFileChangesReloadAllLoadersWithoutFullHistory() throws Exception {
+		Path file = dir.resolve("app.properties");
+		Files.write(file, (COUNT + "=5").getBytes("ISO-8859-1"));
+
+		AndHow.setConfig(AndHowTestConfig.instance().addOverrideGroup(RetentionParams.class)
+				.addFixedValue(FILEPATH, file.toString())
+				.setFilesystemPropFilePath(RetentionParams.FILEPATH)
+				.setFilesystemPropFileWatchDebounce(Duration.ofMillis(50))
+				.setProvenanceRetention(ProvenanceRetention.COMPACT));
+
+		PropFileOnFilesystemLoader loader = null;
+
+		try {
+			assertEquals(5, RetentionParams.COUNT.getInt());
+			loader = (PropFileOnFilesystemLoader) findLoader(AndHow.instance(), PropFileOnFilesystemLoader.class);
+			int loaderCount = AndHow.instance().getInitializationStats().getLoaderStats().size();
+
+			Files.write(file, (COUNT + "=6").getBytes("ISO-8859-1"));
+
+			for (int i = 0; i < 200 && RetentionParams.COUNT.getInt() != 6; i++) {
+				Thread.sleep(100);
+			}
+
+			assertEquals(6, RetentionParams.COUNT.getInt());
+			assertEquals(loaderCount, AndHow.instance().getInitializationStats().getLoaderStats().size(),
+					"All loaders are reloaded");
+		} finally {
+			if (loader != null) loader.stopWatching();
+		}
+	}
+
+}
@@ -31,6 +31,21 @@ public class LoaderValuesTest {
 		assertEquals(CLASSPATH_TO_USE, existing.getValue(TestProps.CLAZZ_PATH));
 		
 	}
+	
+	@Test
+	public void testFirstValueWinsWhenAPropertyIsDuplicated() {
+		
+		ArrayList<ValidatedValue> evl = new ArrayList();
+		evl.add(new ValidatedValue(TestProps.CLAZZ_PATH, "first"));
+		evl.add(new ValidatedValue(TestProps.CLAZZ_PATH, "second"));
+		LoaderValues existing = new LoaderValues(new MapLoader(), evl, new ProblemList<Problem>());
+		
+		assertEquals(2, existing.getValues().size());
+		assertTrue(existing.isExplicitlySet(TestProps.CLAZZ_PATH));
+		assertEquals("first", existing.getExplicitValue(TestProps.CLAZZ_PATH));
+		assertEquals("first", existing.getValue(TestProps.CLAZZ_PATH));
+		assertNull(existing.getExplicitValue(null));
+	}
 
 	
 }
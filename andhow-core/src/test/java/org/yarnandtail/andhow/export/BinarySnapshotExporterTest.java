@@ -0,0 +1,89 @@
+package org.yarnandtail.andhow.export;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.yarnandtail.andhow.*;
+import org.yarnandtail.andhow.api.AppFatalException;
+import org.yarnandtail.andhow.load.BinarySnapshotLoader;
+import org.yarnandtail.andhow.load.std.StdMainStringArgsLoader;
+import org.yarnandtail.andhow.property.IntProp;
+import org.yarnandtail.andhow.property.StrProp;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A parent exports its values to a snapshot, which a 'worker' AndHow instance loads.
+ */
+public class BinarySnapshotExporterTest extends AndHowTestBase {
+
+	@ManualExportAllowed
+	public static interface WorkerConfig {
+		StrProp NAME = StrProp.builder().aliasInAndOut("worker.name").startsWith("ok").build();
+		IntProp THREADS = IntProp.builder().defaultValue(2).build();
+		IntProp PORT = IntProp.builder().build();
+		StrProp UNSET = StrProp.builder().build();
+	}
+
+	static final String NAME = WorkerConfig.class.getCanonicalName() + ".NAME";
+	static final String THREADS = WorkerConfig.class.getCanonicalName() + ".THREADS";
+	static final String PORT = WorkerConfig.class.getCanonicalName() + ".PORT";
+
+	@TempDir
+	Path dir;
+
+	@Test
+	public void workersLoadTheParentsValues() throws Exception {
+		AndHow.setConfig(AndHowTestConfig.instance().addOverrideGroup(WorkerConfig.class)
+				.addFixedValue(NAME, "ok_parent").addFixedValue(PORT, 8080));
+
+		Path file = dir.resolve("worker.andhow");
+		BinarySnapshotExporter snapshot = new BinarySnapshotExporter();
+		snapshot.add(AndHow.instance().export(WorkerConfig.class));
+		snapshot.write(file);
+
+		assertEquals(3, snapshot.size(), "Only non-null values, once each despite the out alias");
+
+		BinarySnapshotLoader loader = new BinarySnapshotLoader();
+		loader.setFilePath(file.toString());
+
+		AndHowContext worker = AndHowContext.create(AndHowTestConfig.instance()
+				.addOverrideGroup(WorkerConfig.class)
+				.setStandardLoaders(StdMainStringArgsLoader.class)
+				.insertLoaderAfter(StdMainStringArgsLoader.class, loader)
+				.setCmdLineArgs(new String[] {PORT + "=9090"}));
+
+		worker.run(() -> {
+			assertEquals("ok_parent", WorkerConfig.NAME.getValue());
+			assertEquals(2, WorkerConfig.THREADS.getInt());
+			assertEquals(9090, WorkerConfig.PORT.getInt(), "The command line still wins");
+			assertNull(WorkerConfig.UNSET.getValue());
+		});
+
+		assertTrue(worker.instance().isExplicitlySet(WorkerConfig.THREADS), "Defaults are sent as values");
+	}
+
+	@Test
+	public void mappedValuesAreWrittenAndValidatedOnLoad() throws Exception {
+		AndHow.setConfig(AndHowTestConfig.instance().addOverrideGroup(WorkerConfig.class)
+				.addFixedValue(NAME, "ok_parent"));
+
+		Path file = dir.resolve("worker.andhow");
+		BinarySnapshotExporter snapshot = new BinarySnapshotExporter();
+		snapshot.add(AndHow.instance().export(WorkerConfig.class)
+				.map(p -> p.getProperty() == WorkerConfig.NAME ? p.mapValue("invalid") : p));
+		snapshot.write(file);
+
+		BinarySnapshotLoader loader = new BinarySnapshotLoader();
+		loader.setFilePath(file.toString());
+
+		AndHowContext worker = AndHowContext.create(AndHowTestConfig.instance()
+				.addOverrideGroup(WorkerConfig.class)
+				.setStandardLoaders(StdMainStringArgsLoader.class)
+				.insertLoaderAfter(StdMainStringArgsLoader.class, loader));
+
+		assertThrows(AppFatalException.class, () -> worker.instance());
+	}
+
+}
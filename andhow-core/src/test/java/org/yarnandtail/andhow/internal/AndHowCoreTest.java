@@ -9,14 +9,18 @@ import org.yarnandtail.andhow.internal.AndHowIllegalStateException.UnrecognizedP
 import org.yarnandtail.andhow.api.EffectiveName;
 import org.yarnandtail.andhow.api.Exporter.EXPORT_CANONICAL_NAME;
 import org.yarnandtail.andhow.api.Exporter.EXPORT_OUT_ALIASES;
-import org.yarnandtail.andhow.api.Property;
+import org.yarnandtail.andhow.api.*;
 import org.yarnandtail.andhow.export.SysPropExporter;
 import org.yarnandtail.andhow.junit5.RestoreSysPropsAfterThisTest;
+import org.yarnandtail.andhow.load.MapLoader;
+import org.yarnandtail.andhow.util.AndHowUtil;
 import org.yarnandtail.andhow.name.CaseInsensitiveNaming;
 import org.yarnandtail.andhow.property.IntProp;
 import org.yarnandtail.andhow.property.StrProp;
 
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -205,4 +209,165 @@ class AndHowCoreTest {
 
 	}
 
-}
\ No newline at end of file
+	@Test
+	public void concurrentLoadersRunAlongsidePrecedingLoadersWithoutChangingPrecedence() throws Exception {
+
+		CountDownLatch laterLoaderStarted = new CountDownLatch(1);
+
+		//Sequential, but waits until the later, concurrent loader has started
+		MapLoader first = new MapLoader() {
+			@Override
+			public LoaderValues load(PropertyConfigurationInternal runtimeDef,
+					LoaderEnvironment environment, ValidatedValuesWithContext existingValues) {
+				try {
+					assertTrue(laterLoaderStarted.await(10, TimeUnit.SECONDS));
+				} catch (InterruptedException e) {
+					fail(e);
+				}
+				return super.load(runtimeDef, environment, existingValues);
+			}
+		};
+
+		first.setMap(Collections.singletonMap(Conf1.class.getCanonicalName() + ".PROP_100", "first"));
+
+		MapLoader second = new MapLoader() {
+			@Override
+			public LoaderValues load(PropertyConfigurationInternal runtimeDef,
+					LoaderEnvironment environment, ValidatedValuesWithContext existingValues) {
+				laterLoaderStarted.countDown();
+				return super.load(runtimeDef, environment, existingValues);
+			}
+
+			@Override
+			public boolean isConcurrentLoadSafe() {
+				return true;
+			}
+		};
+
+		Map<String, String> secondVals = new HashMap();
+		secondVals.put(Conf1.class.getCanonicalName() + ".PROP_100", "second");
+		secondVals.put(Conf1.class.getCanonicalName() + ".PROP_0", "second");
+		second.setMap(secondVals);
+
+		core = new AndHowCore(new CaseInsensitiveNaming(), Arrays.asList(first, second),
+				config.getLoaderEnvironment(), new ArrayList(Collections.singletonList(
+						AndHowUtil.buildGroupProxy(Conf1.class, true))));
+
+		assertEquals("first", core.getValue(Conf1.PROP_100));
+		assertEquals("second", core.getValue(Conf1.PROP_0));
+	}
+
+	/**
+	 * A concurrent loader configured by PROP_30, which records the config value of each run.
+	 */
+	static class ConfiguredConcurrentLoader extends MapLoader {
+		final List<Object> configValuesSeen = Collections.synchronizedList(new ArrayList());
+		final CountDownLatch started = new CountDownLatch(1);
+
+		@Override
+		public LoaderValues load(PropertyConfigurationInternal runtimeDef,
+				LoaderEnvironment environment, ValidatedValuesWithContext existingValues) {
+			configValuesSeen.add(existingValues.getExplicitValue(Conf1.PROP_30));
+			started.countDown();
+			return super.load(runtimeDef, environment, existingValues);
+		}
+
+		@Override
+		public List<Property> getInstanceConfig() {
+			return Collections.singletonList(Conf1.PROP_30);
+		}
+
+		@Override
+		public boolean isConcurrentLoadSafe() {
+			return true;
+		}
+	}
+
+	@Test
+	public void concurrentLoadersWithDefaultedConfigRunAlongsidePrecedingLoaders() throws Exception {
+
+		ConfiguredConcurrentLoader second = new ConfiguredConcurrentLoader();
+		second.setMap(Collections.singletonMap(Conf1.class.getCanonicalName() + ".PROP_0", "second"));
+
+		//Sequential, but waits until the later loader has started
+		MapLoader first = new MapLoader() {
+			@Override
+			public LoaderValues load(PropertyConfigurationInternal runtimeDef,
+					LoaderEnvironment environment, ValidatedValuesWithContext existingValues) {
+				try {
+					assertTrue(second.started.await(10, TimeUnit.SECONDS));
+				} catch (InterruptedException e) {
+					fail(e);
+				}
+				return super.load(runtimeDef, environment, existingValues);
+			}
+		};
+
+		first.setMap(Collections.singletonMap(Conf1.class.getCanonicalName() + ".PROP_100", "first"));
+
+		core = new AndHowCore(new CaseInsensitiveNaming(), Arrays.asList(first, second),
+				config.getLoaderEnvironment(), new ArrayList(Collections.singletonList(
+						AndHowUtil.buildGroupProxy(Conf1.class, true))));
+
+		assertEquals("second", core.getValue(Conf1.PROP_0));
+		assertEquals(Collections.singletonList(null), second.configValuesSeen, "Run once, w/ the default");
+	}
+
+	@Test
+	public void concurrentLoadersAreRerunWhenTheirConfigChanges() throws Exception {
+
+		MapLoader first = new MapLoader();
+		Map<String, String> firstVals = new HashMap();
+		firstVals.put(Conf1.class.getCanonicalName() + ".PROP_100", "first");
+		firstVals.put(Conf1.class.getCanonicalName() + ".PROP_30", "STARting");
+		first.setMap(firstVals);
+
+		ConfiguredConcurrentLoader second = new ConfiguredConcurrentLoader();
+		second.setMap(Collections.singletonMap(Conf1.class.getCanonicalName() + ".PROP_0", "second"));
+
+		core = new AndHowCore(new CaseInsensitiveNaming(), Arrays.asList(first, second),
+				config.getLoaderEnvironment(), new ArrayList(Collections.singletonList(
+						AndHowUtil.buildGroupProxy(Conf1.class, true))));
+
+		assertEquals("second", core.getValue(Conf1.PROP_0));
+		assertEquals(Arrays.asList(null, "STARting"), second.configValuesSeen);
+		assertEquals(1, core.getInitializationStats().getLoaderStats().stream()
+				.filter(ls -> ls.getLoader() == second).count(), "Only the used run is in the stats");
+	}
+
+	@Test
+	public void reloadKeepsTheValuesOfLoadersThatAreNotReloadable() throws Exception {
+
+		MapLoader mapLoader = new MapLoader();
+		Map<String, String> vals = new HashMap();
+		vals.put(Conf1.class.getCanonicalName() + ".PROP_100", "fromMap");
+		vals.put(Conf1.class.getCanonicalName() + ".PROP_0", "fromMap");
+		mapLoader.setMap(vals);
+
+		assertFalse(mapLoader.isReloadable());
+
+		for (ProvenanceRetention retention : ProvenanceRetention.values()) {
+			core = new AndHowCore(new CaseInsensitiveNaming(), Collections.singletonList(mapLoader),
+					config.getLoaderEnvironment(), new ArrayList(Collections.singletonList(
+							AndHowUtil.buildGroupProxy(Conf1.class, true))), null, null, retention);
+
+			assertNull(mapLoader.getMap(), "Released after loading");
+
+			AndHowCore reloaded = new AndHowCore(core, (LoaderEnvironment) null);
+			assertEquals("fromMap", reloaded.getValue(Conf1.PROP_100), retention.name());
+			assertEquals("fromMap", reloaded.getValue(Conf1.PROP_0), retention.name());
+
+			//Kept across reloads of reloads
+			reloaded = new AndHowCore(reloaded, (LoaderEnvironment) null);
+			assertEquals("fromMap", reloaded.getValue(Conf1.PROP_0), retention.name());
+
+			if (retention == ProvenanceRetention.FULL) {
+				reloaded = new AndHowCore(reloaded, mapLoader);
+				assertEquals("fromMap", reloaded.getValue(Conf1.PROP_0));
+			}
+
+			mapLoader.setMap(vals);
+		}
+	}
+
+}
@@ -474,4 +474,13 @@ public class LoaderProblemTest extends LoaderProblem {
 		assertNotNull(problem.getProblemDescription());
 		assertEquals(expected, problem.getProblemDescription());
 	}
+
+	@Test
+	public void testSourceTooLargeLoaderProblem() {
+		SourceTooLargeLoaderProblem problem = new SourceTooLargeLoaderProblem(loader, String.class, prop, "/run/secrets/BIG", 2048, 1024);
+		String expected = "The file '/run/secrets/BIG' is 2048 bytes, which is larger than the limit of 1024 bytes";
+		assertEquals(expected, problem.getProblemDescription());
+		assertEquals(prop, problem.getBadValueCoord().getProperty());
+		assertEquals(String.class, problem.getBadValueCoord().getGroup());
+	}
 }
@@ -80,6 +80,18 @@ public class PropertyConfigurationImmutableTest {
 		assertEquals(2, appDef.getPropertiesForGroup(proxy).size());
 		assertEquals(SimpleParams.STR_BOB, appDef.getPropertiesForGroup(proxy).get(0));
 		assertEquals(SimpleParams.FLAG_FALSE, appDef.getPropertiesForGroup(proxy).get(1));
+
+		//Group for Property
+		assertSame(proxy, appDef.getGroupForProperty(SimpleParams.STR_BOB));
+		assertSame(proxy, appDef.getGroupForProperty(SimpleParams.FLAG_FALSE));
+		assertNull(appDef.getGroupForProperty(RandomUnregisteredGroup.STR_RND));
+		assertNull(appDef.getGroupForProperty(null));
+
+		//Names of a Property within its Group
+		assertEquals("STR_BOB", proxy.getSimpleName(SimpleParams.STR_BOB));
+		assertEquals(paramFullPath + "STR_BOB", proxy.getCanonicalName(SimpleParams.STR_BOB));
+		assertNull(proxy.getSimpleName(RandomUnregisteredGroup.STR_RND));
+		assertNull(proxy.getCanonicalName(RandomUnregisteredGroup.STR_RND));
 	}
 
 	@Test
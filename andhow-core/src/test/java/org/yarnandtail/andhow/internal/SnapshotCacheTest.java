@@ -0,0 +1,120 @@
+package org.yarnandtail.andhow.internal;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.yarnandtail.andhow.AndHowTestConfig;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.load.std.StdSysPropLoader;
+import org.yarnandtail.andhow.property.IntProp;
+import org.yarnandtail.andhow.property.StrProp;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SnapshotCacheTest {
+
+	public interface CacheConf {
+		StrProp NAME = StrProp.builder().startsWith("ok").aliasIn("cache.name").build();
+		IntProp COUNT = IntProp.builder().defaultValue(1).build();
+	}
+
+	static final String NAME_PROP = CacheConf.class.getCanonicalName() + ".NAME";
+	static final String COUNT_PROP = CacheConf.class.getCanonicalName() + ".COUNT";
+
+	@TempDir
+	Path dir;
+
+	File cacheFile;
+	SnapshotCache cache;
+	Map<String, String> sysProps;
+
+	@BeforeEach
+	public void init() {
+		cacheFile = dir.resolve("andhow.cache").toFile();
+		cache = new SnapshotCache(cacheFile);
+		sysProps = new HashMap();
+		sysProps.put(NAME_PROP, "ok_1");
+		sysProps.put(COUNT_PROP, "2");
+	}
+
+	AndHowTestConfig.AndHowTestConfigImpl buildConfig() {
+		return AndHowTestConfig.instance().addOverrideGroup(CacheConf.class)
+				.setSystemProperties(new HashMap(sysProps));
+	}
+
+	AndHowCore buildCore(AndHowTestConfig.AndHowTestConfigImpl config) {
+		return new AndHowCore(config.getNamingStrategy(), config.buildLoaders(),
+				config.getLoaderEnvironment(), config.getRegisteredGroups(), cache, null);
+	}
+
+	ValidatedValuesWithContext read(AndHowCore core, AndHowTestConfig.AndHowTestConfigImpl config) {
+		return cache.read(core, config.buildLoaders(), config.getLoaderEnvironment());
+	}
+
+	@Test
+	public void valuesAreWrittenAndReadBackWhenInputsAreUnchanged() {
+		AndHowTestConfig.AndHowTestConfigImpl config = buildConfig();
+		AndHowCore core = buildCore(config);
+
+		assertTrue(cacheFile.isFile());
+
+		ValidatedValuesWithContext cached = read(core, config);
+
+		assertNotNull(cached);
+		assertEquals("ok_1", cached.getValue(CacheConf.NAME));
+		assertEquals(2, cached.getValue(CacheConf.COUNT));
+
+		LoaderValues sysPropValues = cached.getAllLoaderValues().stream()
+				.filter(lv -> lv.getLoader() instanceof StdSysPropLoader).findFirst().get();
+		assertEquals("ok_1", sysPropValues.getExplicitValue(CacheConf.NAME), "Values keep their loader");
+
+		//A new core started from the cache has the same values
+		AndHowCore cachedCore = buildCore(buildConfig());
+		assertEquals("ok_1", cachedCore.getValue(CacheConf.NAME));
+		assertEquals(2, cachedCore.getValue(CacheConf.COUNT));
+		assertTrue(cachedCore.isExplicitlySet(CacheConf.COUNT));
+	}
+
+	@Test
+	public void changedInputsAreNotReadFromTheCache() {
+		AndHowCore core = buildCore(buildConfig());
+
+		sysProps.put(NAME_PROP, "ok_2");
+		assertNull(read(core, buildConfig()), "Changed value of a Property");
+
+		sysProps.put(NAME_PROP, "ok_1");
+		assertNotNull(read(core, buildConfig()));
+
+		sysProps.put("cache.name", "ok_3");
+		assertNull(read(core, buildConfig()), "A new alias value");
+
+		sysProps.remove("cache.name");
+		sysProps.put("unrelated.sys.prop", "x");
+		assertNotNull(read(core, buildConfig()), "Unrelated names are not part of the fingerprint");
+
+		//A new core loads the changed value and updates the cache
+		sysProps.put(NAME_PROP, "ok_4");
+		assertEquals("ok_4", buildCore(buildConfig()).getValue(CacheConf.NAME));
+		assertEquals("ok_4", read(core, buildConfig()).getValue(CacheConf.NAME));
+	}
+
+	@Test
+	public void corruptOrMissingCacheFallsBackToLoading() throws Exception {
+		Files.write(cacheFile.toPath(), new byte[] {1, 2, 3});
+
+		AndHowTestConfig.AndHowTestConfigImpl config = buildConfig();
+		AndHowCore core = buildCore(config);
+
+		assertEquals("ok_1", core.getValue(CacheConf.NAME));
+		assertNotNull(read(core, config), "Replaced by a valid cache");
+
+		assertTrue(cacheFile.delete());
+		assertNull(read(core, config));
+	}
+
+}
@@ -0,0 +1,104 @@
+package org.yarnandtail.andhow.internal;
+
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+import org.yarnandtail.andhow.SimpleParams;
+import org.yarnandtail.andhow.api.Property;
+import org.yarnandtail.andhow.property.StrProp;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidatedValuesResolvedTest {
+
+	@Test
+	public void explicitDefaultAndUnregisteredValues() {
+
+		List<Property<?>> props = new ArrayList();
+		props.add(SimpleParams.STR_BOB);
+		props.add(SimpleParams.STR_NULL);
+		props.add(SimpleParams.INT_TEN);
+		props.add(SimpleParams.INT_NULL);
+
+		Map<Property<?>, Object> explicit = new HashMap();
+		explicit.put(SimpleParams.STR_BOB, "not bob");
+		explicit.put(SimpleParams.INT_NULL, 42);
+
+		ValidatedValuesResolved resolved =
+				new ValidatedValuesResolved(props, new ValidatedValuesImmutable(explicit));
+
+		// Explicitly set
+		assertTrue(resolved.isRegistered(SimpleParams.STR_BOB));
+		assertTrue(resolved.isExplicitlySet(SimpleParams.STR_BOB));
+		assertEquals("not bob", resolved.getValue(SimpleParams.STR_BOB));
+		assertEquals("not bob", resolved.getExplicitValue(SimpleParams.STR_BOB));
+
+		assertTrue(resolved.isExplicitlySet(SimpleParams.INT_NULL));
+		assertEquals(42, resolved.getValue(SimpleParams.INT_NULL));
+
+		// Default only
+		assertTrue(resolved.isRegistered(SimpleParams.INT_TEN));
+		assertFalse(resolved.isExplicitlySet(SimpleParams.INT_TEN));
+		assertEquals(10, resolved.getValue(SimpleParams.INT_TEN));
+		assertNull(resolved.getExplicitValue(SimpleParams.INT_TEN));
+
+		// Registered, but no value at all
+		assertTrue(resolved.isRegistered(SimpleParams.STR_NULL));
+		assertNull(resolved.getValue(SimpleParams.STR_NULL));
+		assertNull(resolved.getExplicitValue(SimpleParams.STR_NULL));
+
+		// Not registered
+		assertFalse(resolved.isRegistered(SimpleParams.LNG_TEN));
+		assertFalse(resolved.isExplicitlySet(SimpleParams.LNG_TEN));
+		assertNull(resolved.getValue(SimpleParams.LNG_TEN));
+		assertNull(resolved.getExplicitValue(SimpleParams.LNG_TEN));
+		assertFalse(resolved.isRegistered(null));
+	}
+
+	@Test
+	public void propertyCreatedAfterTheSnapshotIsNotRegistered() {
+
+		List<Property<?>> props = new ArrayList();
+		props.add(SimpleParams.STR_BOB);
+
+		ValidatedValuesResolved resolved =
+				new ValidatedValuesResolved(props, new ValidatedValuesImmutable(Collections.emptyMap()));
+
+		// Has no slot in the snapshot's configuration
+		StrProp late = StrProp.builder().defaultValue("late").build();
+
+		assertFalse(resolved.isRegistered(late));
+		assertFalse(resolved.isExplicitlySet(late));
+		assertNull(resolved.getValue(late));
+		assertEquals("bob", resolved.getValue(SimpleParams.STR_BOB));
+	}
+
+	@Test
+	public void slotsAreDensePerConfiguration() {
+		StrProp a = StrProp.builder().defaultValue("a").build();
+		StrProp b = StrProp.builder().defaultValue("b").build();
+
+		ValidatedValuesResolved first = new ValidatedValuesResolved(
+				Arrays.<Property<?>>asList(a, b), new ValidatedValuesImmutable(Collections.emptyMap()));
+
+		Map<Property<?>, Object> explicit = new HashMap();
+		explicit.put(b, "b2");
+
+		ValidatedValuesResolved second = new ValidatedValuesResolved(
+				Arrays.<Property<?>>asList(b, b), new ValidatedValuesImmutable(explicit));
+
+		assertEquals(2, first.getSlots().size());
+		assertEquals(1, second.getSlots().size(), "Duplicates share a slot");
+		assertEquals(0, second.getSlots().getSlot(b));
+		assertEquals(-1, second.getSlots().getSlot(a));
+		assertEquals(-1, second.getSlots().getSlot(null));
+
+		// b now records its slot in the second configuration, so the first finds it by map
+		assertEquals(1, first.getSlots().getSlot(b));
+		assertEquals("b", first.getValue(b));
+		assertEquals("a", first.getValue(a));
+		assertEquals("b2", second.getValue(b));
+		assertFalse(second.isRegistered(a));
+	}
+
+}
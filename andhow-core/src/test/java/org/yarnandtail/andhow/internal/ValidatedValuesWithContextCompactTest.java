@@ -0,0 +1,93 @@
+package org.yarnandtail.andhow.internal;
+
+import java.util.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.yarnandtail.andhow.SimpleParams;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.load.MapLoader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ValidatedValuesWithContextCompactTest {
+
+	Loader first;
+	Loader second;
+	Loader unused;
+	List<Property<?>> properties;
+	ValidatedValuesWithContext loaded;
+	ValidatedValuesResolved resolved;
+
+	@BeforeEach
+	public void init() {
+		first = new MapLoader();
+		second = new MapLoader();
+		unused = new MapLoader();
+
+		properties = Arrays.asList(SimpleParams.STR_BOB, SimpleParams.STR_NULL,
+				SimpleParams.INT_TEN, SimpleParams.FLAG_NULL);
+
+		List<ValidatedValue> firstSet = new ArrayList();
+		firstSet.add(new ValidatedValue(SimpleParams.STR_BOB, "first"));
+
+		List<ValidatedValue> secondSet = new ArrayList();
+		secondSet.add(new ValidatedValue(SimpleParams.STR_BOB, "overridden"));
+		secondSet.add(new ValidatedValue(SimpleParams.STR_NULL, "second"));
+		secondSet.add(new ValidatedValue(SimpleParams.FLAG_NULL, Boolean.TRUE));
+
+		ValidatedValuesWithContextMutable builder = new ValidatedValuesWithContextMutable();
+		builder.addValues(new LoaderValues(first, firstSet, new ProblemList<Problem>()));
+		builder.addValues(new LoaderValues(second, secondSet, new ProblemList<Problem>()));
+		loaded = builder.getValueMapWithContextImmutable();
+		resolved = new ValidatedValuesResolved(properties, loaded);
+	}
+
+	@Test
+	public void compactKeepsTheLoaderOfEachEffectiveValue() {
+		ValidatedValuesWithContextCompact compact = new ValidatedValuesWithContextCompact(loaded, resolved);
+
+		for (ValidatedValues vals : new ValidatedValues[] {compact, compact.getValueMapImmutable()}) {
+			assertEquals("first", vals.getExplicitValue(SimpleParams.STR_BOB));
+			assertEquals("second", vals.getValue(SimpleParams.STR_NULL));
+			assertTrue(vals.isExplicitlySet(SimpleParams.FLAG_NULL));
+			assertFalse(vals.isExplicitlySet(SimpleParams.INT_TEN));
+			assertNull(vals.getExplicitValue(SimpleParams.INT_TEN));
+			assertEquals(10, vals.getValue(SimpleParams.INT_TEN));
+		}
+
+		LoaderValues firstValues = compact.getEffectiveValuesLoadedByLoader(first);
+		assertEquals(1, firstValues.getValues().size());
+		assertEquals("first", firstValues.getExplicitValue(SimpleParams.STR_BOB));
+
+		LoaderValues secondValues = compact.getAllValuesLoadedByLoader(second);
+		assertEquals(2, secondValues.getValues().size(), "Overridden values are not kept");
+		assertNull(secondValues.getExplicitValue(SimpleParams.STR_BOB));
+		assertEquals("second", secondValues.getExplicitValue(SimpleParams.STR_NULL));
+		assertEquals(Boolean.TRUE, secondValues.getExplicitValue(SimpleParams.FLAG_NULL));
+
+		assertEquals(2, compact.getAllLoaderValues().size());
+		assertSame(second, compact.getAllLoaderValues().get(1).getLoader());
+		assertNull(compact.getEffectiveValuesLoadedByLoader(unused));
+		assertFalse(compact.hasProblems());
+	}
+
+	@Test
+	public void noneKeepsOnlyTheValues() {
+		ValidatedValuesWithContextCompact none = new ValidatedValuesWithContextCompact(
+				Arrays.asList(first, second), resolved);
+
+		assertEquals("first", none.getExplicitValue(SimpleParams.STR_BOB));
+		assertEquals("second", none.getValue(SimpleParams.STR_NULL));
+		assertFalse(none.isExplicitlySet(SimpleParams.INT_TEN));
+		assertEquals(10, none.getValue(SimpleParams.INT_TEN));
+
+		assertEquals(2, none.getAllLoaderValues().size());
+		assertSame(first, none.getAllLoaderValues().get(0).getLoader());
+		assertTrue(none.getAllLoaderValues().get(0).getValues().isEmpty());
+		assertNull(none.getAllValuesLoadedByLoader(first));
+		assertNull(none.getEffectiveValuesLoadedByLoader(second));
+		assertFalse(none.hasProblems());
+	}
+
+}
@@ -0,0 +1,98 @@
+package org.yarnandtail.andhow.internal;
+
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+import org.yarnandtail.andhow.AndHowTestConfig;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.load.MapLoader;
+import org.yarnandtail.andhow.property.IntProp;
+import org.yarnandtail.andhow.property.StrProp;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ValidationPlanTest {
+
+	public interface Conf {
+		StrProp NAME = StrProp.builder().matches("ok.*").oneOf("ok", "okay", "ok_1", "bad").build();
+		IntProp COUNT = IntProp.builder().greaterThan(0).build();
+		StrProp ANY = StrProp.builder().build();
+	}
+
+	PropertyConfigurationInternal buildConfig() {
+		AndHowTestConfig.AndHowTestConfigImpl config = AndHowTestConfig.instance().addOverrideGroup(Conf.class);
+		return new AndHowCore(config.getNamingStrategy(), config.buildLoaders(),
+				config.getLoaderEnvironment(), config.getRegisteredGroups());
+	}
+
+	/**
+	 * Values from many loaders, every third of which has an invalid NAME and COUNT.
+	 */
+	ValidatedValuesWithContext buildValues(int loaderCount) {
+		ValidatedValuesWithContextMutable values = new ValidatedValuesWithContextMutable();
+
+		for (int i = 0; i < loaderCount; i++) {
+			boolean bad = (i % 3 == 0);
+			List<ValidatedValue> vvs = new ArrayList();
+			vvs.add(new ValidatedValue(Conf.NAME, bad ? "bad" : "okay"));
+			vvs.add(new ValidatedValue(Conf.ANY, "anything"));
+			vvs.add(new ValidatedValue(Conf.COUNT, bad ? -i : i));
+
+			values.addValues(new LoaderValues(new MapLoader(), vvs, new ProblemList()));
+		}
+
+		return values;
+	}
+
+	LoaderPropertyCoord coord(Problem problem) {
+		return ((ValueProblem) problem).getLoaderPropertyCoord();
+	}
+
+	@Test
+	public void problemsAreInLoaderAndValueOrder() {
+		ValidationPlan plan = new ValidationPlan(buildConfig());
+		ValidatedValuesWithContext values = buildValues(6);
+		ProblemList<Problem> problems = new ProblemList();
+
+		plan.validate(values, problems);
+
+		assertEquals(4, problems.size());
+		assertEquals(Conf.NAME, coord(problems.get(0)).getProperty());
+		assertEquals(Conf.COUNT, coord(problems.get(1)).getProperty());
+		assertSame(values.getAllLoaderValues().get(3).getLoader(), coord(problems.get(2)).getLoader());
+		assertEquals(Conf.class, coord(problems.get(2)).getGroup());
+
+		assertTrue(values.getAllLoaderValues().get(0).getValues().get(0).hasProblems());
+		assertFalse(values.getAllLoaderValues().get(1).getValues().get(0).hasProblems());
+	}
+
+	@Test
+	public void largeValidationsHaveTheSameProblemsInTheSameOrder() {
+		PropertyConfigurationInternal config = buildConfig();
+		ValidationPlan plan = new ValidationPlan(config);
+		int loaderCount = ValidationPlan.PARALLEL_THRESHOLD;	//3 values each, 2 validated
+
+		ProblemList<Problem> problems = new ProblemList();
+		plan.validate(buildValues(loaderCount), problems);
+
+		ValidatedValuesWithContext values = buildValues(loaderCount);
+		ProblemList<Problem> expected = new ProblemList();
+		List<LoaderValues> all = values.getAllLoaderValues();
+
+		for (int i = 0; i < all.size(); i++) {
+			ProblemList<Problem> one = new ProblemList();
+			ValidatedValuesWithContextMutable single = new ValidatedValuesWithContextMutable();
+			single.addValues(all.get(i));
+			plan.validate(single, one);
+			expected.addAll(one);
+		}
+
+		assertEquals(expected.size(), problems.size());
+		assertEquals(2 * ((loaderCount + 2) / 3), problems.size());
+
+		for (int i = 0; i < problems.size(); i++) {
+			assertEquals(expected.get(i).getProblemDescription(), problems.get(i).getProblemDescription());
+		}
+	}
+
+}
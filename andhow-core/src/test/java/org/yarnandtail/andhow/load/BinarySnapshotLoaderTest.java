@@ -0,0 +1,220 @@
+package org.yarnandtail.andhow.load;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.export.BinarySnapshotExporter;
+import org.yarnandtail.andhow.internal.LoaderProblem;
+import org.yarnandtail.andhow.internal.PropertyConfigurationMutable;
+import org.yarnandtail.andhow.internal.ValidatedValuesWithContextMutable;
+import org.yarnandtail.andhow.load.util.LoaderEnvironmentBuilder;
+import org.yarnandtail.andhow.name.CaseInsensitiveNaming;
+import org.yarnandtail.andhow.property.*;
+import org.yarnandtail.andhow.util.AndHowUtil;
+import org.yarnandtail.andhow.util.BinarySnapshotFormat;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BinarySnapshotLoaderTest {
+
+	PropertyConfigurationMutable appDef;
+	LoaderEnvironmentBuilder leb;
+	ValidatedValuesWithContextMutable appValuesBuilder;
+	GroupProxy simpleProxy;
+
+	@TempDir
+	Path dir;
+
+	public interface SimpleParams {
+		StrProp STR = StrProp.builder().build();
+		IntProp INT = IntProp.builder().build();
+		LngProp LNG = LngProp.builder().build();
+		DblProp DBL = DblProp.builder().build();
+		BolProp BOL = BolProp.builder().build();
+		FlagProp FLAG = FlagProp.builder().build();
+		BigDecProp BIG_DEC = BigDecProp.builder().build();
+		LocalDateTimeProp LDT = LocalDateTimeProp.builder().build();
+		StrProp NULL_STR = StrProp.builder().build();
+	}
+
+	public interface OtherParams {
+		StrProp NOT_IN_WORKER = StrProp.builder().build();
+	}
+
+	@BeforeEach
+	public void init() throws Exception {
+		appValuesBuilder = new ValidatedValuesWithContextMutable();
+		appDef = new PropertyConfigurationMutable(new CaseInsensitiveNaming());
+		simpleProxy = AndHowUtil.buildGroupProxy(SimpleParams.class);
+
+		for (Property<?> p : new Property<?>[] {SimpleParams.STR, SimpleParams.INT, SimpleParams.LNG,
+				SimpleParams.DBL, SimpleParams.BOL, SimpleParams.FLAG, SimpleParams.BIG_DEC,
+				SimpleParams.LDT, SimpleParams.NULL_STR}) {
+			appDef.addProperty(simpleProxy, p);
+		}
+
+		leb = new LoaderEnvironmentBuilder();
+	}
+
+	LoaderValues parentValues() {
+		ArrayList<ValidatedValue> evl = new ArrayList();
+		evl.add(new ValidatedValue(SimpleParams.STR, "  spaces and ünïcode  "));
+		evl.add(new ValidatedValue(SimpleParams.INT, -42));
+		evl.add(new ValidatedValue(SimpleParams.LNG, Long.MAX_VALUE));
+		evl.add(new ValidatedValue(SimpleParams.DBL, 3.25d));
+		evl.add(new ValidatedValue(SimpleParams.BOL, true));
+		evl.add(new ValidatedValue(SimpleParams.FLAG, false));
+		evl.add(new ValidatedValue(SimpleParams.BIG_DEC, new BigDecimal("-12345678901234567890.000123")));
+		evl.add(new ValidatedValue(SimpleParams.LDT, LocalDateTime.of(2024, 2, 29, 23, 59, 58, 123456789)));
+		return new LoaderValues(new MapLoader(), evl, new ProblemList<Problem>());
+	}
+
+	@Test
+	public void testRoundTripOfAllTypes() throws Exception {
+		Path file = dir.resolve("snapshot.andhow");
+		BinarySnapshotExporter exporter = new BinarySnapshotExporter();
+		exporter.add(simpleProxy, parentValues());
+		exporter.write(file);
+
+		assertEquals(8, exporter.size(), "Null values are not stored");
+
+		BinarySnapshotLoader loader = new BinarySnapshotLoader();
+		loader.setFilePath(file.toString());
+
+		LoaderValues result = loader.load(appDef, leb, appValuesBuilder);
+
+		assertEquals(0, result.getProblems().size());
+		assertEquals(8, result.getValues().size());
+		assertEquals("  spaces and ünïcode  ", result.getExplicitValue(SimpleParams.STR), "Not trimmed");
+		assertEquals(-42, result.getExplicitValue(SimpleParams.INT));
+		assertEquals(Long.MAX_VALUE, result.getExplicitValue(SimpleParams.LNG));
+		assertEquals(3.25d, result.getExplicitValue(SimpleParams.DBL));
+		assertEquals(Boolean.TRUE, result.getExplicitValue(SimpleParams.BOL));
+		assertEquals(Boolean.FALSE, result.getExplicitValue(SimpleParams.FLAG));
+		assertEquals(new BigDecimal("-12345678901234567890.000123"), result.getExplicitValue(SimpleParams.BIG_DEC));
+		assertEquals(LocalDateTime.of(2024, 2, 29, 23, 59, 58, 123456789), result.getExplicitValue(SimpleParams.LDT));
+		assertNull(result.getExplicitValue(SimpleParams.NULL_STR));
+	}
+
+	@Test
+	public void testUnknownNames() throws Exception {
+		GroupProxy otherProxy = AndHowUtil.buildGroupProxy(OtherParams.class);
+		appDef.addProperty(otherProxy, OtherParams.NOT_IN_WORKER);
+		ArrayList<ValidatedValue> evl = new ArrayList();
+		evl.add(new ValidatedValue(OtherParams.NOT_IN_WORKER, "x"));
+
+		Path file = dir.resolve("snapshot.andhow");
+		BinarySnapshotExporter exporter = new BinarySnapshotExporter();
+		exporter.add(simpleProxy, parentValues());
+		exporter.add(otherProxy,
+				new LoaderValues(new MapLoader(), evl, new ProblemList<Problem>()));
+		exporter.write(file);
+
+		init();	//The worker does not have OtherParams
+
+		BinarySnapshotLoader loader = new BinarySnapshotLoader();
+		loader.setFilePath(file.toString());
+
+		LoaderValues result = loader.load(appDef, leb, appValuesBuilder);
+		assertEquals(1, result.getProblems().size());
+		assertTrue(result.getProblems().get(0) instanceof LoaderProblem.UnknownPropertyLoaderProblem);
+		assertEquals(8, result.getValues().size());
+
+		loader.setUnknownPropertyAProblem(false);
+		assertEquals(0, loader.load(appDef, leb, appValuesBuilder).getProblems().size());
+	}
+
+	@Test
+	public void testNotASnapshotOrTruncated() throws Exception {
+		Path file = dir.resolve("snapshot.andhow");
+		Files.write(file, "not a snapshot".getBytes(StandardCharsets.UTF_8));
+
+		BinarySnapshotLoader loader = new BinarySnapshotLoader();
+		loader.setFilePath(file.toString());
+
+		LoaderValues result = loader.load(appDef, leb, appValuesBuilder);
+		assertEquals(1, result.getProblems().size());
+		assertTrue(result.getProblems().get(0) instanceof LoaderProblem.IOLoaderProblem);
+
+		BinarySnapshotExporter exporter = new BinarySnapshotExporter();
+		exporter.add(simpleProxy, parentValues());
+		exporter.write(file);
+		byte[] bytes = Files.readAllBytes(file);
+		Files.write(file, Arrays.copyOf(bytes, bytes.length - 3));
+
+		result = loader.load(appDef, leb, appValuesBuilder);
+		assertEquals(1, result.getProblems().size());
+		assertTrue(result.getProblems().get(0) instanceof LoaderProblem.IOLoaderProblem);
+	}
+
+	@Test
+	public void testCorruptCountsLengthsAndValues() throws Exception {
+		Path file = dir.resolve("snapshot.andhow");
+		BinarySnapshotLoader loader = new BinarySnapshotLoader();
+		loader.setFilePath(file.toString());
+
+		//A count far larger than the file
+		Files.write(file, snapshot(Integer.MAX_VALUE, out -> { }));
+		assertIOProblem(loader.load(appDef, leb, appValuesBuilder));
+
+		//A negative name length
+		Files.write(file, snapshot(1, out -> out.writeInt(-1)));
+		assertIOProblem(loader.load(appDef, leb, appValuesBuilder));
+
+		//An out of range time of day
+		Files.write(file, snapshot(1, out -> {
+			out.writeInt(1);
+			out.writeByte('x');
+			out.writeByte(BinarySnapshotFormat.TAG_LOCAL_DATE_TIME);
+			out.writeLong(0);
+			out.writeLong(-1);
+		}));
+		assertIOProblem(loader.load(appDef, leb, appValuesBuilder));
+	}
+
+	void assertIOProblem(LoaderValues result) {
+		assertEquals(1, result.getProblems().size());
+		assertTrue(result.getProblems().get(0) instanceof LoaderProblem.IOLoaderProblem);
+	}
+
+	interface EntryWriter {
+		void write(DataOutputStream out) throws IOException;
+	}
+
+	byte[] snapshot(int count, EntryWriter entries) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			BinarySnapshotFormat.writeHeader(out, count);
+			entries.write(out);
+		}
+
+		return bytes.toByteArray();
+	}
+
+	@Test
+	public void testMissingFile() {
+		BinarySnapshotLoader loader = new BinarySnapshotLoader();
+		loader.setFilePath(dir.resolve("missing").toString());
+
+		LoaderValues result = loader.load(appDef, leb, appValuesBuilder);
+		assertEquals(1, result.getProblems().size());
+		assertTrue(result.getProblems().get(0) instanceof LoaderProblem.SourceNotFoundLoaderProblem);
+
+		loader.setMissingFileAProblem(false);
+		assertEquals(0, loader.load(appDef, leb, appValuesBuilder).getProblems().size());
+	}
+
+}
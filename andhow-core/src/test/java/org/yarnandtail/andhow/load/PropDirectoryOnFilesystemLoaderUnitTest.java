@@ -0,0 +1,189 @@
+package org.yarnandtail.andhow.load;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.LoaderProblem;
+import org.yarnandtail.andhow.internal.PropertyConfigurationMutable;
+import org.yarnandtail.andhow.internal.ValidatedValuesWithContextMutable;
+import org.yarnandtail.andhow.load.util.LoaderEnvironmentBuilder;
+import org.yarnandtail.andhow.name.CaseInsensitiveNaming;
+import org.yarnandtail.andhow.property.IntProp;
+import org.yarnandtail.andhow.property.StrProp;
+import org.yarnandtail.andhow.util.AndHowUtil;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PropDirectoryOnFilesystemLoaderUnitTest {
+
+	PropertyConfigurationMutable appDef;
+	LoaderEnvironmentBuilder leb;
+	ValidatedValuesWithContextMutable appValuesBuilder;
+
+	@TempDir
+	Path dir;
+
+	public static interface TestProps {
+		StrProp DIRPATH = StrProp.builder().build();
+	}
+
+	public interface SimpleParams {
+		StrProp DB_PASSWORD = StrProp.builder().aliasIn("DB_PASSWORD").build();
+		StrProp API_KEY = StrProp.builder().aliasIn("api-key").build();
+		IntProp POOL_SIZE = IntProp.builder().aliasIn("POOL_SIZE").build();
+		StrProp CERT = StrProp.builder().aliasIn("CERT").build();
+		StrProp NOT_PRESENT = StrProp.builder().aliasIn("NOT_PRESENT").build();
+	}
+
+	@BeforeEach
+	public void init() throws Exception {
+		appValuesBuilder = new ValidatedValuesWithContextMutable();
+		appDef = new PropertyConfigurationMutable(new CaseInsensitiveNaming());
+
+		GroupProxy simpleProxy = AndHowUtil.buildGroupProxy(SimpleParams.class);
+
+		appDef.addProperty(AndHowUtil.buildGroupProxy(TestProps.class), TestProps.DIRPATH);
+		appDef.addProperty(simpleProxy, SimpleParams.DB_PASSWORD);
+		appDef.addProperty(simpleProxy, SimpleParams.API_KEY);
+		appDef.addProperty(simpleProxy, SimpleParams.POOL_SIZE);
+		appDef.addProperty(simpleProxy, SimpleParams.CERT);
+		appDef.addProperty(simpleProxy, SimpleParams.NOT_PRESENT);
+
+		leb = new LoaderEnvironmentBuilder();
+	}
+
+	/**
+	 * Lays out the directory the way Kubernetes mounts a Secret:  Visible names are symlinks
+	 * through the ..data symlink to a timestamped directory.
+	 */
+	void writeKubernetesStyle(String... namesAndValues) throws Exception {
+		Path real = Files.createDirectory(dir.resolve("..2024_01_01_00_00_00.000000001"));
+
+		for (int i = 0; i < namesAndValues.length; i += 2) {
+			Files.write(real.resolve(namesAndValues[i]), namesAndValues[i + 1].getBytes(StandardCharsets.UTF_8));
+		}
+
+		Files.createSymbolicLink(dir.resolve("..data"), real.getFileName());
+
+		for (int i = 0; i < namesAndValues.length; i += 2) {
+			Files.createSymbolicLink(dir.resolve(namesAndValues[i]),
+					dir.getFileSystem().getPath("..data", namesAndValues[i]));
+		}
+	}
+
+	@Test
+	public void testHappyPathWithKubernetesLayout() throws Exception {
+		writeKubernetesStyle(
+				"DB_PASSWORD", "s3cret\n",
+				"api-key", "abc",
+				"pool_size", "12",
+				"CERT", "-----BEGIN-----\nline\n-----END-----\n");
+
+		PropDirectoryOnFilesystemLoader loader = new PropDirectoryOnFilesystemLoader();
+		loader.setFilePath(dir.toString());
+
+		LoaderValues result = loader.load(appDef, leb, appValuesBuilder);
+
+		assertEquals(0, result.getProblems().size(), "The ..data machinery is skipped");
+		assertEquals(4, result.getValues().size());
+		assertEquals("s3cret", result.getExplicitValue(SimpleParams.DB_PASSWORD), "Trimmed");
+		assertEquals("abc", result.getExplicitValue(SimpleParams.API_KEY));
+		assertEquals(12, result.getExplicitValue(SimpleParams.POOL_SIZE));
+		assertEquals("-----BEGIN-----\nline\n-----END-----", result.getExplicitValue(SimpleParams.CERT));
+		assertNull(result.getExplicitValue(SimpleParams.NOT_PRESENT));
+	}
+
+	@Test
+	public void testPathFromAProperty() throws Exception {
+		Files.write(dir.resolve("DB_PASSWORD"), "s3cret".getBytes(StandardCharsets.UTF_8));
+
+		ArrayList<ValidatedValue> evl = new ArrayList();
+		evl.add(new ValidatedValue(TestProps.DIRPATH, dir.toString()));
+		appValuesBuilder.addValues(new LoaderValues(new MapLoader(), evl, new ProblemList<Problem>()));
+
+		PropDirectoryOnFilesystemLoader loader = new PropDirectoryOnFilesystemLoader();
+		loader.setFilePath(TestProps.DIRPATH);
+
+		LoaderValues result = loader.load(appDef, leb, appValuesBuilder);
+
+		assertEquals(0, result.getProblems().size());
+		assertEquals("s3cret", result.getExplicitValue(SimpleParams.DB_PASSWORD));
+		assertEquals(1, loader.getInstanceConfig().size());
+		assertThrows(IllegalArgumentException.class, () -> loader.setFilePath("/other"));
+	}
+
+	@Test
+	public void testUnknownAndTooLargeAndInvalidFiles() throws Exception {
+		Files.write(dir.resolve("DB_PASSWORD"), "0123456789".getBytes(StandardCharsets.UTF_8));
+		Files.write(dir.resolve("POOL_SIZE"), "many".getBytes(StandardCharsets.UTF_8));
+		Files.write(dir.resolve("UNKNOWN"), "x".getBytes(StandardCharsets.UTF_8));
+		Files.write(dir.resolve(".hidden"), "x".getBytes(StandardCharsets.UTF_8));
+		Files.write(dir.resolve("api-key"), "abc".getBytes(StandardCharsets.UTF_8));
+		Files.createDirectory(dir.resolve("CERT"));
+
+		PropDirectoryOnFilesystemLoader loader = new PropDirectoryOnFilesystemLoader();
+		loader.setFilePath(dir.toString());
+		loader.setMaxFileSize(5);
+
+		//Unknown names are not a problem by default
+		assertEquals(2, loader.load(appDef, leb, appValuesBuilder).getProblems().size());
+
+		loader.setUnknownPropertyAProblem(true);
+		LoaderValues result = loader.load(appDef, leb, appValuesBuilder);
+
+		assertEquals(3, result.getProblems().size());
+		assertEquals(1L, result.getProblems().stream()
+				.filter(p -> p instanceof LoaderProblem.UnknownPropertyLoaderProblem).count());
+		assertEquals(1L, result.getProblems().stream()
+				.filter(p -> p instanceof LoaderProblem.SourceTooLargeLoaderProblem).count());
+		assertEquals(1L, result.getProblems().stream()
+				.filter(p -> p instanceof LoaderProblem.StringConversionLoaderProblem).count());
+		assertEquals("abc", result.getExplicitValue(SimpleParams.API_KEY));
+		assertNull(result.getExplicitValue(SimpleParams.DB_PASSWORD));
+	}
+
+	@Test
+	public void testMissingDirectory() {
+		PropDirectoryOnFilesystemLoader loader = new PropDirectoryOnFilesystemLoader();
+		loader.setFilePath(dir.resolve("missing").toString());
+
+		LoaderValues result = loader.load(appDef, leb, appValuesBuilder);
+		assertEquals(1, result.getProblems().size());
+		assertTrue(result.getProblems().get(0) instanceof LoaderProblem.SourceNotFoundLoaderProblem);
+
+		loader.setMissingFileAProblem(false);
+		assertEquals(0, loader.load(appDef, leb, appValuesBuilder).getProblems().size());
+	}
+
+	@Test
+	public void testNoPathConfigured() {
+		PropDirectoryOnFilesystemLoader loader = new PropDirectoryOnFilesystemLoader();
+		loader.setFilePath(TestProps.DIRPATH);
+
+		LoaderValues result = loader.load(appDef, leb, appValuesBuilder);
+		assertEquals(0, result.getProblems().size());
+		assertEquals(0, result.getValues().size());
+	}
+
+	@Test
+	public void testFingerprintChangesWithTheFiles() throws Exception {
+		Path file = dir.resolve("DB_PASSWORD");
+		Files.write(file, "one".getBytes(StandardCharsets.UTF_8));
+
+		PropDirectoryOnFilesystemLoader loader = new PropDirectoryOnFilesystemLoader();
+		loader.setFilePath(dir.toString());
+
+		String first = loader.getInputFingerprint(appDef, leb, appValuesBuilder);
+		assertEquals(first, loader.getInputFingerprint(appDef, leb, appValuesBuilder));
+
+		Files.write(dir.resolve("api-key"), "abc".getBytes(StandardCharsets.UTF_8));
+		assertNotEquals(first, loader.getInputFingerprint(appDef, leb, appValuesBuilder));
+	}
+
+}
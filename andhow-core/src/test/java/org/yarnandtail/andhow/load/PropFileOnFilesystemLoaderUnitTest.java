@@ -2,6 +2,7 @@ package org.yarnandtail.andhow.load;
 
 import java.io.File;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.AfterEach;
@@ -148,4 +149,24 @@ public class PropFileOnFilesystemLoaderUnitTest {
 		assertEquals(0, result.getProblems().size());
 	}
 
+	@Test
+	public void testFingerprintDetectsSameSizeRewriteWithinTheModificationTime() throws Exception {
+
+		File file = File.createTempFile("andhow_test", ".properties");
+		file.deleteOnExit();
+		FileUtils.writeStringToFile(file, "STR_BOB=one", StandardCharsets.UTF_8);
+
+		PropFileOnFilesystemLoader pfl = new PropFileOnFilesystemLoader();
+		pfl.setFilePath(file.getAbsolutePath());
+
+		String first = pfl.getInputFingerprint(appDef, leb, appValuesBuilder);
+		long modified = file.lastModified();
+
+		FileUtils.writeStringToFile(file, "STR_BOB=two", StandardCharsets.UTF_8);
+		assertTrue(file.setLastModified(modified));
+
+		assertNotEquals(first, pfl.getInputFingerprint(appDef, leb, appValuesBuilder));
+		file.delete();
+	}
+
 }
@@ -0,0 +1,115 @@
+package org.yarnandtail.andhow.load;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.yarnandtail.andhow.*;
+import org.yarnandtail.andhow.api.InitializationStats;
+import org.yarnandtail.andhow.api.Loader;
+import org.yarnandtail.andhow.load.std.StdPropFileOnFilesystemLoader;
+import org.yarnandtail.andhow.property.IntProp;
+import org.yarnandtail.andhow.property.StrProp;
+import org.yarnandtail.andhow.util.NameUtil;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Watching of the filesystem properties file, via a full AndHow instance.
+ */
+public class PropFileOnFilesystemWatchTest extends AndHowTestBase {
+
+	public static interface WatchProps {
+		StrProp FILEPATH = StrProp.builder().build();
+		StrProp NAME = StrProp.builder().startsWith("ok").build();
+		IntProp COUNT = IntProp.builder().defaultValue(1).build();
+		StrProp FROM_CMD_LINE = StrProp.builder().build();
+	}
+
+	static final String NAME = WatchProps.class.getCanonicalName() + ".NAME";
+	static final String COUNT = WatchProps.class.getCanonicalName() + ".COUNT";
+	static final String FROM_CMD_LINE = WatchProps.class.getCanonicalName() + ".FROM_CMD_LINE";
+
+	@TempDir
+	Path dir;
+
+	@AfterEach
+	public void stopWatching() {
+		if (AndHow.isInitialized()) {
+			for (Loader loader : AndHow.instance().getInitializationStats().getLoaderStats().stream()
+					.map(InitializationStats.LoaderStats::getLoader).toArray(Loader[]::new)) {
+				if (loader instanceof PropFileOnFilesystemLoader) {
+					((PropFileOnFilesystemLoader) loader).stopWatching();
+				}
+			}
+		}
+	}
+
+	@Test
+	public void changesToTheFileAreReloaded() throws Exception {
+		Path file = dir.resolve("app.properties");
+		write(file, NAME + "=ok_1", COUNT + "=5", FROM_CMD_LINE + "=file");
+
+		AndHow.setConfig(AndHowTestConfig.instance()
+				.addCmdLineArg(NameUtil.getAndHowName(WatchProps.class, WatchProps.FILEPATH), file.toString())
+				.addCmdLineArg(FROM_CMD_LINE, "cmd")
+				.setFilesystemPropFilePath(WatchProps.FILEPATH)
+				.setFilesystemPropFileWatchDebounce(Duration.ofMillis(50))
+				.addOverrideGroup(WatchProps.class));
+
+		assertEquals("ok_1", WatchProps.NAME.getValue());
+		assertEquals(5, WatchProps.COUNT.getInt());
+
+		write(file, NAME + "=ok_2", FROM_CMD_LINE + "=file");
+
+		assertEventually("ok_2", () -> WatchProps.NAME.getValue());
+		assertEquals(1, WatchProps.COUNT.getInt(), "Removed from the file, so back to the default");
+		assertEquals("cmd", WatchProps.FROM_CMD_LINE.getValue(), "Earlier loaders still win");
+
+		InitializationStats stats = AndHow.instance().getInitializationStats();
+		assertEquals(1, stats.getLoaderStats().size(), "Only the file is reloaded");
+		assertTrue(stats.getLoaderStats().get(0).getLoader() instanceof StdPropFileOnFilesystemLoader);
+
+		//Invalid values are not applied
+		write(file, NAME + "=invalid");
+		Thread.sleep(1000);
+		assertEquals("ok_2", WatchProps.NAME.getValue());
+
+		write(file, NAME + "=ok_3");
+		assertEventually("ok_3", () -> WatchProps.NAME.getValue());
+	}
+
+	@Test
+	public void theFileIsNotWatchedByDefault() throws Exception {
+		Path file = dir.resolve("app.properties");
+		write(file, NAME + "=ok_1");
+
+		AndHow.setConfig(AndHowTestConfig.instance()
+				.addCmdLineArg(NameUtil.getAndHowName(WatchProps.class, WatchProps.FILEPATH), file.toString())
+				.setFilesystemPropFilePath(WatchProps.FILEPATH)
+				.addOverrideGroup(WatchProps.class));
+
+		assertEquals("ok_1", WatchProps.NAME.getValue());
+
+		write(file, NAME + "=ok_2");
+		Thread.sleep(1000);
+		assertEquals("ok_1", WatchProps.NAME.getValue());
+	}
+
+	static void write(Path file, String... lines) throws Exception {
+		Files.write(file, String.join(System.lineSeparator(), lines).getBytes("ISO-8859-1"));
+	}
+
+	static void assertEventually(String expected, Supplier<String> actual) throws InterruptedException {
+		for (int i = 0; i < 200 && ! expected.equals(actual.get()); i++) {
+			Thread.sleep(100);
+		}
+
+		assertEquals(expected, actual.get());
+	}
+
+}
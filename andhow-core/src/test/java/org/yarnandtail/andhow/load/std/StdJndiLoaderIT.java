@@ -14,7 +14,7 @@ import org.yarnandtail.andhow.util.NameUtil;
 
 import javax.naming.InitialContext;
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -92,6 +92,44 @@ public class StdJndiLoaderIT {
 		assertEquals(LocalDateTime.parse("2007-11-02T00:00"), SimpleParams.LDT_NULL.getValue());
 	}
 
+	@Test
+	@EnableJndiForThisTestMethod
+	public void listingRootsFindsOnlyTheBoundNames() throws Exception {
+
+		InitialContext jndi = new InitialContext();
+		EnableJndiUtil.createSubcontexts(jndi, "java:comp/env/org/yarnandtail/andhow/SimpleParams/");
+		EnableJndiUtil.createSubcontexts(jndi, "org/yarnandtail/andhow/SimpleParams/");
+
+		String bob = NameUtil.getAndHowName(SimpleParams.class, SimpleParams.STR_BOB);
+		String ten = NameUtil.getAndHowName(SimpleParams.class, SimpleParams.INT_TEN);
+
+		jndi.bind("java:comp/env/" + bns.getUriName(bob), "test");
+		jndi.bind("java:comp/env/" + ten, "-999");
+		jndi.bind(bns.getUriName(ten), "-999");
+
+		List<String> roots = Arrays.asList("java:comp/env/", "java:", "");
+		List<List<String>> names = new ArrayList();
+
+		for (String name : Arrays.asList(bob, ten)) {
+			List<String> propNames = new ArrayList();
+			for (String root : roots) {
+				propNames.add(root + name);
+				propNames.add(root + bns.getUriName(name));
+			}
+			names.add(propNames);
+		}
+
+		Set<String> found = loader.findNamesToLookup(jndi, roots, names);
+
+		// The java: root may not be listable, in which case each of its names must be looked up
+		found.removeIf(n -> n.startsWith("java:") && ! n.startsWith("java:comp/env/"));
+
+		assertEquals(new HashSet(Arrays.asList(
+				"java:comp/env/" + bns.getUriName(bob),
+				"java:comp/env/" + ten,
+				bns.getUriName(ten))), found);
+	}
+
 	//
 	//
 	// Non-HappyPath
@@ -16,6 +16,7 @@ import javax.naming.Name;
 import javax.naming.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -101,6 +102,34 @@ public class StdJndiLoaderTest {
 		assertFalse(loader.isFailedEnvironmentAProblem());
 	}
 
+	@Test
+	public void precomputedUriNamesAreNotUsedWithACustomGetUriName() {
+		GroupProxyMutable proxy = new GroupProxyMutable("org.pre.Computed", SimpleParams.class);
+		proxy.addProperty(new NameAndProperty("STR_BOB", SimpleParams.STR_BOB,
+				"org.pre.Computed.STR_BOB", "ORG.PRE.COMPUTED.STR_BOB", "precomputed/STR_BOB"));
+
+		NamingStrategy underscores = new CaseInsensitiveNaming() {
+			@Override
+			public String getUriName(String classpathName) {
+				return (classpathName != null) ? classpathName.replace('.', '_') : null;
+			}
+		};
+
+		PropertyConfigurationMutable custom = new PropertyConfigurationMutable(underscores);
+		custom.addProperty(proxy, SimpleParams.STR_BOB);
+		List<String> names = loader.buildJndiNames(custom, Collections.singletonList(""), SimpleParams.STR_BOB);
+
+		assertTrue(names.contains("org_pre_Computed_STR_BOB"));
+		assertFalse(names.contains("precomputed/STR_BOB"));
+
+		//The default naming uses the precomputed name
+		PropertyConfigurationMutable std = new PropertyConfigurationMutable(new CaseInsensitiveNaming());
+		std.addProperty(proxy, SimpleParams.STR_BOB);
+		names = loader.buildJndiNames(std, Collections.singletonList(""), SimpleParams.STR_BOB);
+
+		assertTrue(names.contains("precomputed/STR_BOB"));
+	}
+
 	@Test
 	public void testSplit() {
 
@@ -152,6 +181,19 @@ public class StdJndiLoaderTest {
 		assertTrue(result.getProblems().get(0) instanceof LoaderProblem.JndiContextMissing);
 	}
 
+	@Test
+	public void jndiRootsAreNotListedByDefault() throws NamingException {
+
+		mockJndiBind(context, "java:comp/env/org/yarnandtail/andhow/SimpleParams/STR_BOB", "test");
+
+		LoaderValues result = loader.load(appDef, le, appValuesBuilder);
+
+		assertFalse(StdJndiLoader.CONFIG.LIST_JNDI_ROOTS.getDefaultValue());
+		assertEquals("test", result.getValue(SimpleParams.STR_BOB));
+		Mockito.verify(context, Mockito.never()).list(Mockito.anyString());
+		Mockito.verify(context, Mockito.never()).list(Mockito.any(Name.class));
+	}
+
 	@Test
 	public void notAnErrorIfJndiContextReturnsNullForLookup() throws NamingException {
 
@@ -0,0 +1,64 @@
+package org.yarnandtail.andhow.load.util;
+
+import java.nio.file.*;
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FileWatcherTest {
+
+	@TempDir
+	Path dir;
+
+	@Test
+	public void burstsOfChangesAreCoalesced() throws Exception {
+		Path file = Files.write(dir.resolve("app.properties"), "a=1".getBytes());
+		AtomicInteger calls = new AtomicInteger();
+		Semaphore changed = new Semaphore(0);
+
+		try (FileWatcher watcher = new FileWatcher(file, Duration.ofMillis(300), () -> {
+			calls.incrementAndGet();
+			changed.release();
+		})) {
+			for (int i = 2; i < 6; i++) {
+				Files.write(file, ("a=" + i + System.lineSeparator()).getBytes());
+				Files.write(dir.resolve("other.txt"), ("" + i).getBytes());
+			}
+
+			assertTrue(changed.tryAcquire(20, TimeUnit.SECONDS));
+			assertFalse(changed.tryAcquire(1, TimeUnit.SECONDS));
+			assertEquals(1, calls.get());
+
+			//Changes to other files alone don't call back
+			Files.write(dir.resolve("other.txt"), "other".getBytes());
+			assertFalse(changed.tryAcquire(1, TimeUnit.SECONDS));
+		}
+	}
+
+	@Test
+	public void replacingASymlinkedDirectoryIsAChange() throws Exception {
+		//The layout of a Kubernetes ConfigMap mount
+		Path v1 = Files.createDirectory(dir.resolve("..v1"));
+		Files.write(v1.resolve("app.properties"), "a=1".getBytes());
+		Files.createSymbolicLink(dir.resolve("..data"), v1.getFileName());
+		Path file = Files.createSymbolicLink(dir.resolve("app.properties"), Paths.get("..data", "app.properties"));
+
+		Semaphore changed = new Semaphore(0);
+
+		try (FileWatcher watcher = new FileWatcher(file, Duration.ofMillis(50), changed::release)) {
+			Path v2 = Files.createDirectory(dir.resolve("..v2"));
+			Files.write(v2.resolve("app.properties"), "a=2".getBytes());
+			Path tmp = Files.createSymbolicLink(dir.resolve("..data_tmp"), v2.getFileName());
+			Files.move(tmp, dir.resolve("..data"), StandardCopyOption.ATOMIC_MOVE);
+
+			assertTrue(changed.tryAcquire(20, TimeUnit.SECONDS));
+			assertEquals("a=2", new String(Files.readAllBytes(file)));
+		}
+	}
+
+}
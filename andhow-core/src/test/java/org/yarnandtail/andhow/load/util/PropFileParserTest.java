@@ -0,0 +1,103 @@
+package org.yarnandtail.andhow.load.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PropFileParserTest {
+
+	static final String TRICKY =
+			"# A comment \\\n" +
+			"! Another comment\n" +
+			"\n" +
+			"   \t  \n" +
+			"simple=value\n" +
+			"  leading.space = value w/ spaces  \n" +
+			"colon:value\n" +
+			"space value\n" +
+			"spaces   =   value\n" +
+			"tab\tvalue\n" +
+			"double==value\n" +
+			"twoSeps = : value\n" +
+			"noValue\n" +
+			"noValueSep=\n" +
+			"esc\\=aped\\:key\\ name=v\n" +
+			"escapes=tab\\tnl\\ncr\\rff\\fback\\\\slash\\q\n" +
+			"unicode=\\u00e9\\u0041\n" +
+			"iso=\u00e9\n" +
+			"continued=one, \\\n" +
+			"    two, \\\r\n" +
+			"\tthree\n" +
+			"cont\\\n" +
+			"  inued.key=value\n" +
+			"notContinued=a\\\\\n" +
+			"next=b\r" +
+			"cr.only=c\r\n" +
+			"escaped.leading=\\ value\n" +
+			"dup=first\n" +
+			"dup=second\n" +
+			"=emptyKey\n" +
+			"last=no newline at end\\";
+
+	@Test
+	public void parsesTheSameAsJavaUtilProperties() throws Exception {
+		byte[] bytes = TRICKY.getBytes(StandardCharsets.ISO_8859_1);
+
+		Properties expected = new Properties();
+		expected.load(new ByteArrayInputStream(bytes));
+
+		Map<String, String> actual = parseAll(bytes);
+
+		assertEquals(new HashMap(expected), actual);
+		assertEquals("one, two, three", actual.get("continued"));
+		assertEquals("second", actual.get("dup"));
+		assertEquals(" value", actual.get("escaped.leading"));
+	}
+
+	@Test
+	public void unreadValuesAreSkipped() throws Exception {
+		PropFileParser parser = new PropFileParser(new ByteArrayInputStream(
+				"a=1 \\\n 2\nb=\\u0041\nc=3".getBytes(StandardCharsets.ISO_8859_1)));
+
+		assertEquals("a", parser.nextKey());
+		assertEquals("b", parser.nextKey());
+		assertEquals("A", parser.readValue());
+		assertEquals("", parser.readValue(), "Already read");
+		assertEquals("c", parser.nextKey());
+		parser.skipValue();
+		assertNull(parser.nextKey());
+		assertNull(parser.nextKey());
+	}
+
+	@Test
+	public void malformedUnicodeEscapeIsAnError() throws Exception {
+		PropFileParser parser = new PropFileParser(new ByteArrayInputStream(
+				"a=x\\u00zz".getBytes(StandardCharsets.ISO_8859_1)));
+
+		assertEquals("a", parser.nextKey());
+		assertThrows(IllegalArgumentException.class, () -> parser.readValue());
+	}
+
+	@Test
+	public void emptyStreamHasNoKeys() throws Exception {
+		assertNull(new PropFileParser(new ByteArrayInputStream(new byte[0])).nextKey());
+	}
+
+	Map<String, String> parseAll(byte[] bytes) throws IOException {
+		PropFileParser parser = new PropFileParser(new ByteArrayInputStream(bytes));
+		Map<String, String> map = new HashMap();
+
+		String key;
+		while ((key = parser.nextKey()) != null) {
+			map.put(key, parser.readValue());
+		}
+
+		return map;
+	}
+
+}
@@ -0,0 +1,61 @@
+package org.yarnandtail.andhow.load.util;
+
+import org.junit.jupiter.api.Test;
+import org.yarnandtail.andhow.SimpleParams;
+import org.yarnandtail.andhow.api.ValidatedValue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidatedValueListTest {
+
+	@Test
+	public void findFirstReturnsTheFirstValueAddedForAProperty() {
+		ValidatedValueList list = new ValidatedValueList();
+
+		ValidatedValue bob1 = new ValidatedValue(SimpleParams.STR_BOB, "one");
+		ValidatedValue bob2 = new ValidatedValue(SimpleParams.STR_BOB, "two");
+		ValidatedValue ten = new ValidatedValue(SimpleParams.INT_TEN, 11);
+
+		list.add(bob1);
+		list.add(ten);
+		list.add(bob2);
+
+		assertEquals(3, list.size());
+		assertSame(bob1, list.get(0));
+		assertSame(bob1, list.findFirst(SimpleParams.STR_BOB));
+		assertSame(ten, list.findFirst(SimpleParams.INT_TEN));
+		assertNull(list.findFirst(SimpleParams.STR_NULL));
+		assertNull(list.findFirst(null));
+	}
+
+	@Test
+	public void indexIsKeptInSyncWhenTheListIsModified() {
+		ValidatedValueList list = new ValidatedValueList(4);
+
+		ValidatedValue bob1 = new ValidatedValue(SimpleParams.STR_BOB, "one");
+		ValidatedValue bob2 = new ValidatedValue(SimpleParams.STR_BOB, "two");
+		ValidatedValue ten = new ValidatedValue(SimpleParams.INT_TEN, 11);
+
+		list.add(bob1);
+		list.add(ten);
+		list.add(bob2);
+
+		list.remove(0);
+		assertSame(bob2, list.findFirst(SimpleParams.STR_BOB));
+
+		list.add(0, bob1);
+		assertSame(bob1, list.findFirst(SimpleParams.STR_BOB));
+
+		list.set(1, bob2);
+		assertNull(list.findFirst(SimpleParams.INT_TEN));
+
+		list.removeIf(v -> v.getProperty().equals(SimpleParams.STR_BOB));
+		assertTrue(list.isEmpty());
+		assertNull(list.findFirst(SimpleParams.STR_BOB));
+
+		list.add(ten);
+		list.clear();
+		assertNull(list.findFirst(SimpleParams.INT_TEN));
+	}
+
+}
@@ -0,0 +1,51 @@
+package org.yarnandtail.andhow.name;
+
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CaseInsensitiveNameFilterTest {
+
+	@Test
+	public void knownNamesAreAlwaysPossibleIgnoringCaseAndWhitespace() {
+		List<String> names = new ArrayList();
+		for (int i = 0; i < 500; i++) {
+			names.add("org.yarnandtail.Config.Prop_" + i);
+		}
+
+		CaseInsensitiveNameFilter filter = new CaseInsensitiveNameFilter(names);
+
+		for (String n : names) {
+			assertTrue(filter.mightContain(n));
+			assertTrue(filter.mightContain(n.toUpperCase()));
+			assertTrue(filter.mightContain(n.toLowerCase()));
+			assertTrue(filter.mightContain("  " + n + "\t"));
+		}
+	}
+
+	@Test
+	public void mostUnknownNamesAreRejected() {
+		CaseInsensitiveNameFilter filter = new CaseInsensitiveNameFilter(
+				Arrays.asList("org.yarnandtail.Config.PROP", "MY_ALIAS", null));
+
+		int possible = 0;
+		for (int i = 0; i < 1000; i++) {
+			if (filter.mightContain("SOME_ENV_VAR_" + i)) possible++;
+		}
+
+		assertTrue(possible < 100, "Too many false positives: " + possible);
+		assertFalse(filter.mightContain(null));
+	}
+
+	@Test
+	public void nonAsciiNamesAreNeverRejected() {
+		CaseInsensitiveNameFilter filter = new CaseInsensitiveNameFilter(Arrays.asList("MY_ALIAS"));
+		assertTrue(filter.mightContain("straße"));
+
+		filter = new CaseInsensitiveNameFilter(Arrays.asList("straße"));
+		assertTrue(filter.mightContain("SOMETHING_ELSE"));
+	}
+
+}
@@ -0,0 +1,51 @@
+package org.yarnandtail.andhow.name;
+
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CaseInsensitiveNameIndexTest {
+
+	@Test
+	public void namesAreFoundIgnoringCaseInAnyRangeOfChars() {
+		Map<String, Integer> map = new HashMap();
+		for (int i = 0; i < 500; i++) {
+			map.put("ORG.YARNANDTAIL.CONFIG.PROP_" + i, i);
+		}
+
+		CaseInsensitiveNameIndex<Integer> index = new CaseInsensitiveNameIndex(map);
+
+		for (int i = 0; i < 500; i++) {
+			String name = "org.yarnandtail.Config.Prop_" + i;
+			assertEquals(i, index.get(name));
+			assertEquals(i, index.get(name.toUpperCase()));
+
+			StringBuilder buf = new StringBuilder("key: ").append(name).append(" = value");
+			assertEquals(i, index.get(buf, 5, 5 + name.length()));
+		}
+
+		assertNull(index.get("org.yarnandtail.Config.Prop_500"));
+		assertNull(index.get("org.yarnandtail.Config.Prop_"));
+		assertNull(index.get(" org.yarnandtail.Config.Prop_1"), "Names are not trimmed");
+		assertNull(index.get(null));
+		assertNull(index.get("ABC", 1, 1));
+	}
+
+	@Test
+	public void resultsMatchUpperCasedMapLookupsForNonAsciiNames() {
+		Map<String, String> map = new HashMap();
+		for (String name : new String[] {"grüße.straße", "ÄPFEL", "title", "ı.dotless"}) {
+			map.put(name.toUpperCase(Locale.ROOT), name);
+		}
+
+		CaseInsensitiveNameIndex<String> index = new CaseInsensitiveNameIndex(map);
+
+		for (String q : new String[] {"GRÜSSE.STRASSE", "grüße.straße", "äpfel", "Äpfel", "TITLE", "tItlE",
+				"I.DOTLESS", "ı.dotless", "i.dotless", "İ.DOTLESS", "title ", "apfel"}) {
+			assertEquals(map.get(q.toUpperCase(Locale.ROOT)), index.get(q), q);
+		}
+	}
+
+}
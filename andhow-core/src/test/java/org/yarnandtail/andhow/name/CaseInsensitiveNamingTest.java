@@ -2,10 +2,14 @@ package org.yarnandtail.andhow.name;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.Locale;
+
 import org.junit.jupiter.api.Test;
 import org.yarnandtail.andhow.api.PropertyNaming;
 import org.yarnandtail.andhow.property.StrProp;
 import org.yarnandtail.andhow.api.GroupProxy;
+import org.yarnandtail.andhow.api.GroupProxyMutable;
+import org.yarnandtail.andhow.internal.NameAndProperty;
 import org.yarnandtail.andhow.util.AndHowUtil;
 
 /**
@@ -47,6 +51,38 @@ public class CaseInsensitiveNamingTest {
 		assertEquals("Kathy", naming.getOutAliases().get(0).getEffectiveOutName());
 	}
 	
+	@Test
+	public void testPrecomputedNamesAreUsed() throws Exception {
+		GroupProxyMutable proxy = new GroupProxyMutable("org.pre.Computed", SimpleParams.class);
+		proxy.addProperty(new NameAndProperty("Bob", SimpleParams.Bob,
+				"org.pre.Computed.Bob", "PRECOMPUTED", "org/pre/Computed/Bob"));
+		
+		PropertyNaming naming = bns.buildNames(SimpleParams.Bob, proxy);
+		
+		assertEquals("org.pre.Computed.Bob", naming.getCanonicalName().getActualName());
+		assertEquals("PRECOMPUTED", naming.getCanonicalName().getEffectiveInName());
+		assertEquals("org/pre/Computed/Bob", proxy.getUriName(SimpleParams.Bob));
+		assertEquals("MARK", naming.getInAliases().get(0).getEffectiveInName());
+	}
+	
+	@Test
+	public void testPrecomputedNamesAreNotUsedBySubclasses() throws Exception {
+		GroupProxyMutable proxy = new GroupProxyMutable("org.pre.Computed", SimpleParams.class);
+		proxy.addProperty(new NameAndProperty("Bob", SimpleParams.Bob,
+				"org.pre.Computed.Bob", "PRECOMPUTED", "org/pre/Computed/Bob"));
+		
+		CaseInsensitiveNaming lowerCase = new CaseInsensitiveNaming() {
+			@Override
+			public String toEffectiveName(String name) {
+				return (name != null) ? name.toLowerCase(Locale.ROOT) : null;
+			}
+		};
+		
+		PropertyNaming naming = lowerCase.buildNames(SimpleParams.Bob, proxy);
+		
+		assertEquals("org.pre.computed.bob", naming.getCanonicalName().getEffectiveInName());
+	}
+	
 	@Test
 	public void testGetUriName() {
 		
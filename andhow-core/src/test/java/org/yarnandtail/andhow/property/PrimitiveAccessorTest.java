@@ -0,0 +1,68 @@
+package org.yarnandtail.andhow.property;
+
+import org.junit.jupiter.api.Test;
+import org.yarnandtail.andhow.AndHow;
+import org.yarnandtail.andhow.AndHowTestBase;
+import org.yarnandtail.andhow.AndHowTestConfig;
+import org.yarnandtail.andhow.internal.AndHowIllegalStateException.NullPrimitiveValueException;
+import org.yarnandtail.andhow.internal.AndHowIllegalStateException.UnrecognizedPropertyException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrimitiveAccessorTest extends AndHowTestBase {
+
+	public interface Primitives {
+		IntProp INT = IntProp.builder().defaultValue(3).build();
+		IntProp INT_NULL = IntProp.builder().build();
+		LngProp LNG = LngProp.builder().build();
+		LngProp LNG_NULL = LngProp.builder().build();
+		DblProp DBL = DblProp.builder().defaultValue(-1.5d).build();
+		DblProp DBL_NULL = DblProp.builder().build();
+		BolProp BOL = BolProp.builder().defaultValue(false).build();
+		BolProp BOL_NULL = BolProp.builder().build();
+	}
+
+	public interface NotRegistered {
+		IntProp INT = IntProp.builder().defaultValue(3).build();
+	}
+
+	@Test
+	public void primitiveValuesMatchBoxedValues() {
+		AndHow.setConfig(AndHowTestConfig.instance().addOverrideGroup(Primitives.class)
+				.addFixedValue(Primitives.INT, -42)
+				.addFixedValue(Primitives.LNG, Long.MAX_VALUE)
+				.addFixedValue(Primitives.BOL, true));
+
+		assertEquals(-42, Primitives.INT.getInt());
+		assertEquals(-42, Primitives.INT.getInt(7));
+		assertEquals(Long.MAX_VALUE, Primitives.LNG.getLong());
+		assertEquals(-1.5d, Primitives.DBL.getDouble());
+		assertEquals(-1.5d, Primitives.DBL.getDouble(2d));
+		assertTrue(Primitives.BOL.getBoolean());
+		assertTrue(Primitives.BOL.getBoolean(false));
+	}
+
+	@Test
+	public void nullValuesUseTheValueIfNullOrThrow() {
+		AndHow.setConfig(AndHowTestConfig.instance().addOverrideGroup(Primitives.class));
+
+		assertEquals(7, Primitives.INT_NULL.getInt(7));
+		assertEquals(8L, Primitives.LNG_NULL.getLong(8L));
+		assertEquals(Double.NaN, Primitives.DBL_NULL.getDouble(Double.NaN));
+		assertTrue(Primitives.BOL_NULL.getBoolean(true));
+
+		assertThrows(NullPrimitiveValueException.class, () -> Primitives.INT_NULL.getInt());
+		assertThrows(NullPrimitiveValueException.class, () -> Primitives.LNG_NULL.getLong());
+		assertThrows(NullPrimitiveValueException.class, () -> Primitives.DBL_NULL.getDouble());
+		assertThrows(NullPrimitiveValueException.class, () -> Primitives.BOL_NULL.getBoolean());
+	}
+
+	@Test
+	public void unregisteredPropertiesThrow() {
+		AndHow.setConfig(AndHowTestConfig.instance().addOverrideGroup(Primitives.class));
+
+		assertThrows(UnrecognizedPropertyException.class, () -> NotRegistered.INT.getInt());
+		assertThrows(UnrecognizedPropertyException.class, () -> NotRegistered.INT.getInt(1));
+	}
+
+}
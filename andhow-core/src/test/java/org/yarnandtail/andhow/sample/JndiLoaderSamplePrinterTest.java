@@ -7,6 +7,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 import org.yarnandtail.andhow.api.GroupProxyMutable;
+import org.yarnandtail.andhow.api.NamingStrategy;
 import org.yarnandtail.andhow.internal.NameAndProperty;
 import org.yarnandtail.andhow.internal.PropertyConfigurationMutable;
 import org.yarnandtail.andhow.name.CaseInsensitiveNaming;
@@ -131,6 +132,29 @@ public class JndiLoaderSamplePrinterTest {
 		assertEquals("</Context>", lines[0]);
 	}
 
+	@Test
+	public void customUriNamesAreUsedInPlaceOfPrecomputedNames() throws Exception {
+		GroupProxyMutable proxy = new GroupProxyMutable("org.pre.Computed", Config.class);
+		proxy.addProperty(new NameAndProperty("MY_PROP1", Config.MY_PROP1,
+				"org.pre.Computed.MY_PROP1", "ORG.PRE.COMPUTED.MY_PROP1", "precomputed/MY_PROP1"));
+
+		NamingStrategy underscores = new CaseInsensitiveNaming() {
+			@Override
+			public String getUriName(String classpathName) {
+				return (classpathName != null) ? classpathName.replace('.', '_') : null;
+			}
+		};
+
+		PropertyConfigurationMutable custom = new PropertyConfigurationMutable(underscores);
+		assertNull(custom.addProperty(proxy, Config.MY_PROP1));
+
+		TestPrintStream out = new TestPrintStream();
+		new JndiLoaderSamplePrinter().printProperty(custom, out, proxy, Config.MY_PROP1);
+
+		String[] lines = out.getTextAsLines();
+		assertTrue(lines[lines.length - 1].contains("name=\"org_pre_Computed_MY_PROP1\""));
+	}
+
 	/**
 	 * Test of getFormat method, of class PropFileLoaderSamplePrinter.
 	 */
@@ -1,9 +1,13 @@
 package org.yarnandtail.andhow.service;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.yarnandtail.andhow.api.GroupProxy;
 import org.yarnandtail.andhow.property.*;
 
@@ -35,6 +39,98 @@ public class PropertyRegistrarLoaderTest {
 		assertTrue(InnerClass.MY_PROP2 == groups.get(1).getProperties().get(0).property);
 		assertEquals("MY_PROP3", groups.get(1).getProperties().get(1).fieldName);
 		assertTrue(InnerClass.MY_PROP3 == groups.get(1).getProperties().get(1).property);
+		
+		//The group classes are resolved once and handed to the proxies
+		assertSame(PropertyRegistrarLoaderTest.class, groups.get(0).getProxiedGroup());
+		assertSame(InnerClass.class, groups.get(1).getProxiedGroup());
+	}
+	
+	@Test
+	public void testRegistrarsMissingFromAnIndexAreStillFound(@TempDir Path dir) throws Exception {
+		
+		//A module w/ an index that does not list all of the registrars in its service file,
+		//e.g. one generated in a later compile round or merged in from another module of a fat jar
+		Path indexedServices = Files.createDirectories(dir.resolve("indexed/META-INF/services"));
+		
+		Files.write(indexedServices.resolve(PropertyRegistrar.class.getName()), Arrays.asList(
+				IndexedRegistrar.class.getName(),
+				MissingFromIndexRegistrar.class.getName()
+		), StandardCharsets.UTF_8);
+		
+		Files.write(indexedServices.resolve(PropertyRegistrarIndex.class.getName()),
+				Collections.singletonList(TestIndex.class.getName()), StandardCharsets.UTF_8);
+		
+		//A module w/o an index
+		Path plainServices = Files.createDirectories(dir.resolve("plain/META-INF/services"));
+		
+		Files.write(plainServices.resolve(PropertyRegistrar.class.getName()), Arrays.asList(
+				"# comment line",
+				UnindexedRegistrar.class.getName(),
+				IndexedRegistrar.class.getName() + "  # trailing comment",
+				UnindexedRegistrar.class.getName()	//duplicate
+		), StandardCharsets.UTF_8);
+		
+		ClassLoader cl = new URLClassLoader(
+				new URL[] {dir.resolve("indexed").toUri().toURL(), dir.resolve("plain").toUri().toURL()},
+				PropertyRegistrarLoaderTest.class.getClassLoader());
+		
+		PropertyRegistrarLoader loader = new PropertyRegistrarLoader(cl);
+		List<PropertyRegistrar> regs = loader.getPropertyRegistrars();
+		
+		assertEquals(3, regs.size());
+		assertTrue(regs.get(0) instanceof IndexedRegistrar);
+		assertTrue(((IndexedRegistrar)regs.get(0)).createdByIndex, "Not created again from a service file");
+		assertTrue(regs.get(1) instanceof MissingFromIndexRegistrar);
+		assertTrue(regs.get(2) instanceof UnindexedRegistrar);
+		
+		//Same instances each call
+		assertSame(regs.get(0), loader.getPropertyRegistrars().get(0));
+	}
+	
+	@Test
+	public void testCreateRegistrar() {
+		PropertyRegistrarLoader loader = new PropertyRegistrarLoader();
+		
+		assertTrue(loader.createRegistrar(UnindexedRegistrar.class.getName()) instanceof UnindexedRegistrar);
+		assertThrows(ServiceConfigurationError.class, () -> loader.createRegistrar("not.a.Registrar"));
+		assertThrows(ServiceConfigurationError.class, () -> loader.createRegistrar(String.class.getName()));
+		assertThrows(ServiceConfigurationError.class, () -> loader.createIndex(String.class.getName()));
+	}
+	
+	public static class UnindexedRegistrar extends AbstractPropertyRegistrar {
+		@Override
+		public void addPropertyRegistrations(PropertyRegistrationList list) { }
+
+		@Override
+		public String getRootCanonicalName() { return "org.Unindexed"; }
+	}
+	
+	public static class IndexedRegistrar extends AbstractPropertyRegistrar {
+		final boolean createdByIndex;
+		
+		public IndexedRegistrar() { this(false); }
+		IndexedRegistrar(boolean createdByIndex) { this.createdByIndex = createdByIndex; }
+		
+		@Override
+		public void addPropertyRegistrations(PropertyRegistrationList list) { }
+
+		@Override
+		public String getRootCanonicalName() { return "org.Indexed"; }
+	}
+	
+	public static class MissingFromIndexRegistrar extends AbstractPropertyRegistrar {
+		@Override
+		public void addPropertyRegistrations(PropertyRegistrationList list) { }
+
+		@Override
+		public String getRootCanonicalName() { return "org.MissingFromIndex"; }
+	}
+	
+	public static class TestIndex implements PropertyRegistrarIndex {
+		@Override
+		public List<PropertyRegistrar> getPropertyRegistrars() {
+			return Collections.singletonList(new IndexedRegistrar(true));
+		}
 	}
 	
 	//
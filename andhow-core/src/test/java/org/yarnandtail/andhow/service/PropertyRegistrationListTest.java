@@ -89,5 +89,27 @@ public class PropertyRegistrationListTest {
 
 	}
 
+	@Test
+	public void testPrecomputedNames() {
+		String className = "org.yat.MyClass";
+		
+		PropertyRegistrationList list = new PropertyRegistrationList(className);
+		
+		assertThrows(IllegalStateException.class, () -> list.names("a", "A", "a"));
+		
+		list.add("Andy", "Inner1");
+		list.names("org.yat.MyClass.Inner1.Andy", "ORG.YAT.MYCLASS.INNER1.ANDY", "org/yat/MyClass/Inner1/Andy");
+		list.add("Bob");
+		
+		assertEquals(2, list.size());
+		assertEquals(className + ".Inner1.Andy", list.get(0).getCanonicalPropertyName());
+		assertEquals("ORG.YAT.MYCLASS.INNER1.ANDY", list.get(0).getEffectivePropertyName());
+		assertEquals("org/yat/MyClass/Inner1/Andy", list.get(0).getUriPropertyName());
+		
+		//The following registration still inherits the inner path
+		assertEquals(className + ".Inner1.Bob", list.get(1).getCanonicalPropertyName());
+		assertNull(list.get(1).getEffectivePropertyName());
+		assertNull(list.get(1).getUriPropertyName());
+	}
 	
 }
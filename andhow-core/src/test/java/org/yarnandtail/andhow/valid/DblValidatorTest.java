@@ -177,4 +177,35 @@ public class DblValidatorTest {
 		assertEquals(EXPECTED_DBL_VALIDATOR_INVALID_MESSAGE, instance.getInvalidSpecificationMessage());
 	}
 
+	@Test
+	public void primitiveIsValidMatchesBoxedIsValid() {
+		DblValidator instance = new DblValidator.GreaterThan(5d);
+		assertFalse(instance.isValidDouble(4.9d));
+		assertFalse(instance.isValidDouble(5d));
+		assertTrue(instance.isValidDouble(5.1d));
+
+		instance = new DblValidator.LessThanOrEqualTo(5d);
+		assertTrue(instance.isValidDouble(5d));
+		assertFalse(instance.isValidDouble(5.1d));
+		assertEquals(instance.isValid(4.9d), instance.isValidDouble(4.9d));
+	}
+
+	@Test
+	public void primitiveIsValidDefaultsToBoxedIsValid() {
+		DblValidator instance = new DblValidator() {
+			@Override
+			public boolean isValidWithoutNull(final Double value) {
+				return value % 2 == 0;
+			}
+
+			@Override
+			public String getTheValueMustDescription() {
+				return "be even";
+			}
+		};
+
+		assertTrue(instance.isValidDouble(4d));
+		assertFalse(instance.isValidDouble(5d));
+	}
+
 }
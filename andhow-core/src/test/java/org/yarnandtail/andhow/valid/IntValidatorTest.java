@@ -164,4 +164,36 @@ public class IntValidatorTest {
 		IntValidator.GreaterThan greaterThan = new IntValidator.GreaterThan(4);
 		assertEquals("THIS VALIDATION IS ALWAYS VALID", greaterThan.getInvalidSpecificationMessage());
 	}
+
+	@Test
+	public void primitiveIsValidMatchesBoxedIsValid() {
+		IntValidator instance = new IntValidator.GreaterThan(5);
+		assertFalse(instance.isValidInt(4));
+		assertFalse(instance.isValidInt(5));
+		assertTrue(instance.isValidInt(6));
+
+		instance = new IntValidator.LessThanOrEqualTo(5);
+		assertTrue(instance.isValidInt(5));
+		assertFalse(instance.isValidInt(6));
+		assertEquals(instance.isValid(4), instance.isValidInt(4));
+	}
+
+	@Test
+	public void primitiveIsValidDefaultsToBoxedIsValid() {
+		IntValidator instance = new IntValidator() {
+			@Override
+			public boolean isValidWithoutNull(final Integer value) {
+				return value % 2 == 0;
+			}
+
+			@Override
+			public String getTheValueMustDescription() {
+				return "be even";
+			}
+		};
+
+		assertTrue(instance.isValidInt(4));
+		assertFalse(instance.isValidInt(5));
+	}
+
 }
@@ -198,4 +198,36 @@ public class LngValidatorTest {
 		LngValidator.LessThanOrEqualTo instance = new LngValidator.LessThanOrEqualTo(ref);
 		assertEquals("be less than or equal to " + ref, instance.getTheValueMustDescription());
 	}
+
+	@Test
+	public void primitiveIsValidMatchesBoxedIsValid() {
+		LngValidator instance = new LngValidator.GreaterThan(5L);
+		assertFalse(instance.isValidLong(4L));
+		assertFalse(instance.isValidLong(5L));
+		assertTrue(instance.isValidLong(6L));
+
+		instance = new LngValidator.LessThanOrEqualTo(5L);
+		assertTrue(instance.isValidLong(5L));
+		assertFalse(instance.isValidLong(6L));
+		assertEquals(instance.isValid(4L), instance.isValidLong(4L));
+	}
+
+	@Test
+	public void primitiveIsValidDefaultsToBoxedIsValid() {
+		LngValidator instance = new LngValidator() {
+			@Override
+			public boolean isValidWithoutNull(final Long value) {
+				return value % 2 == 0;
+			}
+
+			@Override
+			public String getTheValueMustDescription() {
+				return "be even";
+			}
+		};
+
+		assertTrue(instance.isValidLong(4L));
+		assertFalse(instance.isValidLong(5L));
+	}
+
 }
@@ -289,6 +289,21 @@ public class StringValidatorTest {
 		assertTrue(instance.isValid("b"));
 	}
 
+	@Test
+	public void oneOfIgnoringCaseMatchesEqualsIgnoreCaseForAllChars() {
+		for (char c1 = 0; c1 < 0x600; c1++) {
+			StringValidator.OneOfIgnoringCase instance = new StringValidator.OneOfIgnoringCase("x" + c1);
+
+			for (char c2 : new char[] {c1, Character.toUpperCase(c1), Character.toLowerCase(c1),
+					Character.toTitleCase(c1), 'I', 'i', '\u0130', '\u0131', 'K', '\u212A'}) {
+
+				String s1 = "x" + c1;
+				String s2 = "X" + c2;
+				assertEquals(s1.equalsIgnoreCase(s2), instance.isValid(s2), s1 + " vs " + s2);
+			}
+		}
+	}
+
 	@Test
 	public void oneOfIgnoringCaseIsValidThrowsExceptionForNull() {
 		final StringValidator.OneOfIgnoringCase instance = new StringValidator.OneOfIgnoringCase("A");
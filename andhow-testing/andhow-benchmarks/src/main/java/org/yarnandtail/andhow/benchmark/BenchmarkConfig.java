@@ -0,0 +1,60 @@
+package org.yarnandtail.andhow.benchmark;
+
+import java.util.*;
+
+import org.yarnandtail.andhow.StdConfig.StdConfigAbstract;
+import org.yarnandtail.andhow.api.GroupProxy;
+
+/**
+ * An AndHowConfiguration for benchmarks that registers a fixed list of groups,
+ * bypassing auto-discovery, and isolates the loaders from the real environment.
+ * <p>
+ * Like the test configurations, this does things an application should never do.
+ */
+public class BenchmarkConfig extends StdConfigAbstract<BenchmarkConfig> {
+
+	private List<GroupProxy> groups;
+
+	public static BenchmarkConfig instance() {
+		return new BenchmarkConfig();
+	}
+
+	/**
+	 * Set the groups to register in place of the auto-discovered ones.
+	 *
+	 * @param groups The groups to register
+	 * @return This configuration instance for fluent configuration.
+	 */
+	public BenchmarkConfig setGroups(List<GroupProxy> groups) {
+		this.groups = groups;
+		return this;
+	}
+
+	/**
+	 * Replace the env. vars the loaders see.
+	 *
+	 * @param envVars The env. vars to use.  Null or empty results in no env. vars.
+	 * @return This configuration instance for fluent configuration.
+	 */
+	public BenchmarkConfig setEnvVars(Map<String, String> envVars) {
+		loadEnvBuilder.setEnvVars(envVars);
+		return this;
+	}
+
+	/**
+	 * Replace the system properties the loaders see.
+	 *
+	 * @param sysProps The system properties to use.  Null or empty results in none.
+	 * @return This configuration instance for fluent configuration.
+	 */
+	public BenchmarkConfig setSysProps(Map<String, String> sysProps) {
+		loadEnvBuilder.setSysProps(sysProps);
+		return this;
+	}
+
+	@Override
+	public List<GroupProxy> getRegisteredGroups() {
+		//AndHowCore appends its own groups to this list, so always return a new one
+		return (groups != null) ? new ArrayList(groups) : null;
+	}
+}
@@ -0,0 +1,90 @@
+package org.yarnandtail.andhow.benchmark;
+
+import java.util.*;
+
+import org.yarnandtail.andhow.api.GroupProxy;
+import org.yarnandtail.andhow.api.GroupProxyImmutable;
+import org.yarnandtail.andhow.internal.NameAndProperty;
+import org.yarnandtail.andhow.property.StrProp;
+
+/**
+ * Builds large numbers of synthetic groups and Properties for benchmarking.
+ * <p>
+ * Groups are normally Java classes, but building thousands of classes is not practical, so
+ * each synthetic group is a proxy with its own canonical name that points to this class as
+ * its Java class.  Property {@code n} is the field {@code p<n>} in group {@code bench.g<n / size>}.
+ */
+public class BenchmarkGroups {
+
+	/** Canonical name prefix of all benchmark groups */
+	public static final String GROUP_PREFIX = "bench.g";
+
+	/** Number of Properties placed in each group */
+	public static final int PROPS_PER_GROUP = 10;
+
+	private BenchmarkGroups() { /* no instances */ }
+
+	/**
+	 * Build groups of String Properties, none of which has a default value.
+	 *
+	 * @param propCount The total number of Properties to create
+	 * @return A list of groups containing propCount Properties in total
+	 */
+	public static List<GroupProxy> build(int propCount) {
+		List<GroupProxy> groups = new ArrayList();
+		List<NameAndProperty> naps = new ArrayList();
+
+		for (int i = 0; i < propCount; i++) {
+			naps.add(new NameAndProperty(fieldName(i), StrProp.builder().build()));
+
+			if (naps.size() == PROPS_PER_GROUP || i == propCount - 1) {
+				groups.add(new GroupProxyImmutable(
+						groupName(i), BenchmarkGroups.class.getName(), naps, true));
+				naps = new ArrayList();
+			}
+		}
+
+		return groups;
+	}
+
+	/**
+	 * The canonical name of the n-th Property built by {@link #build(int)}.
+	 *
+	 * @param n Zero based index of the Property
+	 * @return The canonical name, e.g. 'bench.g1.p12'
+	 */
+	public static String canonicalName(int n) {
+		return groupName(n) + "." + fieldName(n);
+	}
+
+	/**
+	 * Map of canonical name to a String value for the first propCount Properties built by
+	 * {@link #build(int)}, padded with unrelated entries up to a total of totalSize.
+	 *
+	 * @param propCount The number of Properties to include values for
+	 * @param totalSize The total size of the map, including the unrelated entries
+	 * @return A new map
+	 */
+	public static Map<String, String> buildValues(int propCount, int totalSize) {
+		Map<String, String> vals = new HashMap();
+
+		for (int i = 0; i < propCount; i++) {
+			vals.put(canonicalName(i), "value" + i);
+		}
+
+		for (int i = propCount; i < totalSize; i++) {
+			vals.put("UNRELATED_VARIABLE_" + i, "unrelated" + i);
+		}
+
+		return vals;
+	}
+
+	static String groupName(int n) {
+		return GROUP_PREFIX + (n / PROPS_PER_GROUP);
+	}
+
+	static String fieldName(int n) {
+		return "p" + n;
+	}
+
+}
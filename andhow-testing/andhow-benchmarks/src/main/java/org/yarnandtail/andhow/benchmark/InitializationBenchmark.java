@@ -0,0 +1,57 @@
+package org.yarnandtail.andhow.benchmark;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.yarnandtail.andhow.AndHow;
+import org.yarnandtail.andhow.api.GroupProxy;
+import org.yarnandtail.andhow.testutil.AndHowTestUtils;
+
+/**
+ * Full, cold initialization of AndHow via {@link AndHow#instance()}, with all the standard
+ * loaders, for a range of registered Property counts spread across many groups.
+ * <p>
+ * The Properties themselves are built once per trial, since creating them is part of class
+ * initialization of the application, not of AndHow.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InitializationBenchmark {
+
+	@Param({"10", "1000", "10000"})
+	public int propCount;
+
+	private List<GroupProxy> groups;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		groups = BenchmarkGroups.build(propCount);
+	}
+
+	@Setup(Level.Invocation)
+	public void reset() {
+		AndHowTestUtils.killAndHowFully();
+
+		AndHow.setConfig(BenchmarkConfig.instance()
+				.setGroups(groups)
+				.setEnvVars(Collections.emptyMap())
+				.setSysProps(Collections.emptyMap()));
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		AndHowTestUtils.killAndHowFully();
+	}
+
+	@Benchmark
+	public AndHow coldInstance() {
+		return AndHow.instance();
+	}
+
+}
@@ -0,0 +1,94 @@
+package org.yarnandtail.andhow.benchmark;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import javax.naming.*;
+
+import org.openjdk.jmh.annotations.*;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.PropertyConfigurationInternal;
+import org.yarnandtail.andhow.internal.ValidatedValuesWithContextMutable;
+import org.yarnandtail.andhow.load.std.StdJndiLoader;
+import org.yarnandtail.andhow.load.util.LoaderEnvironmentBuilder;
+
+/**
+ * {@link StdJndiLoader} against an in-memory simple-jndi context, configured the same way as
+ * the JNDI tests.  Each Property has a value bound at its URI style name under java:comp/env/.
+ * Runs w/ and w/o listing the JNDI roots first (see {@link StdJndiLoader.CONFIG#LIST_JNDI_ROOTS}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JndiLoaderBenchmark {
+
+	private static final String ENV_ROOT = "java:comp/env/";
+
+	@Param({"100", "1000"})
+	public int propCount;
+
+	@Param({"false", "true"})
+	public boolean listRoots;
+
+	private StdJndiLoader loader;
+	private PropertyConfigurationInternal config;
+	private LoaderEnvironment environment;
+	private ValidatedValuesWithContextMutable existingValues;
+	private InitialContext jndi;
+
+	@Setup(Level.Trial)
+	public void setup() throws NamingException {
+		System.setProperty("java.naming.factory.initial", "org.osjava.sj.SimpleJndiContextFactory");
+		System.setProperty("org.osjava.sj.delimiter", "/");
+		System.setProperty("org.osjava.sj.jndi.shared", "true");
+		System.setProperty("org.osjava.sj.jndi.ignoreClose", "true");
+
+		loader = new StdJndiLoader();
+		config = LoaderFixture.buildConfig(BenchmarkGroups.build(propCount), loader);
+		environment = new LoaderEnvironmentBuilder().toImmutable();
+
+		existingValues = new ValidatedValuesWithContextMutable();
+		existingValues.addValues(new LoaderValues(loader, Collections.singletonList(
+				new ValidatedValue(StdJndiLoader.CONFIG.LIST_JNDI_ROOTS, listRoots)), ProblemList.EMPTY_PROBLEM_LIST));
+
+		jndi = new InitialContext();
+
+		for (int i = 0; i < propCount; i++) {
+			String uriName = BenchmarkGroups.canonicalName(i).replace('.', '/');
+
+			if (i % BenchmarkGroups.PROPS_PER_GROUP == 0) {
+				createSubcontexts(jndi, ENV_ROOT + uriName.substring(0, uriName.lastIndexOf('/')));
+			}
+
+			jndi.bind(ENV_ROOT + uriName, "value" + i);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws NamingException {
+		jndi.close();
+		System.clearProperty("java.naming.factory.initial");
+		System.clearProperty("org.osjava.sj.delimiter");
+		System.clearProperty("org.osjava.sj.jndi.shared");
+		System.clearProperty("org.osjava.sj.jndi.ignoreClose");
+	}
+
+	@Benchmark
+	public LoaderValues stdJndiLoader() {
+		return loader.load(config, environment, existingValues);
+	}
+
+	private static void createSubcontexts(Context ctx, String contextName) throws NamingException {
+		Context current = ctx;
+		for (String name : contextName.split("/")) {
+			try {
+				current = current.createSubcontext(name);
+			} catch (NameAlreadyBoundException e) {
+				current = (Context) current.lookup(name);
+			}
+		}
+	}
+
+}
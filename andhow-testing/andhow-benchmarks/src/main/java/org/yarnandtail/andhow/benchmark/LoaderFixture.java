@@ -0,0 +1,39 @@
+package org.yarnandtail.andhow.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.PropertyConfigurationInternal;
+import org.yarnandtail.andhow.name.CaseInsensitiveNaming;
+import org.yarnandtail.andhow.util.AndHowUtil;
+
+/**
+ * Builds the Property configuration a Loader needs, so individual loaders can be benchmarked
+ * without the rest of the initialization pipeline.
+ */
+public class LoaderFixture {
+
+	private LoaderFixture() { /* no instances */ }
+
+	/**
+	 * Build an immutable configuration for the groups and loaders.
+	 *
+	 * @param groups The groups to register
+	 * @param loaders The loaders that will be used
+	 * @return A configuration ready to pass to {@link Loader#load}
+	 */
+	public static PropertyConfigurationInternal buildConfig(List<GroupProxy> groups, Loader... loaders) {
+		ProblemList<Problem> problems = new ProblemList();
+
+		PropertyConfigurationInternal config = AndHowUtil.buildDefinition(
+				groups, Arrays.asList(loaders), new CaseInsensitiveNaming(), problems).toImmutable();
+
+		if (! problems.isEmpty()) {
+			throw new IllegalStateException("Unable to build the benchmark configuration: " + problems);
+		}
+
+		return config;
+	}
+
+}
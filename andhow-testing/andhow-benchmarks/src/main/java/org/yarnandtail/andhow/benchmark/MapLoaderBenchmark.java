@@ -0,0 +1,64 @@
+package org.yarnandtail.andhow.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.yarnandtail.andhow.api.LoaderEnvironment;
+import org.yarnandtail.andhow.api.LoaderValues;
+import org.yarnandtail.andhow.internal.PropertyConfigurationInternal;
+import org.yarnandtail.andhow.internal.ValidatedValuesWithContextMutable;
+import org.yarnandtail.andhow.load.std.StdEnvVarLoader;
+import org.yarnandtail.andhow.load.std.StdSysPropLoader;
+import org.yarnandtail.andhow.load.util.LoaderEnvironmentBuilder;
+
+/**
+ * {@link StdEnvVarLoader} and {@link StdSysPropLoader} with large environments, where only
+ * some of the entries are AndHow Properties, as is typical in containers and app servers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapLoaderBenchmark {
+
+	/** Number of registered Properties, all of which have a value in the environment */
+	@Param({"100", "1000"})
+	public int propCount;
+
+	/** Total number of entries in the environment */
+	@Param({"1000", "10000"})
+	public int envSize;
+
+	private StdEnvVarLoader envVarLoader;
+	private StdSysPropLoader sysPropLoader;
+	private PropertyConfigurationInternal config;
+	private LoaderEnvironment environment;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		envVarLoader = new StdEnvVarLoader();
+		sysPropLoader = new StdSysPropLoader();
+		config = LoaderFixture.buildConfig(BenchmarkGroups.build(propCount), envVarLoader, sysPropLoader);
+
+		Map<String, String> vals = BenchmarkGroups.buildValues(propCount, Math.max(propCount, envSize));
+
+		LoaderEnvironmentBuilder builder = new LoaderEnvironmentBuilder();
+		builder.setEnvVars(vals);
+		builder.setSysProps(vals);
+		environment = builder.toImmutable();
+	}
+
+	@Benchmark
+	public LoaderValues stdEnvVarLoader() {
+		return envVarLoader.load(config, environment, new ValidatedValuesWithContextMutable());
+	}
+
+	@Benchmark
+	public LoaderValues stdSysPropLoader() {
+		return sysPropLoader.load(config, environment, new ValidatedValuesWithContextMutable());
+	}
+
+}
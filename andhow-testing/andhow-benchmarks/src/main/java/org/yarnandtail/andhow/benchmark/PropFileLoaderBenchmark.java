@@ -0,0 +1,65 @@
+package org.yarnandtail.andhow.benchmark;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.yarnandtail.andhow.api.LoaderValues;
+import org.yarnandtail.andhow.internal.PropertyConfigurationInternal;
+import org.yarnandtail.andhow.internal.ValidatedValuesWithContextMutable;
+import org.yarnandtail.andhow.load.PropFileOnFilesystemLoader;
+
+/**
+ * {@link PropFileOnFilesystemLoader} reading large properties files.
+ * <p>
+ * The file has a value for each registered Property, with a comment and blank line
+ * sprinkled in to keep the parser honest.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropFileLoaderBenchmark {
+
+	@Param({"1000", "10000"})
+	public int propCount;
+
+	private PropFileOnFilesystemLoader loader;
+	private PropertyConfigurationInternal config;
+	private File propFile;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		loader = new PropFileOnFilesystemLoader();
+		config = LoaderFixture.buildConfig(BenchmarkGroups.build(propCount), loader);
+
+		propFile = File.createTempFile("andhow-benchmark", ".properties");
+
+		try (Writer out = new BufferedWriter(new OutputStreamWriter(
+				new FileOutputStream(propFile), StandardCharsets.ISO_8859_1))) {
+
+			for (int i = 0; i < propCount; i++) {
+				if (i % BenchmarkGroups.PROPS_PER_GROUP == 0) {
+					out.write("\n# Values for group " + BenchmarkGroups.groupName(i) + "\n");
+				}
+
+				out.write(BenchmarkGroups.canonicalName(i) + " = value" + i + "\n");
+			}
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(propFile.toPath());
+	}
+
+	@Benchmark
+	public LoaderValues propFileOnFilesystemLoader() {
+		return loader.load(config, new ValidatedValuesWithContextMutable(), propFile.getAbsolutePath());
+	}
+
+}
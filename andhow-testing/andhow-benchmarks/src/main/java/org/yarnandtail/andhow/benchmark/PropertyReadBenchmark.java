@@ -0,0 +1,73 @@
+package org.yarnandtail.andhow.benchmark;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.yarnandtail.andhow.AndHow;
+import org.yarnandtail.andhow.property.IntProp;
+import org.yarnandtail.andhow.property.StrProp;
+import org.yarnandtail.andhow.testutil.AndHowTestUtils;
+import org.yarnandtail.andhow.util.AndHowUtil;
+
+/**
+ * Reads of Property values after AndHow is initialized, which is by far the most frequent
+ * AndHow operation in an application.  Contention is measured with 1, 8 and 64 threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyReadBenchmark {
+
+	public interface Config {
+		StrProp STR = StrProp.builder().defaultValue("default").build();
+		IntProp INT = IntProp.builder().build();
+	}
+
+	@Setup(Level.Trial)
+	public void setup() {
+		AndHowTestUtils.killAndHowFully();
+
+		BenchmarkConfig config = BenchmarkConfig.instance()
+				.setGroups(AndHowUtil.buildGroupProxies(Collections.<Class<?>>singletonList(Config.class)))
+				.setEnvVars(Collections.emptyMap())
+				.setSysProps(Collections.emptyMap())
+				.addFixedValue(Config.INT, 42);
+
+		AndHow.setConfig(config);
+		AndHow.instance();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		AndHowTestUtils.killAndHowFully();
+	}
+
+	@Benchmark
+	@Threads(1)
+	public void getValue1Thread(Blackhole bh) {
+		read(bh);
+	}
+
+	@Benchmark
+	@Threads(8)
+	public void getValue8Threads(Blackhole bh) {
+		read(bh);
+	}
+
+	@Benchmark
+	@Threads(64)
+	public void getValue64Threads(Blackhole bh) {
+		read(bh);
+	}
+
+	private static void read(Blackhole bh) {
+		bh.consume(Config.STR.getValue());	//default value
+		bh.consume(Config.INT.getValue());	//explicit value
+	}
+
+}